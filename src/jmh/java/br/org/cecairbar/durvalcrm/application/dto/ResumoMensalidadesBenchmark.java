@@ -0,0 +1,61 @@
+package br.org.cecairbar.durvalcrm.application.dto;
+
+import br.org.cecairbar.durvalcrm.domain.model.FormaPagamento;
+import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resumo das mensalidades do mês calculado em memória a partir da lista completa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResumoMensalidadesBenchmark {
+
+    @Param({"1000", "50000", "500000"})
+    int quantidade;
+
+    List<Mensalidade> mensalidades;
+
+    @Setup
+    public void preparar() {
+        Random random = new Random(42);
+        StatusMensalidade[] status = StatusMensalidade.values();
+        mensalidades = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            StatusMensalidade situacao = status[random.nextInt(status.length)];
+            mensalidades.add(Mensalidade.fromEntity(UUID.randomUUID(), UUID.randomUUID(), 1, 2025,
+                new BigDecimal("10.90"), situacao, LocalDate.of(2025, 1, 10),
+                situacao == StatusMensalidade.PAGA ? Instant.now() : null,
+                null, "PIX" + i, Instant.now(), FormaPagamento.PIX));
+        }
+    }
+
+    @Benchmark
+    public ResumoMensalidadesDTO criarDoList() {
+        return ResumoMensalidadesDTO.criarDoList(mensalidades);
+    }
+}
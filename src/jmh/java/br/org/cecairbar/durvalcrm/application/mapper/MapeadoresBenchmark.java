@@ -0,0 +1,97 @@
+package br.org.cecairbar.durvalcrm.application.mapper;
+
+import br.org.cecairbar.durvalcrm.application.dto.AssociadoDTO;
+import br.org.cecairbar.durvalcrm.application.financeiro.ReceitaEntityMapper;
+import br.org.cecairbar.durvalcrm.application.financeiro.ReceitaEntityMapperImpl;
+import br.org.cecairbar.durvalcrm.domain.model.Associado;
+import br.org.cecairbar.durvalcrm.domain.model.Receita;
+import br.org.cecairbar.durvalcrm.domain.model.TipoCategoriaFinanceira;
+import br.org.cecairbar.durvalcrm.domain.model.TipoReceita;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.AssociadoEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.CategoriaFinanceiraEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.ReceitaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões MapStruct usadas nas listagens: Associado -> DTO e ReceitaEntity -> Receita
+ * (com categoria e associado carregados)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapeadoresBenchmark {
+
+    @Param({"1000", "50000", "500000"})
+    int quantidade;
+
+    AssociadoMapper associadoMapper;
+    ReceitaEntityMapper receitaEntityMapper;
+
+    List<Associado> associados;
+    List<ReceitaEntity> receitas;
+
+    @Setup
+    public void preparar() {
+        associadoMapper = new AssociadoMapperImpl();
+        receitaEntityMapper = new ReceitaEntityMapperImpl();
+
+        CategoriaFinanceiraEntity categoria = new CategoriaFinanceiraEntity();
+        categoria.id = UUID.randomUUID();
+        categoria.nome = "Mensalidades";
+        categoria.tipo = TipoCategoriaFinanceira.RECEITA;
+        categoria.ativa = true;
+
+        associados = new ArrayList<>(quantidade);
+        receitas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Associado associado = new Associado(UUID.randomUUID(), "Associado " + i,
+                String.format("%011d", i), "associado" + i + "@durvalcrm.org", "11999990000", true);
+            associados.add(associado);
+
+            AssociadoEntity associadoEntity = new AssociadoEntity();
+            associadoEntity.id = associado.getId();
+            associadoEntity.nomeCompleto = associado.getNomeCompleto();
+            associadoEntity.cpf = associado.getCpf();
+
+            ReceitaEntity receita = new ReceitaEntity();
+            receita.id = UUID.randomUUID();
+            receita.descricao = "Mensalidade " + i;
+            receita.valor = new BigDecimal("10.90");
+            receita.dataReceita = LocalDate.of(2025, 1, 1 + i % 28);
+            receita.tipoReceita = TipoReceita.MENSALIDADE;
+            receita.categoria = categoria;
+            receita.associado = associadoEntity;
+            receitas.add(receita);
+        }
+    }
+
+    @Benchmark
+    public List<AssociadoDTO> associadoToDTOList() {
+        return associadoMapper.toDTOList(associados);
+    }
+
+    @Benchmark
+    public List<Receita> receitaEntityToDomainList() {
+        return receitaEntityMapper.toDomainList(receitas);
+    }
+}
@@ -0,0 +1,48 @@
+package br.org.cecairbar.durvalcrm.application.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão do codificador BR Code compartilhado (payloads por segundo), com uma e com várias threads,
+ * como na geração mensal de cobranças
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BrCodePixBenchmark {
+
+    BrCodePix brCode;
+    final BigDecimal valor = new BigDecimal("10.90");
+
+    @Setup
+    public void preparar() {
+        brCode = new BrCodePix("contato@durvalcrm.org", "Associacao", "Guarulhos", true);
+    }
+
+    @Benchmark
+    public String gerar() {
+        return brCode.gerar(valor, "MENS1234abcd012025");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String gerarConcorrente() {
+        return brCode.gerar(valor, "MENS1234abcd012025");
+    }
+}
@@ -0,0 +1,45 @@
+package br.org.cecairbar.durvalcrm.application.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geração do código PIX (copia e cola) de uma cobrança
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PixServiceBenchmark {
+
+    @Param({"10.90", "1234.56"})
+    String valor;
+
+    PixService pixService;
+    BigDecimal valorCobranca;
+
+    @Setup
+    public void preparar() {
+        pixService = new PixService();
+        valorCobranca = new BigDecimal(valor);
+    }
+
+    @Benchmark
+    public String gerarQRCode() {
+        return pixService.gerarQRCode(valorCobranca, "MENS202501ABCDEF", "Mensalidade 01/2025");
+    }
+}
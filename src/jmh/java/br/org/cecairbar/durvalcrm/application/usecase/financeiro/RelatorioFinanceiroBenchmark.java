@@ -0,0 +1,73 @@
+package br.org.cecairbar.durvalcrm.application.usecase.financeiro;
+
+import br.org.cecairbar.durvalcrm.application.dto.ReceitaPorCategoriaDTO;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorCategoria;
+import br.org.cecairbar.durvalcrm.domain.repository.ReceitaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem do relatório por categoria (percentuais e ordenação) sobre os totais já agrupados
+ * pelo banco. O repositório é substituído por um proxy que devolve os totais pré-gerados,
+ * de modo que só o trabalho em memória do caso de uso é medido.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RelatorioFinanceiroBenchmark {
+
+    @Param({"1000", "50000", "500000"})
+    int categorias;
+
+    RelatorioFinanceiroUseCaseImpl relatorio;
+
+    final LocalDate inicio = LocalDate.of(2025, 1, 1);
+    final LocalDate fim = LocalDate.of(2025, 12, 31);
+
+    @Setup
+    public void preparar() {
+        Random random = new Random(42);
+        List<TotalPorCategoria> totais = new ArrayList<>(categorias);
+        for (int i = 0; i < categorias; i++) {
+            totais.add(new TotalPorCategoria(UUID.randomUUID(), "Categoria " + i, "#336699",
+                BigDecimal.valueOf(random.nextInt(1_000_000), 2), (long) random.nextInt(500) + 1));
+        }
+
+        relatorio = new RelatorioFinanceiroUseCaseImpl();
+        relatorio.receitaRepository = (ReceitaRepository) Proxy.newProxyInstance(
+            ReceitaRepository.class.getClassLoader(),
+            new Class<?>[]{ReceitaRepository.class},
+            (proxy, metodo, args) -> {
+                if (metodo.getName().equals("sumGroupByCategoria")) {
+                    return totais;
+                }
+                throw new UnsupportedOperationException(metodo.getName());
+            });
+    }
+
+    @Benchmark
+    public List<ReceitaPorCategoriaDTO> obterReceitasPorCategoria() {
+        return relatorio.obterReceitasPorCategoria(inicio, fim);
+    }
+}
@@ -0,0 +1,53 @@
+package br.org.cecairbar.durvalcrm.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criação das mensalidades de uma geração mensal de cobranças (uma por associado)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MensalidadeBenchmark {
+
+    @Param({"1000", "50000", "500000"})
+    int associados;
+
+    List<UUID> associadoIds;
+    final BigDecimal valor = new BigDecimal("10.90");
+
+    @Setup
+    public void preparar() {
+        associadoIds = new ArrayList<>(associados);
+        for (int i = 0; i < associados; i++) {
+            associadoIds.add(UUID.randomUUID());
+        }
+    }
+
+    @Benchmark
+    public void criar(Blackhole blackhole) {
+        for (UUID associadoId : associadoIds) {
+            blackhole.consume(Mensalidade.criar(associadoId, 1, 2025, valor));
+        }
+    }
+}
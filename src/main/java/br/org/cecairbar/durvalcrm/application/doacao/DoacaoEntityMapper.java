@@ -4,6 +4,7 @@ import br.org.cecairbar.durvalcrm.domain.model.Associado;
 import br.org.cecairbar.durvalcrm.domain.model.Doacao;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.AssociadoEntity;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.DoacaoEntity;
+import org.hibernate.Hibernate;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -49,6 +50,8 @@ public abstract class DoacaoEntityMapper {
         if (entity == null) {
             return null;
         }
+        // Campos públicos de um proxy lazy não são preenchidos: lê da instância real
+        entity = (AssociadoEntity) Hibernate.unproxy(entity);
         return new Associado(
             entity.id,
             entity.nomeCompleto,
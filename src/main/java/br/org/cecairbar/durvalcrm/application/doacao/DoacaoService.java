@@ -1,5 +1,7 @@
 package br.org.cecairbar.durvalcrm.application.doacao;
 
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
+import br.org.cecairbar.durvalcrm.application.service.PixService;
 import br.org.cecairbar.durvalcrm.domain.model.*;
 import br.org.cecairbar.durvalcrm.domain.repository.AssociadoRepository;
 import br.org.cecairbar.durvalcrm.domain.repository.DoacaoRepository;
@@ -25,10 +27,23 @@ public class DoacaoService {
     @Inject
     DoacaoMapper mapper;
     
+    @Inject
+    PixService pixService;
+    
     public List<DoacaoDTO> listarTodas() {
         return mapper.toDTOList(doacaoRepository.findAll());
     }
     
+    public PaginaCursorDTO<DoacaoDTO> listarPagina(String after, int limit) {
+        PaginaCursorDTO.validarLimite(limit);
+        ChavePaginacao chave = PaginaCursorDTO.lerCursor(after, LocalDateTime::parse);
+        
+        List<Doacao> doacoes = doacaoRepository.findPage(chave, limit + 1);
+        return PaginaCursorDTO.criar(doacoes, limit,
+                d -> new ChavePaginacao(d.getDataDoacao().toString(), d.getId()),
+                mapper::toDTOList);
+    }
+    
     public DoacaoDTO buscarPorId(UUID id) {
         return doacaoRepository.findById(id)
                 .map(mapper::toDTO)
@@ -82,7 +97,7 @@ public class DoacaoService {
         Doacao doacao = doacaoRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Doação não encontrada"));
         
-        if (doacao.getStatus() != StatusDoacao.PENDENTE && doacao.getStatus() != StatusDoacao.PROCESSANDO) {
+        if (!doacao.isAguardandoPagamento()) {
             throw new IllegalStateException("Doação não pode ser confirmada no status atual");
         }
         
@@ -161,9 +176,9 @@ public class DoacaoService {
     }
     
     public String gerarCodigoPix(UUID doacaoId) {
-        doacaoRepository.findById(doacaoId)
+        Doacao doacao = doacaoRepository.findById(doacaoId)
                 .orElseThrow(() -> new IllegalArgumentException("Doação não encontrada"));
         
-        return "00020126580014BR.GOV.BCB.PIX01365199e8c3-" + UUID.randomUUID().toString();
+        return pixService.gerarQRCode(doacao.getValor(), doacao.getIdentificadorPix(), doacao.getDescricao());
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package br.org.cecairbar.durvalcrm.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Data;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -9,6 +10,7 @@ import jakarta.validation.constraints.Size;
 import java.util.UUID;
 
 @Data
+@JsonFilter("campos")
 public class AssociadoDTO {
     private UUID id;
     
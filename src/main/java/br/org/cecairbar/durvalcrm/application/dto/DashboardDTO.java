@@ -5,6 +5,8 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 
+import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
+
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -27,6 +29,9 @@ public class DashboardDTO {
     private Long totalAssociados;
     private List<AssociadoResumoDTO> adimplentes;
     private List<AssociadoResumoDTO> inadimplentes;
+    // As listas acima trazem apenas os primeiros associados; os totais indicam o tamanho completo
+    private Long totalAdimplentes;
+    private Long totalInadimplentes;
 
     // Módulo Financeiro (novo)
     private BigDecimal totalReceitas;
@@ -38,6 +43,10 @@ public class DashboardDTO {
     private List<ReceitaPorCategoriaDTO> receitasPorCategoria;
     private List<DespesaPorCategoriaDTO> despesasPorCategoria;
 
+    // Consultas que falharam ou excederam o timeout (valores zerados no resultado)
+    private boolean resultadoParcial;
+    private List<String> consultasIndisponiveis;
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -47,5 +56,6 @@ public class DashboardDTO {
         private String nomeCompleto;
         private String email;
         private String cpf;
+        private StatusMensalidade statusMensalidade;
     }
 }
\ No newline at end of file
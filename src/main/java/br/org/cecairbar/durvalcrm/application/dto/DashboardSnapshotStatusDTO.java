@@ -0,0 +1,27 @@
+package br.org.cecairbar.durvalcrm.application.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardSnapshotStatusDTO {
+
+    private int mes;
+    private int ano;
+
+    // Indica se já existe snapshot calculado para o período
+    private boolean existe;
+    private Instant geradoEm;
+    private Long idadeSegundos;
+
+    // Quantidade de alterações recebidas desde que o snapshot foi calculado
+    private long alteracoesPendentes;
+    private boolean desatualizado;
+}
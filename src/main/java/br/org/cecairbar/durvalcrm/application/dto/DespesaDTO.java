@@ -3,6 +3,7 @@ package br.org.cecairbar.durvalcrm.application.dto;
 import br.org.cecairbar.durvalcrm.domain.model.TipoDespesa;
 import br.org.cecairbar.durvalcrm.domain.model.StatusPagamentoDespesa;
 import br.org.cecairbar.durvalcrm.domain.model.FormaPagamento;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -19,6 +20,7 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Data
+@JsonFilter("campos")
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -0,0 +1,43 @@
+package br.org.cecairbar.durvalcrm.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EstatisticasCacheDTO {
+
+    // Indica se hibernate.generate_statistics está ativo (sem ele os contadores ficam zerados)
+    private boolean estatisticasHabilitadas;
+
+    // Totais do cache de entidades
+    private long acertos;
+    private long falhas;
+    private long insercoes;
+    private Double taxaAcerto;
+
+    // Totais do cache de consultas
+    private long acertosConsultas;
+    private long falhasConsultas;
+
+    private List<RegiaoCacheDTO> regioes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RegiaoCacheDTO {
+        private String regiao;
+        private long acertos;
+        private long falhas;
+        private long insercoes;
+        // Nulo quando o provedor de cache não informa a quantidade em memória
+        private Long elementosEmMemoria;
+    }
+}
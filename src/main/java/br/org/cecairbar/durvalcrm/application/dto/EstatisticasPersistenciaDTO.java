@@ -0,0 +1,89 @@
+package br.org.cecairbar.durvalcrm.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EstatisticasPersistenciaDTO {
+
+    // Indica se hibernate.generate_statistics está ativo (sem ele os contadores do Hibernate ficam zerados)
+    private boolean estatisticasHabilitadas;
+
+    // Totais desde a subida da aplicação
+    private long comandosPreparados;
+    private long entidadesCarregadas;
+    private long entidadesBuscadas;
+    private long colecoesBuscadas;
+    private long consultasExecutadas;
+    private long tempoMaximoConsultaMs;
+    private String consultaMaisLenta;
+
+    private long limiteConsultaLentaMs;
+    private int limiteRepeticoesComando;
+
+    private List<EntidadeDTO> entidades;
+    private List<ConsultaDTO> consultas;
+    private List<EndpointDTO> endpoints;
+    private List<ConsultaLentaDTO> consultasLentas;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EntidadeDTO {
+        private String entidade;
+        private long carregadas;
+        // Carregadas por associação (proxy lazy ou fetch secundário)
+        private long buscadas;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ConsultaDTO {
+        private String consulta;
+        private long execucoes;
+        private long linhas;
+        private double tempoMedioMs;
+        private long tempoMaximoMs;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EndpointDTO {
+        private String endpoint;
+        private long requisicoes;
+        private long comandos;
+        private double mediaComandos;
+        private long maximoComandos;
+        private long entidadesBuscadas;
+        private long colecoesBuscadas;
+        // Requisições em que o mesmo SQL foi repetido além do limite (suspeita de N+1)
+        private long suspeitasNMais1;
+        private String comandoSuspeito;
+        private Integer repeticoesComandoSuspeito;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ConsultaLentaDTO {
+        private String consulta;
+        private long duracaoMs;
+        private int linhas;
+        private String endpoint;
+        private Instant instante;
+    }
+}
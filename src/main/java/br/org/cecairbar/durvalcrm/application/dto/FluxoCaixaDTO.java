@@ -1,5 +1,6 @@
 package br.org.cecairbar.durvalcrm.application.dto;
 
+import br.org.cecairbar.durvalcrm.domain.model.GranularidadeFluxoCaixa;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -19,6 +20,9 @@ public class FluxoCaixaDTO {
     private LocalDate periodoInicio;
     private LocalDate periodoFim;
 
+    @Builder.Default
+    private GranularidadeFluxoCaixa granularidade = GranularidadeFluxoCaixa.MENSAL;
+
     private List<MovimentacaoMensalDTO> movimentacoes;
 
     @Builder.Default
@@ -37,6 +41,8 @@ public class FluxoCaixaDTO {
     public static class MovimentacaoMensalDTO {
         private YearMonth mesAno; // Ex: 2025-01
         private String mesAnoFormatado; // Ex: "Janeiro/2025"
+        private LocalDate dataInicio; // Início do intervalo (dia, semana ou mês)
+        private LocalDate dataFim; // Fim do intervalo, limitado ao período consultado
 
         @Builder.Default
         private BigDecimal receitas = BigDecimal.ZERO;
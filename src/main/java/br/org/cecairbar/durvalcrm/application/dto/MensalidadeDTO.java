@@ -2,6 +2,7 @@ package br.org.cecairbar.durvalcrm.application.dto;
 
 import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
 import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import java.math.BigDecimal;
@@ -9,6 +10,8 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
 
+// Campos selecionáveis por ?fields=; nas listagens o qrCodePix é obtido em /mensalidades/{id}/pix
+@JsonFilter("campos")
 public class MensalidadeDTO {
     public UUID id;
     public UUID associadoId;
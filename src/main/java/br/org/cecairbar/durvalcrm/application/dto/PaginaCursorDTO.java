@@ -0,0 +1,65 @@
+package br.org.cecairbar.durvalcrm.application.dto;
+
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
+import jakarta.ws.rs.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de uma listagem paginada por keyset (?limit=&after=).
+ * O proximoCursor deve ser enviado em "after" para obter a página seguinte.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaCursorDTO<T> {
+
+    public static final int LIMITE_MAXIMO = 500;
+
+    private List<T> itens;
+    private int limite;
+    private String proximoCursor;
+    private boolean temMais;
+
+    /**
+     * Monta a página a partir de uma consulta feita com limite + 1 registros:
+     * o registro excedente indica apenas que existe próxima página
+     */
+    public static <D, T> PaginaCursorDTO<T> criar(List<D> resultado, int limite,
+                                                  Function<D, ChavePaginacao> chave,
+                                                  Function<List<D>, List<T>> conversor) {
+        boolean temMais = resultado.size() > limite;
+        List<D> pagina = temMais ? resultado.subList(0, limite) : resultado;
+        String proximoCursor = temMais ? chave.apply(pagina.get(pagina.size() - 1)).codificar() : null;
+        return new PaginaCursorDTO<>(conversor.apply(pagina), limite, proximoCursor, temMais);
+    }
+
+    public static void validarLimite(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new BadRequestException("Parâmetro 'limit' deve estar entre 1 e " + LIMITE_MAXIMO);
+        }
+    }
+
+    /**
+     * Converte o parâmetro "after" na chave da última linha da página anterior (nulo na primeira página).
+     * O conversor valida o valor de ordenação (ex.: LocalDate::parse) antes de chegar ao repositório.
+     */
+    public static ChavePaginacao lerCursor(String after, Function<String, ?> conversorValor) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        try {
+            ChavePaginacao chave = ChavePaginacao.decodificar(after.trim());
+            conversorValor.apply(chave.getValor());
+            return chave;
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Parâmetro 'after' inválido");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package br.org.cecairbar.durvalcrm.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaDTO<T> {
+
+    private List<T> conteudo;
+    private int pagina;
+    private int tamanho;
+    private long totalElementos;
+    private int totalPaginas;
+
+    public static <T> PaginaDTO<T> criar(List<T> conteudo, int pagina, int tamanho, long totalElementos) {
+        int totalPaginas = tamanho > 0 ? (int) ((totalElementos + tamanho - 1) / tamanho) : 0;
+        return new PaginaDTO<>(conteudo, pagina, tamanho, totalElementos, totalPaginas);
+    }
+}
@@ -2,6 +2,7 @@ package br.org.cecairbar.durvalcrm.application.dto;
 
 import br.org.cecairbar.durvalcrm.domain.model.TipoReceita;
 import br.org.cecairbar.durvalcrm.domain.model.MetodoPagamento;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -18,6 +19,7 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Data
+@JsonFilter("campos")
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
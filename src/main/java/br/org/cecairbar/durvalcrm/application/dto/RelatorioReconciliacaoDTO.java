@@ -0,0 +1,52 @@
+package br.org.cecairbar.durvalcrm.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado da reconciliação de um extrato: créditos conciliados, não conciliados e duplicados
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RelatorioReconciliacaoDTO {
+
+    private int totalLancamentos;
+    private int mensalidadesPagas;
+    private int doacoesConfirmadas;
+    private BigDecimal valorConciliado;
+    private boolean simulacao;
+
+    @Builder.Default
+    private List<Item> conciliados = new ArrayList<>();
+
+    @Builder.Default
+    private List<Item> naoConciliados = new ArrayList<>();
+
+    @Builder.Default
+    private List<Item> duplicados = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+        private String identificador;
+        private String codigoTransacao;
+        private BigDecimal valor;
+        private Instant data;
+        // MENSALIDADE ou DOACAO, quando conciliado
+        private String tipo;
+        private UUID referenciaId;
+        private String motivo;
+    }
+}
@@ -1,6 +1,7 @@
 package br.org.cecairbar.durvalcrm.application.dto;
 
 import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.TotalMensalidadesPorStatus;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.math.BigDecimal;
@@ -11,6 +12,8 @@ import java.util.List;
  * DTO para resumo das mensalidades de um período
  */
 public class ResumoMensalidadesDTO {
+
+    private static final BigDecimal VALOR_MENSALIDADE = new BigDecimal("10.90");
     
     @JsonProperty("totalAssociados")
     private int totalAssociados;
@@ -216,6 +219,78 @@ public class ResumoMensalidadesDTO {
         );
     }
 
+    /**
+     * Cria o resumo a partir dos totais agregados por status (sem materializar as mensalidades).
+     * Segue as mesmas regras de {@link #criarDoListComTotalAssociados(List, int)}.
+     */
+    public static ResumoMensalidadesDTO criarDeTotaisPorStatus(
+        List<TotalMensalidadesPorStatus> totaisPorStatus,
+        int totalAssociadosAtivos,
+        int mes,
+        int ano) {
+
+        int totalPendentes = 0;
+        int totalPagas = 0;
+        int totalAtrasadas = 0;
+        BigDecimal valorArrecadado = BigDecimal.ZERO;
+        BigDecimal valorPendente = BigDecimal.ZERO;
+        BigDecimal valorAtrasado = BigDecimal.ZERO;
+
+        for (TotalMensalidadesPorStatus total : totaisPorStatus) {
+            int quantidade = total.getQuantidade() != null ? total.getQuantidade().intValue() : 0;
+            BigDecimal valor = total.getValor() != null ? total.getValor() : BigDecimal.ZERO;
+
+            switch (total.getStatus()) {
+                case PENDENTE:
+                    totalPendentes += quantidade;
+                    valorPendente = valorPendente.add(valor);
+                    break;
+                case PAGA:
+                    totalPagas += quantidade;
+                    valorArrecadado = valorArrecadado.add(valor);
+                    break;
+                case ATRASADA:
+                    totalAtrasadas += quantidade;
+                    valorAtrasado = valorAtrasado.add(valor);
+                    break;
+            }
+        }
+
+        int mensalidadesGeradas = totalPendentes + totalPagas + totalAtrasadas;
+        if (mensalidadesGeradas == 0) {
+            return new ResumoMensalidadesDTO(
+                totalAssociadosAtivos, 0, 0, 0,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                0.0, mes, ano
+            );
+        }
+
+        BigDecimal valorTotalEsperado = BigDecimal.valueOf(totalAssociadosAtivos).multiply(VALOR_MENSALIDADE);
+
+        // Associados ativos ainda sem mensalidade gerada são considerados pendentes
+        int associadosSemMensalidade = totalAssociadosAtivos - mensalidadesGeradas;
+        if (associadosSemMensalidade > 0) {
+            totalPendentes += associadosSemMensalidade;
+            valorPendente = valorPendente.add(
+                BigDecimal.valueOf(associadosSemMensalidade).multiply(VALOR_MENSALIDADE)
+            );
+        }
+
+        double percentualArrecadacao = 0.0;
+        if (valorTotalEsperado.compareTo(BigDecimal.ZERO) > 0) {
+            percentualArrecadacao = valorArrecadado
+                .divide(valorTotalEsperado, 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .doubleValue();
+        }
+
+        return new ResumoMensalidadesDTO(
+            totalAssociadosAtivos, totalPendentes, totalPagas, totalAtrasadas,
+            valorTotalEsperado, valorArrecadado, valorPendente, valorAtrasado,
+            percentualArrecadacao, mes, ano
+        );
+    }
+
     // Getters e Setters
     public int getTotalAssociados() { return totalAssociados; }
     public void setTotalAssociados(int totalAssociados) { this.totalAssociados = totalAssociados; }
@@ -2,6 +2,7 @@ package br.org.cecairbar.durvalcrm.application.dto;
 
 import br.org.cecairbar.durvalcrm.domain.model.OrigemVenda;
 import br.org.cecairbar.durvalcrm.domain.model.FormaPagamento;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -17,6 +18,7 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Data
+@JsonFilter("campos")
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -0,0 +1,29 @@
+package br.org.cecairbar.durvalcrm.application.exportacao;
+
+import java.util.function.Function;
+
+/**
+ * Coluna de um arquivo exportado: nome no cabeçalho CSV / chave no NDJSON e o valor extraído de cada linha
+ */
+public final class ColunaExportacao<T> {
+
+    private final String nome;
+    private final Function<T, Object> valor;
+
+    private ColunaExportacao(String nome, Function<T, Object> valor) {
+        this.nome = nome;
+        this.valor = valor;
+    }
+
+    public static <T> ColunaExportacao<T> de(String nome, Function<T, Object> valor) {
+        return new ColunaExportacao<>(nome, valor);
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public Object valor(T linha) {
+        return valor.apply(linha);
+    }
+}
@@ -0,0 +1,131 @@
+package br.org.cecairbar.durvalcrm.application.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Escreve as linhas de uma exportação diretamente na saída da resposta, uma a uma,
+ * sem acumular a lista em memória. CSV segue a RFC 4180; NDJSON gera um objeto JSON por linha.
+ */
+public final class EscritorExportacao {
+
+    private EscritorExportacao() {
+    }
+
+    /**
+     * @return quantidade de linhas escritas (sem contar o cabeçalho)
+     */
+    public static <T> long escrever(Stream<T> linhas, List<ColunaExportacao<T>> colunas,
+                                    FormatoExportacao formato, OutputStream saida) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        if (formato == FormatoExportacao.CSV) {
+            escreverCabecalhoCsv(colunas, writer);
+        }
+
+        long total = 0;
+        Iterator<T> iterator = linhas.iterator();
+        while (iterator.hasNext()) {
+            T linha = iterator.next();
+            if (formato == FormatoExportacao.CSV) {
+                escreverLinhaCsv(linha, colunas, writer);
+            } else {
+                escreverLinhaNdjson(linha, colunas, writer);
+            }
+            total++;
+        }
+        // Não fecha o writer: o fluxo de saída pertence ao container
+        writer.flush();
+        return total;
+    }
+
+    private static <T> void escreverCabecalhoCsv(List<ColunaExportacao<T>> colunas, Writer writer) throws IOException {
+        for (int i = 0; i < colunas.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(campoCsv(colunas.get(i).getNome()));
+        }
+        writer.write("\r\n");
+    }
+
+    private static <T> void escreverLinhaCsv(T linha, List<ColunaExportacao<T>> colunas, Writer writer) throws IOException {
+        for (int i = 0; i < colunas.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object valor = colunas.get(i).valor(linha);
+            if (valor != null) {
+                writer.write(campoCsv(texto(valor)));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static <T> void escreverLinhaNdjson(T linha, List<ColunaExportacao<T>> colunas, Writer writer) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < colunas.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            ColunaExportacao<T> coluna = colunas.get(i);
+            writer.write(stringJson(coluna.getNome()));
+            writer.write(':');
+            writer.write(valorJson(coluna.valor(linha)));
+        }
+        writer.write("}\n");
+    }
+
+    static String campoCsv(String valor) {
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+
+    static String valorJson(Object valor) {
+        if (valor == null) {
+            return "null";
+        }
+        if (valor instanceof Number || valor instanceof Boolean) {
+            return texto(valor);
+        }
+        return stringJson(texto(valor));
+    }
+
+    private static String texto(Object valor) {
+        if (valor instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return valor.toString();
+    }
+
+    private static String stringJson(String valor) {
+        StringBuilder sb = new StringBuilder(valor.length() + 2).append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
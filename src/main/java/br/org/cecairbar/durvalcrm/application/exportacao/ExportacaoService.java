@@ -0,0 +1,174 @@
+package br.org.cecairbar.durvalcrm.application.exportacao;
+
+import br.org.cecairbar.durvalcrm.domain.model.Associado;
+import br.org.cecairbar.durvalcrm.domain.model.CategoriaFinanceira;
+import br.org.cecairbar.durvalcrm.domain.model.Despesa;
+import br.org.cecairbar.durvalcrm.domain.model.Doacao;
+import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.Receita;
+import br.org.cecairbar.durvalcrm.domain.model.Venda;
+import br.org.cecairbar.durvalcrm.domain.repository.DespesaRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.DoacaoRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.ReceitaRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.VendaRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Exportação dos livros financeiros (receitas, despesas, vendas, doações e mensalidades).
+ *
+ * Cada método abre uma transação própria porque é chamado pelo StreamingOutput, depois que o
+ * método do resource já retornou; as linhas são lidas do banco e escritas na resposta uma a uma.
+ */
+@ApplicationScoped
+public class ExportacaoService {
+
+    private static final Logger LOG = Logger.getLogger(ExportacaoService.class);
+
+    static final List<ColunaExportacao<Receita>> COLUNAS_RECEITA = List.of(
+        ColunaExportacao.de("id", Receita::getId),
+        ColunaExportacao.de("dataReceita", Receita::getDataReceita),
+        ColunaExportacao.de("dataRecebimento", Receita::getDataRecebimento),
+        ColunaExportacao.de("descricao", Receita::getDescricao),
+        ColunaExportacao.de("valor", Receita::getValor),
+        ColunaExportacao.de("tipoReceita", Receita::getTipoReceita),
+        ColunaExportacao.de("categoria", r -> nomeCategoria(r.getCategoria())),
+        ColunaExportacao.de("associado", r -> nomeAssociado(r.getAssociado())),
+        ColunaExportacao.de("metodoPagamento", Receita::getMetodoPagamento),
+        ColunaExportacao.de("codigoTransacao", Receita::getCodigoTransacao),
+        ColunaExportacao.de("origemId", Receita::getOrigemId)
+    );
+
+    static final List<ColunaExportacao<Despesa>> COLUNAS_DESPESA = List.of(
+        ColunaExportacao.de("id", Despesa::getId),
+        ColunaExportacao.de("dataDespesa", Despesa::getDataDespesa),
+        ColunaExportacao.de("dataVencimento", Despesa::getDataVencimento),
+        ColunaExportacao.de("dataPagamento", Despesa::getDataPagamento),
+        ColunaExportacao.de("descricao", Despesa::getDescricao),
+        ColunaExportacao.de("valor", Despesa::getValor),
+        ColunaExportacao.de("tipoDespesa", Despesa::getTipoDespesa),
+        ColunaExportacao.de("categoria", d -> nomeCategoria(d.getCategoria())),
+        ColunaExportacao.de("statusPagamento", Despesa::getStatusPagamento),
+        ColunaExportacao.de("formaPagamento", Despesa::getFormaPagamento),
+        ColunaExportacao.de("fornecedor", Despesa::getFornecedor),
+        ColunaExportacao.de("numeroDocumento", Despesa::getNumeroDocumento),
+        ColunaExportacao.de("codigoTransacao", Despesa::getCodigoTransacao)
+    );
+
+    static final List<ColunaExportacao<Venda>> COLUNAS_VENDA = List.of(
+        ColunaExportacao.de("id", Venda::getId),
+        ColunaExportacao.de("dataVenda", Venda::getDataVenda),
+        ColunaExportacao.de("descricao", Venda::getDescricao),
+        ColunaExportacao.de("valor", Venda::getValor),
+        ColunaExportacao.de("origem", Venda::getOrigem),
+        ColunaExportacao.de("formaPagamento", Venda::getFormaPagamento)
+    );
+
+    static final List<ColunaExportacao<Doacao>> COLUNAS_DOACAO = List.of(
+        ColunaExportacao.de("id", Doacao::getId),
+        ColunaExportacao.de("dataDoacao", Doacao::getDataDoacao),
+        ColunaExportacao.de("dataConfirmacao", Doacao::getDataConfirmacao),
+        ColunaExportacao.de("descricao", Doacao::getDescricao),
+        ColunaExportacao.de("valor", Doacao::getValor),
+        ColunaExportacao.de("tipo", Doacao::getTipo),
+        ColunaExportacao.de("status", Doacao::getStatus),
+        ColunaExportacao.de("associado", d -> nomeAssociado(d.getAssociado())),
+        ColunaExportacao.de("metodoPagamento", Doacao::getMetodoPagamento),
+        ColunaExportacao.de("codigoTransacao", Doacao::getCodigoTransacao)
+    );
+
+    static final List<ColunaExportacao<Mensalidade>> COLUNAS_MENSALIDADE = List.of(
+        ColunaExportacao.de("id", Mensalidade::getId),
+        ColunaExportacao.de("associadoId", Mensalidade::getAssociadoId),
+        ColunaExportacao.de("mesReferencia", Mensalidade::getMesReferencia),
+        ColunaExportacao.de("anoReferencia", Mensalidade::getAnoReferencia),
+        ColunaExportacao.de("valor", Mensalidade::getValor),
+        ColunaExportacao.de("status", Mensalidade::getStatus),
+        ColunaExportacao.de("dataVencimento", Mensalidade::getDataVencimento),
+        ColunaExportacao.de("dataPagamento", Mensalidade::getDataPagamento),
+        ColunaExportacao.de("metodoPagamento", Mensalidade::getMetodoPagamento),
+        ColunaExportacao.de("identificadorPix", Mensalidade::getIdentificadorPix)
+    );
+
+    @Inject
+    ReceitaRepository receitaRepository;
+
+    @Inject
+    DespesaRepository despesaRepository;
+
+    @Inject
+    VendaRepository vendaRepository;
+
+    @Inject
+    DoacaoRepository doacaoRepository;
+
+    @Inject
+    MensalidadeRepository mensalidadeRepository;
+
+    @Transactional
+    public long exportarReceitas(LocalDate inicio, LocalDate fim, FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<Receita> receitas = receitaRepository.streamByPeriodo(inicio, fim)) {
+            return registrar("receitas", EscritorExportacao.escrever(receitas, COLUNAS_RECEITA, formato, saida));
+        }
+    }
+
+    @Transactional
+    public long exportarDespesas(LocalDate inicio, LocalDate fim, FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<Despesa> despesas = despesaRepository.streamByPeriodo(inicio, fim)) {
+            return registrar("despesas", EscritorExportacao.escrever(despesas, COLUNAS_DESPESA, formato, saida));
+        }
+    }
+
+    /**
+     * Vendas são registradas como instantes; o período é interpretado em UTC, como em /vendas/periodo
+     */
+    @Transactional
+    public long exportarVendas(LocalDate inicio, LocalDate fim, FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<Venda> vendas = vendaRepository.streamByPeriodo(
+                inicio.atStartOfDay(ZoneOffset.UTC).toInstant(),
+                fim.atTime(LocalTime.MAX).atZone(ZoneOffset.UTC).toInstant())) {
+            return registrar("vendas", EscritorExportacao.escrever(vendas, COLUNAS_VENDA, formato, saida));
+        }
+    }
+
+    @Transactional
+    public long exportarDoacoes(LocalDate inicio, LocalDate fim, FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<Doacao> doacoes = doacaoRepository.streamByPeriodo(inicio.atStartOfDay(), fim.atTime(LocalTime.MAX))) {
+            return registrar("doacoes", EscritorExportacao.escrever(doacoes, COLUNAS_DOACAO, formato, saida));
+        }
+    }
+
+    /**
+     * Mensalidades com vencimento no período
+     */
+    @Transactional
+    public long exportarMensalidades(LocalDate inicio, LocalDate fim, FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<Mensalidade> mensalidades = mensalidadeRepository.streamByVencimento(inicio, fim)) {
+            return registrar("mensalidades", EscritorExportacao.escrever(mensalidades, COLUNAS_MENSALIDADE, formato, saida));
+        }
+    }
+
+    private static long registrar(String livro, long linhas) {
+        LOG.debugf("Exportação de %s concluída: %d linhas", livro, linhas);
+        return linhas;
+    }
+
+    private static String nomeCategoria(CategoriaFinanceira categoria) {
+        return categoria != null ? categoria.getNome() : null;
+    }
+
+    private static String nomeAssociado(Associado associado) {
+        return associado != null ? associado.getNomeCompleto() : null;
+    }
+}
@@ -0,0 +1,46 @@
+package br.org.cecairbar.durvalcrm.application.exportacao;
+
+import jakarta.ws.rs.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * Formatos suportados pelos endpoints de exportação (?formato=csv|ndjson)
+ */
+public enum FormatoExportacao {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+    public static final String MEDIA_TYPE_CSV = "text/csv";
+    public static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+
+    private final String mediaType;
+    private final String extensao;
+
+    FormatoExportacao(String mediaType, String extensao) {
+        this.mediaType = mediaType;
+        this.extensao = extensao;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    /**
+     * Converte o parâmetro da requisição; CSV quando não informado
+     */
+    public static FormatoExportacao de(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Formato de exportação inválido: " + valor + ". Use: csv ou ndjson");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import br.org.cecairbar.durvalcrm.domain.model.CategoriaFinanceira;
 import br.org.cecairbar.durvalcrm.domain.model.Despesa;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.CategoriaFinanceiraEntity;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.DespesaEntity;
+import org.hibernate.Hibernate;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -48,6 +49,8 @@ public abstract class DespesaEntityMapper {
         if (entity == null) {
             return null;
         }
+        // Campos públicos de um proxy lazy não são preenchidos: lê da instância real
+        entity = (CategoriaFinanceiraEntity) Hibernate.unproxy(entity);
         CategoriaFinanceira categoria = new CategoriaFinanceira();
         categoria.setId(entity.id);
         categoria.setNome(entity.nome);
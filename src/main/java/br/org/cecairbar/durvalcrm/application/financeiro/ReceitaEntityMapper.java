@@ -6,6 +6,7 @@ import br.org.cecairbar.durvalcrm.domain.model.Receita;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.AssociadoEntity;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.CategoriaFinanceiraEntity;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.ReceitaEntity;
+import org.hibernate.Hibernate;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -53,6 +54,8 @@ public abstract class ReceitaEntityMapper {
         if (entity == null) {
             return null;
         }
+        // Campos públicos de um proxy lazy não são preenchidos: lê da instância real
+        entity = (CategoriaFinanceiraEntity) Hibernate.unproxy(entity);
         CategoriaFinanceira categoria = new CategoriaFinanceira();
         categoria.setId(entity.id);
         categoria.setNome(entity.nome);
@@ -78,6 +81,8 @@ public abstract class ReceitaEntityMapper {
         if (entity == null) {
             return null;
         }
+        // Campos públicos de um proxy lazy não são preenchidos: lê da instância real
+        entity = (AssociadoEntity) Hibernate.unproxy(entity);
         return new Associado(
             entity.id,
             entity.nomeCompleto,
@@ -0,0 +1,49 @@
+package br.org.cecairbar.durvalcrm.application.reconciliacao;
+
+import jakarta.ws.rs.BadRequestException;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formatos de extrato aceitos pela reconciliação de pagamentos (?formato=csv|ofx)
+ */
+public enum FormatoExtrato {
+    CSV(StandardCharsets.UTF_8),
+    // OFX 1.x (SGML) costuma vir em Windows-1252; os campos usados são ASCII
+    OFX(StandardCharsets.ISO_8859_1);
+
+    private final Charset charset;
+
+    FormatoExtrato(Charset charset) {
+        this.charset = charset;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Converte o parâmetro da requisição; CSV quando não informado
+     */
+    public static FormatoExtrato de(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Formato de extrato inválido: " + valor + ". Use: csv ou ofx");
+        }
+    }
+
+    /**
+     * Formato pela extensão do arquivo (.ofx ou CSV nos demais casos)
+     */
+    public static FormatoExtrato doArquivo(Path arquivo) {
+        String nome = arquivo.getFileName().toString().toLowerCase(Locale.ROOT);
+        return nome.endsWith(".ofx") ? OFX : CSV;
+    }
+}
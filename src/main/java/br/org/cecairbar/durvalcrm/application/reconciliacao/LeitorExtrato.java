@@ -0,0 +1,280 @@
+package br.org.cecairbar.durvalcrm.application.reconciliacao;
+
+import br.org.cecairbar.durvalcrm.domain.model.Pagamento;
+import jakarta.ws.rs.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Leitura dos créditos de um extrato bancário/PIX (CSV ou OFX) em uma única passada.
+ * Débitos e lançamentos com valor zero são descartados.
+ */
+public final class LeitorExtrato {
+
+    // Cabeçalhos aceitos no CSV (minúsculos, sem acentos, espaços e sublinhados)
+    private static final Set<String> COLUNAS_DATA = Set.of("data", "datapagamento", "datalancamento", "date");
+    private static final Set<String> COLUNAS_VALOR = Set.of("valor", "valorpago", "amount");
+    private static final Set<String> COLUNAS_IDENTIFICADOR = Set.of("txid", "identificador", "identificadorpix");
+    private static final Set<String> COLUNAS_CODIGO = Set.of("endtoendid", "e2eid", "idtransacao", "codigotransacao", "fitid");
+
+    private static final DateTimeFormatter DATA_BR = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter DATA_HORA_BR = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm[:ss]");
+
+    private static final Pattern TRANSACAO_OFX = Pattern.compile("<STMTTRN>(.*?)</STMTTRN>",
+        Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+    private static final Pattern CAMPO_OFX = Pattern.compile("<([A-Z0-9.]+)>([^<\\r\\n]*)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern FUSO_OFX = Pattern.compile("\\[([+-]?\\d{1,2})(?:[.:](\\d{2}))?(?::[A-Za-z]+)?]");
+
+    // txid das cobranças geradas pelo sistema, procurado no histórico (MEMO/NAME) do OFX: só os formatos
+    // de Mensalidade ("MENS" + 8 hex do associado + mês + ano) e Doacao ("DOAC" + 21 hex do id), para que
+    // palavras como MENSALIDADE ou DOACAO no histórico não sejam tomadas pelo txid
+    private static final Pattern TXID = Pattern.compile("\\b(?:MENS[0-9a-f]{8}\\d{6}|DOAC[0-9A-F]{21})\\b");
+
+    private LeitorExtrato() {
+    }
+
+    public static List<Pagamento> ler(Reader reader, FormatoExtrato formato) {
+        try {
+            return formato == FormatoExtrato.OFX ? lerOfx(reader) : lerCsv(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o extrato", e);
+        }
+    }
+
+    private static List<Pagamento> lerCsv(Reader reader) throws IOException {
+        BufferedReader linhas = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        List<Pagamento> pagamentos = new ArrayList<>();
+
+        String cabecalho = linhas.readLine();
+        while (cabecalho != null && cabecalho.isBlank()) {
+            cabecalho = linhas.readLine();
+        }
+        if (cabecalho == null) {
+            return pagamentos;
+        }
+        if (cabecalho.startsWith("\uFEFF")) {
+            cabecalho = cabecalho.substring(1);
+        }
+
+        char separador = cabecalho.indexOf(';') >= 0 ? ';' : ',';
+        List<String> colunas = dividir(cabecalho, separador);
+        int colunaData = indiceDaColuna(colunas, COLUNAS_DATA);
+        int colunaValor = indiceDaColuna(colunas, COLUNAS_VALOR);
+        int colunaIdentificador = indiceDaColuna(colunas, COLUNAS_IDENTIFICADOR);
+        int colunaCodigo = indiceDaColuna(colunas, COLUNAS_CODIGO);
+        if (colunaData < 0 || colunaValor < 0 || colunaIdentificador < 0) {
+            throw new BadRequestException("Cabeçalho do CSV deve conter as colunas data, valor e txid");
+        }
+
+        String linha;
+        int numero = 1;
+        while ((linha = linhas.readLine()) != null) {
+            numero++;
+            if (linha.isBlank()) {
+                continue;
+            }
+            List<String> campos = dividir(linha, separador);
+            String valorTexto = campo(campos, colunaValor);
+            String dataTexto = campo(campos, colunaData);
+            if (valorTexto == null || dataTexto == null) {
+                throw new BadRequestException("Linha " + numero + " do extrato sem data ou valor");
+            }
+            try {
+                BigDecimal valor = lerValor(valorTexto);
+                if (valor.signum() <= 0) {
+                    continue;
+                }
+                pagamentos.add(new Pagamento(
+                    campo(campos, colunaIdentificador),
+                    valor,
+                    lerData(dataTexto),
+                    colunaCodigo >= 0 ? campo(campos, colunaCodigo) : null));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new BadRequestException("Linha " + numero + " do extrato inválida: " + e.getMessage());
+            }
+        }
+        return pagamentos;
+    }
+
+    private static List<Pagamento> lerOfx(Reader reader) throws IOException {
+        StringBuilder conteudo = new StringBuilder();
+        char[] buffer = new char[8192];
+        int lidos;
+        while ((lidos = reader.read(buffer)) != -1) {
+            conteudo.append(buffer, 0, lidos);
+        }
+
+        List<Pagamento> pagamentos = new ArrayList<>();
+        Matcher transacao = TRANSACAO_OFX.matcher(conteudo);
+        while (transacao.find()) {
+            String valorTexto = null, dataTexto = null, fitId = null, memo = null, nome = null;
+            Matcher campo = CAMPO_OFX.matcher(transacao.group(1));
+            while (campo.find()) {
+                String valor = campo.group(2).trim();
+                switch (campo.group(1).toUpperCase(Locale.ROOT)) {
+                    case "TRNAMT": valorTexto = valor; break;
+                    case "DTPOSTED": dataTexto = valor; break;
+                    case "FITID": fitId = valor; break;
+                    case "MEMO": memo = valor; break;
+                    case "NAME": nome = valor; break;
+                    default: break;
+                }
+            }
+            if (valorTexto == null || dataTexto == null) {
+                throw new BadRequestException("Transação OFX sem TRNAMT ou DTPOSTED");
+            }
+
+            try {
+                BigDecimal valor = lerValor(valorTexto);
+                if (valor.signum() <= 0) {
+                    continue;
+                }
+                pagamentos.add(new Pagamento(identificadorOfx(memo, nome), valor, lerDataOfx(dataTexto),
+                    fitId == null || fitId.isEmpty() ? null : fitId));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new BadRequestException("Transação OFX " + fitId + " inválida: " + e.getMessage());
+            }
+        }
+        return pagamentos;
+    }
+
+    private static String identificadorOfx(String memo, String nome) {
+        for (String texto : new String[] { memo, nome }) {
+            if (texto != null) {
+                Matcher txid = TXID.matcher(texto);
+                if (txid.find()) {
+                    return txid.group();
+                }
+            }
+        }
+        // Como no CSV sem txid: o crédito é reportado como não identificado em vez de buscar pelo MEMO
+        return null;
+    }
+
+    /**
+     * Aceita "1234.56", "1234,56", "1.234,56", "1,234.56" e "R$ 10,90";
+     * o último separador encontrado é o decimal
+     */
+    static BigDecimal lerValor(String texto) {
+        String valor = texto.replace("R$", "").replace(" ", "").trim();
+        if (valor.lastIndexOf(',') > valor.lastIndexOf('.')) {
+            valor = valor.replace(".", "").replace(',', '.');
+        } else {
+            valor = valor.replace(",", "");
+        }
+        return new BigDecimal(valor);
+    }
+
+    /**
+     * Aceita data/hora ISO (com ou sem fuso) e dd/MM/yyyy [HH:mm[:ss]]; sem fuso usa o do servidor
+     */
+    static Instant lerData(String texto) {
+        String data = texto.trim();
+        if (data.contains("/")) {
+            return data.length() > 10
+                ? LocalDateTime.parse(data, DATA_HORA_BR).atZone(ZoneId.systemDefault()).toInstant()
+                : LocalDate.parse(data, DATA_BR).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        }
+        if (data.length() <= 10) {
+            return LocalDate.parse(data).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        }
+        if (data.endsWith("Z") || data.lastIndexOf('+') > 10 || data.lastIndexOf('-') > 10) {
+            return OffsetDateTime.parse(data).toInstant();
+        }
+        return LocalDateTime.parse(data).atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    /**
+     * DTPOSTED do OFX: yyyyMMdd[HHmmss[.XXX]][[-3:BRT]]
+     */
+    static Instant lerDataOfx(String texto) {
+        if (texto.length() < 8) {
+            throw new DateTimeParseException("Data OFX inválida", texto, 0);
+        }
+        LocalDate dia = LocalDate.parse(texto.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+        LocalDateTime dataHora = texto.length() >= 14 && Character.isDigit(texto.charAt(13))
+            ? dia.atTime(Integer.parseInt(texto.substring(8, 10)), Integer.parseInt(texto.substring(10, 12)),
+                Integer.parseInt(texto.substring(12, 14)))
+            : dia.atStartOfDay();
+
+        Matcher fuso = FUSO_OFX.matcher(texto);
+        if (fuso.find()) {
+            int horas = Integer.parseInt(fuso.group(1));
+            int minutos = fuso.group(2) != null ? Integer.parseInt(fuso.group(2)) : 0;
+            return dataHora.toInstant(ZoneOffset.ofHoursMinutes(horas, horas < 0 ? -minutos : minutos));
+        }
+        return dataHora.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static int indiceDaColuna(List<String> colunas, Set<String> nomes) {
+        for (int i = 0; i < colunas.size(); i++) {
+            if (nomes.contains(normalizar(colunas.get(i)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String normalizar(String coluna) {
+        return Normalizer.normalize(coluna, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .replaceAll("[\\s_-]", "")
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private static String campo(List<String> campos, int indice) {
+        String valor = indice < campos.size() ? campos.get(indice).trim() : "";
+        return valor.isEmpty() ? null : valor;
+    }
+
+    /**
+     * Divide uma linha CSV respeitando campos entre aspas (RFC 4180, sem quebras de linha no campo)
+     */
+    static List<String> dividir(String linha, char separador) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == separador) {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        campos.add(atual.toString());
+        return campos;
+    }
+}
@@ -0,0 +1,203 @@
+package br.org.cecairbar.durvalcrm.application.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+
+/**
+ * Codificador do BR Code (PIX "copia e cola") no formato EMV TLV do Manual do BR Code do Banco Central.
+ *
+ * Os campos fixos do recebedor (chave, nome e cidade) são codificados uma única vez na construção,
+ * assim como o CRC parcial do prefixo; a cada chamada só valor (54) e txid (62/05) são escritos,
+ * num único buffer, e o CRC16-CCITT (polinômio 0x1021, inicial 0xFFFF) é continuado por tabela.
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads.
+ */
+public final class BrCodePix {
+
+    static final String GUI_PIX = "br.gov.bcb.pix";
+    static final String TXID_SEM_IDENTIFICADOR = "***";
+
+    static final int TAMANHO_MAXIMO_NOME = 25;
+    static final int TAMANHO_MAXIMO_CIDADE = 15;
+    static final int TAMANHO_MAXIMO_TXID = 25;
+    private static final int TAMANHO_MAXIMO_VALOR = 13;
+    private static final int TAMANHO_MAXIMO_CHAVE = 99 - 4 - GUI_PIX.length() - 4;
+
+    private static final int[] TABELA_CRC = new int[256];
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            int crc = i << 8;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+            TABELA_CRC[i] = crc & 0xFFFF;
+        }
+    }
+
+    /** 00, 01 (opcional), 26, 52 e 53: tudo que vem antes do valor */
+    private final char[] prefixo;
+    private final int crcPrefixo;
+    /** 58, 59 e 60: entre o valor e o txid */
+    private final char[] dadosRecebedor;
+
+    /**
+     * @param usoUnico inclui o Point of Initiation Method "12" (QR de uso único, um por cobrança)
+     */
+    public BrCodePix(String chave, String nomeRecebedor, String cidade, boolean usoUnico) {
+        String chaveNormalizada = exigirAscii("chave", chave == null ? "" : chave.trim());
+        if (chaveNormalizada.isEmpty() || chaveNormalizada.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new IllegalArgumentException("Chave PIX deve ter entre 1 e " + TAMANHO_MAXIMO_CHAVE + " caracteres");
+        }
+
+        StringBuilder inicio = new StringBuilder(128);
+        campo(inicio, "00", "01");
+        if (usoUnico) {
+            campo(inicio, "01", "12");
+        }
+        campo(inicio, "26", campo(new StringBuilder(), "00", GUI_PIX)
+            .append(campo(new StringBuilder(), "01", chaveNormalizada)).toString());
+        campo(inicio, "52", "0000");
+        campo(inicio, "53", "986");
+        this.prefixo = inicio.toString().toCharArray();
+        this.crcPrefixo = atualizarCrc(0xFFFF, prefixo, 0, prefixo.length);
+
+        StringBuilder recebedor = new StringBuilder(64);
+        campo(recebedor, "58", "BR");
+        campo(recebedor, "59", textoLivre("nome do recebedor", nomeRecebedor, TAMANHO_MAXIMO_NOME));
+        campo(recebedor, "60", textoLivre("cidade", cidade, TAMANHO_MAXIMO_CIDADE));
+        this.dadosRecebedor = recebedor.toString().toCharArray();
+    }
+
+    /**
+     * Gera o payload completo, com CRC.
+     *
+     * @param valor valor da cobrança (arredondado a 2 casas); nulo omite o campo 54 e o pagador informa o valor
+     * @param txid  identificador alfanumérico de até 25 caracteres; nulo ou vazio usa "***"
+     */
+    public String gerar(BigDecimal valor, String txid) {
+        String identificador = txid == null || txid.isEmpty() ? TXID_SEM_IDENTIFICADOR : validarTxid(txid);
+
+        char[] buffer = new char[prefixo.length + 4 + TAMANHO_MAXIMO_VALOR + dadosRecebedor.length
+            + 8 + identificador.length() + 8];
+        System.arraycopy(prefixo, 0, buffer, 0, prefixo.length);
+        int pos = prefixo.length;
+
+        if (valor != null) {
+            pos = escreverValor(buffer, pos, valor);
+        }
+
+        System.arraycopy(dadosRecebedor, 0, buffer, pos, dadosRecebedor.length);
+        pos += dadosRecebedor.length;
+
+        pos = escreverId(buffer, pos, "62", 4 + identificador.length());
+        pos = escreverId(buffer, pos, "05", identificador.length());
+        identificador.getChars(0, identificador.length(), buffer, pos);
+        pos += identificador.length();
+
+        pos = escreverId(buffer, pos, "63", 4);
+        int crc = atualizarCrc(crcPrefixo, buffer, prefixo.length, pos);
+        buffer[pos++] = HEX[(crc >> 12) & 0xF];
+        buffer[pos++] = HEX[(crc >> 8) & 0xF];
+        buffer[pos++] = HEX[(crc >> 4) & 0xF];
+        buffer[pos++] = HEX[crc & 0xF];
+
+        return new String(buffer, 0, pos);
+    }
+
+    /**
+     * CRC16-CCITT (0x1021, inicial 0xFFFF) de um payload ASCII, em 4 dígitos hexadecimais maiúsculos
+     */
+    public static String crc16(CharSequence payload) {
+        int crc = 0xFFFF;
+        for (int i = 0; i < payload.length(); i++) {
+            crc = ((crc << 8) ^ TABELA_CRC[((crc >> 8) ^ payload.charAt(i)) & 0xFF]) & 0xFFFF;
+        }
+        return String.format("%04X", crc);
+    }
+
+    private static int atualizarCrc(int crc, char[] dados, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            crc = ((crc << 8) ^ TABELA_CRC[((crc >> 8) ^ dados[i]) & 0xFF]) & 0xFFFF;
+        }
+        return crc;
+    }
+
+    private static int escreverValor(char[] buffer, int pos, BigDecimal valor) {
+        if (valor.signum() <= 0) {
+            throw new IllegalArgumentException("Valor do PIX deve ser maior que zero");
+        }
+        long centavos = valor.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        long reais = centavos / 100;
+        int digitosReais = 1;
+        for (long resto = reais / 10; resto > 0; resto /= 10) {
+            digitosReais++;
+        }
+        int tamanho = digitosReais + 3;
+        if (tamanho > TAMANHO_MAXIMO_VALOR) {
+            throw new IllegalArgumentException("Valor do PIX excede " + TAMANHO_MAXIMO_VALOR + " caracteres");
+        }
+
+        pos = escreverId(buffer, pos, "54", tamanho);
+        int fim = pos + tamanho;
+        buffer[fim - 1] = (char) ('0' + centavos % 10);
+        buffer[fim - 2] = (char) ('0' + (centavos / 10) % 10);
+        buffer[fim - 3] = '.';
+        for (int i = fim - 4; i >= pos; i--) {
+            buffer[i] = (char) ('0' + reais % 10);
+            reais /= 10;
+        }
+        return fim;
+    }
+
+    private static int escreverId(char[] buffer, int pos, String id, int tamanho) {
+        buffer[pos++] = id.charAt(0);
+        buffer[pos++] = id.charAt(1);
+        buffer[pos++] = (char) ('0' + tamanho / 10);
+        buffer[pos++] = (char) ('0' + tamanho % 10);
+        return pos;
+    }
+
+    private static StringBuilder campo(StringBuilder destino, String id, String valor) {
+        if (valor.length() > 99) {
+            throw new IllegalArgumentException("Campo " + id + " excede 99 caracteres");
+        }
+        return destino.append(id).append(valor.length() < 10 ? "0" : "").append(valor.length()).append(valor);
+    }
+
+    private static String validarTxid(String txid) {
+        if (txid.length() > TAMANHO_MAXIMO_TXID) {
+            throw new IllegalArgumentException("txid deve ter no máximo " + TAMANHO_MAXIMO_TXID + " caracteres");
+        }
+        for (int i = 0; i < txid.length(); i++) {
+            char c = txid.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'A' && c <= 'Z') && !(c >= 'a' && c <= 'z')) {
+                throw new IllegalArgumentException("txid deve ser alfanumérico: " + txid);
+            }
+        }
+        return txid;
+    }
+
+    /**
+     * Nome e cidade: sem acentos (o CRC é calculado sobre bytes ASCII) e truncados ao limite do manual
+     */
+    private static String textoLivre(String campo, String valor, int limite) {
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalArgumentException("O campo " + campo + " do PIX é obrigatório");
+        }
+        String semAcentos = Normalizer.normalize(valor.trim(), Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        String ascii = exigirAscii(campo, semAcentos);
+        return ascii.length() > limite ? ascii.substring(0, limite).trim() : ascii;
+    }
+
+    private static String exigirAscii(String campo, String valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c < 0x20 || c > 0x7E) {
+                throw new IllegalArgumentException("O campo " + campo + " do PIX contém caractere não suportado");
+            }
+        }
+        return valor;
+    }
+}
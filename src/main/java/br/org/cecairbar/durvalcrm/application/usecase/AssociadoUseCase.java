@@ -1,12 +1,14 @@
 package br.org.cecairbar.durvalcrm.application.usecase;
 
 import br.org.cecairbar.durvalcrm.application.dto.AssociadoDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface AssociadoUseCase {
     List<AssociadoDTO> findAll(String search);
+    PaginaCursorDTO<AssociadoDTO> findPage(String search, String after, int limit);
     AssociadoDTO findById(UUID id);
     AssociadoDTO create(AssociadoDTO associadoDTO);
     AssociadoDTO update(UUID id, AssociadoDTO associadoDTO);
@@ -1,12 +1,10 @@
 package br.org.cecairbar.durvalcrm.application.usecase;
 
 import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
-import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
 import org.jboss.logging.Logger;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 
 @ApplicationScoped
@@ -14,34 +12,59 @@ public class AtualizarStatusMensalidadesUseCase {
 
     private static final Logger LOG = Logger.getLogger(AtualizarStatusMensalidadesUseCase.class);
 
+    // Quantidade máxima de linhas por UPDATE (configurável via system property no WildFly)
+    static final String PROPRIEDADE_TAMANHO_BLOCO = "durvalcrm.mensalidades.atualizacao-status.tamanho-bloco";
+    private static final int TAMANHO_BLOCO_PADRAO = 1000;
+
     @Inject
     MensalidadeRepository mensalidadeRepository;
 
-    @Transactional
     public int executar() {
-        LOG.info("Iniciando atualização de status das mensalidades...");
-        
+        return executar(false);
+    }
+
+    /**
+     * Transição PENDENTE → ATRASADA das mensalidades vencidas, feita no banco em
+     * blocos limitados (um UPDATE e uma transação por bloco).
+     *
+     * @param simulacao quando verdadeiro apenas conta as mensalidades que seriam atualizadas
+     */
+    public int executar(boolean simulacao) {
+        LocalDate hoje = LocalDate.now();
+
         try {
-            // Busca mensalidades pendentes que estão vencidas
-            var mensalidadesVencidas = mensalidadeRepository.findVencidas();
-            
-            int mensalidadesAtualizadas = 0;
-            for (var mensalidade : mensalidadesVencidas) {
-                if (mensalidade.getStatus() == StatusMensalidade.PENDENTE && 
-                    mensalidade.getDataVencimento().isBefore(LocalDate.now())) {
-                    
-                    mensalidade.atualizarStatus();
-                    mensalidadeRepository.save(mensalidade);
-                    mensalidadesAtualizadas++;
-                }
+            if (simulacao) {
+                long candidatas = mensalidadeRepository.countPendentesVencidas(hoje);
+                LOG.infof("Simulação: %d mensalidades seriam atualizadas para ATRASADA", candidatas);
+                return (int) candidatas;
             }
-            
-            LOG.infof("Atualizado status de %d mensalidades para ATRASADA", mensalidadesAtualizadas);
+
+            LOG.info("Iniciando atualização de status das mensalidades...");
+
+            int tamanhoBloco = obterTamanhoBloco();
+            int mensalidadesAtualizadas = 0;
+            int blocos = 0;
+            int afetadas;
+
+            do {
+                afetadas = mensalidadeRepository.marcarPendentesVencidasComoAtrasadas(hoje, tamanhoBloco);
+                mensalidadesAtualizadas += afetadas;
+                blocos++;
+                LOG.debugf("Bloco %d: %d mensalidades atualizadas", blocos, afetadas);
+            } while (afetadas >= tamanhoBloco);
+
+            LOG.infof("Atualizado status de %d mensalidades para ATRASADA em %d bloco(s)",
+                mensalidadesAtualizadas, blocos);
             return mensalidadesAtualizadas;
-            
+
         } catch (Exception e) {
             LOG.error("Erro ao atualizar status das mensalidades", e);
             throw new RuntimeException("Falha na atualização de status das mensalidades", e);
         }
     }
-}
\ No newline at end of file
+
+    private int obterTamanhoBloco() {
+        int tamanho = Integer.getInteger(PROPRIEDADE_TAMANHO_BLOCO, TAMANHO_BLOCO_PADRAO);
+        return tamanho > 0 ? tamanho : TAMANHO_BLOCO_PADRAO;
+    }
+}
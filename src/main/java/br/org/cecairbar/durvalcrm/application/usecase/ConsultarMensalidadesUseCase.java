@@ -3,11 +3,14 @@ package br.org.cecairbar.durvalcrm.application.usecase;
 import br.org.cecairbar.durvalcrm.domain.repository.AssociadoRepository;
 import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
 import br.org.cecairbar.durvalcrm.application.dto.MensalidadeDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ResumoMensalidadesDTO;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -25,12 +28,15 @@ public class ConsultarMensalidadesUseCase {
      * Obtém resumo das mensalidades por período
      */
     public ResumoMensalidadesDTO obterResumo(int mes, int ano) {
-        var mensalidades = mensalidadeRepository.findByMesEAno(mes, ano);
-        var associadosAtivos = associadoRepository.findByAtivo(true); // ADICIONAR
-        
-        return ResumoMensalidadesDTO.criarDoListComTotalAssociados(
-            mensalidades, 
-            associadosAtivos.size() // USAR TOTAL DE ASSOCIADOS ATIVOS
+        // Agregação feita no banco: uma linha por status + COUNT de associados ativos
+        var totaisPorStatus = mensalidadeRepository.obterTotaisPorStatus(mes, ano);
+        long associadosAtivos = associadoRepository.countByAtivo(true);
+
+        return ResumoMensalidadesDTO.criarDeTotaisPorStatus(
+            totaisPorStatus,
+            (int) associadosAtivos,
+            mes,
+            ano
         );
     }
 
@@ -45,6 +51,21 @@ public class ConsultarMensalidadesUseCase {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Lista mensalidades do período paginadas por cursor (?limit=&after=)
+     */
+    public PaginaCursorDTO<MensalidadeDTO> listarPaginaPorPeriodo(int mes, int ano, String after, int limit) {
+        PaginaCursorDTO.validarLimite(limit);
+        ChavePaginacao chave = PaginaCursorDTO.lerCursor(after, LocalDate::parse);
+
+        var mensalidades = mensalidadeRepository.findPageByMesEAno(mes, ano, chave, limit + 1);
+        return PaginaCursorDTO.criar(mensalidades, limit,
+            m -> new ChavePaginacao(m.getDataVencimento().toString(), m.getId()),
+            pagina -> pagina.stream()
+                .map(MensalidadeDTO::fromDomain)
+                .collect(Collectors.toList()));
+    }
+
     /**
      * Obtém uma mensalidade específica por ID
      */
@@ -1,5 +1,6 @@
 package br.org.cecairbar.durvalcrm.application.usecase;
 
+import br.org.cecairbar.durvalcrm.domain.model.Associado;
 import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
 import br.org.cecairbar.durvalcrm.domain.repository.AssociadoRepository;
 import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
@@ -10,6 +11,8 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @ApplicationScoped
@@ -27,43 +30,61 @@ public class GerarCobrancasMensaisUseCase {
     // Valor fixo da mensalidade: R$ 10,00 + R$ 0,90 taxa = R$ 10,90
     private static final BigDecimal VALOR_MENSALIDADE = new BigDecimal("10.90");
 
-    @Transactional
+    // Quantidade de mensalidades confirmadas por transação na geração em massa
+    // (configurável via system property no WildFly)
+    static final String PROPRIEDADE_TAMANHO_BLOCO = "durvalcrm.mensalidades.geracao.tamanho-bloco";
+    private static final int TAMANHO_BLOCO_PADRAO = 500;
+
+    /**
+     * Geração em massa: calcula em uma única consulta os associados ativos sem
+     * mensalidade no período, monta as mensalidades e os payloads PIX em memória
+     * e insere em blocos, cada bloco em sua própria transação (JDBC batch).
+     */
     public ResultadoGeracaoDTO executar(int mes, int ano) {
-        // Buscar todos os associados ativos
-        var associadosAtivos = associadoRepository.findByAtivo(true);
-        
+        long totalAtivos = associadoRepository.countByAtivo(true);
+        var associadosSemMensalidade = associadoRepository.findAtivosSemMensalidadeNoPeriodo(mes, ano);
+
+        int tamanhoBloco = obterTamanhoBloco();
+        List<Mensalidade> bloco = new ArrayList<>(Math.min(tamanhoBloco, associadosSemMensalidade.size()));
         int geradas = 0;
-        int jaExistiam = 0;
 
-        for (var associado : associadosAtivos) {
-            // Verificar se já existe mensalidade para este período
-            if (mensalidadeRepository.existsByAssociadoEPeriodo(associado.getId(), mes, ano)) {
-                jaExistiam++;
-                continue;
+        for (var associado : associadosSemMensalidade) {
+            bloco.add(criarMensalidade(associado, mes, ano));
+
+            if (bloco.size() >= tamanhoBloco) {
+                geradas += mensalidadeRepository.saveAll(bloco);
+                bloco.clear();
             }
+        }
 
-            // Criar nova mensalidade
-            Mensalidade mensalidade = Mensalidade.criar(
-                associado.getId(), 
-                mes, 
-                ano, 
-                VALOR_MENSALIDADE
-            );
-
-            // Gerar QR Code PIX
-            String qrCode = pixService.gerarQRCode(
-                VALOR_MENSALIDADE,
-                mensalidade.getIdentificadorPix(),
-                String.format("Mensalidade %02d/%d - %s", mes, ano, associado.getNomeCompleto())
-            );
-            mensalidade.setQrCodePix(qrCode);
-
-            // Salvar mensalidade
-            mensalidadeRepository.save(mensalidade);
-            geradas++;
+        if (!bloco.isEmpty()) {
+            geradas += mensalidadeRepository.saveAll(bloco);
         }
 
-        return new ResultadoGeracaoDTO(geradas, jaExistiam, associadosAtivos.size());
+        int jaExistiam = (int) Math.max(0, totalAtivos - associadosSemMensalidade.size());
+        return new ResultadoGeracaoDTO(geradas, jaExistiam, (int) totalAtivos);
+    }
+
+    private Mensalidade criarMensalidade(Associado associado, int mes, int ano) {
+        Mensalidade mensalidade = Mensalidade.criar(
+            associado.getId(),
+            mes,
+            ano,
+            VALOR_MENSALIDADE
+        );
+
+        String qrCode = pixService.gerarQRCode(
+            VALOR_MENSALIDADE,
+            mensalidade.getIdentificadorPix(),
+            String.format("Mensalidade %02d/%d - %s", mes, ano, associado.getNomeCompleto())
+        );
+        mensalidade.setQrCodePix(qrCode);
+        return mensalidade;
+    }
+
+    private int obterTamanhoBloco() {
+        int tamanho = Integer.getInteger(PROPRIEDADE_TAMANHO_BLOCO, TAMANHO_BLOCO_PADRAO);
+        return tamanho > 0 ? tamanho : TAMANHO_BLOCO_PADRAO;
     }
 
     @Transactional
@@ -86,21 +107,8 @@ public class GerarCobrancasMensaisUseCase {
             return new ResultadoGeracaoDTO(0, 1, 1);
         }
 
-        // Criar nova mensalidade
-        Mensalidade mensalidade = Mensalidade.criar(
-            associado.getId(), 
-            mes, 
-            ano, 
-            VALOR_MENSALIDADE
-        );
-
-        // Gerar QR Code PIX
-        String qrCode = pixService.gerarQRCode(
-            VALOR_MENSALIDADE,
-            mensalidade.getIdentificadorPix(),
-            String.format("Mensalidade %02d/%d - %s", mes, ano, associado.getNomeCompleto())
-        );
-        mensalidade.setQrCodePix(qrCode);
+        // Criar nova mensalidade com QR Code PIX
+        Mensalidade mensalidade = criarMensalidade(associado, mes, ano);
 
         // Salvar mensalidade
         mensalidadeRepository.save(mensalidade);
@@ -1,5 +1,196 @@
 package br.org.cecairbar.durvalcrm.application.usecase;
 
+import br.org.cecairbar.durvalcrm.application.dto.RelatorioReconciliacaoDTO;
+import br.org.cecairbar.durvalcrm.application.reconciliacao.FormatoExtrato;
+import br.org.cecairbar.durvalcrm.application.reconciliacao.LeitorExtrato;
+import br.org.cecairbar.durvalcrm.domain.model.Doacao;
+import br.org.cecairbar.durvalcrm.domain.model.FormaPagamento;
+import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.MetodoPagamento;
+import br.org.cecairbar.durvalcrm.domain.model.Pagamento;
+import br.org.cecairbar.durvalcrm.domain.model.StatusDoacao;
+import br.org.cecairbar.durvalcrm.domain.repository.DoacaoRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
+import org.jboss.logging.Logger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reconciliação em lote de um extrato bancário/PIX com as cobranças em aberto.
+ *
+ * As mensalidades e doações aguardando pagamento são indexadas por txid em memória,
+ * os créditos do extrato são conciliados em uma única passada e as baixas são gravadas
+ * em lote (JDBC batch) na mesma transação.
+ */
+@ApplicationScoped
 public class ReconciliarPagamento {
 
+    private static final Logger LOG = Logger.getLogger(ReconciliarPagamento.class);
+
+    static final String TIPO_MENSALIDADE = "MENSALIDADE";
+    static final String TIPO_DOACAO = "DOACAO";
+
+    @Inject
+    MensalidadeRepository mensalidadeRepository;
+
+    @Inject
+    DoacaoRepository doacaoRepository;
+
+    /**
+     * Reconcilia um extrato do disco local; o formato é deduzido pela extensão (.ofx ou CSV)
+     */
+    @Transactional
+    public RelatorioReconciliacaoDTO executar(Path arquivo, boolean simulacao) {
+        FormatoExtrato formato = FormatoExtrato.doArquivo(arquivo);
+        try (BufferedReader reader = Files.newBufferedReader(arquivo, formato.getCharset())) {
+            return reconciliar(LeitorExtrato.ler(reader, formato), simulacao);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o extrato " + arquivo, e);
+        }
+    }
+
+    @Transactional
+    public RelatorioReconciliacaoDTO executar(InputStream extrato, FormatoExtrato formato, boolean simulacao) {
+        return reconciliar(
+            LeitorExtrato.ler(new BufferedReader(new InputStreamReader(extrato, formato.getCharset())), formato),
+            simulacao);
+    }
+
+    /**
+     * @param simulacao quando verdadeiro apenas produz o relatório, sem gravar as baixas
+     */
+    @Transactional
+    public RelatorioReconciliacaoDTO reconciliar(List<Pagamento> pagamentos, boolean simulacao) {
+        long inicio = System.nanoTime();
+
+        Set<String> identificadores = new LinkedHashSet<>();
+        for (Pagamento pagamento : pagamentos) {
+            if (pagamento.isIdentificado()) {
+                identificadores.add(pagamento.getIdentificador());
+            }
+        }
+
+        Map<String, Mensalidade> mensalidadesPorTxid = new HashMap<>();
+        for (Mensalidade mensalidade : mensalidadeRepository.findNaoPagasByIdentificadoresPix(identificadores)) {
+            mensalidadesPorTxid.put(mensalidade.getIdentificadorPix(), mensalidade);
+        }
+
+        // Doações não guardam o txid: só são carregadas se sobrar identificador sem mensalidade
+        Map<String, Doacao> doacoesPorTxid = new HashMap<>();
+        if (!mensalidadesPorTxid.keySet().containsAll(identificadores)) {
+            for (Doacao doacao : doacaoRepository.findAguardandoPagamento()) {
+                doacoesPorTxid.put(doacao.getIdentificadorPix(), doacao);
+            }
+        }
+
+        RelatorioReconciliacaoDTO relatorio = RelatorioReconciliacaoDTO.builder()
+            .totalLancamentos(pagamentos.size())
+            .valorConciliado(BigDecimal.ZERO)
+            .simulacao(simulacao)
+            .build();
+        List<Mensalidade> mensalidadesPagas = new ArrayList<>();
+        List<Doacao> doacoesConfirmadas = new ArrayList<>();
+        Set<String> transacoesLidas = new HashSet<>();
+        Set<String> txidsConciliados = new HashSet<>();
+
+        for (Pagamento pagamento : pagamentos) {
+            if (pagamento.getCodigoTransacao() != null && !transacoesLidas.add(pagamento.getCodigoTransacao())) {
+                relatorio.getDuplicados().add(item(pagamento, "Transação repetida no extrato"));
+                continue;
+            }
+            if (!pagamento.isIdentificado()) {
+                relatorio.getNaoConciliados().add(item(pagamento, "Crédito sem txid"));
+                continue;
+            }
+            if (txidsConciliados.contains(pagamento.getIdentificador())) {
+                relatorio.getDuplicados().add(item(pagamento, "Cobrança já conciliada neste extrato"));
+                continue;
+            }
+
+            Instant dataPagamento = pagamento.getData() != null ? pagamento.getData() : Instant.now();
+            Mensalidade mensalidade = mensalidadesPorTxid.get(pagamento.getIdentificador());
+            Doacao doacao = mensalidade == null ? doacoesPorTxid.get(pagamento.getIdentificador()) : null;
+
+            if (mensalidade != null) {
+                if (mensalidade.getValor().compareTo(pagamento.getValor()) != 0) {
+                    relatorio.getNaoConciliados().add(item(pagamento, "Valor divergente da mensalidade: " + mensalidade.getValor()));
+                    continue;
+                }
+                mensalidade.marcarComoPaga(dataPagamento, FormaPagamento.PIX);
+                mensalidadesPagas.add(mensalidade);
+                conciliar(relatorio, pagamento, TIPO_MENSALIDADE, mensalidade.getId());
+            } else if (doacao != null) {
+                if (doacao.getValor().compareTo(pagamento.getValor()) != 0) {
+                    relatorio.getNaoConciliados().add(item(pagamento, "Valor divergente da doação: " + doacao.getValor()));
+                    continue;
+                }
+                doacao.setStatus(StatusDoacao.CONFIRMADA);
+                doacao.setDataConfirmacao(LocalDateTime.ofInstant(dataPagamento, ZoneId.systemDefault()));
+                doacao.setCodigoTransacao(pagamento.getCodigoTransacao() != null
+                    ? pagamento.getCodigoTransacao() : pagamento.getIdentificador());
+                doacao.setMetodoPagamento(MetodoPagamento.PIX);
+                doacoesConfirmadas.add(doacao);
+                conciliar(relatorio, pagamento, TIPO_DOACAO, doacao.getId());
+            } else {
+                relatorio.getNaoConciliados().add(item(pagamento, "Nenhuma cobrança em aberto com este txid"));
+                continue;
+            }
+            txidsConciliados.add(pagamento.getIdentificador());
+        }
+
+        if (simulacao) {
+            relatorio.setMensalidadesPagas(mensalidadesPagas.size());
+            relatorio.setDoacoesConfirmadas(doacoesConfirmadas.size());
+        } else {
+            relatorio.setMensalidadesPagas(mensalidadesPagas.isEmpty() ? 0 : mensalidadeRepository.registrarPagamentos(mensalidadesPagas));
+            relatorio.setDoacoesConfirmadas(doacoesConfirmadas.isEmpty() ? 0 : doacaoRepository.confirmarPagamentos(doacoesConfirmadas));
+        }
+
+        LOG.infof("Reconciliação%s: %d lançamentos, %d conciliados (%d mensalidades, %d doações), "
+                + "%d não conciliados, %d duplicados em %d ms",
+            simulacao ? " (simulação)" : "", pagamentos.size(), relatorio.getConciliados().size(),
+            relatorio.getMensalidadesPagas(), relatorio.getDoacoesConfirmadas(),
+            relatorio.getNaoConciliados().size(), relatorio.getDuplicados().size(),
+            (System.nanoTime() - inicio) / 1_000_000);
+        return relatorio;
+    }
+
+    private static void conciliar(RelatorioReconciliacaoDTO relatorio, Pagamento pagamento, String tipo, UUID referenciaId) {
+        RelatorioReconciliacaoDTO.Item item = item(pagamento, null);
+        item.setTipo(tipo);
+        item.setReferenciaId(referenciaId);
+        relatorio.getConciliados().add(item);
+        relatorio.setValorConciliado(relatorio.getValorConciliado().add(pagamento.getValor()));
+    }
+
+    private static RelatorioReconciliacaoDTO.Item item(Pagamento pagamento, String motivo) {
+        return RelatorioReconciliacaoDTO.Item.builder()
+            .identificador(pagamento.getIdentificador())
+            .codigoTransacao(pagamento.getCodigoTransacao())
+            .valor(pagamento.getValor())
+            .data(pagamento.getData())
+            .motivo(motivo)
+            .build();
+    }
 }
@@ -0,0 +1,126 @@
+package br.org.cecairbar.durvalcrm.application.usecase.dashboard;
+
+import br.org.cecairbar.durvalcrm.application.dto.DashboardDTO;
+import br.org.cecairbar.durvalcrm.application.dto.DashboardSnapshotStatusDTO;
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Armazena em memória um snapshot do dashboard por mês/ano.
+ *
+ * Cada gravação nos repositórios dispara um {@link DadosAlteradosEvent}; o período
+ * afetado tem sua versão incrementada e apenas ele é recalculado na próxima leitura.
+ * Enquanto não houver alterações, o dashboard é servido direto da memória.
+ */
+@ApplicationScoped
+public class DashboardSnapshotStore {
+
+    private final Map<YearMonth, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<YearMonth, AtomicLong> versoesPorPeriodo = new ConcurrentHashMap<>();
+    private final Map<YearMonth, Object> locks = new ConcurrentHashMap<>();
+    private final AtomicLong versaoGlobal = new AtomicLong();
+
+    /**
+     * Retorna o snapshot do período, recalculando-o somente se estiver desatualizado
+     */
+    public DashboardDTO obter(YearMonth periodo, Supplier<DashboardDTO> calculo) {
+        Snapshot atual = snapshots.get(periodo);
+        if (atual != null && !estaDesatualizado(periodo, atual)) {
+            return atual.dashboard;
+        }
+
+        synchronized (locks.computeIfAbsent(periodo, p -> new Object())) {
+            atual = snapshots.get(periodo);
+            if (atual != null && !estaDesatualizado(periodo, atual)) {
+                return atual.dashboard;
+            }
+
+            // Versões lidas antes do cálculo: alterações concorrentes deixam o snapshot desatualizado
+            long global = versaoGlobal.get();
+            long doPeriodo = versaoDoPeriodo(periodo).get();
+            DashboardDTO dashboard = calculo.get();
+            if (dashboard.isResultadoParcial()) {
+                // Resultado parcial não é guardado: a próxima leitura tenta novamente
+                return dashboard;
+            }
+            snapshots.put(periodo, new Snapshot(dashboard, Instant.now(), LocalDate.now(), global, doPeriodo));
+            return dashboard;
+        }
+    }
+
+    public DashboardSnapshotStatusDTO obterStatus(YearMonth periodo) {
+        Snapshot snapshot = snapshots.get(periodo);
+        if (snapshot == null) {
+            return DashboardSnapshotStatusDTO.builder()
+                .mes(periodo.getMonthValue())
+                .ano(periodo.getYear())
+                .existe(false)
+                .desatualizado(true)
+                .build();
+        }
+
+        long pendentes = (versaoGlobal.get() - snapshot.versaoGlobal)
+            + (versaoDoPeriodo(periodo).get() - snapshot.versaoPeriodo);
+
+        return DashboardSnapshotStatusDTO.builder()
+            .mes(periodo.getMonthValue())
+            .ano(periodo.getYear())
+            .existe(true)
+            .geradoEm(snapshot.geradoEm)
+            .idadeSegundos(Duration.between(snapshot.geradoEm, Instant.now()).getSeconds())
+            .alteracoesPendentes(pendentes)
+            .desatualizado(estaDesatualizado(periodo, snapshot))
+            .build();
+    }
+
+    /**
+     * Invalida os snapshots afetados somente após o commit da transação que alterou os dados
+     */
+    public void aoAlterarDados(@Observes(during = TransactionPhase.AFTER_SUCCESS) DadosAlteradosEvent evento) {
+        if (evento.afetaTodosPeriodos()) {
+            versaoGlobal.incrementAndGet();
+        } else {
+            versaoDoPeriodo(evento.getPeriodo()).incrementAndGet();
+        }
+    }
+
+    private boolean estaDesatualizado(YearMonth periodo, Snapshot snapshot) {
+        // Métricas como inadimplência e despesas vencidas dependem da data atual
+        return snapshot.versaoGlobal != versaoGlobal.get()
+            || snapshot.versaoPeriodo != versaoDoPeriodo(periodo).get()
+            || !snapshot.dataReferencia.equals(LocalDate.now());
+    }
+
+    private AtomicLong versaoDoPeriodo(YearMonth periodo) {
+        return versoesPorPeriodo.computeIfAbsent(periodo, p -> new AtomicLong());
+    }
+
+    private static final class Snapshot {
+        private final DashboardDTO dashboard;
+        private final Instant geradoEm;
+        private final LocalDate dataReferencia;
+        private final long versaoGlobal;
+        private final long versaoPeriodo;
+
+        private Snapshot(DashboardDTO dashboard, Instant geradoEm, LocalDate dataReferencia,
+                         long versaoGlobal, long versaoPeriodo) {
+            this.dashboard = dashboard;
+            this.geradoEm = geradoEm;
+            this.dataReferencia = dataReferencia;
+            this.versaoGlobal = versaoGlobal;
+            this.versaoPeriodo = versaoPeriodo;
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package br.org.cecairbar.durvalcrm.application.usecase.dashboard;
 
 import br.org.cecairbar.durvalcrm.application.dto.DashboardDTO;
+import br.org.cecairbar.durvalcrm.application.dto.DashboardSnapshotStatusDTO;
+import br.org.cecairbar.durvalcrm.application.dto.DashboardDTO.AssociadoResumoDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ReceitasPorMetodoPagamentoDTO;
+import br.org.cecairbar.durvalcrm.domain.model.SituacaoAdimplencia;
 
 public interface DashboardUseCase {
     
     DashboardDTO obterDashboard(int mes, int ano);
+
+    DashboardSnapshotStatusDTO obterStatusSnapshot(int mes, int ano);
+
+    /**
+     * Lista paginada de associados pela situação da mensalidade do período.
+     * Ordenação no formato "campo" ou "campo,desc" (campos: nome, email, cpf, status).
+     */
+    PaginaDTO<AssociadoResumoDTO> listarAssociadosPorSituacao(int mes, int ano, SituacaoAdimplencia situacao,
+                                                              int pagina, int tamanho, String ordenacao);
     
     ReceitasPorMetodoPagamentoDTO obterReceitasPorMetodoPagamento();
     
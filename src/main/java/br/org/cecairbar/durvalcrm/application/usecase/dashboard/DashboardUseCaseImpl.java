@@ -1,7 +1,9 @@
 package br.org.cecairbar.durvalcrm.application.usecase.dashboard;
 
 import br.org.cecairbar.durvalcrm.application.dto.DashboardDTO;
+import br.org.cecairbar.durvalcrm.application.dto.DashboardSnapshotStatusDTO;
 import br.org.cecairbar.durvalcrm.application.dto.DashboardDTO.AssociadoResumoDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ReceitasPorMetodoPagamentoDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ResumoFinanceiroDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ReceitaPorCategoriaDTO;
@@ -9,15 +11,19 @@ import br.org.cecairbar.durvalcrm.application.dto.DespesaPorCategoriaDTO;
 import br.org.cecairbar.durvalcrm.application.usecase.financeiro.RelatorioFinanceiroUseCase;
 import br.org.cecairbar.durvalcrm.application.usecase.financeiro.DespesaUseCase;
 import br.org.cecairbar.durvalcrm.domain.model.OrigemVenda;
-import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.SituacaoAdimplencia;
 import br.org.cecairbar.durvalcrm.domain.repository.AssociadoRepository;
 import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
 import br.org.cecairbar.durvalcrm.domain.repository.VendaRepository;
 import br.org.cecairbar.durvalcrm.domain.repository.DoacaoRepository;
 
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.ws.rs.BadRequestException;
+import org.jboss.logging.Logger;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -26,10 +32,26 @@ import java.time.Instant;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class DashboardUseCaseImpl implements DashboardUseCase {
 
+    private static final Logger LOG = Logger.getLogger(DashboardUseCaseImpl.class);
+
+    static final String PROPRIEDADE_TIMEOUT_CONSULTA = "durvalcrm.dashboard.consulta.timeout-ms";
+    private static final long TIMEOUT_CONSULTA_PADRAO_MS = 10_000L;
+
+    // Quantidade de adimplentes/inadimplentes listados no dashboard; o restante via listarAssociadosPorSituacao
+    static final String PROPRIEDADE_LIMITE_ASSOCIADOS = "durvalcrm.dashboard.associados.limite";
+    private static final int LIMITE_ASSOCIADOS_PADRAO = 100;
+    private static final int TAMANHO_PAGINA_MAXIMO = 500;
+
     @Inject
     AssociadoRepository associadoRepository;
 
@@ -50,9 +72,24 @@ public class DashboardUseCaseImpl implements DashboardUseCase {
 
     @Inject
     DespesaUseCase despesaUseCase;
+
+    @Inject
+    DashboardSnapshotStore snapshotStore;
+
+    @Resource(lookup = "java:comp/DefaultManagedExecutorService")
+    ManagedExecutorService managedExecutor;
     
     @Override
     public DashboardDTO obterDashboard(int mes, int ano) {
+        return snapshotStore.obter(YearMonth.of(ano, mes), () -> calcularDashboard(mes, ano));
+    }
+
+    @Override
+    public DashboardSnapshotStatusDTO obterStatusSnapshot(int mes, int ano) {
+        return snapshotStore.obterStatus(YearMonth.of(ano, mes));
+    }
+
+    DashboardDTO calcularDashboard(int mes, int ano) {
         // Definir período
         YearMonth mesAno = YearMonth.of(ano, mes);
         LocalDate dataInicio = mesAno.atDay(1);
@@ -60,81 +97,166 @@ public class DashboardUseCaseImpl implements DashboardUseCase {
         
         Instant inicio = dataInicio.atStartOfDay(ZoneId.systemDefault()).toInstant();
         Instant fim = dataFim.atTime(23, 59, 59).atZone(ZoneId.systemDefault()).toInstant();
-        
-        // Obter receitas
-        BigDecimal receitaMensalidades = mensalidadeRepository.obterValorArrecadadoPorPeriodo(mes, ano);
-        BigDecimal receitaCantina = vendaRepository.sumValorByOrigemAndPeriodo(OrigemVenda.CANTINA, inicio, fim);
-        BigDecimal receitaBazar = vendaRepository.sumValorByOrigemAndPeriodo(OrigemVenda.BAZAR, inicio, fim);
-        BigDecimal receitaLivros = vendaRepository.sumValorByOrigemAndPeriodo(OrigemVenda.LIVROS, inicio, fim);
-        BigDecimal receitaDoacoes = doacaoRepository.obterTotalDoacoesPorPeriodo(inicio, fim);
+
+        // As consultas são independentes entre si: disparadas em paralelo, cada uma com seu timeout
+        List<String> indisponiveis = Collections.synchronizedList(new ArrayList<>());
+
+        // Receitas
+        CompletableFuture<BigDecimal> receitaMensalidadesF = consultar("receitaMensalidades",
+            () -> mensalidadeRepository.obterValorArrecadadoPorPeriodo(mes, ano), BigDecimal.ZERO, indisponiveis);
+        CompletableFuture<BigDecimal> receitaCantinaF = consultar("receitaCantina",
+            () -> vendaRepository.sumValorByOrigemAndPeriodo(OrigemVenda.CANTINA, inicio, fim), BigDecimal.ZERO, indisponiveis);
+        CompletableFuture<BigDecimal> receitaBazarF = consultar("receitaBazar",
+            () -> vendaRepository.sumValorByOrigemAndPeriodo(OrigemVenda.BAZAR, inicio, fim), BigDecimal.ZERO, indisponiveis);
+        CompletableFuture<BigDecimal> receitaLivrosF = consultar("receitaLivros",
+            () -> vendaRepository.sumValorByOrigemAndPeriodo(OrigemVenda.LIVROS, inicio, fim), BigDecimal.ZERO, indisponiveis);
+        CompletableFuture<BigDecimal> receitaDoacoesF = consultar("receitaDoacoes",
+            () -> doacaoRepository.obterTotalDoacoesPorPeriodo(inicio, fim), BigDecimal.ZERO, indisponiveis);
+
+        // Associados
+        CompletableFuture<Long> totalAssociadosF = consultar("totalAssociados",
+            () -> associadoRepository.count(), 0L, indisponiveis);
+        int limiteAssociados = Math.max(1, Math.min(TAMANHO_PAGINA_MAXIMO,
+            Integer.getInteger(PROPRIEDADE_LIMITE_ASSOCIADOS, LIMITE_ASSOCIADOS_PADRAO)));
+        CompletableFuture<PaginaDTO<AssociadoResumoDTO>> adimplentesF = consultar("adimplentes",
+            () -> listarAssociadosPorSituacao(mes, ano, SituacaoAdimplencia.ADIMPLENTE, 0, limiteAssociados, null),
+            PaginaDTO.criar(Collections.emptyList(), 0, limiteAssociados, 0), indisponiveis);
+        CompletableFuture<PaginaDTO<AssociadoResumoDTO>> inadimplentesF = consultar("inadimplentes",
+            () -> listarAssociadosPorSituacao(mes, ano, SituacaoAdimplencia.INADIMPLENTE, 0, limiteAssociados, null),
+            PaginaDTO.criar(Collections.emptyList(), 0, limiteAssociados, 0), indisponiveis);
+
+        // Módulo financeiro
+        CompletableFuture<ResumoFinanceiroDTO> resumoFinanceiroF = consultar("resumoFinanceiro",
+            () -> relatorioFinanceiroUseCase.obterResumoFinanceiro(dataInicio, dataFim),
+            ResumoFinanceiroDTO.criar(dataInicio, dataFim), indisponiveis);
+        CompletableFuture<List<ReceitaPorCategoriaDTO>> receitasPorCategoriaF = consultar("receitasPorCategoria",
+            () -> relatorioFinanceiroUseCase.obterReceitasPorCategoria(dataInicio, dataFim),
+            Collections.emptyList(), indisponiveis);
+        CompletableFuture<List<DespesaPorCategoriaDTO>> despesasPorCategoriaF = consultar("despesasPorCategoria",
+            () -> relatorioFinanceiroUseCase.obterDespesasPorCategoria(dataInicio, dataFim),
+            Collections.emptyList(), indisponiveis);
+        CompletableFuture<Long> despesasVencidasF = consultar("despesasVencidas",
+            () -> despesaUseCase.contarVencidas(LocalDate.now()), 0L, indisponiveis);
+
+        CompletableFuture.allOf(receitaMensalidadesF, receitaCantinaF, receitaBazarF, receitaLivrosF, receitaDoacoesF,
+            totalAssociadosF, adimplentesF, inadimplentesF,
+            resumoFinanceiroF, receitasPorCategoriaF, despesasPorCategoriaF, despesasVencidasF).join();
+
+        BigDecimal receitaMensalidades = valorOuZero(receitaMensalidadesF.join());
+        BigDecimal receitaCantina = valorOuZero(receitaCantinaF.join());
+        BigDecimal receitaBazar = valorOuZero(receitaBazarF.join());
+        BigDecimal receitaLivros = valorOuZero(receitaLivrosF.join());
+        BigDecimal receitaDoacoes = valorOuZero(receitaDoacoesF.join());
         
         // Receita consolidada
         BigDecimal receitaConsolidada = BigDecimal.ZERO
-            .add(receitaMensalidades != null ? receitaMensalidades : BigDecimal.ZERO)
-            .add(receitaCantina != null ? receitaCantina : BigDecimal.ZERO)
-            .add(receitaBazar != null ? receitaBazar : BigDecimal.ZERO)
-            .add(receitaLivros != null ? receitaLivros : BigDecimal.ZERO)
-            .add(receitaDoacoes != null ? receitaDoacoes : BigDecimal.ZERO);
+            .add(receitaMensalidades)
+            .add(receitaCantina)
+            .add(receitaBazar)
+            .add(receitaLivros)
+            .add(receitaDoacoes);
         
-        // Obter estatísticas de associados
-        Long totalAssociados = associadoRepository.count();
-        List<String> associadosComMensalidadePaga = mensalidadeRepository.obterAssociadosComStatusPorPeriodo(mes, ano, StatusMensalidade.PAGA);
-        List<String> associadosComMensalidadesVencidas = mensalidadeRepository.obterAssociadosComMensalidadesVencidas(mes, ano);
-        Long pagantesMes = (long) associadosComMensalidadePaga.size();
-        
-        // Obter lista de adimplentes e inadimplentes
-        List<AssociadoResumoDTO> adimplentes = new ArrayList<>();
-        List<AssociadoResumoDTO> inadimplentes = new ArrayList<>();
-        
-        associadoRepository.findAll().forEach(associado -> {
-            String associadoId = associado.getId().toString();
-            AssociadoResumoDTO resumo = AssociadoResumoDTO.builder()
-                .id(associadoId)
-                .nomeCompleto(associado.getNomeCompleto())
-                .email(associado.getEmail())
-                .cpf(associado.getCpf())
-                .build();
-            
-            if (associadosComMensalidadePaga.contains(associadoId)) {
-                // Associado com mensalidade paga = adimplente
-                adimplentes.add(resumo);
-            } else if (associadosComMensalidadesVencidas.contains(associadoId)) {
-                // Associado com mensalidade vencida (PENDENTE ou ATRASADA e vencida) = inadimplente
-                inadimplentes.add(resumo);
-            }
-            // Associados sem mensalidade para o período não aparecem em nenhuma lista
-        });
+        // Obter estatísticas de associados (classificação feita no banco)
+        Long totalAssociados = totalAssociadosF.join();
+        PaginaDTO<AssociadoResumoDTO> adimplentes = adimplentesF.join();
+        PaginaDTO<AssociadoResumoDTO> inadimplentes = inadimplentesF.join();
 
         // Obter métricas do módulo financeiro
-        ResumoFinanceiroDTO resumoFinanceiro = relatorioFinanceiroUseCase.obterResumoFinanceiro(dataInicio, dataFim);
-        List<ReceitaPorCategoriaDTO> receitasPorCategoria = relatorioFinanceiroUseCase.obterReceitasPorCategoria(dataInicio, dataFim);
-        List<DespesaPorCategoriaDTO> despesasPorCategoria = relatorioFinanceiroUseCase.obterDespesasPorCategoria(dataInicio, dataFim);
-        long despesasVencidas = despesaUseCase.contarVencidas(LocalDate.now());
+        ResumoFinanceiroDTO resumoFinanceiro = resumoFinanceiroF.join();
+        List<String> consultasIndisponiveis = new ArrayList<>(indisponiveis);
+        Collections.sort(consultasIndisponiveis);
 
         return DashboardDTO.builder()
             // Receitas legado
             .receitaConsolidada(receitaConsolidada)
-            .receitaMensalidades(receitaMensalidades != null ? receitaMensalidades : BigDecimal.ZERO)
-            .receitaCantina(receitaCantina != null ? receitaCantina : BigDecimal.ZERO)
-            .receitaBazar(receitaBazar != null ? receitaBazar : BigDecimal.ZERO)
-            .receitaLivros(receitaLivros != null ? receitaLivros : BigDecimal.ZERO)
-            .receitaDoacoes(receitaDoacoes != null ? receitaDoacoes : BigDecimal.ZERO)
+            .receitaMensalidades(receitaMensalidades)
+            .receitaCantina(receitaCantina)
+            .receitaBazar(receitaBazar)
+            .receitaLivros(receitaLivros)
+            .receitaDoacoes(receitaDoacoes)
             // Associados
-            .pagantesMes(pagantesMes)
+            .pagantesMes(adimplentes.getTotalElementos())
             .totalAssociados(totalAssociados)
-            .adimplentes(adimplentes)
-            .inadimplentes(inadimplentes)
+            .adimplentes(adimplentes.getConteudo())
+            .inadimplentes(inadimplentes.getConteudo())
+            .totalAdimplentes(adimplentes.getTotalElementos())
+            .totalInadimplentes(inadimplentes.getTotalElementos())
             // Módulo Financeiro (novo)
             .totalReceitas(resumoFinanceiro.getTotalReceitas())
             .totalDespesas(resumoFinanceiro.getTotalDespesas())
             .saldoFinanceiro(resumoFinanceiro.getSaldo())
             .quantidadeReceitas(resumoFinanceiro.getQuantidadeReceitas())
             .quantidadeDespesas(resumoFinanceiro.getQuantidadeDespesas())
-            .despesasVencidas(despesasVencidas)
-            .receitasPorCategoria(receitasPorCategoria)
-            .despesasPorCategoria(despesasPorCategoria)
+            .despesasVencidas(despesasVencidasF.join())
+            .receitasPorCategoria(receitasPorCategoriaF.join())
+            .despesasPorCategoria(despesasPorCategoriaF.join())
+            // Resultado parcial
+            .resultadoParcial(!consultasIndisponiveis.isEmpty())
+            .consultasIndisponiveis(consultasIndisponiveis)
             .build();
     }
+
+    @Override
+    public PaginaDTO<AssociadoResumoDTO> listarAssociadosPorSituacao(int mes, int ano, SituacaoAdimplencia situacao,
+                                                                     int pagina, int tamanho, String ordenacao) {
+        if (pagina < 0) {
+            throw new BadRequestException("Página deve ser maior ou igual a zero");
+        }
+        if (tamanho < 1 || tamanho > TAMANHO_PAGINA_MAXIMO) {
+            throw new BadRequestException("Tamanho da página deve estar entre 1 e " + TAMANHO_PAGINA_MAXIMO);
+        }
+
+        String campo = "nome";
+        boolean crescente = true;
+        if (ordenacao != null && !ordenacao.isBlank()) {
+            String[] partes = ordenacao.split(",");
+            campo = partes[0].trim();
+            crescente = partes.length < 2 || !"desc".equalsIgnoreCase(partes[1].trim());
+        }
+        if (!AssociadoRepository.CAMPOS_ORDENACAO_SITUACAO.contains(campo)) {
+            throw new BadRequestException("Campo de ordenação inválido: " + campo);
+        }
+
+        long total = associadoRepository.countPorSituacaoNoPeriodo(mes, ano, situacao);
+        List<AssociadoResumoDTO> conteudo = total == 0
+            ? Collections.emptyList()
+            : associadoRepository.findPorSituacaoNoPeriodo(mes, ano, situacao, campo, crescente, pagina * tamanho, tamanho)
+                .stream()
+                .map(associado -> AssociadoResumoDTO.builder()
+                    .id(associado.getId().toString())
+                    .nomeCompleto(associado.getNomeCompleto())
+                    .email(associado.getEmail())
+                    .cpf(associado.getCpf())
+                    .statusMensalidade(associado.getStatusMensalidade())
+                    .build())
+                .collect(Collectors.toList());
+
+        return PaginaDTO.criar(conteudo, pagina, tamanho, total);
+    }
+
+    /**
+     * Executa a consulta no executor gerenciado; em caso de falha ou timeout, registra
+     * a consulta como indisponível e devolve o valor padrão
+     */
+    private <T> CompletableFuture<T> consultar(String nome, Supplier<T> consulta, T padrao, List<String> indisponiveis) {
+        long timeout = Long.getLong(PROPRIEDADE_TIMEOUT_CONSULTA, TIMEOUT_CONSULTA_PADRAO_MS);
+        return CompletableFuture.supplyAsync(consulta, executor())
+            .orTimeout(timeout, TimeUnit.MILLISECONDS)
+            .exceptionally(erro -> {
+                LOG.warnf("Consulta '%s' do dashboard indisponível: %s", nome, erro);
+                indisponiveis.add(nome);
+                return padrao;
+            });
+    }
+
+    private Executor executor() {
+        // Fora do container (testes unitários) as consultas rodam na própria thread
+        return managedExecutor != null ? managedExecutor : Runnable::run;
+    }
+
+    private static BigDecimal valorOuZero(BigDecimal valor) {
+        return valor != null ? valor : BigDecimal.ZERO;
+    }
     
     @Override
     public ReceitasPorMetodoPagamentoDTO obterReceitasPorMetodoPagamento() {
@@ -65,6 +65,7 @@ public class CategoriaFinanceiraUseCaseImpl implements CategoriaFinanceiraUseCas
         // Atualizar
         mapper.updateDomainFromDTO(categoriaDTO, categoria);
         categoriaRepository.save(categoria);
+        categoriaRepository.evictFromCache(id);
 
         return mapper.toDTO(categoria);
     }
@@ -81,6 +82,7 @@ public class CategoriaFinanceiraUseCaseImpl implements CategoriaFinanceiraUseCas
 
         categoria.setAtiva(false);
         categoriaRepository.save(categoria);
+        categoriaRepository.evictFromCache(id);
     }
 
     @Override
@@ -95,6 +97,7 @@ public class CategoriaFinanceiraUseCaseImpl implements CategoriaFinanceiraUseCas
 
         categoria.setAtiva(true);
         categoriaRepository.save(categoria);
+        categoriaRepository.evictFromCache(id);
 
         return mapper.toDTO(categoria);
     }
@@ -1,6 +1,7 @@
 package br.org.cecairbar.durvalcrm.application.usecase.financeiro;
 
 import br.org.cecairbar.durvalcrm.application.dto.DespesaDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
 import br.org.cecairbar.durvalcrm.domain.model.StatusPagamentoDespesa;
 import br.org.cecairbar.durvalcrm.domain.model.TipoDespesa;
 
@@ -46,6 +47,11 @@ public interface DespesaUseCase {
      */
     List<DespesaDTO> listarTodas();
 
+    /**
+     * Listar despesas paginadas por cursor (vencimento mais recente primeiro)
+     */
+    PaginaCursorDTO<DespesaDTO> listarPagina(String after, int limit);
+
     /**
      * Listar despesas por status
      */
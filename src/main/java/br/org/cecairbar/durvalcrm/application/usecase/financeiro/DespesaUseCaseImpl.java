@@ -1,7 +1,9 @@
 package br.org.cecairbar.durvalcrm.application.usecase.financeiro;
 
 import br.org.cecairbar.durvalcrm.application.dto.DespesaDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
 import br.org.cecairbar.durvalcrm.application.financeiro.DespesaMapper;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.Despesa;
 import br.org.cecairbar.durvalcrm.domain.model.StatusPagamentoDespesa;
 import br.org.cecairbar.durvalcrm.domain.model.TipoDespesa;
@@ -144,6 +146,17 @@ public class DespesaUseCaseImpl implements DespesaUseCase {
         return mapper.toDTOList(despesas);
     }
 
+    @Override
+    public PaginaCursorDTO<DespesaDTO> listarPagina(String after, int limit) {
+        PaginaCursorDTO.validarLimite(limit);
+        ChavePaginacao chave = PaginaCursorDTO.lerCursor(after, LocalDate::parse);
+
+        List<Despesa> despesas = despesaRepository.findPage(chave, limit + 1);
+        return PaginaCursorDTO.criar(despesas, limit,
+            d -> new ChavePaginacao(d.getDataVencimento().toString(), d.getId()),
+            mapper::toDTOList);
+    }
+
     @Override
     public List<DespesaDTO> listarPorStatus(StatusPagamentoDespesa status) {
         List<Despesa> despesas = despesaRepository.findByStatus(status);
@@ -1,5 +1,6 @@
 package br.org.cecairbar.durvalcrm.application.usecase.financeiro;
 
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ReceitaDTO;
 import br.org.cecairbar.durvalcrm.domain.model.TipoReceita;
 
@@ -35,6 +36,11 @@ public interface ReceitaUseCase {
      */
     List<ReceitaDTO> listarTodas();
 
+    /**
+     * Listar receitas paginadas por cursor (mais recentes primeiro)
+     */
+    PaginaCursorDTO<ReceitaDTO> listarPagina(String after, int limit);
+
     /**
      * Listar receitas por período
      */
@@ -1,7 +1,9 @@
 package br.org.cecairbar.durvalcrm.application.usecase.financeiro;
 
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ReceitaDTO;
 import br.org.cecairbar.durvalcrm.application.financeiro.ReceitaMapper;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.Receita;
 import br.org.cecairbar.durvalcrm.domain.model.TipoReceita;
 import br.org.cecairbar.durvalcrm.domain.repository.ReceitaRepository;
@@ -111,6 +113,17 @@ public class ReceitaUseCaseImpl implements ReceitaUseCase {
         return mapper.toDTOList(receitas);
     }
 
+    @Override
+    public PaginaCursorDTO<ReceitaDTO> listarPagina(String after, int limit) {
+        PaginaCursorDTO.validarLimite(limit);
+        ChavePaginacao chave = PaginaCursorDTO.lerCursor(after, LocalDate::parse);
+
+        List<Receita> receitas = receitaRepository.findPage(chave, limit + 1);
+        return PaginaCursorDTO.criar(receitas, limit,
+            r -> new ChavePaginacao(r.getDataReceita().toString(), r.getId()),
+            mapper::toDTOList);
+    }
+
     @Override
     public List<ReceitaDTO> listarPorPeriodo(LocalDate dataInicio, LocalDate dataFim) {
         validarPeriodo(dataInicio, dataFim);
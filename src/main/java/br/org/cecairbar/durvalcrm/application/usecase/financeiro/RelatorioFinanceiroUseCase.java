@@ -4,6 +4,7 @@ import br.org.cecairbar.durvalcrm.application.dto.ResumoFinanceiroDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ReceitaPorCategoriaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.DespesaPorCategoriaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.FluxoCaixaDTO;
+import br.org.cecairbar.durvalcrm.domain.model.GranularidadeFluxoCaixa;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -34,6 +35,12 @@ public interface RelatorioFinanceiroUseCase {
      */
     FluxoCaixaDTO obterFluxoDeCaixa(LocalDate dataInicio, LocalDate dataFim);
 
+    /**
+     * Obter fluxo de caixa em intervalos diários, semanais ou mensais
+     * Intervalos sem movimentação são retornados com valores zerados
+     */
+    FluxoCaixaDTO obterFluxoDeCaixa(LocalDate dataInicio, LocalDate dataFim, GranularidadeFluxoCaixa granularidade);
+
     /**
      * Obter resumo financeiro do mês atual
      */
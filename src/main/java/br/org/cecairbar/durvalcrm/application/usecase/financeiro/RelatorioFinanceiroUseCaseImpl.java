@@ -4,9 +4,9 @@ import br.org.cecairbar.durvalcrm.application.dto.ResumoFinanceiroDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ReceitaPorCategoriaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.DespesaPorCategoriaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.FluxoCaixaDTO;
-import br.org.cecairbar.durvalcrm.domain.model.CategoriaFinanceira;
-import br.org.cecairbar.durvalcrm.domain.model.Receita;
-import br.org.cecairbar.durvalcrm.domain.model.Despesa;
+import br.org.cecairbar.durvalcrm.domain.model.GranularidadeFluxoCaixa;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorCategoria;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorData;
 import br.org.cecairbar.durvalcrm.domain.repository.ReceitaRepository;
 import br.org.cecairbar.durvalcrm.domain.repository.DespesaRepository;
 import br.org.cecairbar.durvalcrm.domain.repository.CategoriaFinanceiraRepository;
@@ -17,16 +17,23 @@ import jakarta.ws.rs.BadRequestException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class RelatorioFinanceiroUseCaseImpl implements RelatorioFinanceiroUseCase {
 
+    private static final int MAXIMO_DIAS_FLUXO_DIARIO = 366;
+
     @Inject
     ReceitaRepository receitaRepository;
 
@@ -64,47 +71,26 @@ public class RelatorioFinanceiroUseCaseImpl implements RelatorioFinanceiroUseCas
     public List<ReceitaPorCategoriaDTO> obterReceitasPorCategoria(LocalDate dataInicio, LocalDate dataFim) {
         validarPeriodo(dataInicio, dataFim);
 
-        // Buscar receitas do período
-        List<Receita> receitas = receitaRepository.findByPeriodo(dataInicio, dataFim);
+        // Totais por categoria agrupados no banco
+        List<TotalPorCategoria> totais = receitaRepository.sumGroupByCategoria(dataInicio, dataFim);
 
         // Total geral de receitas
-        BigDecimal totalGeral = receitas.stream()
-                .map(Receita::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalGeral = somarTotais(totais);
 
         if (totalGeral.compareTo(BigDecimal.ZERO) == 0) {
             return new ArrayList<>();
         }
 
-        // Agrupar por categoria
-        Map<CategoriaFinanceira, List<Receita>> receitasPorCategoria = receitas.stream()
-                .collect(Collectors.groupingBy(Receita::getCategoria));
-
         // Criar DTOs
-        return receitasPorCategoria.entrySet().stream()
-                .map(entry -> {
-                    CategoriaFinanceira categoria = entry.getKey();
-                    List<Receita> receitasCategoria = entry.getValue();
-
-                    BigDecimal totalCategoria = receitasCategoria.stream()
-                            .map(Receita::getValor)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                    BigDecimal percentual = totalCategoria
-                            .divide(totalGeral, 4, RoundingMode.HALF_UP)
-                            .multiply(BigDecimal.valueOf(100));
-
-                    long quantidade = receitasCategoria.size();
-
-                    return ReceitaPorCategoriaDTO.builder()
-                            .categoriaId(categoria.getId())
-                            .categoriaNome(categoria.getNome())
-                            .categoriaCor(categoria.getCor())
-                            .total(totalCategoria)
-                            .percentual(percentual)
-                            .quantidade(quantidade)
-                            .build();
-                })
+        return totais.stream()
+                .map(total -> ReceitaPorCategoriaDTO.builder()
+                        .categoriaId(total.getCategoriaId())
+                        .categoriaNome(total.getCategoriaNome())
+                        .categoriaCor(total.getCategoriaCor())
+                        .total(total.getTotal())
+                        .percentual(calcularPercentual(total.getTotal(), totalGeral))
+                        .quantidade(total.getQuantidade())
+                        .build())
                 .sorted((a, b) -> b.getTotal().compareTo(a.getTotal()))
                 .collect(Collectors.toList());
     }
@@ -113,76 +99,75 @@ public class RelatorioFinanceiroUseCaseImpl implements RelatorioFinanceiroUseCas
     public List<DespesaPorCategoriaDTO> obterDespesasPorCategoria(LocalDate dataInicio, LocalDate dataFim) {
         validarPeriodo(dataInicio, dataFim);
 
-        // Buscar despesas do período
-        List<Despesa> despesas = despesaRepository.findByPeriodo(dataInicio, dataFim);
+        // Totais por categoria agrupados no banco
+        List<TotalPorCategoria> totais = despesaRepository.sumGroupByCategoria(dataInicio, dataFim);
 
         // Total geral de despesas
-        BigDecimal totalGeral = despesas.stream()
-                .map(Despesa::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalGeral = somarTotais(totais);
 
         if (totalGeral.compareTo(BigDecimal.ZERO) == 0) {
             return new ArrayList<>();
         }
 
-        // Agrupar por categoria
-        Map<CategoriaFinanceira, List<Despesa>> despesasPorCategoria = despesas.stream()
-                .collect(Collectors.groupingBy(Despesa::getCategoria));
-
         // Criar DTOs
-        return despesasPorCategoria.entrySet().stream()
-                .map(entry -> {
-                    CategoriaFinanceira categoria = entry.getKey();
-                    List<Despesa> despesasCategoria = entry.getValue();
-
-                    BigDecimal totalCategoria = despesasCategoria.stream()
-                            .map(Despesa::getValor)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                    BigDecimal percentual = totalCategoria
-                            .divide(totalGeral, 4, RoundingMode.HALF_UP)
-                            .multiply(BigDecimal.valueOf(100));
-
-                    long quantidade = despesasCategoria.size();
-
-                    return DespesaPorCategoriaDTO.builder()
-                            .categoriaId(categoria.getId())
-                            .categoriaNome(categoria.getNome())
-                            .categoriaCor(categoria.getCor())
-                            .total(totalCategoria)
-                            .percentual(percentual)
-                            .quantidade(quantidade)
-                            .build();
-                })
+        return totais.stream()
+                .map(total -> DespesaPorCategoriaDTO.builder()
+                        .categoriaId(total.getCategoriaId())
+                        .categoriaNome(total.getCategoriaNome())
+                        .categoriaCor(total.getCategoriaCor())
+                        .total(total.getTotal())
+                        .percentual(calcularPercentual(total.getTotal(), totalGeral))
+                        .quantidade(total.getQuantidade())
+                        .build())
                 .sorted((a, b) -> b.getTotal().compareTo(a.getTotal()))
                 .collect(Collectors.toList());
     }
 
     @Override
     public FluxoCaixaDTO obterFluxoDeCaixa(LocalDate dataInicio, LocalDate dataFim) {
+        return obterFluxoDeCaixa(dataInicio, dataFim, GranularidadeFluxoCaixa.MENSAL);
+    }
+
+    @Override
+    public FluxoCaixaDTO obterFluxoDeCaixa(LocalDate dataInicio, LocalDate dataFim, GranularidadeFluxoCaixa granularidade) {
         validarPeriodo(dataInicio, dataFim);
 
-        // Gerar lista de meses no período
-        List<YearMonth> meses = gerarListaDeMeses(dataInicio, dataFim);
-
-        // Criar movimentações mensais
-        List<FluxoCaixaDTO.MovimentacaoMensalDTO> movimentacoes = meses.stream()
-                .map(mes -> {
-                    LocalDate inicioMes = mes.atDay(1);
-                    LocalDate fimMes = mes.atEndOfMonth();
-
-                    BigDecimal receitas = receitaRepository.sumByPeriodo(inicioMes, fimMes);
-                    BigDecimal despesas = despesaRepository.sumByPeriodo(inicioMes, fimMes);
-                    BigDecimal saldo = receitas.subtract(despesas);
-
-                    return FluxoCaixaDTO.MovimentacaoMensalDTO.builder()
-                            .mesAno(mes)
-                            .receitas(receitas)
-                            .despesas(despesas)
-                            .saldo(saldo)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        if (granularidade == GranularidadeFluxoCaixa.DIARIA
+                && ChronoUnit.DAYS.between(dataInicio, dataFim) >= MAXIMO_DIAS_FLUXO_DIARIO) {
+            throw new BadRequestException("Fluxo de caixa diário limitado a " + MAXIMO_DIAS_FLUXO_DIARIO + " dias");
+        }
+
+        // Uma consulta agrupada por série (receitas e despesas), independente do número de intervalos
+        Map<LocalDate, BigDecimal> receitasPorIntervalo = agruparPorIntervalo(granularidade == GranularidadeFluxoCaixa.MENSAL
+                ? receitaRepository.sumGroupByMes(dataInicio, dataFim)
+                : receitaRepository.sumGroupByDia(dataInicio, dataFim), granularidade);
+        Map<LocalDate, BigDecimal> despesasPorIntervalo = agruparPorIntervalo(granularidade == GranularidadeFluxoCaixa.MENSAL
+                ? despesaRepository.sumGroupByMes(dataInicio, dataFim)
+                : despesaRepository.sumGroupByDia(dataInicio, dataFim), granularidade);
+
+        // Criar movimentações, preenchendo com zero os intervalos sem lançamentos
+        List<FluxoCaixaDTO.MovimentacaoMensalDTO> movimentacoes = new ArrayList<>();
+        BigDecimal saldoAcumulado = BigDecimal.ZERO;
+        for (LocalDate intervalo = inicioDoIntervalo(dataInicio, granularidade);
+             !intervalo.isAfter(dataFim);
+             intervalo = proximoIntervalo(intervalo, granularidade)) {
+
+            BigDecimal receitas = receitasPorIntervalo.getOrDefault(intervalo, BigDecimal.ZERO);
+            BigDecimal despesas = despesasPorIntervalo.getOrDefault(intervalo, BigDecimal.ZERO);
+            BigDecimal saldo = receitas.subtract(despesas);
+            saldoAcumulado = saldoAcumulado.add(saldo);
+
+            LocalDate fimIntervalo = proximoIntervalo(intervalo, granularidade).minusDays(1);
+            movimentacoes.add(FluxoCaixaDTO.MovimentacaoMensalDTO.builder()
+                    .mesAno(YearMonth.from(intervalo))
+                    .dataInicio(intervalo.isBefore(dataInicio) ? dataInicio : intervalo)
+                    .dataFim(fimIntervalo.isAfter(dataFim) ? dataFim : fimIntervalo)
+                    .receitas(receitas)
+                    .despesas(despesas)
+                    .saldo(saldo)
+                    .saldoAcumulado(saldoAcumulado)
+                    .build());
+        }
 
         // Calcular totais
         BigDecimal totalReceitas = movimentacoes.stream()
@@ -198,6 +183,7 @@ public class RelatorioFinanceiroUseCaseImpl implements RelatorioFinanceiroUseCas
         return FluxoCaixaDTO.builder()
                 .periodoInicio(dataInicio)
                 .periodoFim(dataFim)
+                .granularidade(granularidade)
                 .totalReceitasPeriodo(totalReceitas)
                 .totalDespesasPeriodo(totalDespesas)
                 .saldoPeriodo(saldoTotal)
@@ -231,16 +217,48 @@ public class RelatorioFinanceiroUseCaseImpl implements RelatorioFinanceiroUseCas
         }
     }
 
-    private List<YearMonth> gerarListaDeMeses(LocalDate dataInicio, LocalDate dataFim) {
-        List<YearMonth> meses = new ArrayList<>();
-        YearMonth mesAtual = YearMonth.from(dataInicio);
-        YearMonth mesFinal = YearMonth.from(dataFim);
+    private BigDecimal somarTotais(List<TotalPorCategoria> totais) {
+        return totais.stream()
+                .map(TotalPorCategoria::getTotal)
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private BigDecimal calcularPercentual(BigDecimal totalCategoria, BigDecimal totalGeral) {
+        return totalCategoria
+                .divide(totalGeral, 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100));
+    }
+
+    private Map<LocalDate, BigDecimal> agruparPorIntervalo(List<TotalPorData> totais, GranularidadeFluxoCaixa granularidade) {
+        Map<LocalDate, BigDecimal> porIntervalo = new HashMap<>();
+        for (TotalPorData total : totais) {
+            if (total.getTotal() != null) {
+                porIntervalo.merge(inicioDoIntervalo(total.getData(), granularidade), total.getTotal(), BigDecimal::add);
+            }
+        }
+        return porIntervalo;
+    }
 
-        while (!mesAtual.isAfter(mesFinal)) {
-            meses.add(mesAtual);
-            mesAtual = mesAtual.plusMonths(1);
+    private LocalDate inicioDoIntervalo(LocalDate data, GranularidadeFluxoCaixa granularidade) {
+        switch (granularidade) {
+            case DIARIA:
+                return data;
+            case SEMANAL:
+                return data.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            default:
+                return data.withDayOfMonth(1);
         }
+    }
 
-        return meses;
+    private LocalDate proximoIntervalo(LocalDate inicioIntervalo, GranularidadeFluxoCaixa granularidade) {
+        switch (granularidade) {
+            case DIARIA:
+                return inicioIntervalo.plusDays(1);
+            case SEMANAL:
+                return inicioIntervalo.plusWeeks(1);
+            default:
+                return inicioIntervalo.plusMonths(1);
+        }
     }
 }
@@ -1,9 +1,11 @@
 package br.org.cecairbar.durvalcrm.application.usecase.impl;
 
 import br.org.cecairbar.durvalcrm.application.dto.AssociadoDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
 import br.org.cecairbar.durvalcrm.application.mapper.AssociadoMapper;
 import br.org.cecairbar.durvalcrm.application.usecase.AssociadoUseCase;
 import br.org.cecairbar.durvalcrm.domain.model.Associado;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.repository.AssociadoRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -29,6 +31,17 @@ public class AssociadoUseCaseImpl implements AssociadoUseCase {
         return mapper.toDTOList(associados);
     }
 
+    @Override
+    public PaginaCursorDTO<AssociadoDTO> findPage(String search, String after, int limit) {
+        PaginaCursorDTO.validarLimite(limit);
+        ChavePaginacao chave = PaginaCursorDTO.lerCursor(after, nome -> nome);
+
+        List<Associado> associados = associadoRepository.findPage(search, chave, limit + 1);
+        return PaginaCursorDTO.criar(associados, limit,
+                a -> new ChavePaginacao(a.getNomeCompleto(), a.getId()),
+                mapper::toDTOList);
+    }
+
     @Override
     public AssociadoDTO findById(UUID id) {
         return associadoRepository.findById(id)
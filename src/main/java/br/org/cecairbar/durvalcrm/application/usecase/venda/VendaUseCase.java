@@ -1,6 +1,7 @@
 package br.org.cecairbar.durvalcrm.application.usecase.venda;
 
 import br.org.cecairbar.durvalcrm.application.dto.VendaDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ResumoVendasDTO;
 import br.org.cecairbar.durvalcrm.domain.model.OrigemVenda;
 
@@ -35,6 +36,11 @@ public interface VendaUseCase {
      */
     List<VendaDTO> listarTodas();
     
+    /**
+     * Listar vendas paginadas por cursor (mais recentes primeiro)
+     */
+    PaginaCursorDTO<VendaDTO> listarPagina(String after, int limit);
+    
     /**
      * Listar vendas por período
      */
@@ -2,7 +2,9 @@ package br.org.cecairbar.durvalcrm.application.usecase.venda;
 
 import br.org.cecairbar.durvalcrm.application.dto.VendaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ResumoVendasDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
 import br.org.cecairbar.durvalcrm.domain.model.Venda;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.OrigemVenda;
 import br.org.cecairbar.durvalcrm.domain.repository.VendaRepository;
 
@@ -93,6 +95,17 @@ public class VendaUseCaseImpl implements VendaUseCase {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public PaginaCursorDTO<VendaDTO> listarPagina(String after, int limit) {
+        PaginaCursorDTO.validarLimite(limit);
+        ChavePaginacao chave = PaginaCursorDTO.lerCursor(after, Instant::parse);
+        
+        List<Venda> vendas = vendaRepository.findPage(chave, limit + 1);
+        return PaginaCursorDTO.criar(vendas, limit,
+                v -> new ChavePaginacao(v.getDataVenda().toString(), v.getId()),
+                pagina -> pagina.stream().map(this::toDTO).collect(Collectors.toList()));
+    }
+    
     @Override
     public List<VendaDTO> listarPorPeriodo(Instant dataInicio, Instant dataFim) {
         if (dataInicio.isAfter(dataFim)) {
@@ -0,0 +1,36 @@
+package br.org.cecairbar.durvalcrm.domain.event;
+
+import br.org.cecairbar.durvalcrm.domain.model.Associado;
+
+import java.util.UUID;
+
+/**
+ * Evento CDI disparado pelo repositório de associados após gravar ou inativar um associado,
+ * com o estado gravado. {@code associado} é nulo quando o associado foi inativado (exclusão lógica).
+ */
+public class AssociadoAlteradoEvent {
+
+    private final UUID id;
+    private final Associado associado;
+
+    private AssociadoAlteradoEvent(UUID id, Associado associado) {
+        this.id = id;
+        this.associado = associado;
+    }
+
+    public static AssociadoAlteradoEvent gravado(Associado associado) {
+        return new AssociadoAlteradoEvent(associado.getId(), associado);
+    }
+
+    public static AssociadoAlteradoEvent inativado(UUID id) {
+        return new AssociadoAlteradoEvent(id, null);
+    }
+
+    public UUID getId() { return id; }
+    public Associado getAssociado() { return associado; }
+
+    @Override
+    public String toString() {
+        return "AssociadoAlteradoEvent{id=" + id + ", " + (associado != null ? "gravado" : "inativado") + "}";
+    }
+}
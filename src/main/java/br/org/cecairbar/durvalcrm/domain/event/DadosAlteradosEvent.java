@@ -0,0 +1,49 @@
+package br.org.cecairbar.durvalcrm.domain.event;
+
+import java.time.YearMonth;
+
+/**
+ * Evento CDI disparado pelos repositórios após gravações (save/update/delete).
+ * Quando o período não é conhecido (ex.: exclusão por ID ou atualização em massa),
+ * {@code periodo} é nulo e a alteração afeta todos os períodos.
+ */
+public class DadosAlteradosEvent {
+
+    public enum Agregado {
+        ASSOCIADO,
+        MENSALIDADE,
+        VENDA,
+        DOACAO,
+        RECEITA,
+        DESPESA,
+        CATEGORIA_FINANCEIRA
+    }
+
+    private final Agregado agregado;
+    private final YearMonth periodo;
+
+    private DadosAlteradosEvent(Agregado agregado, YearMonth periodo) {
+        this.agregado = agregado;
+        this.periodo = periodo;
+    }
+
+    public static DadosAlteradosEvent noPeriodo(Agregado agregado, YearMonth periodo) {
+        return new DadosAlteradosEvent(agregado, periodo);
+    }
+
+    public static DadosAlteradosEvent todosPeriodos(Agregado agregado) {
+        return new DadosAlteradosEvent(agregado, null);
+    }
+
+    public Agregado getAgregado() { return agregado; }
+    public YearMonth getPeriodo() { return periodo; }
+
+    public boolean afetaTodosPeriodos() {
+        return periodo == null;
+    }
+
+    @Override
+    public String toString() {
+        return "DadosAlteradosEvent{agregado=" + agregado + ", periodo=" + (periodo != null ? periodo : "*") + "}";
+    }
+}
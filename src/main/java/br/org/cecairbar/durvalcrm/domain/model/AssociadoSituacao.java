@@ -0,0 +1,22 @@
+package br.org.cecairbar.durvalcrm.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Projeção leve do associado com o status da mensalidade de um período
+ * (statusMensalidade é nulo quando não há mensalidade gerada)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssociadoSituacao {
+    private UUID id;
+    private String nomeCompleto;
+    private String email;
+    private String cpf;
+    private StatusMensalidade statusMensalidade;
+}
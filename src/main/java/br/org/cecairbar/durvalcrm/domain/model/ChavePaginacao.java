@@ -0,0 +1,45 @@
+package br.org.cecairbar.durvalcrm.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de uma página na paginação por keyset: valor da coluna de ordenação
+ * (data, instante ou nome, em texto ISO) e id do último registro retornado
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChavePaginacao {
+
+    private static final String SEPARADOR = "|";
+
+    private String valor;
+    private UUID id;
+
+    /**
+     * Cursor opaco enviado ao cliente (Base64 URL-safe)
+     */
+    public String codificar() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((valor + SEPARADOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChavePaginacao decodificar(String cursor) {
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = texto.lastIndexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new ChavePaginacao(texto.substring(0, separador), UUID.fromString(texto.substring(separador + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+}
@@ -127,4 +127,20 @@ public class Doacao {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
\ No newline at end of file
+
+    /**
+     * txid da cobrança PIX da doação: "DOAC" + 21 primeiros dígitos hexadecimais do id
+     * (limite de 25 caracteres do BR Code)
+     */
+    public String getIdentificadorPix() {
+        return id != null ? identificadorPix(id) : null;
+    }
+
+    public static String identificadorPix(UUID id) {
+        return "DOAC" + id.toString().replace("-", "").substring(0, 21).toUpperCase();
+    }
+
+    public boolean isAguardandoPagamento() {
+        return status == StatusDoacao.PENDENTE || status == StatusDoacao.PROCESSANDO;
+    }
+}
@@ -0,0 +1,11 @@
+package br.org.cecairbar.durvalcrm.domain.model;
+
+/**
+ * Tamanho dos intervalos da série do fluxo de caixa
+ */
+public enum GranularidadeFluxoCaixa {
+    DIARIA,
+    // Semanas iniciadas na segunda-feira
+    SEMANAL,
+    MENSAL
+}
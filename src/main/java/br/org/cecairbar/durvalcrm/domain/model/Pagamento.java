@@ -1,5 +1,31 @@
 package br.org.cecairbar.durvalcrm.domain.model;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Crédito recebido lido de um extrato bancário/PIX, candidato à reconciliação
+ * com uma cobrança (mensalidade ou doação) pelo identificador (txid).
+ */
 public class Pagamento {
+    private final String identificador;
+    private final BigDecimal valor;
+    private final Instant data;
+    private final String codigoTransacao;
+
+    public Pagamento(String identificador, BigDecimal valor, Instant data, String codigoTransacao) {
+        this.identificador = identificador;
+        this.valor = valor;
+        this.data = data;
+        this.codigoTransacao = codigoTransacao;
+    }
+
+    public String getIdentificador() { return identificador; }
+    public BigDecimal getValor() { return valor; }
+    public Instant getData() { return data; }
+    public String getCodigoTransacao() { return codigoTransacao; }
 
+    public boolean isIdentificado() {
+        return identificador != null && !identificador.isEmpty();
+    }
 }
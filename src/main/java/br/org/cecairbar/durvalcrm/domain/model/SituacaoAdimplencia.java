@@ -0,0 +1,13 @@
+package br.org.cecairbar.durvalcrm.domain.model;
+
+/**
+ * Situação do associado em relação à mensalidade de um período
+ */
+public enum SituacaoAdimplencia {
+    // Mensalidade do período paga
+    ADIMPLENTE,
+    // Mensalidade do período pendente ou atrasada e já vencida
+    INADIMPLENTE,
+    // Nenhuma mensalidade gerada para o período
+    SEM_MENSALIDADE
+}
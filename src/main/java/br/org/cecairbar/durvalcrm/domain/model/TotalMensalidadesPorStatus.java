@@ -0,0 +1,19 @@
+package br.org.cecairbar.durvalcrm.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção agregada de mensalidades de um período: quantidade e soma de valores por status
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TotalMensalidadesPorStatus {
+    private StatusMensalidade status;
+    private Long quantidade;
+    private BigDecimal valor;
+}
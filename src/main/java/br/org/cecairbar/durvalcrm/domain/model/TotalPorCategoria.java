@@ -0,0 +1,22 @@
+package br.org.cecairbar.durvalcrm.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projeção agregada de receitas ou despesas de um período: soma e quantidade por categoria
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TotalPorCategoria {
+    private UUID categoriaId;
+    private String categoriaNome;
+    private String categoriaCor;
+    private BigDecimal total;
+    private Long quantidade;
+}
@@ -0,0 +1,24 @@
+package br.org.cecairbar.durvalcrm.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção de série temporal: soma de valores por data (dia ou primeiro dia do mês agrupado)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TotalPorData {
+    private LocalDate data;
+    private BigDecimal total;
+
+    // Usado pelas consultas agrupadas por ano/mês
+    public TotalPorData(Integer ano, Integer mes, BigDecimal total) {
+        this(LocalDate.of(ano, mes, 1), total);
+    }
+}
@@ -1,19 +1,53 @@
 package br.org.cecairbar.durvalcrm.domain.repository;
 
 import br.org.cecairbar.durvalcrm.domain.model.Associado;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
+import br.org.cecairbar.durvalcrm.domain.model.AssociadoSituacao;
+import br.org.cecairbar.durvalcrm.domain.model.SituacaoAdimplencia;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface AssociadoRepository {
+
+    /**
+     * Campos aceitos para ordenação em {@link #findPorSituacaoNoPeriodo}
+     */
+    Set<String> CAMPOS_ORDENACAO_SITUACAO = Set.of("nome", "email", "cpf", "status");
+
     Associado save(Associado associado);
     Optional<Associado> findById(UUID id);
+    /**
+     * Associados ativos; com termo de busca, os mais relevantes por nome, CPF, e-mail ou telefone,
+     * ignorando acentos e maiúsculas, em quantidade limitada
+     */
     List<Associado> findAll(String query);
+    /**
+     * Página de associados ativos filtrados por nome/CPF, por keyset ordenado por nome e id
+     */
+    List<Associado> findPage(String query, ChavePaginacao after, int limit);
     List<Associado> findAll();
     void deleteById(UUID id);
     Optional<Associado> findByCpf(String cpf);
     Optional<Associado> findByEmail(String email);
     List<Associado> findByAtivo(Boolean ativo);
+    long countByAtivo(Boolean ativo);
     long count();
+
+    /**
+     * Lista associados ativos que ainda não possuem mensalidade no período
+     * (anti-join contra mensalidades, executado em uma única consulta)
+     */
+    List<Associado> findAtivosSemMensalidadeNoPeriodo(int mes, int ano);
+
+    /**
+     * Classifica os associados pela mensalidade do período (LEFT JOIN em mensalidades)
+     * e retorna uma página da projeção. Situação nula traz todos os associados.
+     */
+    List<AssociadoSituacao> findPorSituacaoNoPeriodo(int mes, int ano, SituacaoAdimplencia situacao,
+                                                     String ordenarPor, boolean crescente, int inicio, int limite);
+
+    long countPorSituacaoNoPeriodo(int mes, int ano, SituacaoAdimplencia situacao);
 }
@@ -31,4 +31,9 @@ public interface CategoriaFinanceiraRepository {
     long count();
 
     long countByTipo(TipoCategoriaFinanceira tipo);
+
+    /**
+     * Remove a categoria e as listagens de categorias do cache de segundo nível
+     */
+    void evictFromCache(UUID id);
 }
@@ -1,6 +1,9 @@
 package br.org.cecairbar.durvalcrm.domain.repository;
 
 import br.org.cecairbar.durvalcrm.domain.model.Despesa;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorCategoria;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorData;
 import br.org.cecairbar.durvalcrm.domain.model.StatusPagamentoDespesa;
 import br.org.cecairbar.durvalcrm.domain.model.TipoDespesa;
 
@@ -9,6 +12,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface DespesaRepository {
     Despesa save(Despesa despesa);
@@ -17,6 +21,12 @@ public interface DespesaRepository {
 
     List<Despesa> findAll();
 
+    /**
+     * Página de despesas por keyset, ordenada por data de vencimento e id (decrescente).
+     * Retorna no máximo "limit" registros posteriores à chave informada (nula na primeira página).
+     */
+    List<Despesa> findPage(ChavePaginacao after, int limit);
+
     List<Despesa> findByTipoDespesa(TipoDespesa tipo);
 
     List<Despesa> findByCategoria(UUID categoriaId);
@@ -25,6 +35,12 @@ public interface DespesaRepository {
 
     List<Despesa> findByPeriodo(LocalDate inicio, LocalDate fim);
 
+    /**
+     * Despesas do período, em ordem de data, para exportação, lidas sob demanda (forward-only).
+     * Deve ser consumido e fechado dentro de uma transação.
+     */
+    Stream<Despesa> streamByPeriodo(LocalDate inicio, LocalDate fim);
+
     List<Despesa> findByDataVencimento(LocalDate inicio, LocalDate fim);
 
     List<Despesa> findByDataPagamento(LocalDate inicio, LocalDate fim);
@@ -43,6 +59,23 @@ public interface DespesaRepository {
 
     BigDecimal sumByCategoria(UUID categoriaId, LocalDate inicio, LocalDate fim);
 
+    /**
+     * Soma e quantidade de despesas do período agrupadas por categoria (GROUP BY no banco),
+     * ordenadas pelo total decrescente
+     */
+    List<TotalPorCategoria> sumGroupByCategoria(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Soma de despesas do período agrupada por ano/mês (data = primeiro dia do mês), em ordem cronológica.
+     * Meses sem movimentação não aparecem no resultado.
+     */
+    List<TotalPorData> sumGroupByMes(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Soma de despesas do período agrupada por dia, em ordem cronológica
+     */
+    List<TotalPorData> sumGroupByDia(LocalDate inicio, LocalDate fim);
+
     BigDecimal sumByTipo(TipoDespesa tipo, LocalDate inicio, LocalDate fim);
 
     BigDecimal sumByStatus(StatusPagamentoDespesa status, LocalDate inicio, LocalDate fim);
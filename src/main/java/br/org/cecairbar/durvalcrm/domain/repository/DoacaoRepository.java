@@ -6,8 +6,10 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import br.org.cecairbar.durvalcrm.domain.model.Doacao;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.StatusDoacao;
 
 public interface DoacaoRepository {
@@ -17,12 +19,35 @@ public interface DoacaoRepository {
     
     List<Doacao> findAll();
     
+    /**
+     * Página de doações por keyset, ordenada por data da doação e id (decrescente)
+     */
+    List<Doacao> findPage(ChavePaginacao after, int limit);
+    
     List<Doacao> findByAssociado(UUID associadoId);
     
     List<Doacao> findByStatus(StatusDoacao status);
     
+    /**
+     * Doações PENDENTE ou PROCESSANDO, com o associado já carregado
+     */
+    List<Doacao> findAguardandoPagamento();
+    
+    /**
+     * Grava a confirmação (status, data, código da transação e método) de um lote de doações
+     * usando JDBC batch, ignorando as que não estiverem mais aguardando pagamento.
+     * Retorna a quantidade gravada.
+     */
+    int confirmarPagamentos(List<Doacao> doacoes);
+    
     List<Doacao> findByPeriodo(LocalDateTime inicio, LocalDateTime fim);
     
+    /**
+     * Doações do período, em ordem de data, para exportação, lidas sob demanda (forward-only).
+     * Deve ser consumido e fechado dentro de uma transação.
+     */
+    Stream<Doacao> streamByPeriodo(LocalDateTime inicio, LocalDateTime fim);
+    
     List<Doacao> findByAssociadoAndPeriodo(UUID associadoId, LocalDateTime inicio, LocalDateTime fim);
     
     BigDecimal sumByPeriodo(LocalDateTime inicio, LocalDateTime fim);
@@ -1,10 +1,15 @@
 package br.org.cecairbar.durvalcrm.domain.repository;
 
 import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.TotalMensalidadesPorStatus;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface para operações com Mensalidades
@@ -15,6 +20,12 @@ public interface MensalidadeRepository {
      * Salva uma mensalidade
      */
     void save(Mensalidade mensalidade);
+
+    /**
+     * Insere um lote de novas mensalidades em uma transação própria,
+     * usando JDBC batch. Retorna a quantidade inserida.
+     */
+    int saveAll(List<Mensalidade> mensalidades);
     
     /**
      * Busca mensalidade por ID
@@ -26,6 +37,17 @@ public interface MensalidadeRepository {
      */
     List<Mensalidade> findByMesEAno(int mes, int ano);
     
+    /**
+     * Página das mensalidades do mês/ano por keyset, ordenada por data de vencimento e id
+     */
+    List<Mensalidade> findPageByMesEAno(int mes, int ano, ChavePaginacao after, int limit);
+    
+    /**
+     * Mensalidades com vencimento no período, em ordem de vencimento, para exportação, lidas sob demanda (forward-only).
+     * Deve ser consumido e fechado dentro de uma transação.
+     */
+    Stream<Mensalidade> streamByVencimento(LocalDate inicio, LocalDate fim);
+    
     /**
      * Lista mensalidades por status
      */
@@ -50,6 +72,11 @@ public interface MensalidadeRepository {
      * Conta mensalidades por status e período
      */
     long countByStatusAndMesEAno(String status, int mes, int ano);
+
+    /**
+     * Obtém quantidade e valor total das mensalidades do período agrupados por status
+     */
+    List<TotalMensalidadesPorStatus> obterTotaisPorStatus(int mes, int ano);
     
     /**
      * Lista todas as mensalidades
@@ -65,6 +92,18 @@ public interface MensalidadeRepository {
      * Lista mensalidades vencidas (para job de atualização de status)
      */
     List<Mensalidade> findVencidas();
+
+    /**
+     * Conta mensalidades PENDENTE com vencimento anterior à data de referência
+     */
+    long countPendentesVencidas(LocalDate referencia);
+
+    /**
+     * Marca como ATRASADA até {@code limite} mensalidades PENDENTE vencidas antes
+     * da data de referência, em um único UPDATE e transação própria.
+     * Retorna a quantidade de linhas afetadas.
+     */
+    int marcarPendentesVencidasComoAtrasadas(LocalDate referencia, int limite);
     
     /**
      * Atualiza uma mensalidade
@@ -81,6 +120,18 @@ public interface MensalidadeRepository {
      */
     Mensalidade findByIdentificadorPix(String identificadorPix);
     
+    /**
+     * Mensalidades ainda não pagas (PENDENTE ou ATRASADA) com os identificadores PIX informados
+     */
+    List<Mensalidade> findNaoPagasByIdentificadoresPix(Collection<String> identificadoresPix);
+    
+    /**
+     * Grava o pagamento (status, data e forma de pagamento) de um lote de mensalidades
+     * usando JDBC batch, ignorando as que já constarem como pagas no banco.
+     * Retorna a quantidade gravada.
+     */
+    int registrarPagamentos(List<Mensalidade> mensalidades);
+    
     /**
      * Lista mensalidades pendentes de um período
      */
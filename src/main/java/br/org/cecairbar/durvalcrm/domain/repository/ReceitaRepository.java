@@ -1,6 +1,9 @@
 package br.org.cecairbar.durvalcrm.domain.repository;
 
 import br.org.cecairbar.durvalcrm.domain.model.Receita;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorCategoria;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorData;
 import br.org.cecairbar.durvalcrm.domain.model.TipoReceita;
 
 import java.math.BigDecimal;
@@ -8,6 +11,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ReceitaRepository {
     Receita save(Receita receita);
@@ -16,6 +20,12 @@ public interface ReceitaRepository {
 
     List<Receita> findAll();
 
+    /**
+     * Página de receitas por keyset, ordenada por data da receita e id (decrescente).
+     * Retorna no máximo "limit" registros posteriores à chave informada (nula na primeira página).
+     */
+    List<Receita> findPage(ChavePaginacao after, int limit);
+
     List<Receita> findByTipoReceita(TipoReceita tipo);
 
     List<Receita> findByCategoria(UUID categoriaId);
@@ -24,6 +34,12 @@ public interface ReceitaRepository {
 
     List<Receita> findByPeriodo(LocalDate inicio, LocalDate fim);
 
+    /**
+     * Receitas do período, em ordem de data, para exportação, lidas sob demanda (forward-only).
+     * Deve ser consumido e fechado dentro de uma transação.
+     */
+    Stream<Receita> streamByPeriodo(LocalDate inicio, LocalDate fim);
+
     List<Receita> findByDataRecebimento(LocalDate inicio, LocalDate fim);
 
     List<Receita> findByTipoAndPeriodo(TipoReceita tipo, LocalDate inicio, LocalDate fim);
@@ -36,6 +52,23 @@ public interface ReceitaRepository {
 
     BigDecimal sumByCategoria(UUID categoriaId, LocalDate inicio, LocalDate fim);
 
+    /**
+     * Soma e quantidade de receitas do período agrupadas por categoria (GROUP BY no banco),
+     * ordenadas pelo total decrescente
+     */
+    List<TotalPorCategoria> sumGroupByCategoria(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Soma de receitas do período agrupada por ano/mês (data = primeiro dia do mês), em ordem cronológica.
+     * Meses sem movimentação não aparecem no resultado.
+     */
+    List<TotalPorData> sumGroupByMes(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Soma de receitas do período agrupada por dia, em ordem cronológica
+     */
+    List<TotalPorData> sumGroupByDia(LocalDate inicio, LocalDate fim);
+
     BigDecimal sumByTipo(TipoReceita tipo, LocalDate inicio, LocalDate fim);
 
     BigDecimal sumByAssociado(UUID associadoId, LocalDate inicio, LocalDate fim);
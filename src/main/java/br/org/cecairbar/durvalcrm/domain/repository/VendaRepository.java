@@ -1,10 +1,12 @@
 package br.org.cecairbar.durvalcrm.domain.repository;
 
 import br.org.cecairbar.durvalcrm.domain.model.Venda;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.OrigemVenda;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 import java.math.BigDecimal;
 
 /**
@@ -27,11 +29,22 @@ public interface VendaRepository {
      */
     List<Venda> findAll();
     
+    /**
+     * Página de vendas por keyset, ordenada por data da venda e id (decrescente)
+     */
+    List<Venda> findPage(ChavePaginacao after, int limit);
+    
     /**
      * Lista vendas por período
      */
     List<Venda> findByPeriodo(Instant dataInicio, Instant dataFim);
     
+    /**
+     * Vendas do período, em ordem de data, para exportação, lidas sob demanda (forward-only).
+     * Deve ser consumido e fechado dentro de uma transação.
+     */
+    Stream<Venda> streamByPeriodo(Instant dataInicio, Instant dataFim);
+    
     /**
      * Lista vendas por origem
      */
@@ -0,0 +1,63 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence;
+
+import br.org.cecairbar.durvalcrm.application.dto.EstatisticasCacheDTO;
+import br.org.cecairbar.durvalcrm.application.dto.EstatisticasCacheDTO.RegiaoCacheDTO;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consulta os contadores do cache de segundo nível do Hibernate
+ */
+@ApplicationScoped
+public class CacheSegundoNivelService {
+
+    @Inject
+    EntityManager entityManager;
+
+    public EstatisticasCacheDTO obterEstatisticas() {
+        Statistics estatisticas = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+
+        List<RegiaoCacheDTO> regioes = new ArrayList<>();
+        String[] nomes = estatisticas.getSecondLevelCacheRegionNames();
+        Arrays.sort(nomes);
+        for (String nome : nomes) {
+            CacheRegionStatistics regiao = estatisticas.getCacheRegionStatistics(nome);
+            if (regiao == null) {
+                continue;
+            }
+            long elementos = regiao.getElementCountInMemory();
+            regioes.add(RegiaoCacheDTO.builder()
+                .regiao(nome)
+                .acertos(regiao.getHitCount())
+                .falhas(regiao.getMissCount())
+                .insercoes(regiao.getPutCount())
+                .elementosEmMemoria(elementos == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN ? null : elementos)
+                .build());
+        }
+
+        long acertos = estatisticas.getSecondLevelCacheHitCount();
+        long falhas = estatisticas.getSecondLevelCacheMissCount();
+
+        return EstatisticasCacheDTO.builder()
+            .estatisticasHabilitadas(estatisticas.isStatisticsEnabled())
+            .acertos(acertos)
+            .falhas(falhas)
+            .insercoes(estatisticas.getSecondLevelCachePutCount())
+            .taxaAcerto(acertos + falhas > 0 ? (double) acertos / (acertos + falhas) : null)
+            .acertosConsultas(estatisticas.getQueryCacheHitCount())
+            .falhasConsultas(estatisticas.getQueryCacheMissCount())
+            .regioes(regioes)
+            .build();
+    }
+}
@@ -0,0 +1,34 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Leitura forward-only de consultas grandes (exportações): o driver busca em lotes de
+ * durvalcrm.exportacao.fetch-size linhas e cada entidade é convertida e desanexada do
+ * contexto de persistência logo em seguida, mantendo o heap estável independentemente do total.
+ *
+ * O Stream retornado deve ser consumido (e fechado) dentro da transação que o abriu.
+ */
+public final class ConsultaStreaming {
+
+    public static final int TAMANHO_LOTE = Integer.getInteger("durvalcrm.exportacao.fetch-size", 500);
+
+    private ConsultaStreaming() {
+    }
+
+    public static <E, D> Stream<D> stream(EntityManager entityManager, TypedQuery<E> query, Function<E, D> conversor) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, TAMANHO_LOTE);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream()
+            .map(entity -> {
+                D domain = conversor.apply(entity);
+                entityManager.detach(entity);
+                return domain;
+            });
+    }
+}
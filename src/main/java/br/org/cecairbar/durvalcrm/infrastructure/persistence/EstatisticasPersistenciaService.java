@@ -0,0 +1,177 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence;
+
+import br.org.cecairbar.durvalcrm.application.dto.EstatisticasPersistenciaDTO;
+import br.org.cecairbar.durvalcrm.application.dto.EstatisticasPersistenciaDTO.ConsultaDTO;
+import br.org.cecairbar.durvalcrm.application.dto.EstatisticasPersistenciaDTO.ConsultaLentaDTO;
+import br.org.cecairbar.durvalcrm.application.dto.EstatisticasPersistenciaDTO.EndpointDTO;
+import br.org.cecairbar.durvalcrm.application.dto.EstatisticasPersistenciaDTO.EntidadeDTO;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas.ConsultaLenta;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas.ConsultasRequisicao;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas.EstatisticasPersistencia;
+import org.jboss.logging.Logger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Consolida por endpoint os comandos SQL de cada requisição e consulta os contadores
+ * do Hibernate (cargas de entidades, tempos das consultas e consultas lentas)
+ */
+@ApplicationScoped
+public class EstatisticasPersistenciaService {
+
+    private static final Logger LOG = Logger.getLogger(EstatisticasPersistenciaService.class);
+
+    static final String PROPRIEDADE_LIMITE_REPETICOES = "durvalcrm.persistencia.limite-repeticoes";
+    static final int LIMITE_REPETICOES_PADRAO = 5;
+    static final int MAXIMO_CONSULTAS = 20;
+
+    private final int limiteRepeticoes = Integer.getInteger(PROPRIEDADE_LIMITE_REPETICOES, LIMITE_REPETICOES_PADRAO);
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    @Inject
+    EntityManager entityManager;
+
+    /**
+     * Acumula os contadores de uma requisição encerrada no endpoint correspondente
+     */
+    public void registrar(ConsultasRequisicao consultas) {
+        Endpoint endpoint = endpoints.computeIfAbsent(consultas.getEndpoint(), e -> new Endpoint());
+        endpoint.requisicoes.increment();
+        endpoint.comandos.add(consultas.getComandos());
+        endpoint.maximoComandos.accumulate(consultas.getComandos());
+        endpoint.entidadesBuscadas.add(consultas.getBuscasEntidade());
+        endpoint.colecoesBuscadas.add(consultas.getBuscasColecao());
+
+        Map.Entry<String, Integer> maisRepetido = consultas.getComandoMaisRepetido();
+        if (maisRepetido != null && maisRepetido.getValue() >= limiteRepeticoes) {
+            endpoint.suspeitas.increment();
+            endpoint.suspeita = new Suspeita(maisRepetido.getKey(), maisRepetido.getValue());
+            LOG.warnf("Possível N+1 em %s: mesmo comando executado %d vezes na requisição (%d comandos no total): %s",
+                consultas.getEndpoint(), maisRepetido.getValue(), consultas.getComandos(), maisRepetido.getKey());
+        }
+    }
+
+    public EstatisticasPersistenciaDTO obterEstatisticas() {
+        Statistics estatisticas = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+
+        List<EntidadeDTO> entidades = new ArrayList<>();
+        String[] nomesEntidades = estatisticas.getEntityNames();
+        Arrays.sort(nomesEntidades);
+        for (String nome : nomesEntidades) {
+            EntityStatistics entidade = estatisticas.getEntityStatistics(nome);
+            entidades.add(EntidadeDTO.builder()
+                .entidade(nome.substring(nome.lastIndexOf('.') + 1))
+                .carregadas(entidade.getLoadCount())
+                .buscadas(entidade.getFetchCount())
+                .build());
+        }
+
+        List<ConsultaDTO> consultas = new ArrayList<>();
+        for (String consulta : estatisticas.getQueries()) {
+            QueryStatistics execucoes = estatisticas.getQueryStatistics(consulta);
+            consultas.add(ConsultaDTO.builder()
+                .consulta(consulta)
+                .execucoes(execucoes.getExecutionCount())
+                .linhas(execucoes.getExecutionRowCount())
+                .tempoMedioMs(execucoes.getExecutionAvgTimeAsDouble())
+                .tempoMaximoMs(execucoes.getExecutionMaxTime())
+                .build());
+        }
+        consultas.sort(Comparator.comparingLong(ConsultaDTO::getTempoMaximoMs).reversed());
+
+        List<ConsultaLentaDTO> consultasLentas = new ArrayList<>();
+        long limiteConsultaLentaMs = 0;
+        if (estatisticas instanceof EstatisticasPersistencia) {
+            EstatisticasPersistencia persistencia = (EstatisticasPersistencia) estatisticas;
+            limiteConsultaLentaMs = persistencia.getLimiteConsultaLentaMs();
+            for (ConsultaLenta lenta : persistencia.getConsultasLentas()) {
+                consultasLentas.add(ConsultaLentaDTO.builder()
+                    .consulta(lenta.getConsulta())
+                    .duracaoMs(lenta.getDuracaoMs())
+                    .linhas(lenta.getLinhas())
+                    .endpoint(lenta.getEndpoint())
+                    .instante(lenta.getInstante())
+                    .build());
+            }
+        }
+
+        return EstatisticasPersistenciaDTO.builder()
+            .estatisticasHabilitadas(estatisticas.isStatisticsEnabled())
+            .comandosPreparados(estatisticas.getPrepareStatementCount())
+            .entidadesCarregadas(estatisticas.getEntityLoadCount())
+            .entidadesBuscadas(estatisticas.getEntityFetchCount())
+            .colecoesBuscadas(estatisticas.getCollectionFetchCount())
+            .consultasExecutadas(estatisticas.getQueryExecutionCount())
+            .tempoMaximoConsultaMs(estatisticas.getQueryExecutionMaxTime())
+            .consultaMaisLenta(estatisticas.getQueryExecutionMaxTimeQueryString())
+            .limiteConsultaLentaMs(limiteConsultaLentaMs)
+            .limiteRepeticoesComando(limiteRepeticoes)
+            .entidades(entidades)
+            .consultas(consultas.size() > MAXIMO_CONSULTAS ? new ArrayList<>(consultas.subList(0, MAXIMO_CONSULTAS)) : consultas)
+            .endpoints(obterEndpoints())
+            .consultasLentas(consultasLentas)
+            .build();
+    }
+
+    List<EndpointDTO> obterEndpoints() {
+        List<EndpointDTO> resultado = new ArrayList<>();
+        for (Map.Entry<String, Endpoint> entrada : new TreeMap<>(endpoints).entrySet()) {
+            Endpoint endpoint = entrada.getValue();
+            long requisicoes = endpoint.requisicoes.sum();
+            long comandos = endpoint.comandos.sum();
+            Suspeita suspeita = endpoint.suspeita;
+            resultado.add(EndpointDTO.builder()
+                .endpoint(entrada.getKey())
+                .requisicoes(requisicoes)
+                .comandos(comandos)
+                .mediaComandos(requisicoes > 0 ? (double) comandos / requisicoes : 0)
+                .maximoComandos(endpoint.maximoComandos.get())
+                .entidadesBuscadas(endpoint.entidadesBuscadas.sum())
+                .colecoesBuscadas(endpoint.colecoesBuscadas.sum())
+                .suspeitasNMais1(endpoint.suspeitas.sum())
+                .comandoSuspeito(suspeita != null ? suspeita.sql : null)
+                .repeticoesComandoSuspeito(suspeita != null ? suspeita.repeticoes : null)
+                .build());
+        }
+        return resultado;
+    }
+
+    private static final class Endpoint {
+        final LongAdder requisicoes = new LongAdder();
+        final LongAdder comandos = new LongAdder();
+        final LongAccumulator maximoComandos = new LongAccumulator(Long::max, 0);
+        final LongAdder entidadesBuscadas = new LongAdder();
+        final LongAdder colecoesBuscadas = new LongAdder();
+        final LongAdder suspeitas = new LongAdder();
+        // Último comando repetido além do limite neste endpoint
+        volatile Suspeita suspeita;
+    }
+
+    private static final class Suspeita {
+        final String sql;
+        final int repeticoes;
+
+        Suspeita(String sql, int repeticoes) {
+            this.sql = sql;
+            this.repeticoes = repeticoes;
+        }
+    }
+}
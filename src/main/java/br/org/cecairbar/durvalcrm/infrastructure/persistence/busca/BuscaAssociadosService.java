@@ -0,0 +1,102 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.busca;
+
+import br.org.cecairbar.durvalcrm.application.mapper.AssociadoMapper;
+import br.org.cecairbar.durvalcrm.domain.event.AssociadoAlteradoEvent;
+import br.org.cecairbar.durvalcrm.domain.model.Associado;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.AssociadoEntity;
+import org.jboss.logging.Logger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Busca textual de associados ativos sobre o {@link IndiceAssociados}.
+ *
+ * O índice é carregado do banco na primeira busca e atualizado a cada associado gravado ou
+ * inativado nesta instância. Para refletir alterações feitas por outras instâncias ou direto
+ * no banco, é recarregado por inteiro a cada durvalcrm.busca.associados.recarga-minutos (padrão 10).
+ */
+@ApplicationScoped
+public class BuscaAssociadosService {
+
+    private static final Logger LOG = Logger.getLogger(BuscaAssociadosService.class);
+
+    static final String PROPRIEDADE_RECARGA = "durvalcrm.busca.associados.recarga-minutos";
+    static final long RECARGA_PADRAO_MINUTOS = 10;
+
+    private final IndiceAssociados indice = new IndiceAssociados();
+    private final long intervaloRecargaNanos =
+        TimeUnit.MINUTES.toNanos(Long.getLong(PROPRIEDADE_RECARGA, RECARGA_PADRAO_MINUTOS));
+
+    // Momento (System.nanoTime) da última carga; nulo enquanto o índice não foi carregado
+    private volatile Long carregadoEm;
+    // Alterações aplicadas ao índice; uma carga concorrente com alterações é descartada na próxima busca
+    private final AtomicLong alteracoes = new AtomicLong();
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    AssociadoMapper mapper;
+
+    public List<Associado> buscar(String consulta, int limite) {
+        garantirCarregado();
+        return indice.buscar(consulta, limite);
+    }
+
+    /**
+     * Mantém o índice atualizado somente após o commit da transação que gravou o associado
+     */
+    public void aoAlterarAssociado(@Observes(during = TransactionPhase.AFTER_SUCCESS) AssociadoAlteradoEvent evento) {
+        alteracoes.incrementAndGet();
+        if (carregadoEm == null) {
+            // Ainda não carregado: a primeira busca lerá o estado atual do banco
+            return;
+        }
+        if (evento.getAssociado() != null) {
+            indice.indexar(evento.getAssociado());
+        } else {
+            indice.remover(evento.getId());
+        }
+    }
+
+    private void garantirCarregado() {
+        if (!precisaRecarregar()) {
+            return;
+        }
+        synchronized (this) {
+            if (precisaRecarregar()) {
+                recarregar();
+            }
+        }
+    }
+
+    private boolean precisaRecarregar() {
+        Long carga = carregadoEm;
+        return carga == null || System.nanoTime() - carga > intervaloRecargaNanos;
+    }
+
+    private void recarregar() {
+        long inicio = System.nanoTime();
+        long alteracoesAntes = alteracoes.get();
+        List<Associado> ativos = entityManager.createQuery(
+                "SELECT a FROM AssociadoEntity a WHERE a.ativo = true", AssociadoEntity.class)
+            .getResultList()
+            .stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+        indice.recarregar(ativos);
+
+        // Uma alteração aplicada durante a leitura pode ter sido sobrescrita pela carga
+        carregadoEm = alteracoes.get() == alteracoesAntes ? System.nanoTime() : null;
+        LOG.debugf("Índice de busca de associados carregado: %d associados em %d ms",
+            indice.tamanho(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+    }
+}
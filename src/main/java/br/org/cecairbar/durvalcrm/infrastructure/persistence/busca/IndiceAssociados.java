@@ -0,0 +1,267 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.busca;
+
+import br.org.cecairbar.durvalcrm.domain.model.Associado;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido em memória dos associados ativos, por trigramas dos termos de nome, CPF,
+ * e-mail e telefone, normalizados sem acentos e em minúsculas.
+ *
+ * Cada termo da busca precisa aparecer (como trecho) em algum termo do associado; os candidatos
+ * saem da interseção das listas de trigramas e são conferidos e pontuados um a um. Termos com
+ * menos de três caracteres não restringem os candidatos e são conferidos diretamente.
+ */
+public final class IndiceAssociados {
+
+    static final int TAMANHO_TRIGRAMA = 3;
+
+    // Pontuação por termo: igual > prefixo > trecho; termos do nome valem o dobro
+    private static final int PONTOS_IGUAL = 3;
+    private static final int PONTOS_PREFIXO = 2;
+    private static final int PONTOS_TRECHO = 1;
+    private static final int PESO_NOME = 2;
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern NAO_DIGITOS = Pattern.compile("\\D+");
+
+    private static final Comparator<Resultado> ORDEM = Comparator.comparingInt(Resultado::pontos).reversed()
+        .thenComparing(r -> r.documento.nomeNormalizado)
+        .thenComparing(r -> r.documento.associado.getId());
+
+    private volatile Map<UUID, Documento> documentos = new ConcurrentHashMap<>();
+    private volatile Map<String, Set<UUID>> trigramas = new ConcurrentHashMap<>();
+
+    /**
+     * Substitui todo o conteúdo do índice; as buscas em andamento continuam no índice anterior
+     */
+    public synchronized void recarregar(Collection<Associado> associados) {
+        Map<UUID, Documento> novosDocumentos = new ConcurrentHashMap<>();
+        Map<String, Set<UUID>> novosTrigramas = new ConcurrentHashMap<>();
+        for (Associado associado : associados) {
+            if (associado.isAtivo()) {
+                adicionar(novosDocumentos, novosTrigramas, new Documento(associado));
+            }
+        }
+        documentos = novosDocumentos;
+        trigramas = novosTrigramas;
+    }
+
+    /**
+     * Inclui ou atualiza o associado; inativos são retirados do índice
+     */
+    public synchronized void indexar(Associado associado) {
+        remover(associado.getId());
+        if (associado.isAtivo()) {
+            adicionar(documentos, trigramas, new Documento(associado));
+        }
+    }
+
+    public synchronized void remover(UUID id) {
+        Documento documento = documentos.remove(id);
+        if (documento == null) {
+            return;
+        }
+        for (String trigrama : documento.trigramas) {
+            Set<UUID> ids = trigramas.get(trigrama);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    trigramas.remove(trigrama);
+                }
+            }
+        }
+    }
+
+    public int tamanho() {
+        return documentos.size();
+    }
+
+    /**
+     * @return até {@code limite} associados que contêm todos os termos da busca, do mais relevante
+     *         para o menos relevante e, no empate, por nome
+     */
+    public List<Associado> buscar(String consulta, int limite) {
+        Set<String> termos = new LinkedHashSet<>(termos(consulta));
+        if (termos.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        Map<UUID, Documento> documentos = this.documentos;
+
+        List<Resultado> resultados = new ArrayList<>();
+        for (Documento documento : candidatos(documentos, termos)) {
+            int pontos = documento.pontuar(termos);
+            if (pontos > 0) {
+                resultados.add(new Resultado(documento, pontos));
+            }
+        }
+        resultados.sort(ORDEM);
+
+        List<Associado> encontrados = new ArrayList<>(Math.min(limite, resultados.size()));
+        for (int i = 0; i < resultados.size() && i < limite; i++) {
+            Associado associado = resultados.get(i).documento.associado;
+            // Cópia: o índice não pode ser alterado por quem recebe o resultado
+            encontrados.add(new Associado(associado.getId(), associado.getNomeCompleto(), associado.getCpf(),
+                associado.getEmail(), associado.getTelefone(), associado.isAtivo()));
+        }
+        return encontrados;
+    }
+
+    private Collection<Documento> candidatos(Map<UUID, Documento> documentos, Set<String> termos) {
+        List<Set<UUID>> listas = new ArrayList<>();
+        for (String termo : termos) {
+            for (String trigrama : trigramas(termo)) {
+                Set<UUID> ids = trigramas.get(trigrama);
+                if (ids == null) {
+                    return List.of();
+                }
+                listas.add(ids);
+            }
+        }
+        if (listas.isEmpty()) {
+            return documentos.values();
+        }
+
+        // Interseção a partir da menor lista
+        listas.sort(Comparator.comparingInt(Set::size));
+        Set<UUID> ids = new HashSet<>(listas.get(0));
+        for (int i = 1; i < listas.size() && !ids.isEmpty(); i++) {
+            ids.retainAll(listas.get(i));
+        }
+        List<Documento> candidatos = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Documento documento = documentos.get(id);
+            if (documento != null) {
+                candidatos.add(documento);
+            }
+        }
+        return candidatos;
+    }
+
+    private static void adicionar(Map<UUID, Documento> documentos, Map<String, Set<UUID>> trigramas, Documento documento) {
+        UUID id = documento.associado.getId();
+        documentos.put(id, documento);
+        for (String trigrama : documento.trigramas) {
+            trigramas.computeIfAbsent(trigrama, t -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    /**
+     * Sem acentos, em minúsculas e dividido em tudo que não for letra ou dígito
+     */
+    static List<String> termos(String texto) {
+        List<String> termos = new ArrayList<>();
+        if (texto == null) {
+            return termos;
+        }
+        for (String termo : SEPARADORES.split(normalizar(texto))) {
+            if (!termo.isEmpty()) {
+                termos.add(termo);
+            }
+        }
+        return termos;
+    }
+
+    static String normalizar(String texto) {
+        return ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> trigramas(String termo) {
+        Set<String> trigramas = new HashSet<>();
+        for (int i = 0; i + TAMANHO_TRIGRAMA <= termo.length(); i++) {
+            trigramas.add(termo.substring(i, i + TAMANHO_TRIGRAMA));
+        }
+        return trigramas;
+    }
+
+    private static final class Documento {
+        private final Associado associado;
+        private final String nomeNormalizado;
+        private final List<String> termosNome;
+        // CPF e telefone só com dígitos, para casar com ou sem máscara
+        private final List<String> termosContato = new ArrayList<>();
+        private final Set<String> trigramas = new HashSet<>();
+
+        private Documento(Associado associado) {
+            this.associado = associado;
+            this.nomeNormalizado = associado.getNomeCompleto() != null ? normalizar(associado.getNomeCompleto()) : "";
+            this.termosNome = termos(associado.getNomeCompleto());
+            adicionarDigitos(associado.getCpf());
+            adicionarDigitos(associado.getTelefone());
+            termosContato.addAll(termos(associado.getEmail()));
+
+            for (String termo : termosNome) {
+                trigramas.addAll(trigramas(termo));
+            }
+            for (String termo : termosContato) {
+                trigramas.addAll(trigramas(termo));
+            }
+        }
+
+        private void adicionarDigitos(String texto) {
+            if (texto != null) {
+                String digitos = NAO_DIGITOS.matcher(texto).replaceAll("");
+                if (!digitos.isEmpty()) {
+                    termosContato.add(digitos);
+                }
+            }
+        }
+
+        /**
+         * @return soma dos melhores pontos de cada termo da busca, ou zero se algum não for encontrado
+         */
+        private int pontuar(Set<String> busca) {
+            int total = 0;
+            for (String termo : busca) {
+                int melhor = Math.max(PESO_NOME * melhorPontuacao(termosNome, termo), melhorPontuacao(termosContato, termo));
+                if (melhor == 0) {
+                    return 0;
+                }
+                total += melhor;
+            }
+            return total;
+        }
+
+        private static int melhorPontuacao(List<String> termos, String busca) {
+            int melhor = 0;
+            for (String termo : termos) {
+                if (termo.equals(busca)) {
+                    return PONTOS_IGUAL;
+                }
+                if (termo.startsWith(busca)) {
+                    melhor = PONTOS_PREFIXO;
+                } else if (melhor == 0 && termo.contains(busca)) {
+                    melhor = PONTOS_TRECHO;
+                }
+            }
+            return melhor;
+        }
+    }
+
+    private static final class Resultado {
+        private final Documento documento;
+        private final int pontos;
+
+        private Resultado(Documento documento, int pontos) {
+            this.documento = documento;
+            this.pontos = pontos;
+        }
+
+        private int pontos() {
+            return pontos;
+        }
+    }
+}
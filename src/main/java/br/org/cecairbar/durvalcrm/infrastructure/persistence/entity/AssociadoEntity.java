@@ -1,6 +1,8 @@
 package br.org.cecairbar.durvalcrm.infrastructure.persistence.entity;
 
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import jakarta.persistence.*;
@@ -10,7 +12,11 @@ import java.util.UUID;
 @Entity
 @Table(name = "associados")
 @Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AssociadoEntity.REGIAO_CACHE)
 public class AssociadoEntity {
+
+    public static final String REGIAO_CACHE = "durvalcrm.associados";
     
     @Id
     @GeneratedValue(generator = "UUID")
@@ -1,6 +1,8 @@
 package br.org.cecairbar.durvalcrm.infrastructure.persistence.entity;
 
 import br.org.cecairbar.durvalcrm.domain.model.TipoCategoriaFinanceira;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.GenericGenerator;
 
 import jakarta.persistence.*;
@@ -9,6 +11,8 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CategoriaFinanceiraEntity.REGIAO_CACHE)
 @Table(name = "categorias_financeiras",
        indexes = {
            @Index(name = "idx_categoria_nome", columnList = "nome"),
@@ -20,6 +24,10 @@ import java.util.UUID;
        })
 public class CategoriaFinanceiraEntity {
 
+    // Região do cache de segundo nível (entidades) e das consultas de listagem de categorias
+    public static final String REGIAO_CACHE = "durvalcrm.categorias-financeiras";
+    public static final String REGIAO_CACHE_CONSULTAS = "durvalcrm.categorias-financeiras.consultas";
+
     @Id
     @GeneratedValue(generator = "UUID")
     @GenericGenerator(
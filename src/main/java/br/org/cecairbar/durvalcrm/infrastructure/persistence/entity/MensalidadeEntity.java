@@ -14,7 +14,15 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "mensalidades", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"associado_id", "mes_referencia", "ano_referencia"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"associado_id", "mes_referencia", "ano_referencia"}),
+       indexes = {
+           // findByIdentificadorPix e reconciliação por txid
+           @Index(name = "idx_mensalidade_identificador_pix", columnList = "identificador_pix", unique = true),
+           // findVencidas, countPendentesVencidas e marcarPendentesVencidasComoAtrasadas
+           @Index(name = "idx_mensalidade_status_vencimento", columnList = "status, data_vencimento"),
+           // find*ByMesEAno, countByStatusAndMesEAno e totais por status do período
+           @Index(name = "idx_mensalidade_periodo_status", columnList = "ano_referencia, mes_referencia, status")
+       })
 public class MensalidadeEntity {
 
     @Id
@@ -51,7 +59,7 @@ public class MensalidadeEntity {
     @Column(name = "qr_code_pix", length = 1000)
     public String qrCodePix;
 
-    @Column(name = "identificador_pix", nullable = false, unique = true)
+    @Column(name = "identificador_pix", nullable = false)
     public String identificadorPix;
 
     @CreationTimestamp
@@ -0,0 +1,46 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas;
+
+import java.time.Instant;
+
+/**
+ * Execução de consulta acima do limite configurado em durvalcrm.persistencia.consulta-lenta-ms
+ */
+public final class ConsultaLenta {
+
+    private final String consulta;
+    private final long duracaoMs;
+    private final int linhas;
+    private final String endpoint;
+    private final Instant instante;
+
+    public ConsultaLenta(String consulta, long duracaoMs, int linhas, String endpoint, Instant instante) {
+        this.consulta = consulta;
+        this.duracaoMs = duracaoMs;
+        this.linhas = linhas;
+        this.endpoint = endpoint;
+        this.instante = instante;
+    }
+
+    public String getConsulta() {
+        return consulta;
+    }
+
+    public long getDuracaoMs() {
+        return duracaoMs;
+    }
+
+    public int getLinhas() {
+        return linhas;
+    }
+
+    /**
+     * @return método e rota da requisição, ou nulo para consultas de jobs agendados
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Instant getInstante() {
+        return instante;
+    }
+}
@@ -0,0 +1,95 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contadores de acesso ao banco da requisição em andamento na thread atual.
+ * Preenchido por InspetorComandos e EstatisticasPersistencia entre iniciar() e encerrar().
+ */
+public final class ConsultasRequisicao {
+
+    private static final ThreadLocal<ConsultasRequisicao> ATUAL = new ThreadLocal<>();
+
+    private final String endpoint;
+    private int comandos;
+    private int buscasEntidade;
+    private int buscasColecao;
+    // Quantas vezes cada SQL foi preparado: o mesmo comando repetido em uma requisição indica N+1
+    private final Map<String, Integer> repeticoes = new HashMap<>();
+
+    private ConsultasRequisicao(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public static ConsultasRequisicao iniciar(String endpoint) {
+        ConsultasRequisicao consultas = new ConsultasRequisicao(endpoint);
+        ATUAL.set(consultas);
+        return consultas;
+    }
+
+    /**
+     * Continua na thread atual a contagem de uma requisição retirada de outra thread com encerrar()
+     * (ex.: endpoints assíncronos, que respondem a partir da thread do executor)
+     */
+    public static void retomar(ConsultasRequisicao consultas) {
+        if (consultas != null) {
+            ATUAL.set(consultas);
+        }
+    }
+
+    /**
+     * @return contadores da requisição atual ou nulo fora de uma requisição (ex.: jobs agendados)
+     */
+    public static ConsultasRequisicao atual() {
+        return ATUAL.get();
+    }
+
+    public static ConsultasRequisicao encerrar() {
+        ConsultasRequisicao consultas = ATUAL.get();
+        ATUAL.remove();
+        return consultas;
+    }
+
+    void registrarComando(String sql) {
+        comandos++;
+        repeticoes.merge(sql, 1, Integer::sum);
+    }
+
+    void registrarBuscaEntidade() {
+        buscasEntidade++;
+    }
+
+    void registrarBuscaColecao() {
+        buscasColecao++;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getComandos() {
+        return comandos;
+    }
+
+    public int getBuscasEntidade() {
+        return buscasEntidade;
+    }
+
+    public int getBuscasColecao() {
+        return buscasColecao;
+    }
+
+    /**
+     * @return o SQL preparado mais vezes nesta requisição, ou nulo se nenhum comando foi executado
+     */
+    public Map.Entry<String, Integer> getComandoMaisRepetido() {
+        Map.Entry<String, Integer> maior = null;
+        for (Map.Entry<String, Integer> entrada : repeticoes.entrySet()) {
+            if (maior == null || entrada.getValue() > maior.getValue()) {
+                maior = entrada;
+            }
+        }
+        return maior;
+    }
+}
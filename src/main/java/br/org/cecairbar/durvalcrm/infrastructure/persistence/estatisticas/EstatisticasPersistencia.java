@@ -0,0 +1,115 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.jboss.logging.Logger;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Estatísticas do Hibernate que também alimentam os contadores da requisição atual
+ * (buscas de entidades/coleções por associação lazy) e registram as consultas lentas.
+ *
+ * O Hibernate só chama estes métodos com as estatísticas ativas, o que é decidido por
+ * durvalcrm.persistencia.estatisticas (padrão true) e não por hibernate.generate_statistics.
+ */
+public class EstatisticasPersistencia extends StatisticsImpl {
+
+    private static final Logger LOG = Logger.getLogger(EstatisticasPersistencia.class);
+
+    static final String PROPRIEDADE_HABILITADAS = "durvalcrm.persistencia.estatisticas";
+    static final String PROPRIEDADE_LIMITE_CONSULTA_LENTA = "durvalcrm.persistencia.consulta-lenta-ms";
+    static final long LIMITE_CONSULTA_LENTA_PADRAO_MS = 200;
+    static final int MAXIMO_CONSULTAS_LENTAS = 50;
+
+    private final long limiteConsultaLentaMs;
+    private final Deque<ConsultaLenta> consultasLentas = new ArrayDeque<>(MAXIMO_CONSULTAS_LENTAS);
+    private boolean configuradas;
+
+    public EstatisticasPersistencia(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+        this.limiteConsultaLentaMs = Long.getLong(PROPRIEDADE_LIMITE_CONSULTA_LENTA, LIMITE_CONSULTA_LENTA_PADRAO_MS);
+    }
+
+    /**
+     * A primeira chamada vem do Hibernate, logo após a FabricaEstatisticas, com o valor de
+     * hibernate.generate_statistics: é substituído pela propriedade de sistema. As seguintes
+     * (ex.: JMX) são respeitadas.
+     */
+    @Override
+    public void setStatisticsEnabled(boolean habilitadas) {
+        if (!configuradas) {
+            configuradas = true;
+            habilitadas = !"false".equalsIgnoreCase(System.getProperty(PROPRIEDADE_HABILITADAS));
+        }
+        super.setStatisticsEnabled(habilitadas);
+    }
+
+    @Override
+    public void fetchEntity(String entityName) {
+        super.fetchEntity(entityName);
+        ConsultasRequisicao consultas = ConsultasRequisicao.atual();
+        if (consultas != null) {
+            consultas.registrarBuscaEntidade();
+        }
+    }
+
+    @Override
+    public void fetchCollection(String role) {
+        super.fetchCollection(role);
+        ConsultasRequisicao consultas = ConsultasRequisicao.atual();
+        if (consultas != null) {
+            consultas.registrarBuscaColecao();
+        }
+    }
+
+    /**
+     * @param time duração da execução em milissegundos
+     */
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        if (time < limiteConsultaLentaMs) {
+            return;
+        }
+        ConsultasRequisicao consultas = ConsultasRequisicao.atual();
+        String endpoint = consultas != null ? consultas.getEndpoint() : null;
+        LOG.warnf("Consulta lenta (%d ms, %d linhas)%s: %s", time, rows,
+            endpoint != null ? " em " + endpoint : "", hql);
+
+        synchronized (consultasLentas) {
+            if (consultasLentas.size() == MAXIMO_CONSULTAS_LENTAS) {
+                consultasLentas.removeFirst();
+            }
+            consultasLentas.addLast(new ConsultaLenta(hql, time, rows, endpoint, Instant.now()));
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        synchronized (consultasLentas) {
+            consultasLentas.clear();
+        }
+    }
+
+    public long getLimiteConsultaLentaMs() {
+        return limiteConsultaLentaMs;
+    }
+
+    /**
+     * @return as últimas consultas lentas, da mais recente para a mais antiga
+     */
+    public List<ConsultaLenta> getConsultasLentas() {
+        synchronized (consultasLentas) {
+            List<ConsultaLenta> lista = new ArrayList<>(consultasLentas);
+            Collections.reverse(lista);
+            return lista;
+        }
+    }
+}
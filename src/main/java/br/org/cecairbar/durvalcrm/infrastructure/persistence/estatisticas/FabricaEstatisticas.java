@@ -0,0 +1,16 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Registrada em hibernate.stats.factory para que o Hibernate use EstatisticasPersistencia
+ */
+public class FabricaEstatisticas implements StatisticsFactory {
+
+    @Override
+    public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+        return new EstatisticasPersistencia(sessionFactory);
+    }
+}
@@ -0,0 +1,21 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na requisição atual.
+ * Registrado em hibernate.session_factory.statement_inspector.
+ */
+public class InspetorComandos implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String inspect(String sql) {
+        ConsultasRequisicao consultas = ConsultasRequisicao.atual();
+        if (consultas != null) {
+            consultas.registrarComando(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,47 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.migracao;
+
+import org.jboss.logging.Logger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import jakarta.ejb.Singleton;
+import jakarta.ejb.Startup;
+import jakarta.ejb.TransactionManagement;
+import jakarta.ejb.TransactionManagementType;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Aplica as migrações de esquema na inicialização da aplicação. O Hibernate não gera nem
+ * atualiza DDL (hbm2ddl.auto=none): o esquema é definido apenas pelos scripts de db/migration.
+ * Uma falha interrompe o deploy.
+ */
+@Singleton
+@Startup
+@TransactionManagement(TransactionManagementType.BEAN)
+public class MigracaoEsquemaStartup {
+
+    private static final Logger LOG = Logger.getLogger(MigracaoEsquemaStartup.class);
+
+    // Quando "false", as migrações não são aplicadas (esquema gerenciado externamente)
+    static final String PROPRIEDADE_HABILITADA = "durvalcrm.migracao.habilitada";
+
+    @Resource(lookup = "java:jboss/datasources/DurvalCRMDS")
+    DataSource dataSource;
+
+    @PostConstruct
+    public void migrar() {
+        if (!Boolean.parseBoolean(System.getProperty(PROPRIEDADE_HABILITADA, "true"))) {
+            LOG.warn("Migrações de esquema desabilitadas via " + PROPRIEDADE_HABILITADA);
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            new MigradorEsquema(dataSource).migrar(MigradorEsquema.carregar(getClass().getClassLoader()));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha nas migrações de esquema", e);
+        }
+        LOG.infof("Migrações de esquema concluídas em %d ms", (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
@@ -0,0 +1,250 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.migracao;
+
+import org.jboss.logging.Logger;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aplica em ordem os scripts versionados de db/migration ainda não registrados na tabela
+ * de histórico, cada um em sua própria transação junto com o registro no histórico.
+ * Scripts já aplicados têm o checksum conferido e não podem ser alterados.
+ */
+public class MigradorEsquema {
+
+    private static final Logger LOG = Logger.getLogger(MigradorEsquema.class);
+
+    static final String DIRETORIO = "db/migration/";
+    static final String INDICE = DIRETORIO + "versoes.txt";
+    static final String TABELA_HISTORICO = "schema_migracoes";
+
+    // Chave do advisory lock do PostgreSQL que serializa migrações de instâncias iniciando juntas
+    private static final long CHAVE_BLOQUEIO = 0x44757276616CL;
+
+    private final DataSource dataSource;
+
+    public MigradorEsquema(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Lê os scripts listados no índice db/migration/versoes.txt, validando ordem e duplicidade de versões
+     */
+    public static List<ScriptMigracao> carregar(ClassLoader classLoader) {
+        List<ScriptMigracao> scripts = new ArrayList<>();
+        for (String linha : lerRecurso(classLoader, INDICE).split("\\R")) {
+            String nome = linha.trim();
+            if (nome.isEmpty() || nome.startsWith("#")) {
+                continue;
+            }
+            ScriptMigracao script = ScriptMigracao.de(nome, lerRecurso(classLoader, DIRETORIO + nome));
+            if (!scripts.isEmpty() && script.getVersao() <= scripts.get(scripts.size() - 1).getVersao()) {
+                throw new IllegalStateException("Migrações fora de ordem ou com versão repetida em " + INDICE + ": " + nome);
+            }
+            scripts.add(script);
+        }
+        return scripts;
+    }
+
+    /**
+     * @return quantidade de scripts aplicados nesta execução
+     */
+    public int migrar(List<ScriptMigracao> scripts) throws SQLException {
+        try (Connection conexao = dataSource.getConnection()) {
+            boolean postgres = "PostgreSQL".equals(conexao.getMetaData().getDatabaseProductName());
+            if (postgres) {
+                executar(conexao, "SELECT pg_advisory_lock(" + CHAVE_BLOQUEIO + ")");
+            }
+            try {
+                criarHistorico(conexao);
+                return aplicarPendentes(conexao, scripts, postgres);
+            } finally {
+                if (postgres) {
+                    executar(conexao, "SELECT pg_advisory_unlock(" + CHAVE_BLOQUEIO + ")");
+                }
+            }
+        }
+    }
+
+    private int aplicarPendentes(Connection conexao, List<ScriptMigracao> scripts, boolean postgres) throws SQLException {
+        Map<Integer, Long> aplicadas = lerHistorico(conexao);
+        int aplicados = 0;
+
+        for (ScriptMigracao script : scripts) {
+            Long checksum = aplicadas.get(script.getVersao());
+            if (checksum != null) {
+                if (checksum != script.getChecksum()) {
+                    throw new IllegalStateException("Migração " + script.getNome()
+                        + " foi alterada depois de aplicada (checksum " + checksum + " no banco, "
+                        + script.getChecksum() + " no arquivo). Crie uma nova versão em vez de editar a existente.");
+                }
+                continue;
+            }
+            aplicar(conexao, script, postgres);
+            aplicados++;
+        }
+
+        LOG.infof("Esquema na versão %d: %d migração(ões) aplicada(s), %d já existente(s)",
+            scripts.isEmpty() ? 0 : scripts.get(scripts.size() - 1).getVersao(), aplicados, aplicadas.size());
+        return aplicados;
+    }
+
+    private void aplicar(Connection conexao, ScriptMigracao script, boolean postgres) throws SQLException {
+        long inicio = System.nanoTime();
+        boolean autoCommit = conexao.getAutoCommit();
+        conexao.setAutoCommit(false);
+        try (Statement comando = conexao.createStatement()) {
+            if (script.isSomentePostgresql() && !postgres) {
+                LOG.infof("Migração %s é exclusiva do PostgreSQL: registrada sem executar", script.getNome());
+            } else {
+                for (String sql : dividirComandos(script.getSql())) {
+                    comando.execute(sql);
+                }
+            }
+            long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+            try (PreparedStatement registro = conexao.prepareStatement("INSERT INTO " + TABELA_HISTORICO
+                    + " (versao, descricao, script, checksum, aplicada_em, duracao_ms) VALUES (?, ?, ?, ?, ?, ?)")) {
+                registro.setInt(1, script.getVersao());
+                registro.setString(2, script.getDescricao());
+                registro.setString(3, script.getNome());
+                registro.setLong(4, script.getChecksum());
+                registro.setTimestamp(5, Timestamp.from(Instant.now()));
+                registro.setLong(6, duracaoMs);
+                registro.executeUpdate();
+            }
+            conexao.commit();
+            LOG.infof("Migração %s aplicada em %d ms", script.getNome(), duracaoMs);
+        } catch (SQLException | RuntimeException e) {
+            conexao.rollback();
+            throw new SQLException("Falha ao aplicar a migração " + script.getNome() + ": " + e.getMessage(), e);
+        } finally {
+            conexao.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void criarHistorico(Connection conexao) throws SQLException {
+        executar(conexao, "CREATE TABLE IF NOT EXISTS " + TABELA_HISTORICO + " ("
+            + "versao INTEGER NOT NULL PRIMARY KEY, "
+            + "descricao VARCHAR(200) NOT NULL, "
+            + "script VARCHAR(200) NOT NULL, "
+            + "checksum BIGINT NOT NULL, "
+            + "aplicada_em TIMESTAMP NOT NULL, "
+            + "duracao_ms BIGINT NOT NULL)");
+    }
+
+    private Map<Integer, Long> lerHistorico(Connection conexao) throws SQLException {
+        Map<Integer, Long> aplicadas = new HashMap<>();
+        try (Statement comando = conexao.createStatement();
+             ResultSet resultado = comando.executeQuery("SELECT versao, checksum FROM " + TABELA_HISTORICO)) {
+            while (resultado.next()) {
+                aplicadas.put(resultado.getInt(1), resultado.getLong(2));
+            }
+        }
+        return aplicadas;
+    }
+
+    private static void executar(Connection conexao, String sql) throws SQLException {
+        try (Statement comando = conexao.createStatement()) {
+            comando.execute(sql);
+        }
+    }
+
+    /**
+     * Divide um script em comandos pelo ';' final, ignorando os que aparecem em comentários,
+     * literais, identificadores entre aspas e blocos $$ do PostgreSQL
+     */
+    static List<String> dividirComandos(String script) {
+        List<String> comandos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        int i = 0;
+        int tamanho = script.length();
+
+        while (i < tamanho) {
+            char c = script.charAt(i);
+            if (c == '-' && i + 1 < tamanho && script.charAt(i + 1) == '-') {
+                int fim = script.indexOf('\n', i);
+                i = fim < 0 ? tamanho : fim + 1;
+                atual.append('\n');
+            } else if (c == '/' && i + 1 < tamanho && script.charAt(i + 1) == '*') {
+                int fim = script.indexOf("*/", i + 2);
+                i = fim < 0 ? tamanho : fim + 2;
+                atual.append(' ');
+            } else if (c == '\'' || c == '"') {
+                int fim = fimDoDelimitado(script, i + 1, c);
+                atual.append(script, i, fim);
+                i = fim;
+            } else if (c == '$' && delimitadorDolar(script, i) != null) {
+                String delimitador = delimitadorDolar(script, i);
+                int fim = script.indexOf(delimitador, i + delimitador.length());
+                fim = fim < 0 ? tamanho : fim + delimitador.length();
+                atual.append(script, i, fim);
+                i = fim;
+            } else if (c == ';') {
+                adicionar(comandos, atual);
+                i++;
+            } else {
+                atual.append(c);
+                i++;
+            }
+        }
+        adicionar(comandos, atual);
+        return comandos;
+    }
+
+    private static int fimDoDelimitado(String script, int inicio, char aspas) {
+        int i = inicio;
+        while (i < script.length()) {
+            if (script.charAt(i) == aspas) {
+                // Aspas duplicadas representam a própria aspa dentro do literal
+                if (i + 1 < script.length() && script.charAt(i + 1) == aspas) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return script.length();
+    }
+
+    private static String delimitadorDolar(String script, int inicio) {
+        int i = inicio + 1;
+        while (i < script.length() && (Character.isLetterOrDigit(script.charAt(i)) || script.charAt(i) == '_')) {
+            i++;
+        }
+        return i < script.length() && script.charAt(i) == '$' ? script.substring(inicio, i + 1) : null;
+    }
+
+    private static void adicionar(List<String> comandos, StringBuilder atual) {
+        String comando = atual.toString().trim();
+        if (!comando.isEmpty()) {
+            comandos.add(comando);
+        }
+        atual.setLength(0);
+    }
+
+    private static String lerRecurso(ClassLoader classLoader, String recurso) {
+        try (InputStream entrada = classLoader.getResourceAsStream(recurso)) {
+            if (entrada == null) {
+                throw new IllegalStateException("Recurso de migração não encontrado: " + recurso);
+            }
+            return new String(entrada.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler " + recurso, e);
+        }
+    }
+}
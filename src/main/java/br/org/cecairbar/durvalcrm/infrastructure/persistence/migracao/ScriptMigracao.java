@@ -0,0 +1,54 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.migracao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Script SQL versionado no padrão V&lt;versão&gt;__&lt;descrição&gt;.sql
+ *
+ * Scripts iniciados pela linha "-- somente-postgresql" (ex.: blocos DO $$) são executados apenas
+ * no PostgreSQL; em outros bancos a versão é registrada sem executar.
+ */
+public final class ScriptMigracao {
+
+    private static final Pattern NOME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    static final String SOMENTE_POSTGRESQL = "-- somente-postgresql";
+
+    private final int versao;
+    private final String descricao;
+    private final String nome;
+    private final String sql;
+    private final long checksum;
+    private final boolean somentePostgresql;
+
+    private ScriptMigracao(int versao, String descricao, String nome, String sql) {
+        this.versao = versao;
+        this.descricao = descricao;
+        this.nome = nome;
+        this.sql = sql;
+        CRC32 crc = new CRC32();
+        // Normaliza quebras de linha para que o checksum não dependa do sistema que gerou o arquivo
+        crc.update(sql.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+        this.checksum = crc.getValue();
+        this.somentePostgresql = sql.lines().findFirst()
+            .map(linha -> linha.trim().equalsIgnoreCase(SOMENTE_POSTGRESQL))
+            .orElse(false);
+    }
+
+    public static ScriptMigracao de(String nome, String sql) {
+        Matcher partes = NOME.matcher(nome);
+        if (!partes.matches()) {
+            throw new IllegalArgumentException("Nome de migração fora do padrão V<versão>__<descrição>.sql: " + nome);
+        }
+        return new ScriptMigracao(Integer.parseInt(partes.group(1)), partes.group(2).replace('_', ' '), nome, sql);
+    }
+
+    public int getVersao() { return versao; }
+    public String getDescricao() { return descricao; }
+    public String getNome() { return nome; }
+    public String getSql() { return sql; }
+    public long getChecksum() { return checksum; }
+    public boolean isSomentePostgresql() { return somentePostgresql; }
+}
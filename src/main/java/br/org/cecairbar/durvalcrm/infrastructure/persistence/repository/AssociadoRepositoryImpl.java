@@ -1,17 +1,26 @@
 package br.org.cecairbar.durvalcrm.infrastructure.persistence.repository;
 
 import br.org.cecairbar.durvalcrm.application.mapper.AssociadoMapper;
+import br.org.cecairbar.durvalcrm.domain.event.AssociadoAlteradoEvent;
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent;
 import br.org.cecairbar.durvalcrm.domain.model.Associado;
+import br.org.cecairbar.durvalcrm.domain.model.AssociadoSituacao;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
+import br.org.cecairbar.durvalcrm.domain.model.SituacaoAdimplencia;
+import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
 import br.org.cecairbar.durvalcrm.domain.repository.AssociadoRepository;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.busca.BuscaAssociadosService;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.AssociadoEntity;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.NotFoundException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,12 +29,24 @@ import java.util.stream.Collectors;
 @ApplicationScoped
 public class AssociadoRepositoryImpl implements AssociadoRepository {
 
+    // Máximo de associados devolvidos por uma busca textual
+    static final int LIMITE_BUSCA = 50;
+
     @Inject
     EntityManager entityManager;
 
+    @Inject
+    Event<DadosAlteradosEvent> dadosAlterados;
+
+    @Inject
+    Event<AssociadoAlteradoEvent> associadoAlterado;
+
     @Inject
     AssociadoMapper mapper;
 
+    @Inject
+    BuscaAssociadosService busca;
+
     @Override
     @Transactional
     public Associado save(Associado associado) {
@@ -34,7 +55,7 @@ public class AssociadoRepositoryImpl implements AssociadoRepository {
             AssociadoEntity entity = mapper.toEntity(associado);
             entityManager.persist(entity);
             entityManager.flush();
-            return mapper.toDomain(entity);
+            return notificarAlteracao(mapper.toDomain(entity));
         } else {
             // Lógica de Atualização
             AssociadoEntity entity = entityManager.find(AssociadoEntity.class, associado.getId());
@@ -46,7 +67,7 @@ public class AssociadoRepositoryImpl implements AssociadoRepository {
                 entity.telefone = associado.getTelefone();
                 entity.ativo = associado.isAtivo();
                 entity = entityManager.merge(entity);
-                return mapper.toDomain(entity);
+                return notificarAlteracao(mapper.toDomain(entity));
             } else {
                 throw new NotFoundException("Associado com ID " + associado.getId() + " não encontrado para atualização.");
             }
@@ -68,16 +89,20 @@ public class AssociadoRepositoryImpl implements AssociadoRepository {
         }
     }
 
+    /**
+     * Sem termo de busca lista todos os ativos; com termo, usa o índice em memória
+     * (sem acentos, por trecho de nome, CPF, e-mail ou telefone) e devolve os mais relevantes
+     */
     @Override
     public List<Associado> findAll(String query) {
-        String searchPattern = "%" + (query == null ? "" : query).toLowerCase() + "%";
-        
+        if (query != null && !query.isBlank()) {
+            return busca.buscar(query, LIMITE_BUSCA);
+        }
+
         TypedQuery<AssociadoEntity> jpqlQuery = entityManager.createQuery(
-            "SELECT a FROM AssociadoEntity a WHERE a.ativo = true AND " +
-            "(LOWER(a.nomeCompleto) LIKE :query OR a.cpf LIKE :query)", 
+            "SELECT a FROM AssociadoEntity a WHERE a.ativo = true", 
             AssociadoEntity.class
         );
-        jpqlQuery.setParameter("query", searchPattern);
         
         List<AssociadoEntity> entities = jpqlQuery.getResultList();
         return entities.stream()
@@ -85,6 +110,29 @@ public class AssociadoRepositoryImpl implements AssociadoRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Associado> findPage(String query, ChavePaginacao after, int limit) {
+        String searchPattern = "%" + (query == null ? "" : query).toLowerCase() + "%";
+
+        TypedQuery<AssociadoEntity> jpqlQuery = entityManager.createQuery(
+            "SELECT a FROM AssociadoEntity a WHERE a.ativo = true AND " +
+            "(LOWER(a.nomeCompleto) LIKE :query OR a.cpf LIKE :query)" +
+            (after != null ? " AND (a.nomeCompleto > :nome OR (a.nomeCompleto = :nome AND a.id > :id))" : "") +
+            " ORDER BY a.nomeCompleto, a.id",
+            AssociadoEntity.class
+        );
+        jpqlQuery.setParameter("query", searchPattern);
+        if (after != null) {
+            jpqlQuery.setParameter("nome", after.getValor());
+            jpqlQuery.setParameter("id", after.getId());
+        }
+        jpqlQuery.setMaxResults(limit);
+
+        return jpqlQuery.getResultList().stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public void deleteById(UUID id) {
@@ -92,6 +140,14 @@ public class AssociadoRepositoryImpl implements AssociadoRepository {
         entityManager.createQuery("UPDATE AssociadoEntity a SET a.ativo = false WHERE a.id = :id")
                 .setParameter("id", id)
                 .executeUpdate();
+        dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.ASSOCIADO));
+        associadoAlterado.fire(AssociadoAlteradoEvent.inativado(id));
+    }
+
+    private Associado notificarAlteracao(Associado associado) {
+        dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.ASSOCIADO));
+        associadoAlterado.fire(AssociadoAlteradoEvent.gravado(associado));
+        return associado;
     }
 
     @Override
@@ -151,9 +207,104 @@ public class AssociadoRepositoryImpl implements AssociadoRepository {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public long countByAtivo(Boolean ativo) {
+        return entityManager.createQuery(
+                "SELECT COUNT(a) FROM AssociadoEntity a WHERE a.ativo = :ativo", Long.class)
+                .setParameter("ativo", ativo)
+                .getSingleResult();
+    }
+
+    @Override
+    public List<Associado> findAtivosSemMensalidadeNoPeriodo(int mes, int ano) {
+        TypedQuery<AssociadoEntity> query = entityManager.createQuery(
+            "SELECT a FROM AssociadoEntity a WHERE a.ativo = true AND NOT EXISTS (" +
+            "SELECT 1 FROM MensalidadeEntity m WHERE m.associadoId = a.id " +
+            "AND m.mesReferencia = :mes AND m.anoReferencia = :ano) " +
+            "ORDER BY a.id",
+            AssociadoEntity.class
+        );
+        query.setParameter("mes", mes);
+        query.setParameter("ano", ano);
+
+        return query.getResultList().stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public long count() {
         return entityManager.createQuery("SELECT COUNT(a) FROM AssociadoEntity a", Long.class)
                 .getSingleResult();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<AssociadoSituacao> findPorSituacaoNoPeriodo(int mes, int ano, SituacaoAdimplencia situacao,
+                                                            String ordenarPor, boolean crescente, int inicio, int limite) {
+        String jpql = "SELECT new br.org.cecairbar.durvalcrm.domain.model.AssociadoSituacao(" +
+                      "a.id, a.nomeCompleto, a.email, a.cpf, m.status) " +
+                      joinMensalidadesDoPeriodo(situacao) +
+                      " ORDER BY " + campoOrdenacao(ordenarPor) + (crescente ? " ASC" : " DESC") + ", a.id";
+
+        TypedQuery<AssociadoSituacao> query = entityManager.createQuery(jpql, AssociadoSituacao.class);
+        definirParametrosSituacao(query, mes, ano, situacao);
+        query.setFirstResult(inicio);
+        query.setMaxResults(limite);
+        return query.getResultList();
+    }
+
+    @Override
+    public long countPorSituacaoNoPeriodo(int mes, int ano, SituacaoAdimplencia situacao) {
+        TypedQuery<Long> query = entityManager.createQuery(
+            "SELECT COUNT(a) " + joinMensalidadesDoPeriodo(situacao), Long.class);
+        definirParametrosSituacao(query, mes, ano, situacao);
+        return query.getSingleResult();
+    }
+
+    // Existe no máximo uma mensalidade por associado/período (unique constraint), logo uma linha por associado
+    private static String joinMensalidadesDoPeriodo(SituacaoAdimplencia situacao) {
+        String jpql = "FROM AssociadoEntity a LEFT JOIN MensalidadeEntity m " +
+                      "ON m.associadoId = a.id AND m.mesReferencia = :mes AND m.anoReferencia = :ano";
+        if (situacao == null) {
+            return jpql;
+        }
+        switch (situacao) {
+            case ADIMPLENTE:
+                return jpql + " WHERE m.status = :paga";
+            case INADIMPLENTE:
+                return jpql + " WHERE m.status IN (:pendente, :atrasada) AND m.dataVencimento <= :hoje";
+            default:
+                return jpql + " WHERE m.id IS NULL";
+        }
+    }
+
+    private static void definirParametrosSituacao(TypedQuery<?> query, int mes, int ano, SituacaoAdimplencia situacao) {
+        query.setParameter("mes", mes);
+        query.setParameter("ano", ano);
+        if (situacao == SituacaoAdimplencia.ADIMPLENTE) {
+            query.setParameter("paga", StatusMensalidade.PAGA);
+        } else if (situacao == SituacaoAdimplencia.INADIMPLENTE) {
+            query.setParameter("pendente", StatusMensalidade.PENDENTE);
+            query.setParameter("atrasada", StatusMensalidade.ATRASADA);
+            query.setParameter("hoje", LocalDate.now());
+        }
+    }
+
+    private static String campoOrdenacao(String ordenarPor) {
+        if (ordenarPor == null) {
+            return "a.nomeCompleto";
+        }
+        switch (ordenarPor) {
+            case "nome":
+                return "a.nomeCompleto";
+            case "email":
+                return "a.email";
+            case "cpf":
+                return "a.cpf";
+            case "status":
+                return "m.status";
+            default:
+                throw new IllegalArgumentException("Campo de ordenação inválido: " + ordenarPor);
+        }
+    }
+}
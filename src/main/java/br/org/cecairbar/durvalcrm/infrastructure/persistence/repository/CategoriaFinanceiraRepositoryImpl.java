@@ -1,16 +1,25 @@
 package br.org.cecairbar.durvalcrm.infrastructure.persistence.repository;
 
 import br.org.cecairbar.durvalcrm.application.financeiro.CategoriaFinanceiraEntityMapper;
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent;
 import br.org.cecairbar.durvalcrm.domain.model.CategoriaFinanceira;
 import br.org.cecairbar.durvalcrm.domain.model.TipoCategoriaFinanceira;
 import br.org.cecairbar.durvalcrm.domain.repository.CategoriaFinanceiraRepository;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.CategoriaFinanceiraEntity;
 
+import jakarta.annotation.Resource;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
+import jakarta.persistence.Cache;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,9 +31,15 @@ public class CategoriaFinanceiraRepositoryImpl implements CategoriaFinanceiraRep
     @Inject
     EntityManager entityManager;
 
+    @Inject
+    Event<DadosAlteradosEvent> dadosAlterados;
+
     @Inject
     CategoriaFinanceiraEntityMapper mapper;
 
+    @Resource
+    TransactionSynchronizationRegistry transacoes;
+
     @Override
     @Transactional
     public CategoriaFinanceira save(CategoriaFinanceira categoria) {
@@ -32,12 +47,14 @@ public class CategoriaFinanceiraRepositoryImpl implements CategoriaFinanceiraRep
             CategoriaFinanceiraEntity entity = mapper.toEntity(categoria);
             entityManager.persist(entity);
             entityManager.flush();
+            dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.CATEGORIA_FINANCEIRA));
             return mapper.toDomain(entity);
         } else {
             CategoriaFinanceiraEntity entity = entityManager.find(CategoriaFinanceiraEntity.class, categoria.getId());
             if (entity != null) {
                 mapper.updateEntityFromDomain(categoria, entity);
                 entity = entityManager.merge(entity);
+                dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.CATEGORIA_FINANCEIRA));
                 return mapper.toDomain(entity);
             } else {
                 throw new IllegalArgumentException("Categoria com ID " + categoria.getId() + " não encontrada para atualização.");
@@ -61,6 +78,7 @@ public class CategoriaFinanceiraRepositoryImpl implements CategoriaFinanceiraRep
             "SELECT c FROM CategoriaFinanceiraEntity c ORDER BY c.nome",
             CategoriaFinanceiraEntity.class
         );
+        cacheable(query);
         List<CategoriaFinanceiraEntity> entities = query.getResultList();
         return mapper.toDomainList(entities);
     }
@@ -73,6 +91,7 @@ public class CategoriaFinanceiraRepositoryImpl implements CategoriaFinanceiraRep
         );
         query.setParameter("tipo", tipo);
         query.setParameter("ambos", TipoCategoriaFinanceira.AMBOS);
+        cacheable(query);
         List<CategoriaFinanceiraEntity> entities = query.getResultList();
         return mapper.toDomainList(entities);
     }
@@ -84,6 +103,7 @@ public class CategoriaFinanceiraRepositoryImpl implements CategoriaFinanceiraRep
             CategoriaFinanceiraEntity.class
         );
         query.setParameter("ativa", ativa);
+        cacheable(query);
         List<CategoriaFinanceiraEntity> entities = query.getResultList();
         return mapper.toDomainList(entities);
     }
@@ -97,6 +117,7 @@ public class CategoriaFinanceiraRepositoryImpl implements CategoriaFinanceiraRep
         query.setParameter("tipo", tipo);
         query.setParameter("ambos", TipoCategoriaFinanceira.AMBOS);
         query.setParameter("ativa", ativa);
+        cacheable(query);
         List<CategoriaFinanceiraEntity> entities = query.getResultList();
         return mapper.toDomainList(entities);
     }
@@ -124,6 +145,7 @@ public class CategoriaFinanceiraRepositoryImpl implements CategoriaFinanceiraRep
             // Soft delete - apenas marca como inativa
             entity.ativa = false;
             entityManager.merge(entity);
+            dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.CATEGORIA_FINANCEIRA));
         }
     }
 
@@ -166,4 +188,37 @@ public class CategoriaFinanceiraRepositoryImpl implements CategoriaFinanceiraRep
         query.setParameter("ambos", TipoCategoriaFinanceira.AMBOS);
         return query.getSingleResult();
     }
+
+    @Override
+    public void evictFromCache(UUID id) {
+        if (transacoes != null && transacoes.getTransactionStatus() == Status.STATUS_ACTIVE) {
+            // Remove somente após o término da transação, para que uma leitura concorrente
+            // não recoloque no cache o estado anterior ao commit
+            transacoes.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    removerDoCache(id);
+                }
+            });
+        } else {
+            removerDoCache(id);
+        }
+    }
+
+    private void removerDoCache(UUID id) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(CategoriaFinanceiraEntity.class, id);
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getCache().evictQueryRegion(CategoriaFinanceiraEntity.REGIAO_CACHE_CONSULTAS);
+    }
+
+    // Listagens de categorias mudam raramente: resultados ficam no cache de consultas
+    private static void cacheable(TypedQuery<?> query) {
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setHint(HibernateHints.HINT_CACHE_REGION, CategoriaFinanceiraEntity.REGIAO_CACHE_CONSULTAS);
+    }
 }
@@ -1,13 +1,19 @@
 package br.org.cecairbar.durvalcrm.infrastructure.persistence.repository;
 
 import br.org.cecairbar.durvalcrm.application.financeiro.DespesaEntityMapper;
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.Despesa;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorCategoria;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorData;
 import br.org.cecairbar.durvalcrm.domain.model.StatusPagamentoDespesa;
 import br.org.cecairbar.durvalcrm.domain.model.TipoDespesa;
 import br.org.cecairbar.durvalcrm.domain.repository.DespesaRepository;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.ConsultaStreaming;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.DespesaEntity;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
@@ -18,13 +24,21 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class DespesaRepositoryImpl implements DespesaRepository {
 
+    // Categoria vem no mesmo SELECT: o mapper a lê em toda linha
+    private static final String CONSULTA_DESPESAS =
+        "SELECT d FROM DespesaEntity d JOIN FETCH d.categoria";
+
     @Inject
     EntityManager entityManager;
 
+    @Inject
+    Event<DadosAlteradosEvent> dadosAlterados;
+
     @Inject
     DespesaEntityMapper mapper;
 
@@ -35,12 +49,14 @@ public class DespesaRepositoryImpl implements DespesaRepository {
             DespesaEntity entity = mapper.toEntity(despesa);
             entityManager.persist(entity);
             entityManager.flush();
+            notificarAlteracao();
             return mapper.toDomain(entity);
         } else {
             DespesaEntity entity = entityManager.find(DespesaEntity.class, despesa.getId());
             if (entity != null) {
                 mapper.updateEntityFromDomain(despesa, entity);
                 entity = entityManager.merge(entity);
+                notificarAlteracao();
                 return mapper.toDomain(entity);
             } else {
                 throw new IllegalArgumentException("Despesa com ID " + despesa.getId() + " não encontrada para atualização.");
@@ -51,8 +67,11 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public Optional<Despesa> findById(UUID id) {
         try {
-            DespesaEntity entity = entityManager.find(DespesaEntity.class, id);
-            return entity != null ? Optional.of(mapper.toDomain(entity)) : Optional.empty();
+            return entityManager.createQuery(CONSULTA_DESPESAS + " WHERE d.id = :id", DespesaEntity.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(mapper::toDomain);
         } catch (Exception e) {
             return Optional.empty();
         }
@@ -61,17 +80,44 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public List<Despesa> findAll() {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d ORDER BY d.dataVencimento DESC",
+            CONSULTA_DESPESAS + " ORDER BY d.dataVencimento DESC",
             DespesaEntity.class
         );
         List<DespesaEntity> entities = query.getResultList();
         return mapper.toDomainList(entities);
     }
 
+    @Override
+    public List<Despesa> findPage(ChavePaginacao after, int limit) {
+        TypedQuery<DespesaEntity> query = entityManager.createQuery(
+            CONSULTA_DESPESAS +
+            (after != null ? " WHERE d.dataVencimento < :data OR (d.dataVencimento = :data AND d.id < :id)" : "") +
+            " ORDER BY d.dataVencimento DESC, d.id DESC",
+            DespesaEntity.class
+        );
+        if (after != null) {
+            query.setParameter("data", LocalDate.parse(after.getValor()));
+            query.setParameter("id", after.getId());
+        }
+        query.setMaxResults(limit);
+        return mapper.toDomainList(query.getResultList());
+    }
+
+    @Override
+    public Stream<Despesa> streamByPeriodo(LocalDate inicio, LocalDate fim) {
+        TypedQuery<DespesaEntity> query = entityManager.createQuery(
+            CONSULTA_DESPESAS + " WHERE d.dataDespesa >= :inicio AND d.dataDespesa <= :fim ORDER BY d.dataDespesa, d.id",
+            DespesaEntity.class
+        );
+        query.setParameter("inicio", inicio);
+        query.setParameter("fim", fim);
+        return ConsultaStreaming.stream(entityManager, query, mapper::toDomain);
+    }
+
     @Override
     public List<Despesa> findByTipoDespesa(TipoDespesa tipo) {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d WHERE d.tipoDespesa = :tipo ORDER BY d.dataVencimento DESC",
+            CONSULTA_DESPESAS + " WHERE d.tipoDespesa = :tipo ORDER BY d.dataVencimento DESC",
             DespesaEntity.class
         );
         query.setParameter("tipo", tipo);
@@ -82,7 +128,7 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public List<Despesa> findByCategoria(UUID categoriaId) {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d WHERE d.categoria.id = :categoriaId ORDER BY d.dataVencimento DESC",
+            CONSULTA_DESPESAS + " WHERE d.categoria.id = :categoriaId ORDER BY d.dataVencimento DESC",
             DespesaEntity.class
         );
         query.setParameter("categoriaId", categoriaId);
@@ -93,7 +139,7 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public List<Despesa> findByStatus(StatusPagamentoDespesa status) {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d WHERE d.statusPagamento = :status ORDER BY d.dataVencimento DESC",
+            CONSULTA_DESPESAS + " WHERE d.statusPagamento = :status ORDER BY d.dataVencimento DESC",
             DespesaEntity.class
         );
         query.setParameter("status", status);
@@ -104,7 +150,7 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public List<Despesa> findByPeriodo(LocalDate inicio, LocalDate fim) {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d WHERE d.dataDespesa >= :inicio AND d.dataDespesa <= :fim ORDER BY d.dataDespesa DESC",
+            CONSULTA_DESPESAS + " WHERE d.dataDespesa >= :inicio AND d.dataDespesa <= :fim ORDER BY d.dataDespesa DESC",
             DespesaEntity.class
         );
         query.setParameter("inicio", inicio);
@@ -116,7 +162,7 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public List<Despesa> findByDataVencimento(LocalDate inicio, LocalDate fim) {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d WHERE d.dataVencimento >= :inicio AND d.dataVencimento <= :fim ORDER BY d.dataVencimento",
+            CONSULTA_DESPESAS + " WHERE d.dataVencimento >= :inicio AND d.dataVencimento <= :fim ORDER BY d.dataVencimento",
             DespesaEntity.class
         );
         query.setParameter("inicio", inicio);
@@ -128,7 +174,7 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public List<Despesa> findByDataPagamento(LocalDate inicio, LocalDate fim) {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d WHERE d.dataPagamento >= :inicio AND d.dataPagamento <= :fim ORDER BY d.dataPagamento DESC",
+            CONSULTA_DESPESAS + " WHERE d.dataPagamento >= :inicio AND d.dataPagamento <= :fim ORDER BY d.dataPagamento DESC",
             DespesaEntity.class
         );
         query.setParameter("inicio", inicio);
@@ -140,7 +186,7 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public List<Despesa> findByStatusAndDataVencimento(StatusPagamentoDespesa status, LocalDate inicio, LocalDate fim) {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d WHERE d.statusPagamento = :status AND d.dataVencimento >= :inicio AND d.dataVencimento <= :fim ORDER BY d.dataVencimento",
+            CONSULTA_DESPESAS + " WHERE d.statusPagamento = :status AND d.dataVencimento >= :inicio AND d.dataVencimento <= :fim ORDER BY d.dataVencimento",
             DespesaEntity.class
         );
         query.setParameter("status", status);
@@ -153,7 +199,7 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public List<Despesa> findByTipoAndPeriodo(TipoDespesa tipo, LocalDate inicio, LocalDate fim) {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d WHERE d.tipoDespesa = :tipo AND d.dataDespesa >= :inicio AND d.dataDespesa <= :fim ORDER BY d.dataDespesa DESC",
+            CONSULTA_DESPESAS + " WHERE d.tipoDespesa = :tipo AND d.dataDespesa >= :inicio AND d.dataDespesa <= :fim ORDER BY d.dataDespesa DESC",
             DespesaEntity.class
         );
         query.setParameter("tipo", tipo);
@@ -166,7 +212,7 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public List<Despesa> findByCategoriaAndPeriodo(UUID categoriaId, LocalDate inicio, LocalDate fim) {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d WHERE d.categoria.id = :categoriaId AND d.dataDespesa >= :inicio AND d.dataDespesa <= :fim ORDER BY d.dataDespesa DESC",
+            CONSULTA_DESPESAS + " WHERE d.categoria.id = :categoriaId AND d.dataDespesa >= :inicio AND d.dataDespesa <= :fim ORDER BY d.dataDespesa DESC",
             DespesaEntity.class
         );
         query.setParameter("categoriaId", categoriaId);
@@ -179,7 +225,7 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public List<Despesa> findByFornecedor(String fornecedor) {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d WHERE LOWER(d.fornecedor) LIKE LOWER(:fornecedor) ORDER BY d.dataVencimento DESC",
+            CONSULTA_DESPESAS + " WHERE LOWER(d.fornecedor) LIKE LOWER(:fornecedor) ORDER BY d.dataVencimento DESC",
             DespesaEntity.class
         );
         query.setParameter("fornecedor", "%" + fornecedor + "%");
@@ -190,7 +236,7 @@ public class DespesaRepositoryImpl implements DespesaRepository {
     @Override
     public List<Despesa> findVencidas(LocalDate dataReferencia) {
         TypedQuery<DespesaEntity> query = entityManager.createQuery(
-            "SELECT d FROM DespesaEntity d WHERE d.dataVencimento < :dataReferencia AND d.statusPagamento = :status ORDER BY d.dataVencimento",
+            CONSULTA_DESPESAS + " WHERE d.dataVencimento < :dataReferencia AND d.statusPagamento = :status ORDER BY d.dataVencimento",
             DespesaEntity.class
         );
         query.setParameter("dataReferencia", dataReferencia);
@@ -211,6 +257,51 @@ public class DespesaRepositoryImpl implements DespesaRepository {
         return result != null ? result : BigDecimal.ZERO;
     }
 
+    @Override
+    public List<TotalPorCategoria> sumGroupByCategoria(LocalDate inicio, LocalDate fim) {
+        TypedQuery<TotalPorCategoria> query = entityManager.createQuery(
+            "SELECT new br.org.cecairbar.durvalcrm.domain.model.TotalPorCategoria(" +
+            "c.id, c.nome, c.cor, SUM(d.valor), COUNT(d)) " +
+            "FROM DespesaEntity d JOIN d.categoria c " +
+            "WHERE d.dataDespesa >= :inicio AND d.dataDespesa <= :fim " +
+            "GROUP BY c.id, c.nome, c.cor " +
+            "ORDER BY SUM(d.valor) DESC",
+            TotalPorCategoria.class
+        );
+        query.setParameter("inicio", inicio);
+        query.setParameter("fim", fim);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<TotalPorData> sumGroupByMes(LocalDate inicio, LocalDate fim) {
+        // year()/month() são traduzidos para extract() em cada dialeto (PostgreSQL e H2)
+        TypedQuery<TotalPorData> query = entityManager.createQuery(
+            "SELECT new br.org.cecairbar.durvalcrm.domain.model.TotalPorData(" +
+            "year(d.dataDespesa), month(d.dataDespesa), SUM(d.valor)) " +
+            "FROM DespesaEntity d WHERE d.dataDespesa >= :inicio AND d.dataDespesa <= :fim " +
+            "GROUP BY year(d.dataDespesa), month(d.dataDespesa) " +
+            "ORDER BY year(d.dataDespesa), month(d.dataDespesa)",
+            TotalPorData.class
+        );
+        query.setParameter("inicio", inicio);
+        query.setParameter("fim", fim);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<TotalPorData> sumGroupByDia(LocalDate inicio, LocalDate fim) {
+        TypedQuery<TotalPorData> query = entityManager.createQuery(
+            "SELECT new br.org.cecairbar.durvalcrm.domain.model.TotalPorData(d.dataDespesa, SUM(d.valor)) " +
+            "FROM DespesaEntity d WHERE d.dataDespesa >= :inicio AND d.dataDespesa <= :fim " +
+            "GROUP BY d.dataDespesa ORDER BY d.dataDespesa",
+            TotalPorData.class
+        );
+        query.setParameter("inicio", inicio);
+        query.setParameter("fim", fim);
+        return query.getResultList();
+    }
+
     @Override
     public BigDecimal sumByCategoria(UUID categoriaId, LocalDate inicio, LocalDate fim) {
         TypedQuery<BigDecimal> query = entityManager.createQuery(
@@ -300,9 +391,15 @@ public class DespesaRepositoryImpl implements DespesaRepository {
         DespesaEntity entity = entityManager.find(DespesaEntity.class, despesa.getId());
         if (entity != null) {
             entityManager.remove(entity);
+            notificarAlteracao();
         }
     }
 
+    private void notificarAlteracao() {
+        // Despesas vencidas são contadas em relação à data atual, em qualquer período
+        dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.DESPESA));
+    }
+
     @Override
     public boolean existsById(UUID id) {
         TypedQuery<Long> query = entityManager.createQuery(
@@ -1,12 +1,16 @@
 package br.org.cecairbar.durvalcrm.infrastructure.persistence.repository;
 
 import br.org.cecairbar.durvalcrm.application.doacao.DoacaoEntityMapper;
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.Doacao;
 import br.org.cecairbar.durvalcrm.domain.model.StatusDoacao;
 import br.org.cecairbar.durvalcrm.domain.repository.DoacaoRepository;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.ConsultaStreaming;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.DoacaoEntity;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
@@ -14,16 +18,30 @@ import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.Instant;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class DoacaoRepositoryImpl implements DoacaoRepository {
+
+    // Associado vem no mesmo SELECT: o mapper o lê em toda linha
+    private static final String CONSULTA_DOACOES =
+        "SELECT d FROM DoacaoEntity d LEFT JOIN FETCH d.associado";
+    
+    private static final int TAMANHO_LOTE_PADRAO = 20;
     
     @Inject
     EntityManager entityManager;
     
+
+    @Inject
+    Event<DadosAlteradosEvent> dadosAlterados;
     @Inject
     DoacaoEntityMapper mapper;
     
@@ -34,12 +52,16 @@ public class DoacaoRepositoryImpl implements DoacaoRepository {
             DoacaoEntity entity = mapper.toEntity(doacao);
             entityManager.persist(entity);
             entityManager.flush();
+            dadosAlterados.fire(entity.dataDoacao != null
+                ? DadosAlteradosEvent.noPeriodo(DadosAlteradosEvent.Agregado.DOACAO, YearMonth.from(entity.dataDoacao))
+                : DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.DOACAO));
             return mapper.toDomain(entity);
         } else {
             DoacaoEntity entity = entityManager.find(DoacaoEntity.class, doacao.getId());
             if (entity != null) {
                 mapper.updateEntityFromDomain(doacao, entity);
                 entity = entityManager.merge(entity);
+                dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.DOACAO));
                 return mapper.toDomain(entity);
             } else {
                 throw new IllegalArgumentException("Doação com ID " + doacao.getId() + " não encontrada para atualização.");
@@ -50,8 +72,11 @@ public class DoacaoRepositoryImpl implements DoacaoRepository {
     @Override
     public Optional<Doacao> findById(UUID id) {
         try {
-            DoacaoEntity entity = entityManager.find(DoacaoEntity.class, id);
-            return entity != null ? Optional.of(mapper.toDomain(entity)) : Optional.empty();
+            return entityManager.createQuery(CONSULTA_DOACOES + " WHERE d.id = :id", DoacaoEntity.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(mapper::toDomain);
         } catch (Exception e) {
             return Optional.empty();
         }
@@ -60,17 +85,44 @@ public class DoacaoRepositoryImpl implements DoacaoRepository {
     @Override
     public List<Doacao> findAll() {
         TypedQuery<DoacaoEntity> query = entityManager.createQuery(
-            "SELECT d FROM DoacaoEntity d", 
+            CONSULTA_DOACOES, 
             DoacaoEntity.class
         );
         List<DoacaoEntity> entities = query.getResultList();
         return mapper.toDomainList(entities);
     }
     
+    @Override
+    public List<Doacao> findPage(ChavePaginacao after, int limit) {
+        TypedQuery<DoacaoEntity> query = entityManager.createQuery(
+            CONSULTA_DOACOES +
+            (after != null ? " WHERE d.dataDoacao < :data OR (d.dataDoacao = :data AND d.id < :id)" : "") +
+            " ORDER BY d.dataDoacao DESC, d.id DESC",
+            DoacaoEntity.class
+        );
+        if (after != null) {
+            query.setParameter("data", LocalDateTime.parse(after.getValor()));
+            query.setParameter("id", after.getId());
+        }
+        query.setMaxResults(limit);
+        return mapper.toDomainList(query.getResultList());
+    }
+    
+    @Override
+    public Stream<Doacao> streamByPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        TypedQuery<DoacaoEntity> query = entityManager.createQuery(
+            CONSULTA_DOACOES + " WHERE d.dataDoacao >= :inicio AND d.dataDoacao <= :fim ORDER BY d.dataDoacao, d.id",
+            DoacaoEntity.class
+        );
+        query.setParameter("inicio", inicio);
+        query.setParameter("fim", fim);
+        return ConsultaStreaming.stream(entityManager, query, mapper::toDomain);
+    }
+    
     @Override
     public List<Doacao> findByAssociado(UUID associadoId) {
         TypedQuery<DoacaoEntity> query = entityManager.createQuery(
-            "SELECT d FROM DoacaoEntity d WHERE d.associado.id = :associadoId", 
+            CONSULTA_DOACOES + " WHERE d.associado.id = :associadoId", 
             DoacaoEntity.class
         );
         query.setParameter("associadoId", associadoId);
@@ -81,7 +133,7 @@ public class DoacaoRepositoryImpl implements DoacaoRepository {
     @Override
     public List<Doacao> findByStatus(StatusDoacao status) {
         TypedQuery<DoacaoEntity> query = entityManager.createQuery(
-            "SELECT d FROM DoacaoEntity d WHERE d.status = :status", 
+            CONSULTA_DOACOES + " WHERE d.status = :status", 
             DoacaoEntity.class
         );
         query.setParameter("status", status);
@@ -89,10 +141,68 @@ public class DoacaoRepositoryImpl implements DoacaoRepository {
         return mapper.toDomainList(entities);
     }
     
+    @Override
+    public List<Doacao> findAguardandoPagamento() {
+        List<DoacaoEntity> entities = entityManager.createQuery(
+                CONSULTA_DOACOES + " WHERE d.status IN :status",
+                DoacaoEntity.class)
+            .setParameter("status", List.of(StatusDoacao.PENDENTE, StatusDoacao.PROCESSANDO))
+            .getResultList();
+        return mapper.toDomainList(entities);
+    }
+    
+    @Override
+    @Transactional
+    public int confirmarPagamentos(List<Doacao> doacoes) {
+        int tamanhoLote = obterTamanhoLoteJdbc();
+        int confirmadas = 0;
+        
+        for (int inicio = 0; inicio < doacoes.size(); inicio += tamanhoLote) {
+            Map<UUID, Doacao> lote = doacoes.subList(inicio, Math.min(inicio + tamanhoLote, doacoes.size()))
+                .stream()
+                .collect(Collectors.toMap(Doacao::getId, Function.identity(), (primeira, outra) -> primeira));
+            
+            // Um SELECT por lote; os UPDATEs saem em um único JDBC batch no flush
+            List<DoacaoEntity> entities = entityManager.createQuery(
+                    "SELECT d FROM DoacaoEntity d WHERE d.id IN :ids AND d.status IN :status",
+                    DoacaoEntity.class)
+                .setParameter("ids", lote.keySet())
+                .setParameter("status", List.of(StatusDoacao.PENDENTE, StatusDoacao.PROCESSANDO))
+                .getResultList();
+            
+            for (DoacaoEntity entity : entities) {
+                Doacao doacao = lote.get(entity.id);
+                entity.status = doacao.getStatus();
+                entity.dataConfirmacao = doacao.getDataConfirmacao();
+                entity.codigoTransacao = doacao.getCodigoTransacao();
+                entity.metodoPagamento = doacao.getMetodoPagamento();
+                confirmadas++;
+            }
+            
+            entityManager.flush();
+            entityManager.clear();
+        }
+        
+        if (confirmadas > 0) {
+            dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.DOACAO));
+        }
+        return confirmadas;
+    }
+    
+    private int obterTamanhoLoteJdbc() {
+        Object valor = entityManager.getEntityManagerFactory().getProperties().get("hibernate.jdbc.batch_size");
+        try {
+            int tamanho = valor != null ? Integer.parseInt(valor.toString()) : 0;
+            return tamanho > 0 ? tamanho : TAMANHO_LOTE_PADRAO;
+        } catch (NumberFormatException e) {
+            return TAMANHO_LOTE_PADRAO;
+        }
+    }
+    
     @Override
     public List<Doacao> findByPeriodo(LocalDateTime inicio, LocalDateTime fim) {
         TypedQuery<DoacaoEntity> query = entityManager.createQuery(
-            "SELECT d FROM DoacaoEntity d WHERE d.dataDoacao >= :inicio AND d.dataDoacao <= :fim", 
+            CONSULTA_DOACOES + " WHERE d.dataDoacao >= :inicio AND d.dataDoacao <= :fim", 
             DoacaoEntity.class
         );
         query.setParameter("inicio", inicio);
@@ -104,7 +214,7 @@ public class DoacaoRepositoryImpl implements DoacaoRepository {
     @Override
     public List<Doacao> findByAssociadoAndPeriodo(UUID associadoId, LocalDateTime inicio, LocalDateTime fim) {
         TypedQuery<DoacaoEntity> query = entityManager.createQuery(
-            "SELECT d FROM DoacaoEntity d WHERE d.associado.id = :associadoId AND d.dataDoacao >= :inicio AND d.dataDoacao <= :fim", 
+            CONSULTA_DOACOES + " WHERE d.associado.id = :associadoId AND d.dataDoacao >= :inicio AND d.dataDoacao <= :fim", 
             DoacaoEntity.class
         );
         query.setParameter("associadoId", associadoId);
@@ -161,6 +271,7 @@ public class DoacaoRepositoryImpl implements DoacaoRepository {
         DoacaoEntity entity = entityManager.find(DoacaoEntity.class, doacao.getId());
         if (entity != null) {
             entityManager.remove(entity);
+            dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.DOACAO));
         }
     }
     
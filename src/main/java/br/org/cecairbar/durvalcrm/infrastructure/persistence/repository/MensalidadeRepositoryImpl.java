@@ -1,11 +1,16 @@
 package br.org.cecairbar.durvalcrm.infrastructure.persistence.repository;
 
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
 import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.TotalMensalidadesPorStatus;
 import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.ConsultaStreaming;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.MensalidadeEntity;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
@@ -13,16 +18,29 @@ import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class MensalidadeRepositoryImpl implements MensalidadeRepository {
 
+    private static final int TAMANHO_LOTE_PADRAO = 20;
+    // Limite de parâmetros por cláusula IN nas consultas por lista de identificadores
+    private static final int TAMANHO_BLOCO_IN = 1000;
+
     @Inject
     EntityManager entityManager;
 
+    @Inject
+    Event<DadosAlteradosEvent> dadosAlterados;
+
     @Override
     @Transactional
     public void save(Mensalidade mensalidade) {
@@ -43,6 +61,53 @@ public class MensalidadeRepositoryImpl implements MensalidadeRepository {
             MensalidadeEntity entity = MensalidadeEntity.fromDomain(mensalidade);
             entityManager.persist(entity);
         }
+        notificarAlteracao(mensalidade);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public int saveAll(List<Mensalidade> mensalidades) {
+        int tamanhoLote = obterTamanhoLoteJdbc();
+        int inseridas = 0;
+
+        for (Mensalidade mensalidade : mensalidades) {
+            MensalidadeEntity entity = MensalidadeEntity.fromDomain(mensalidade);
+            entity.id = null; // Gerado pelo Hibernate, evitando o find() por linha
+            entityManager.persist(entity);
+            inseridas++;
+
+            // Descarrega a cada lote para que o Hibernate envie um único JDBC batch
+            if (inseridas % tamanhoLote == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        mensalidades.stream()
+            .map(m -> YearMonth.of(m.getAnoReferencia(), m.getMesReferencia()))
+            .distinct()
+            .forEach(periodo -> dadosAlterados.fire(
+                DadosAlteradosEvent.noPeriodo(DadosAlteradosEvent.Agregado.MENSALIDADE, periodo)));
+        return inseridas;
+    }
+
+    private void notificarAlteracao(Mensalidade mensalidade) {
+        dadosAlterados.fire(DadosAlteradosEvent.noPeriodo(
+            DadosAlteradosEvent.Agregado.MENSALIDADE,
+            YearMonth.of(mensalidade.getAnoReferencia(), mensalidade.getMesReferencia())));
+    }
+
+    private int obterTamanhoLoteJdbc() {
+        Object valor = entityManager.getEntityManagerFactory().getProperties().get("hibernate.jdbc.batch_size");
+        try {
+            int tamanho = valor != null ? Integer.parseInt(valor.toString()) : 0;
+            return tamanho > 0 ? tamanho : TAMANHO_LOTE_PADRAO;
+        } catch (NumberFormatException e) {
+            return TAMANHO_LOTE_PADRAO;
+        }
     }
 
     @Override
@@ -69,6 +134,39 @@ public class MensalidadeRepositoryImpl implements MensalidadeRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Mensalidade> findPageByMesEAno(int mes, int ano, ChavePaginacao after, int limit) {
+        TypedQuery<MensalidadeEntity> query = entityManager.createQuery(
+            "SELECT m FROM MensalidadeEntity m WHERE m.mesReferencia = :mes AND m.anoReferencia = :ano" +
+            (after != null ? " AND (m.dataVencimento > :data OR (m.dataVencimento = :data AND m.id > :id))" : "") +
+            " ORDER BY m.dataVencimento, m.id",
+            MensalidadeEntity.class
+        );
+        query.setParameter("mes", mes);
+        query.setParameter("ano", ano);
+        if (after != null) {
+            query.setParameter("data", LocalDate.parse(after.getValor()));
+            query.setParameter("id", after.getId());
+        }
+        query.setMaxResults(limit);
+        
+        return query.getResultList().stream()
+                .map(MensalidadeEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Mensalidade> streamByVencimento(LocalDate inicio, LocalDate fim) {
+        TypedQuery<MensalidadeEntity> query = entityManager.createQuery(
+            "SELECT m FROM MensalidadeEntity m WHERE m.dataVencimento >= :inicio AND m.dataVencimento <= :fim " +
+            "ORDER BY m.dataVencimento, m.id",
+            MensalidadeEntity.class
+        );
+        query.setParameter("inicio", inicio);
+        query.setParameter("fim", fim);
+        return ConsultaStreaming.stream(entityManager, query, MensalidadeEntity::toDomain);
+    }
+
     @Override
     public List<Mensalidade> findByAssociadoId(UUID associadoId) {
         TypedQuery<MensalidadeEntity> query = entityManager.createQuery(
@@ -127,12 +225,50 @@ public class MensalidadeRepositoryImpl implements MensalidadeRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public long countPendentesVencidas(LocalDate referencia) {
+        return entityManager.createQuery(
+                "SELECT COUNT(m) FROM MensalidadeEntity m WHERE m.status = :status AND m.dataVencimento < :referencia",
+                Long.class)
+            .setParameter("status", StatusMensalidade.PENDENTE)
+            .setParameter("referencia", referencia)
+            .getSingleResult();
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public int marcarPendentesVencidasComoAtrasadas(LocalDate referencia, int limite) {
+        // JPQL não aceita LIMIT em UPDATE: seleciona apenas os IDs do bloco e atualiza em conjunto
+        List<UUID> ids = entityManager.createQuery(
+                "SELECT m.id FROM MensalidadeEntity m WHERE m.status = :status AND m.dataVencimento < :referencia",
+                UUID.class)
+            .setParameter("status", StatusMensalidade.PENDENTE)
+            .setParameter("referencia", referencia)
+            .setMaxResults(limite)
+            .getResultList();
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int atualizadas = entityManager.createQuery(
+                "UPDATE MensalidadeEntity m SET m.status = :atrasada " +
+                "WHERE m.id IN :ids AND m.status = :pendente")
+            .setParameter("atrasada", StatusMensalidade.ATRASADA)
+            .setParameter("pendente", StatusMensalidade.PENDENTE)
+            .setParameter("ids", ids)
+            .executeUpdate();
+
+        if (atualizadas > 0) {
+            dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.MENSALIDADE));
+        }
+        return atualizadas;
+    }
+
     // Note: These methods are not in the interface, removing @Override annotations
     @Transactional
     public void deleteById(UUID id) {
-        entityManager.createQuery("DELETE FROM MensalidadeEntity m WHERE m.id = :id")
-                .setParameter("id", id)
-                .executeUpdate();
+        delete(id);
     }
 
     public long countByMesEAno(int mes, int ano) {
@@ -173,6 +309,65 @@ public class MensalidadeRepositoryImpl implements MensalidadeRepository {
         }
     }
 
+    @Override
+    public List<Mensalidade> findNaoPagasByIdentificadoresPix(Collection<String> identificadoresPix) {
+        List<String> identificadores = new ArrayList<>(identificadoresPix);
+        List<Mensalidade> mensalidades = new ArrayList<>();
+
+        for (int inicio = 0; inicio < identificadores.size(); inicio += TAMANHO_BLOCO_IN) {
+            entityManager.createQuery(
+                    "SELECT m FROM MensalidadeEntity m " +
+                    "WHERE m.identificadorPix IN :identificadores AND m.status <> :paga",
+                    MensalidadeEntity.class)
+                .setParameter("identificadores",
+                    identificadores.subList(inicio, Math.min(inicio + TAMANHO_BLOCO_IN, identificadores.size())))
+                .setParameter("paga", StatusMensalidade.PAGA)
+                .getResultStream()
+                .map(MensalidadeEntity::toDomain)
+                .forEach(mensalidades::add);
+        }
+        return mensalidades;
+    }
+
+    @Override
+    @Transactional
+    public int registrarPagamentos(List<Mensalidade> mensalidades) {
+        int tamanhoLote = obterTamanhoLoteJdbc();
+        int registradas = 0;
+
+        for (int inicio = 0; inicio < mensalidades.size(); inicio += tamanhoLote) {
+            Map<UUID, Mensalidade> lote = mensalidades.subList(inicio, Math.min(inicio + tamanhoLote, mensalidades.size()))
+                .stream()
+                .collect(Collectors.toMap(Mensalidade::getId, Function.identity(), (primeira, outra) -> primeira));
+
+            // Um SELECT por lote; os UPDATEs das entidades alteradas saem em um único JDBC batch no flush
+            List<MensalidadeEntity> entities = entityManager.createQuery(
+                    "SELECT m FROM MensalidadeEntity m WHERE m.id IN :ids AND m.status <> :paga",
+                    MensalidadeEntity.class)
+                .setParameter("ids", lote.keySet())
+                .setParameter("paga", StatusMensalidade.PAGA)
+                .getResultList();
+
+            for (MensalidadeEntity entity : entities) {
+                Mensalidade mensalidade = lote.get(entity.id);
+                entity.status = mensalidade.getStatus();
+                entity.dataPagamento = mensalidade.getDataPagamento();
+                entity.metodoPagamento = mensalidade.getMetodoPagamento();
+                registradas++;
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        mensalidades.stream()
+            .map(m -> YearMonth.of(m.getAnoReferencia(), m.getMesReferencia()))
+            .distinct()
+            .forEach(periodo -> dadosAlterados.fire(
+                DadosAlteradosEvent.noPeriodo(DadosAlteradosEvent.Agregado.MENSALIDADE, periodo)));
+        return registradas;
+    }
+
     @Override
     public List<Mensalidade> findByAssociadoIdAndMesEAno(UUID associadoId, int mes, int ano) {
         TypedQuery<MensalidadeEntity> query = entityManager.createQuery(
@@ -206,6 +401,19 @@ public class MensalidadeRepositoryImpl implements MensalidadeRepository {
         }
     }
 
+    @Override
+    public List<TotalMensalidadesPorStatus> obterTotaisPorStatus(int mes, int ano) {
+        TypedQuery<TotalMensalidadesPorStatus> query = entityManager.createQuery(
+            "SELECT new br.org.cecairbar.durvalcrm.domain.model.TotalMensalidadesPorStatus(m.status, COUNT(m), SUM(m.valor)) " +
+            "FROM MensalidadeEntity m WHERE m.mesReferencia = :mes AND m.anoReferencia = :ano GROUP BY m.status",
+            TotalMensalidadesPorStatus.class
+        );
+        query.setParameter("mes", mes);
+        query.setParameter("ano", ano);
+
+        return query.getResultList();
+    }
+
     @Override
     public List<Mensalidade> findAll() {
         TypedQuery<MensalidadeEntity> query = entityManager.createQuery(
@@ -257,14 +465,19 @@ public class MensalidadeRepositoryImpl implements MensalidadeRepository {
         if (updated == 0) {
             throw new RuntimeException("Mensalidade não encontrada para atualização: " + mensalidade.getId());
         }
+        notificarAlteracao(mensalidade);
     }
 
     @Override
     @Transactional
     public void delete(UUID id) {
-        entityManager.createQuery("DELETE FROM MensalidadeEntity m WHERE m.id = :id")
+        int removidas = entityManager.createQuery("DELETE FROM MensalidadeEntity m WHERE m.id = :id")
                 .setParameter("id", id)
                 .executeUpdate();
+
+        if (removidas > 0) {
+            dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.MENSALIDADE));
+        }
     }
 
     @Override
@@ -1,12 +1,18 @@
 package br.org.cecairbar.durvalcrm.infrastructure.persistence.repository;
 
 import br.org.cecairbar.durvalcrm.application.financeiro.ReceitaEntityMapper;
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.Receita;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorCategoria;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorData;
 import br.org.cecairbar.durvalcrm.domain.model.TipoReceita;
 import br.org.cecairbar.durvalcrm.domain.repository.ReceitaRepository;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.ConsultaStreaming;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.ReceitaEntity;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
@@ -14,16 +20,25 @@ import jakarta.transaction.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class ReceitaRepositoryImpl implements ReceitaRepository {
 
+    // Categoria e associado vêm no mesmo SELECT: o mapper lê os dois em toda linha
+    private static final String CONSULTA_RECEITAS =
+        "SELECT r FROM ReceitaEntity r JOIN FETCH r.categoria LEFT JOIN FETCH r.associado";
+
     @Inject
     EntityManager entityManager;
 
+    @Inject
+    Event<DadosAlteradosEvent> dadosAlterados;
+
     @Inject
     ReceitaEntityMapper mapper;
 
@@ -34,12 +49,15 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
             ReceitaEntity entity = mapper.toEntity(receita);
             entityManager.persist(entity);
             entityManager.flush();
+            dadosAlterados.fire(DadosAlteradosEvent.noPeriodo(
+                DadosAlteradosEvent.Agregado.RECEITA, YearMonth.from(entity.dataReceita)));
             return mapper.toDomain(entity);
         } else {
             ReceitaEntity entity = entityManager.find(ReceitaEntity.class, receita.getId());
             if (entity != null) {
                 mapper.updateEntityFromDomain(receita, entity);
                 entity = entityManager.merge(entity);
+                dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.RECEITA));
                 return mapper.toDomain(entity);
             } else {
                 throw new IllegalArgumentException("Receita com ID " + receita.getId() + " não encontrada para atualização.");
@@ -50,8 +68,11 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
     @Override
     public Optional<Receita> findById(UUID id) {
         try {
-            ReceitaEntity entity = entityManager.find(ReceitaEntity.class, id);
-            return entity != null ? Optional.of(mapper.toDomain(entity)) : Optional.empty();
+            return entityManager.createQuery(CONSULTA_RECEITAS + " WHERE r.id = :id", ReceitaEntity.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(mapper::toDomain);
         } catch (Exception e) {
             return Optional.empty();
         }
@@ -60,17 +81,44 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
     @Override
     public List<Receita> findAll() {
         TypedQuery<ReceitaEntity> query = entityManager.createQuery(
-            "SELECT r FROM ReceitaEntity r ORDER BY r.dataReceita DESC",
+            CONSULTA_RECEITAS + " ORDER BY r.dataReceita DESC",
             ReceitaEntity.class
         );
         List<ReceitaEntity> entities = query.getResultList();
         return mapper.toDomainList(entities);
     }
 
+    @Override
+    public List<Receita> findPage(ChavePaginacao after, int limit) {
+        TypedQuery<ReceitaEntity> query = entityManager.createQuery(
+            CONSULTA_RECEITAS +
+            (after != null ? " WHERE r.dataReceita < :data OR (r.dataReceita = :data AND r.id < :id)" : "") +
+            " ORDER BY r.dataReceita DESC, r.id DESC",
+            ReceitaEntity.class
+        );
+        if (after != null) {
+            query.setParameter("data", LocalDate.parse(after.getValor()));
+            query.setParameter("id", after.getId());
+        }
+        query.setMaxResults(limit);
+        return mapper.toDomainList(query.getResultList());
+    }
+
+    @Override
+    public Stream<Receita> streamByPeriodo(LocalDate inicio, LocalDate fim) {
+        TypedQuery<ReceitaEntity> query = entityManager.createQuery(
+            CONSULTA_RECEITAS + " WHERE r.dataReceita >= :inicio AND r.dataReceita <= :fim ORDER BY r.dataReceita, r.id",
+            ReceitaEntity.class
+        );
+        query.setParameter("inicio", inicio);
+        query.setParameter("fim", fim);
+        return ConsultaStreaming.stream(entityManager, query, mapper::toDomain);
+    }
+
     @Override
     public List<Receita> findByTipoReceita(TipoReceita tipo) {
         TypedQuery<ReceitaEntity> query = entityManager.createQuery(
-            "SELECT r FROM ReceitaEntity r WHERE r.tipoReceita = :tipo ORDER BY r.dataReceita DESC",
+            CONSULTA_RECEITAS + " WHERE r.tipoReceita = :tipo ORDER BY r.dataReceita DESC",
             ReceitaEntity.class
         );
         query.setParameter("tipo", tipo);
@@ -81,7 +129,7 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
     @Override
     public List<Receita> findByCategoria(UUID categoriaId) {
         TypedQuery<ReceitaEntity> query = entityManager.createQuery(
-            "SELECT r FROM ReceitaEntity r WHERE r.categoria.id = :categoriaId ORDER BY r.dataReceita DESC",
+            CONSULTA_RECEITAS + " WHERE r.categoria.id = :categoriaId ORDER BY r.dataReceita DESC",
             ReceitaEntity.class
         );
         query.setParameter("categoriaId", categoriaId);
@@ -92,7 +140,7 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
     @Override
     public List<Receita> findByAssociado(UUID associadoId) {
         TypedQuery<ReceitaEntity> query = entityManager.createQuery(
-            "SELECT r FROM ReceitaEntity r WHERE r.associado.id = :associadoId ORDER BY r.dataReceita DESC",
+            CONSULTA_RECEITAS + " WHERE r.associado.id = :associadoId ORDER BY r.dataReceita DESC",
             ReceitaEntity.class
         );
         query.setParameter("associadoId", associadoId);
@@ -103,7 +151,7 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
     @Override
     public List<Receita> findByPeriodo(LocalDate inicio, LocalDate fim) {
         TypedQuery<ReceitaEntity> query = entityManager.createQuery(
-            "SELECT r FROM ReceitaEntity r WHERE r.dataReceita >= :inicio AND r.dataReceita <= :fim ORDER BY r.dataReceita DESC",
+            CONSULTA_RECEITAS + " WHERE r.dataReceita >= :inicio AND r.dataReceita <= :fim ORDER BY r.dataReceita DESC",
             ReceitaEntity.class
         );
         query.setParameter("inicio", inicio);
@@ -115,7 +163,7 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
     @Override
     public List<Receita> findByDataRecebimento(LocalDate inicio, LocalDate fim) {
         TypedQuery<ReceitaEntity> query = entityManager.createQuery(
-            "SELECT r FROM ReceitaEntity r WHERE r.dataRecebimento >= :inicio AND r.dataRecebimento <= :fim ORDER BY r.dataRecebimento DESC",
+            CONSULTA_RECEITAS + " WHERE r.dataRecebimento >= :inicio AND r.dataRecebimento <= :fim ORDER BY r.dataRecebimento DESC",
             ReceitaEntity.class
         );
         query.setParameter("inicio", inicio);
@@ -127,7 +175,7 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
     @Override
     public List<Receita> findByTipoAndPeriodo(TipoReceita tipo, LocalDate inicio, LocalDate fim) {
         TypedQuery<ReceitaEntity> query = entityManager.createQuery(
-            "SELECT r FROM ReceitaEntity r WHERE r.tipoReceita = :tipo AND r.dataReceita >= :inicio AND r.dataReceita <= :fim ORDER BY r.dataReceita DESC",
+            CONSULTA_RECEITAS + " WHERE r.tipoReceita = :tipo AND r.dataReceita >= :inicio AND r.dataReceita <= :fim ORDER BY r.dataReceita DESC",
             ReceitaEntity.class
         );
         query.setParameter("tipo", tipo);
@@ -140,7 +188,7 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
     @Override
     public List<Receita> findByCategoriaAndPeriodo(UUID categoriaId, LocalDate inicio, LocalDate fim) {
         TypedQuery<ReceitaEntity> query = entityManager.createQuery(
-            "SELECT r FROM ReceitaEntity r WHERE r.categoria.id = :categoriaId AND r.dataReceita >= :inicio AND r.dataReceita <= :fim ORDER BY r.dataReceita DESC",
+            CONSULTA_RECEITAS + " WHERE r.categoria.id = :categoriaId AND r.dataReceita >= :inicio AND r.dataReceita <= :fim ORDER BY r.dataReceita DESC",
             ReceitaEntity.class
         );
         query.setParameter("categoriaId", categoriaId);
@@ -153,7 +201,7 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
     @Override
     public Optional<Receita> findByOrigemId(UUID origemId) {
         TypedQuery<ReceitaEntity> query = entityManager.createQuery(
-            "SELECT r FROM ReceitaEntity r WHERE r.origemId = :origemId",
+            CONSULTA_RECEITAS + " WHERE r.origemId = :origemId",
             ReceitaEntity.class
         );
         query.setParameter("origemId", origemId);
@@ -177,6 +225,51 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
         return result != null ? result : BigDecimal.ZERO;
     }
 
+    @Override
+    public List<TotalPorCategoria> sumGroupByCategoria(LocalDate inicio, LocalDate fim) {
+        TypedQuery<TotalPorCategoria> query = entityManager.createQuery(
+            "SELECT new br.org.cecairbar.durvalcrm.domain.model.TotalPorCategoria(" +
+            "c.id, c.nome, c.cor, SUM(r.valor), COUNT(r)) " +
+            "FROM ReceitaEntity r JOIN r.categoria c " +
+            "WHERE r.dataReceita >= :inicio AND r.dataReceita <= :fim " +
+            "GROUP BY c.id, c.nome, c.cor " +
+            "ORDER BY SUM(r.valor) DESC",
+            TotalPorCategoria.class
+        );
+        query.setParameter("inicio", inicio);
+        query.setParameter("fim", fim);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<TotalPorData> sumGroupByMes(LocalDate inicio, LocalDate fim) {
+        // year()/month() são traduzidos para extract() em cada dialeto (PostgreSQL e H2)
+        TypedQuery<TotalPorData> query = entityManager.createQuery(
+            "SELECT new br.org.cecairbar.durvalcrm.domain.model.TotalPorData(" +
+            "year(r.dataReceita), month(r.dataReceita), SUM(r.valor)) " +
+            "FROM ReceitaEntity r WHERE r.dataReceita >= :inicio AND r.dataReceita <= :fim " +
+            "GROUP BY year(r.dataReceita), month(r.dataReceita) " +
+            "ORDER BY year(r.dataReceita), month(r.dataReceita)",
+            TotalPorData.class
+        );
+        query.setParameter("inicio", inicio);
+        query.setParameter("fim", fim);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<TotalPorData> sumGroupByDia(LocalDate inicio, LocalDate fim) {
+        TypedQuery<TotalPorData> query = entityManager.createQuery(
+            "SELECT new br.org.cecairbar.durvalcrm.domain.model.TotalPorData(r.dataReceita, SUM(r.valor)) " +
+            "FROM ReceitaEntity r WHERE r.dataReceita >= :inicio AND r.dataReceita <= :fim " +
+            "GROUP BY r.dataReceita ORDER BY r.dataReceita",
+            TotalPorData.class
+        );
+        query.setParameter("inicio", inicio);
+        query.setParameter("fim", fim);
+        return query.getResultList();
+    }
+
     @Override
     public BigDecimal sumByCategoria(UUID categoriaId, LocalDate inicio, LocalDate fim) {
         TypedQuery<BigDecimal> query = entityManager.createQuery(
@@ -243,6 +336,7 @@ public class ReceitaRepositoryImpl implements ReceitaRepository {
         ReceitaEntity entity = entityManager.find(ReceitaEntity.class, receita.getId());
         if (entity != null) {
             entityManager.remove(entity);
+            dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.RECEITA));
         }
     }
 
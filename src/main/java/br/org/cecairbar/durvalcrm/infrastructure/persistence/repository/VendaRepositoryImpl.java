@@ -1,20 +1,27 @@
 package br.org.cecairbar.durvalcrm.infrastructure.persistence.repository;
 
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.Venda;
 import br.org.cecairbar.durvalcrm.domain.model.OrigemVenda;
 import br.org.cecairbar.durvalcrm.domain.repository.VendaRepository;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.ConsultaStreaming;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.VendaEntity;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.math.BigDecimal;
 
 @ApplicationScoped
@@ -26,11 +33,18 @@ public class VendaRepositoryImpl implements VendaRepository {
     @Inject
     EntityManager entityManager;
     
+
+    @Inject
+    Event<DadosAlteradosEvent> dadosAlterados;
     @Override
     @Transactional
     public void save(Venda venda) {
         VendaEntity entity = toEntity(venda);
         panacheRepository.persist(entity);
+        dadosAlterados.fire(entity.dataVenda != null
+            ? DadosAlteradosEvent.noPeriodo(DadosAlteradosEvent.Agregado.VENDA,
+                YearMonth.from(entity.dataVenda.atZone(ZoneId.systemDefault())))
+            : DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.VENDA));
     }
     
     @Override
@@ -46,6 +60,35 @@ public class VendaRepositoryImpl implements VendaRepository {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public List<Venda> findPage(ChavePaginacao after, int limit) {
+        TypedQuery<VendaEntity> query = entityManager.createQuery(
+            "SELECT v FROM VendaEntity v" +
+            (after != null ? " WHERE v.dataVenda < :data OR (v.dataVenda = :data AND v.id < :id)" : "") +
+            " ORDER BY v.dataVenda DESC, v.id DESC",
+            VendaEntity.class
+        );
+        if (after != null) {
+            query.setParameter("data", Instant.parse(after.getValor()));
+            query.setParameter("id", after.getId());
+        }
+        query.setMaxResults(limit);
+        return query.getResultList().stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public Stream<Venda> streamByPeriodo(Instant dataInicio, Instant dataFim) {
+        TypedQuery<VendaEntity> query = entityManager.createQuery(
+            "SELECT v FROM VendaEntity v WHERE v.dataVenda >= :inicio AND v.dataVenda <= :fim ORDER BY v.dataVenda, v.id",
+            VendaEntity.class
+        );
+        query.setParameter("inicio", dataInicio);
+        query.setParameter("fim", dataFim);
+        return ConsultaStreaming.stream(entityManager, query, this::toDomain);
+    }
+    
     @Override
     public List<Venda> findByPeriodo(Instant dataInicio, Instant dataFim) {
         return panacheRepository.find("dataVenda >= ?1 and dataVenda <= ?2", dataInicio, dataFim)
@@ -126,12 +169,16 @@ public class VendaRepositoryImpl implements VendaRepository {
         VendaEntity entity = toEntity(venda);
         entity.atualizadoEm = Instant.now();
         panacheRepository.persist(entity);
+        // A data da venda pode ter mudado: invalida todos os períodos
+        dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.VENDA));
     }
     
     @Override
     @Transactional
     public void delete(UUID id) {
-        panacheRepository.delete("id", id);
+        if (panacheRepository.delete("id", id)) {
+            dadosAlterados.fire(DadosAlteradosEvent.todosPeriodos(DadosAlteradosEvent.Agregado.VENDA));
+        }
     }
     
     @Override
@@ -12,6 +12,9 @@ public class AtualizacaoStatusJob {
 
     private static final Logger LOG = Logger.getLogger(AtualizacaoStatusJob.class.getName());
 
+    // Quando "true", o job apenas conta as mensalidades que seriam atualizadas
+    private static final String PROPRIEDADE_SIMULACAO = "durvalcrm.mensalidades.atualizacao-status.simulacao";
+
     @Inject
     AtualizarStatusMensalidadesUseCase atualizarStatusUseCase;
 
@@ -20,8 +23,10 @@ public class AtualizacaoStatusJob {
         LOG.info("Executando job de atualização de status das mensalidades...");
         
         try {
-            int mensalidadesAtualizadas = atualizarStatusUseCase.executar();
-            LOG.info("Job concluído com sucesso. " + mensalidadesAtualizadas + " mensalidades atualizadas.");
+            boolean simulacao = Boolean.getBoolean(PROPRIEDADE_SIMULACAO);
+            int mensalidadesAtualizadas = atualizarStatusUseCase.executar(simulacao);
+            LOG.info("Job concluído com sucesso. " + mensalidadesAtualizadas + " mensalidades "
+                + (simulacao ? "seriam atualizadas (simulação)." : "atualizadas."));
         } catch (Exception e) {
             LOG.severe("Erro no job de atualização de status das mensalidades: " + e.getMessage());
             e.printStackTrace();
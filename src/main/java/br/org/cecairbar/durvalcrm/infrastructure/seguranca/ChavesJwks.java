@@ -0,0 +1,109 @@
+package br.org.cecairbar.durvalcrm.infrastructure.seguranca;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URLConnection;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chaves públicas de assinatura do Keycloak (JWKS), lidas uma vez e mantidas em memória.
+ *
+ * Um kid desconhecido indica rotação de chaves e força nova leitura, limitada a uma a cada
+ * intervalo mínimo para que tokens forjados com kids aleatórios não gerem uma requisição cada.
+ * A origem pode ser uma URL http(s) ou file: (usada nos testes).
+ */
+public class ChavesJwks {
+
+    private static final Logger LOG = Logger.getLogger(ChavesJwks.class);
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final int TIMEOUT_MS = 5_000;
+
+    private final URI origem;
+    private final long intervaloMinimoNanos;
+
+    private volatile Map<String, PublicKey> chaves = Map.of();
+    // Momento (System.nanoTime) da última leitura; nulo enquanto não houve leitura
+    private Long lidoEm;
+
+    public ChavesJwks(URI origem, long intervaloMinimoSegundos) {
+        this.origem = origem;
+        this.intervaloMinimoNanos = TimeUnit.SECONDS.toNanos(intervaloMinimoSegundos);
+    }
+
+    /**
+     * @param kid identificador da chave no cabeçalho do token; sem kid, vale a única chave do conjunto
+     * @return chave pública, ou nulo se não existir mesmo após reler o conjunto
+     */
+    public PublicKey obter(String kid) {
+        PublicKey chave = procurar(chaves, kid);
+        if (chave != null) {
+            return chave;
+        }
+        synchronized (this) {
+            chave = procurar(chaves, kid);
+            if (chave == null && (lidoEm == null || System.nanoTime() - lidoEm >= intervaloMinimoNanos)) {
+                recarregar();
+                chave = procurar(chaves, kid);
+            }
+        }
+        return chave;
+    }
+
+    private static PublicKey procurar(Map<String, PublicKey> chaves, String kid) {
+        if (kid == null) {
+            return chaves.size() == 1 ? chaves.values().iterator().next() : null;
+        }
+        return chaves.get(kid);
+    }
+
+    private void recarregar() {
+        lidoEm = System.nanoTime();
+        try {
+            URLConnection conexao = origem.toURL().openConnection();
+            conexao.setConnectTimeout(TIMEOUT_MS);
+            conexao.setReadTimeout(TIMEOUT_MS);
+            try (InputStream entrada = conexao.getInputStream()) {
+                chaves = ler(entrada);
+            }
+            LOG.infof("Chaves de assinatura carregadas de %s: %s", origem, chaves.keySet());
+        } catch (IOException | RuntimeException e) {
+            // Mantém as chaves anteriores: tokens já conhecidos continuam válidos
+            LOG.warnf("Falha ao ler as chaves de assinatura de %s: %s", origem, e.getMessage());
+        }
+    }
+
+    /**
+     * Chaves RSA de assinatura de um documento JWKS; chaves de outros tipos ou de cifragem são ignoradas
+     */
+    static Map<String, PublicKey> ler(InputStream jwks) throws IOException {
+        Map<String, PublicKey> chaves = new HashMap<>();
+        for (JsonNode jwk : JSON.readTree(jwks).path("keys")) {
+            String uso = jwk.path("use").asText("sig");
+            if (!"RSA".equals(jwk.path("kty").asText()) || !"sig".equals(uso)) {
+                continue;
+            }
+            try {
+                RSAPublicKeySpec especificacao = new RSAPublicKeySpec(
+                    new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText())),
+                    new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText())));
+                chaves.put(jwk.path("kid").asText(""), KeyFactory.getInstance("RSA").generatePublic(especificacao));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                LOG.warnf("Chave %s do JWKS ignorada: %s", jwk.path("kid").asText(), e.getMessage());
+            }
+        }
+        return Map.copyOf(chaves);
+    }
+}
@@ -0,0 +1,53 @@
+package br.org.cecairbar.durvalcrm.infrastructure.seguranca;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Usuário de um token de acesso já validado, com as claims emitidas pelo Keycloak
+ */
+public final class UsuarioAutenticado implements Principal {
+
+    private final Map<String, Object> claims;
+    private final Set<String> papeis;
+    private final long expiraEm;
+
+    public UsuarioAutenticado(Map<String, Object> claims, Set<String> papeis, long expiraEm) {
+        this.claims = Map.copyOf(claims);
+        this.papeis = Set.copyOf(papeis);
+        this.expiraEm = expiraEm;
+    }
+
+    /**
+     * @return preferred_username, ou o sub quando o token não o traz
+     */
+    @Override
+    public String getName() {
+        Object usuario = claims.get("preferred_username");
+        return usuario != null ? usuario.toString() : getSub();
+    }
+
+    public String getSub() {
+        Object sub = claims.get("sub");
+        return sub != null ? sub.toString() : null;
+    }
+
+    /**
+     * Papéis do realm (realm_access.roles)
+     */
+    public Set<String> getPapeis() {
+        return papeis;
+    }
+
+    /**
+     * @return instante de expiração do token em segundos desde a época (claim exp)
+     */
+    public long getExpiraEm() {
+        return expiraEm;
+    }
+
+    public Map<String, Object> getClaims() {
+        return claims;
+    }
+}
@@ -0,0 +1,219 @@
+package br.org.cecairbar.durvalcrm.infrastructure.seguranca;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jboss.logging.Logger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.NotAuthorizedException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validação local dos tokens de acesso (JWT RS256/RS384/RS512) emitidos pelo Keycloak:
+ * assinatura conferida contra as {@link ChavesJwks}, expiração, início de validade, emissor e,
+ * como ID tokens e tokens de outros clientes do realm usam a mesma chave e o mesmo emissor,
+ * typ "Bearer" e azp/aud do cliente configurado.
+ *
+ * Tokens válidos ficam em um cache limitado, indexado pelo SHA-256 do token, até expirarem;
+ * as requisições seguintes com o mesmo token não repetem a verificação da assinatura.
+ */
+@ApplicationScoped
+public class ValidadorJwt {
+
+    private static final Logger LOG = Logger.getLogger(ValidadorJwt.class);
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    static final String PROPRIEDADE_JWKS = "durvalcrm.auth.jwks-url";
+    static final String PROPRIEDADE_EMISSOR = "durvalcrm.auth.emissor";
+    static final String PROPRIEDADE_CLIENTE = "durvalcrm.auth.cliente";
+    static final String PROPRIEDADE_RECARGA_MINIMA = "durvalcrm.auth.jwks-recarga-minima-segundos";
+    static final String PROPRIEDADE_CACHE = "durvalcrm.auth.cache-tokens";
+    static final String REALM = "/realms/durval-crm";
+
+    // Diferença de relógio aceita entre o Keycloak e este servidor
+    static final long TOLERANCIA_SEGUNDOS = 30;
+
+    private static final Map<String, String> ALGORITMOS = Map.of(
+        "RS256", "SHA256withRSA",
+        "RS384", "SHA384withRSA",
+        "RS512", "SHA512withRSA");
+
+    @Resource(lookup = "java:global/durvalcrm/keycloak/public-url")
+    String publicKeycloakUrl;
+
+    @Resource(lookup = "java:global/durvalcrm/keycloak/internal-url")
+    String internalKeycloakUrl;
+
+    @Resource(lookup = "java:global/durvalcrm/keycloak/client-id")
+    String clientId;
+
+    ChavesJwks chaves;
+
+    // Valor exigido na claim iss; nulo desativa a conferência
+    String emissor;
+
+    // Cliente que deve constar em azp ou aud; nulo desativa a conferência
+    String cliente;
+
+    private final Map<String, UsuarioAutenticado> verificados;
+
+    public ValidadorJwt() {
+        int limite = Integer.getInteger(PROPRIEDADE_CACHE, 10_000);
+        verificados = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UsuarioAutenticado> maisAntigo) {
+                return size() > limite;
+            }
+        });
+    }
+
+    @PostConstruct
+    void iniciar() {
+        String jwks = System.getProperty(PROPRIEDADE_JWKS,
+            internalKeycloakUrl + REALM + "/protocol/openid-connect/certs");
+        chaves = new ChavesJwks(URI.create(jwks), Long.getLong(PROPRIEDADE_RECARGA_MINIMA, 30));
+        emissor = System.getProperty(PROPRIEDADE_EMISSOR, publicKeycloakUrl + REALM);
+        cliente = System.getProperty(PROPRIEDADE_CLIENTE, clientId);
+        LOG.infof("Tokens validados com as chaves de %s, emissor %s, cliente %s", jwks, emissor, cliente);
+    }
+
+    /**
+     * @throws NotAuthorizedException se o token for malformado, não tiver assinatura válida,
+     *                                estiver expirado, for de outro emissor ou não for um token
+     *                                de acesso deste cliente
+     */
+    public UsuarioAutenticado validar(String token) {
+        String resumo = resumo(token);
+        long agora = Instant.now().getEpochSecond();
+
+        UsuarioAutenticado usuario = verificados.get(resumo);
+        if (usuario != null) {
+            if (agora <= usuario.getExpiraEm() + TOLERANCIA_SEGUNDOS) {
+                return usuario;
+            }
+            verificados.remove(resumo);
+            throw invalido("Token expirado");
+        }
+
+        usuario = verificar(token, agora);
+        verificados.put(resumo, usuario);
+        return usuario;
+    }
+
+    private UsuarioAutenticado verificar(String token, long agora) {
+        String[] partes = token.split("\\.", -1);
+        if (partes.length != 3) {
+            throw invalido("Token malformado");
+        }
+
+        JsonNode cabecalho = decodificar(partes[0]);
+        String algoritmo = ALGORITMOS.get(cabecalho.path("alg").asText());
+        if (algoritmo == null) {
+            throw invalido("Algoritmo de assinatura não aceito: " + cabecalho.path("alg").asText());
+        }
+        PublicKey chave = chaves.obter(cabecalho.hasNonNull("kid") ? cabecalho.get("kid").asText() : null);
+        if (chave == null) {
+            throw invalido("Chave de assinatura desconhecida");
+        }
+        if (!assinaturaValida(algoritmo, chave, partes)) {
+            throw invalido("Assinatura inválida");
+        }
+
+        JsonNode carga = decodificar(partes[1]);
+        if (!carga.path("exp").canConvertToLong()) {
+            throw invalido("Token sem expiração");
+        }
+        long expiraEm = carga.get("exp").asLong();
+        if (agora > expiraEm + TOLERANCIA_SEGUNDOS) {
+            throw invalido("Token expirado");
+        }
+        if (carga.path("nbf").canConvertToLong() && agora < carga.get("nbf").asLong() - TOLERANCIA_SEGUNDOS) {
+            throw invalido("Token ainda não válido");
+        }
+        if (emissor != null && !emissor.equals(carga.path("iss").asText(null))) {
+            throw invalido("Emissor não aceito: " + carga.path("iss").asText(null));
+        }
+        // ID tokens (typ "ID") e refresh tokens são assinados com a mesma chave
+        if (!"Bearer".equals(carga.path("typ").asText(null))) {
+            throw invalido("Não é um token de acesso: typ " + carga.path("typ").asText(null));
+        }
+        if (cliente != null && !destinadoAoCliente(carga)) {
+            throw invalido("Token emitido para outro cliente");
+        }
+
+        Set<String> papeis = new HashSet<>();
+        carga.path("realm_access").path("roles").forEach(papel -> papeis.add(papel.asText()));
+        Map<String, Object> claims = new HashMap<>(JSON.convertValue(carga, new TypeReference<Map<String, Object>>() { }));
+        claims.values().removeIf(valor -> valor == null);
+        return new UsuarioAutenticado(claims, papeis, expiraEm);
+    }
+
+    private boolean destinadoAoCliente(JsonNode carga) {
+        if (cliente.equals(carga.path("azp").asText(null))) {
+            return true;
+        }
+        JsonNode aud = carga.path("aud");
+        if (aud.isArray()) {
+            for (JsonNode item : aud) {
+                if (cliente.equals(item.asText())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return cliente.equals(aud.asText(null));
+    }
+
+    private static boolean assinaturaValida(String algoritmo, PublicKey chave, String[] partes) {
+        try {
+            Signature assinatura = Signature.getInstance(algoritmo);
+            assinatura.initVerify(chave);
+            assinatura.update((partes[0] + "." + partes[1]).getBytes(StandardCharsets.US_ASCII));
+            return assinatura.verify(Base64.getUrlDecoder().decode(partes[2]));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static JsonNode decodificar(String parte) {
+        try {
+            JsonNode json = JSON.readTree(Base64.getUrlDecoder().decode(parte));
+            if (json == null || !json.isObject()) {
+                throw invalido("Token malformado");
+            }
+            return json;
+        } catch (IOException | IllegalArgumentException e) {
+            throw invalido("Token malformado");
+        }
+    }
+
+    private static String resumo(String token) {
+        try {
+            return Base64.getEncoder().encodeToString(
+                MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static NotAuthorizedException invalido(String motivo) {
+        return new NotAuthorizedException(motivo, "Bearer error=\"invalid_token\"");
+    }
+}
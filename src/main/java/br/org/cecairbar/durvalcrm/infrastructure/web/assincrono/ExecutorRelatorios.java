@@ -0,0 +1,122 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.assincrono;
+
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas.ConsultasRequisicao;
+
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorDefinition;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.jboss.logging.Logger;
+
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Executa relatórios e dashboard fora das threads de requisição do Undertow, em um executor
+ * próprio de {@value #CONCORRENCIA} threads, para que consultas longas não ocupem os workers
+ * usados pelo CRUD.
+ *
+ * Além das que estão executando, até durvalcrm.relatorios.fila (padrão 16) requisições aguardam
+ * vaga; as excedentes, e as que passam de durvalcrm.relatorios.timeout-segundos (padrão 60)
+ * sem resposta, recebem 503 com Retry-After.
+ *
+ * No timeout a tarefa é cancelada: se ainda estava na fila é descartada, se já estava executando
+ * a thread é interrompida, e a vaga (com a conexão ao banco) só volta quando ela terminar. Consultas
+ * que não reagem à interrupção seguem até o fim; sem o cancelamento, apenas as da fila seriam
+ * descartadas.
+ */
+@ApplicationScoped
+@ManagedExecutorDefinition(name = ExecutorRelatorios.JNDI, maxAsync = ExecutorRelatorios.CONCORRENCIA)
+public class ExecutorRelatorios {
+
+    private static final Logger LOG = Logger.getLogger(ExecutorRelatorios.class);
+
+    static final String JNDI = "java:app/concurrent/durvalcrm/relatorios";
+    static final int CONCORRENCIA = 4;
+
+    static final String PROPRIEDADE_FILA = "durvalcrm.relatorios.fila";
+    static final String PROPRIEDADE_TIMEOUT = "durvalcrm.relatorios.timeout-segundos";
+    static final String PROPRIEDADE_RETRY_AFTER = "durvalcrm.relatorios.retry-after-segundos";
+
+    @Resource(lookup = JNDI)
+    ManagedExecutorService executor;
+
+    Semaphore vagas = new Semaphore(CONCORRENCIA + Math.max(0, Integer.getInteger(PROPRIEDADE_FILA, 16)));
+    long timeoutSegundos = Long.getLong(PROPRIEDADE_TIMEOUT, 60L);
+    long retryAfterSegundos = Long.getLong(PROPRIEDADE_RETRY_AFTER, 10L);
+
+    /**
+     * Retoma a resposta com o resultado da tarefa, calculado no executor de relatórios,
+     * ou com 503 imediatamente se não houver vaga
+     */
+    public void executar(AsyncResponse resposta, Supplier<Response> tarefa) {
+        if (!vagas.tryAcquire()) {
+            resposta.resume(indisponivel("Relatórios em processamento no limite da capacidade, tente novamente em instantes"));
+            return;
+        }
+        // A vaga é devolvida uma única vez: pela tarefa ao terminar ou pelo timeout, se ela nunca começou
+        AtomicBoolean vagaDevolvida = new AtomicBoolean();
+        AtomicBoolean iniciada = new AtomicBoolean();
+        AtomicReference<Future<?>> execucao = new AtomicReference<>();
+        Runnable devolverVaga = () -> {
+            if (vagaDevolvida.compareAndSet(false, true)) {
+                vagas.release();
+            }
+        };
+
+        resposta.setTimeout(timeoutSegundos, TimeUnit.SECONDS);
+        resposta.setTimeoutHandler(expirada -> {
+            expirada.resume(indisponivel("Tempo limite excedido ao gerar o relatório, tente novamente em instantes"));
+            Future<?> futuro = execucao.get();
+            if (futuro != null && futuro.cancel(true) && !iniciada.get()) {
+                devolverVaga.run();
+            }
+        });
+
+        // A resposta é escrita pela thread do executor: a contagem de SQL da requisição segue com ela
+        ConsultasRequisicao consultas = ConsultasRequisicao.encerrar();
+        try {
+            execucao.set(executor.submit(() -> {
+                iniciada.set(true);
+                ConsultasRequisicao.retomar(consultas);
+                try {
+                    // Expirada enquanto aguardava na fila: o cliente já recebeu 503
+                    if (!resposta.isDone()) {
+                        resposta.resume(tarefa.get());
+                    }
+                } catch (RuntimeException e) {
+                    // Segue para os ExceptionMappers, como no endpoint síncrono
+                    resposta.resume(e);
+                } finally {
+                    ConsultasRequisicao.encerrar();
+                    devolverVaga.run();
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            devolverVaga.run();
+            LOG.warnf("Executor de relatórios recusou a tarefa: %s", e.getMessage());
+            resposta.resume(indisponivel("Relatórios em processamento no limite da capacidade, tente novamente em instantes"));
+        }
+    }
+
+    private Response indisponivel(String mensagem) {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, retryAfterSegundos)
+            .header(HttpHeaders.CACHE_CONTROL, "no-store")
+            .entity(Map.of(
+                "error", "Serviço temporariamente indisponível",
+                "message", mensagem,
+                "status", 503
+            ))
+            .build();
+    }
+}
@@ -0,0 +1,119 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.infrastructure.seguranca.UsuarioAutenticado;
+import br.org.cecairbar.durvalcrm.infrastructure.seguranca.ValidadorJwt;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.NotAuthorizedException;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.ext.Provider;
+import java.lang.reflect.Method;
+import java.security.Principal;
+import java.util.Map;
+
+/**
+ * Autentica as requisições com token Bearer validado localmente pelo {@link ValidadorJwt}.
+ *
+ * Um token presente e inválido resulta em 401, e a ausência de token só é recusada com
+ * -Ddurvalcrm.auth.obrigatoria=true. Nos recursos anotados com {@link Publico} nenhum dos dois
+ * é recusado: o cliente renova a sessão (/auth/refresh) enviando o token já expirado.
+ */
+@Provider
+@Priority(Priorities.AUTHENTICATION)
+public class AutenticacaoFilter implements ContainerRequestFilter {
+
+    static final String PROPRIEDADE_OBRIGATORIA = "durvalcrm.auth.obrigatoria";
+    private static final String PREFIXO = "Bearer ";
+
+    @Inject
+    ValidadorJwt validador;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    boolean obrigatoria = Boolean.getBoolean(PROPRIEDADE_OBRIGATORIA);
+
+    @Override
+    public void filter(ContainerRequestContext requisicao) {
+        if (HttpMethod.OPTIONS.equals(requisicao.getMethod())) {
+            return;
+        }
+
+        String autorizacao = requisicao.getHeaderString(HttpHeaders.AUTHORIZATION);
+        if (autorizacao == null || !autorizacao.regionMatches(true, 0, PREFIXO, 0, PREFIXO.length())) {
+            if (obrigatoria && !publico()) {
+                requisicao.abortWith(naoAutorizado("Bearer", "Token de acesso obrigatório"));
+            }
+            return;
+        }
+
+        try {
+            UsuarioAutenticado usuario = validador.validar(autorizacao.substring(PREFIXO.length()).trim());
+            requisicao.setSecurityContext(new Contexto(usuario, requisicao.getSecurityContext()));
+        } catch (NotAuthorizedException e) {
+            if (publico()) {
+                return;
+            }
+            requisicao.abortWith(naoAutorizado("Bearer error=\"invalid_token\"", e.getMessage()));
+        }
+    }
+
+    private boolean publico() {
+        Method metodo = resourceInfo.getResourceMethod();
+        Class<?> recurso = resourceInfo.getResourceClass();
+        return (metodo != null && metodo.isAnnotationPresent(Publico.class))
+            || (recurso != null && recurso.isAnnotationPresent(Publico.class));
+    }
+
+    private static Response naoAutorizado(String desafio, String motivo) {
+        return Response.status(Response.Status.UNAUTHORIZED)
+            .header(HttpHeaders.WWW_AUTHENTICATE, desafio)
+            .type(MediaType.APPLICATION_JSON)
+            .entity(Map.of(
+                "error", "Unauthorized",
+                "message", motivo,
+                "status", 401))
+            .build();
+    }
+
+    private static final class Contexto implements SecurityContext {
+
+        private final UsuarioAutenticado usuario;
+        private final boolean seguro;
+
+        Contexto(UsuarioAutenticado usuario, SecurityContext original) {
+            this.usuario = usuario;
+            this.seguro = original != null && original.isSecure();
+        }
+
+        @Override
+        public Principal getUserPrincipal() {
+            return usuario;
+        }
+
+        @Override
+        public boolean isUserInRole(String papel) {
+            return usuario.getPapeis().contains(papel);
+        }
+
+        @Override
+        public boolean isSecure() {
+            return seguro;
+        }
+
+        @Override
+        public String getAuthenticationScheme() {
+            return "Bearer";
+        }
+    }
+}
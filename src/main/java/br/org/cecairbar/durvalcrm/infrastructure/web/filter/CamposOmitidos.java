@@ -0,0 +1,17 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Listagem que, sem ?fields=, não serializa os campos informados (ex.: o QR Code PIX, obtido
+ * sob demanda por item). Um ?fields= que os inclua explicitamente prevalece.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CamposOmitidos {
+
+    String[] value();
+}
@@ -0,0 +1,120 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.infrastructure.web.metricas.MetricasHttp;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Comprime com gzip as respostas textuais (JSON, CSV, texto) acima de
+ * durvalcrm.compressao.limite-bytes (padrão 2048) quando o cliente aceita gzip.
+ *
+ * A compressão é feita em fluxo pela {@link SaidaComprimida}; bytes antes/depois e o tempo de
+ * CPU gasto são registrados por endpoint em /metrics para ajustar o limite.
+ */
+@Provider
+@Priority(Priorities.ENTITY_CODER)
+public class CompressaoInterceptor implements WriterInterceptor {
+
+    static final String PROPRIEDADE_HABILITADA = "durvalcrm.compressao.habilitada";
+    static final String PROPRIEDADE_LIMITE = "durvalcrm.compressao.limite-bytes";
+    static final int LIMITE_PADRAO = 2048;
+
+    @Inject
+    MetricasHttp metricas;
+
+    @Context
+    HttpHeaders requisicao;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    boolean habilitada = !"false".equalsIgnoreCase(System.getProperty(PROPRIEDADE_HABILITADA));
+    int limite = Integer.getInteger(PROPRIEDADE_LIMITE, LIMITE_PADRAO);
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext contexto) throws IOException {
+        if (!habilitada || !compressivel(contexto.getMediaType())
+                || contexto.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            contexto.proceed();
+            return;
+        }
+        // A representação varia com o Accept-Encoding mesmo quando esta resposta não é comprimida
+        contexto.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!aceitaGzip(requisicao.getHeaderString(HttpHeaders.ACCEPT_ENCODING))) {
+            contexto.proceed();
+            return;
+        }
+
+        OutputStream original = contexto.getOutputStream();
+        SaidaComprimida saida = new SaidaComprimida(contexto.getHeaders(), original, limite);
+        contexto.setOutputStream(saida);
+        try {
+            contexto.proceed();
+            saida.finalizar();
+        } finally {
+            contexto.setOutputStream(original);
+        }
+
+        String rota = MetricasRequisicaoFilter.rota(resourceInfo);
+        if (saida.isComprimida()) {
+            metricas.registrarCompressao(rota, saida.getBytesOriginais(), saida.getBytesComprimidos(), saida.getCpuNanos());
+        } else {
+            metricas.registrarAbaixoDoLimite(rota);
+        }
+    }
+
+    static boolean compressivel(MediaType tipo) {
+        if (tipo == null) {
+            return false;
+        }
+        String subtipo = tipo.getSubtype().toLowerCase(Locale.ROOT);
+        return "text".equalsIgnoreCase(tipo.getType())
+            || subtipo.equals("json") || subtipo.endsWith("+json")
+            || subtipo.equals("xml") || subtipo.endsWith("+xml")
+            || subtipo.equals("csv");
+    }
+
+    /**
+     * Accept-Encoding com gzip (ou *) sem q=0
+     */
+    static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean curinga = false;
+        for (String item : acceptEncoding.split(",")) {
+            String[] partes = item.trim().split(";");
+            String codificacao = partes[0].trim().toLowerCase(Locale.ROOT);
+            boolean aceita = true;
+            for (int i = 1; i < partes.length; i++) {
+                String parametro = partes[i].trim().toLowerCase(Locale.ROOT);
+                if (parametro.startsWith("q=")) {
+                    try {
+                        aceita = Double.parseDouble(parametro.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        aceita = false;
+                    }
+                }
+            }
+            if (codificacao.equals("gzip") || codificacao.equals("x-gzip")) {
+                return aceita;
+            }
+            if (codificacao.equals("*")) {
+                curinga = aceita;
+            }
+        }
+        return curinga;
+    }
+}
@@ -0,0 +1,43 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.EstatisticasPersistenciaService;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas.ConsultasRequisicao;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Associa à requisição um contador dos comandos SQL executados pelo Hibernate
+ * e acumula o resultado por endpoint em /admin/persistence-stats
+ */
+@Provider
+@Priority(Priorities.AUTHENTICATION - 50)
+public class EstatisticasPersistenciaFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    @Inject
+    EstatisticasPersistenciaService estatisticas;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext requisicao) {
+        ConsultasRequisicao.iniciar(requisicao.getMethod() + " " + MetricasRequisicaoFilter.rota(resourceInfo));
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requisicao, ContainerResponseContext resposta) {
+        ConsultasRequisicao consultas = ConsultasRequisicao.encerrar();
+        if (consultas != null) {
+            estatisticas.registrar(consultas);
+        }
+    }
+}
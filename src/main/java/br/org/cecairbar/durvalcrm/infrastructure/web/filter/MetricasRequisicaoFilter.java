@@ -0,0 +1,90 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.infrastructure.web.metricas.MetricasHttp;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mede latência, contagem e status de todas as requisições JAX-RS por endpoint.
+ * Roda antes dos demais filtros para que o tempo medido inclua autenticação e afins.
+ */
+@Provider
+@Priority(Priorities.AUTHENTICATION - 100)
+public class MetricasRequisicaoFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    static final String PROPRIEDADE_INICIO = MetricasRequisicaoFilter.class.getName() + ".inicio";
+    static final String ROTA_NAO_MAPEADA = "NAO_MAPEADA";
+
+    // Template da rota por método de recurso, resolvido uma única vez
+    private static final Map<Method, String> ROTAS = new ConcurrentHashMap<>();
+
+    @Inject
+    MetricasHttp metricas;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext requisicao) {
+        requisicao.setProperty(PROPRIEDADE_INICIO, System.nanoTime());
+        metricas.iniciar();
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requisicao, ContainerResponseContext resposta) {
+        Object inicio = requisicao.getProperty(PROPRIEDADE_INICIO);
+        if (!(inicio instanceof Long)) {
+            // Requisição abortada antes deste filtro (ex.: recurso inexistente)
+            return;
+        }
+        requisicao.removeProperty(PROPRIEDADE_INICIO);
+        metricas.registrar(requisicao.getMethod(), rota(resourceInfo), resposta.getStatus(), System.nanoTime() - (Long) inicio);
+    }
+
+    /**
+     * Template da rota do recurso que atendeu a requisição (ex.: /mensalidades/{id})
+     */
+    static String rota(ResourceInfo resourceInfo) {
+        Method metodo = resourceInfo != null ? resourceInfo.getResourceMethod() : null;
+        if (metodo == null) {
+            return ROTA_NAO_MAPEADA;
+        }
+        return ROTAS.computeIfAbsent(metodo, m -> montarRota(resourceInfo.getResourceClass(), m));
+    }
+
+    static String montarRota(Class<?> recurso, Method metodo) {
+        StringBuilder rota = new StringBuilder();
+        acrescentar(rota, recurso != null ? recurso.getAnnotation(Path.class) : null);
+        acrescentar(rota, metodo.getAnnotation(Path.class));
+        return rota.length() == 0 ? "/" : rota.toString();
+    }
+
+    private static void acrescentar(StringBuilder rota, Path path) {
+        if (path == null) {
+            return;
+        }
+        String trecho = path.value().trim();
+        if (trecho.startsWith("/")) {
+            trecho = trecho.substring(1);
+        }
+        if (trecho.endsWith("/")) {
+            trecho = trecho.substring(0, trecho.length() - 1);
+        }
+        if (!trecho.isEmpty()) {
+            rota.append('/').append(trecho);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Recurso ou método acessível sem token mesmo com durvalcrm.auth.obrigatoria ligado
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface Publico {
+}
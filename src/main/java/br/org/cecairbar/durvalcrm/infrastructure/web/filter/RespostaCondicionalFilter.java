@@ -0,0 +1,108 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.infrastructure.web.versao.VersoesAgregados;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import java.lang.reflect.Method;
+
+/**
+ * GET condicional para os recursos anotados com {@link Versionado}.
+ *
+ * A ETag é calculada antes de o recurso executar, a partir das versões dos agregados; um
+ * If-None-Match coincidente é respondido com 304 sem chegar ao recurso nem ao banco. Por ser
+ * lida antes da consulta, uma gravação concorrente deixa a ETag para trás, nunca à frente, dos dados.
+ */
+@Provider
+@Priority(Priorities.HEADER_DECORATOR)
+public class RespostaCondicionalFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    static final String PROPRIEDADE_ETAG = RespostaCondicionalFilter.class.getName() + ".etag";
+    // Pode ser guardada, mas deve ser revalidada a cada uso
+    static final String CACHE_CONTROL = "private, no-cache";
+
+    @Inject
+    VersoesAgregados versoes;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext requisicao) {
+        if (!HttpMethod.GET.equals(requisicao.getMethod()) && !HttpMethod.HEAD.equals(requisicao.getMethod())) {
+            return;
+        }
+        Versionado versionado = versionado();
+        if (versionado == null) {
+            return;
+        }
+
+        String etag = versoes.etag(versionado.value());
+        String coincidente = coincidente(requisicao.getHeaderString(HttpHeaders.IF_NONE_MATCH), etag);
+        if (coincidente != null) {
+            requisicao.abortWith(Response.notModified()
+                .header(HttpHeaders.ETAG, coincidente)
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                .build());
+            return;
+        }
+        requisicao.setProperty(PROPRIEDADE_ETAG, etag);
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requisicao, ContainerResponseContext resposta) {
+        Object etag = requisicao.getProperty(PROPRIEDADE_ETAG);
+        // Respostas que não devem ser revalidadas (ex.: resultado parcial) já trazem Cache-Control
+        if (etag == null || resposta.getStatus() != 200 || resposta.getHeaders().containsKey(HttpHeaders.CACHE_CONTROL)) {
+            return;
+        }
+        resposta.getHeaders().putSingle(HttpHeaders.ETAG, etag);
+        resposta.getHeaders().putSingle(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+    }
+
+    private Versionado versionado() {
+        Method metodo = resourceInfo.getResourceMethod();
+        if (metodo != null && metodo.isAnnotationPresent(Versionado.class)) {
+            return metodo.getAnnotation(Versionado.class);
+        }
+        Class<?> recurso = resourceInfo.getResourceClass();
+        return recurso != null ? recurso.getAnnotation(Versionado.class) : null;
+    }
+
+    /**
+     * Comparação fraca do If-None-Match (RFC 9110 13.1.2): "*" ou qualquer ETag da lista, ignorando W/
+     * e o sufixo da variante gzip acrescentado pela {@link SaidaComprimida}
+     *
+     * @return a ETag da lista que coincidiu, a ser repetida no 304, ou nulo
+     */
+    static String coincidente(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String gzip = etag.substring(0, etag.length() - 1) + SaidaComprimida.SUFIXO_ETAG + "\"";
+        for (String candidata : ifNoneMatch.split(",")) {
+            String valor = candidata.trim();
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals("*")) {
+                return etag;
+            }
+            if (valor.equals(etag) || valor.equals(gzip)) {
+                return valor;
+            }
+        }
+        return null;
+    }
+}
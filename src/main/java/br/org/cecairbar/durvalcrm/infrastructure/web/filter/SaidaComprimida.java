@@ -0,0 +1,155 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Saída que guarda só os primeiros bytes da resposta: abaixo do limite ela é enviada sem
+ * compressão; ao ultrapassá-lo, os cabeçalhos passam a indicar gzip e o restante do corpo
+ * é comprimido à medida que é escrito, sem nunca manter a resposta inteira em memória.
+ */
+final class SaidaComprimida extends OutputStream {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    static final String SUFIXO_ETAG = "-gzip";
+
+    private final MultivaluedMap<String, Object> cabecalhos;
+    private final OutputStream original;
+    private byte[] inicio;
+    private int usados;
+
+    private GZIPOutputStream gzip;
+    private Contador comprimidos;
+    private long bytesOriginais;
+    private long cpuNanos;
+    private boolean finalizada;
+
+    SaidaComprimida(MultivaluedMap<String, Object> cabecalhos, OutputStream original, int limite) {
+        this.cabecalhos = cabecalhos;
+        this.original = original;
+        this.inicio = new byte[limite];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        bytesOriginais += len;
+        if (gzip == null) {
+            if (usados + len <= inicio.length) {
+                System.arraycopy(b, off, inicio, usados, len);
+                usados += len;
+                return;
+            }
+            iniciarCompressao();
+        }
+        comprimir(b, off, len);
+    }
+
+    /**
+     * Sem efeito antes de decidir pela compressão: os bytes guardados só são enviados no fim
+     */
+    @Override
+    public void flush() throws IOException {
+        if (gzip != null) {
+            gzip.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finalizar();
+    }
+
+    /**
+     * Conclui o corpo: encerra o gzip ou envia sem compressão o que ficou abaixo do limite
+     */
+    void finalizar() throws IOException {
+        if (finalizada) {
+            return;
+        }
+        finalizada = true;
+        if (gzip != null) {
+            long antes = cpu();
+            gzip.finish();
+            cpuNanos += cpu() - antes;
+        } else {
+            original.write(inicio, 0, usados);
+        }
+        original.flush();
+        inicio = null;
+    }
+
+    boolean isComprimida() {
+        return gzip != null;
+    }
+
+    long getBytesOriginais() {
+        return bytesOriginais;
+    }
+
+    long getBytesComprimidos() {
+        return comprimidos != null ? comprimidos.bytes : 0;
+    }
+
+    long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    private void iniciarCompressao() throws IOException {
+        // Nada foi escrito na saída original ainda: os cabeçalhos podem ser alterados
+        cabecalhos.putSingle(HttpHeaders.CONTENT_ENCODING, "gzip");
+        cabecalhos.remove(HttpHeaders.CONTENT_LENGTH);
+        Object etag = cabecalhos.getFirst(HttpHeaders.ETAG);
+        if (etag instanceof String && ((String) etag).startsWith("\"")) {
+            // ETag forte distinta por codificação, como no mod_deflate
+            String valor = (String) etag;
+            cabecalhos.putSingle(HttpHeaders.ETAG, valor.substring(0, valor.length() - 1) + SUFIXO_ETAG + "\"");
+        }
+
+        comprimidos = new Contador(original);
+        gzip = new GZIPOutputStream(comprimidos, 8192);
+        comprimir(inicio, 0, usados);
+        inicio = null;
+        usados = 0;
+    }
+
+    private void comprimir(byte[] b, int off, int len) throws IOException {
+        long antes = cpu();
+        gzip.write(b, off, len);
+        cpuNanos += cpu() - antes;
+    }
+
+    private static long cpu() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private static final class Contador extends FilterOutputStream {
+        private long bytes;
+
+        Contador(OutputStream saida) {
+            super(saida);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytes += len;
+        }
+    }
+}
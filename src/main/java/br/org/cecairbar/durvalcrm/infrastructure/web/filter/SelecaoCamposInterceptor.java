@@ -0,0 +1,58 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.infrastructure.web.json.FiltroCampos;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Seleção de campos (?fields=id,status,valor) para os DTOs filtráveis, aplicada durante a
+ * serialização; sem o parâmetro, listagens anotadas com {@link CamposOmitidos} deixam de fora os
+ * campos pesados. Nomes desconhecidos são ignorados.
+ */
+@Provider
+@Priority(Priorities.USER)
+public class SelecaoCamposInterceptor implements WriterInterceptor {
+
+    static final String PARAMETRO = "fields";
+
+    @Context
+    UriInfo uriInfo;
+
+    @Context
+    ResourceInfo resourceInfo;
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext contexto) throws IOException {
+        Set<String> campos = FiltroCampos.campos(uriInfo.getQueryParameters().getFirst(PARAMETRO));
+        if (!campos.isEmpty()) {
+            FiltroCampos.incluirSomente(campos);
+        } else {
+            CamposOmitidos omitidos = omitidos();
+            if (omitidos == null) {
+                contexto.proceed();
+                return;
+            }
+            FiltroCampos.omitir(Set.of(omitidos.value()));
+        }
+        try {
+            contexto.proceed();
+        } finally {
+            FiltroCampos.limpar();
+        }
+    }
+
+    private CamposOmitidos omitidos() {
+        Method metodo = resourceInfo.getResourceMethod();
+        return metodo != null ? metodo.getAnnotation(CamposOmitidos.class) : null;
+    }
+}
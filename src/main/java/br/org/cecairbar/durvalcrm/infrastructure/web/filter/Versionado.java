@@ -0,0 +1,19 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent.Agregado;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * GET cuja resposta depende apenas dos agregados informados (todos, se vazio) e da data atual.
+ * Recebe ETag derivada das versões desses agregados e responde 304 a um If-None-Match coincidente.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface Versionado {
+
+    Agregado[] value() default {};
+}
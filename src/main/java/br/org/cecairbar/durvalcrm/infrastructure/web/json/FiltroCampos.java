@@ -0,0 +1,86 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.json;
+
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Filtro Jackson dos DTOs anotados com {@code @JsonFilter("campos")}: serializa só os campos
+ * selecionados para a resposta em escrita na thread atual (todos, se não houver seleção).
+ *
+ * A seleção vale para todos os níveis de DTOs filtrados da resposta; envelopes como
+ * PaginaCursorDTO não são filtrados, apenas os itens.
+ */
+public final class FiltroCampos extends SimpleBeanPropertyFilter {
+
+    public static final String ID = "campos";
+
+    static final FiltroCampos INSTANCIA = new FiltroCampos();
+
+    private static final ThreadLocal<Selecao> SELECAO = new ThreadLocal<>();
+
+    private FiltroCampos() {
+    }
+
+    /**
+     * Serializa apenas os campos informados
+     */
+    public static void incluirSomente(Set<String> campos) {
+        SELECAO.set(new Selecao(campos, true));
+    }
+
+    /**
+     * Serializa todos os campos, exceto os informados
+     */
+    public static void omitir(Set<String> campos) {
+        SELECAO.set(new Selecao(campos, false));
+    }
+
+    public static void limpar() {
+        SELECAO.remove();
+    }
+
+    /**
+     * Lista de campos separados por vírgula (ex.: ?fields=id,status,valor); vazia se ausente
+     */
+    public static Set<String> campos(String parametro) {
+        if (parametro == null || parametro.isBlank()) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(parametro.split(","))
+            .map(String::trim)
+            .filter(campo -> !campo.isEmpty())
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    protected boolean include(BeanPropertyWriter propriedade) {
+        return incluir(propriedade.getName());
+    }
+
+    @Override
+    protected boolean include(PropertyWriter propriedade) {
+        return incluir(propriedade.getName());
+    }
+
+    private static boolean incluir(String campo) {
+        Selecao selecao = SELECAO.get();
+        return selecao == null || selecao.campos.contains(campo) == selecao.inclusiva;
+    }
+
+    private static final class Selecao {
+        private final Set<String> campos;
+        private final boolean inclusiva;
+
+        private Selecao(Set<String> campos, boolean inclusiva) {
+            this.campos = campos;
+            this.inclusiva = inclusiva;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.ContextResolver;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * ObjectMapper usado pelo RESTEasy nas respostas JSON: o padrão (com os módulos disponíveis,
+ * como o de java.time) mais o {@link FiltroCampos} da seleção de campos.
+ */
+@Provider
+@Produces(MediaType.APPLICATION_JSON)
+public class ObjectMapperResolver implements ContextResolver<ObjectMapper> {
+
+    private final ObjectMapper mapper = criar();
+
+    @Override
+    public ObjectMapper getContext(Class<?> tipo) {
+        return mapper;
+    }
+
+    static ObjectMapper criar() {
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+        mapper.setFilterProvider(new SimpleFilterProvider().addFilter(FiltroCampos.ID, FiltroCampos.INSTANCIA));
+        return mapper;
+    }
+}
@@ -0,0 +1,49 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.metricas;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latência com faixas fixas (em segundos), no formato de histogram do Prometheus.
+ * Sem bloqueio: cada faixa é um LongAdder e o acumulado só é calculado na leitura.
+ */
+final class Histograma {
+
+    static final double[] FAIXAS = { 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10 };
+
+    private final LongAdder[] contagemPorFaixa = new LongAdder[FAIXAS.length + 1];
+    private final DoubleAdder soma = new DoubleAdder();
+
+    Histograma() {
+        for (int i = 0; i < contagemPorFaixa.length; i++) {
+            contagemPorFaixa[i] = new LongAdder();
+        }
+    }
+
+    void registrar(long nanos) {
+        double segundos = nanos / 1_000_000_000.0;
+        int faixa = 0;
+        while (faixa < FAIXAS.length && segundos > FAIXAS[faixa]) {
+            faixa++;
+        }
+        contagemPorFaixa[faixa].increment();
+        soma.add(segundos);
+    }
+
+    /**
+     * Contagens acumuladas por faixa (le), a última é +Inf e equivale ao total
+     */
+    long[] acumulado() {
+        long[] acumulado = new long[contagemPorFaixa.length];
+        long total = 0;
+        for (int i = 0; i < contagemPorFaixa.length; i++) {
+            total += contagemPorFaixa[i].sum();
+            acumulado[i] = total;
+        }
+        return acumulado;
+    }
+
+    double soma() {
+        return soma.sum();
+    }
+}
@@ -0,0 +1,181 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.metricas;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Métricas das requisições JAX-RS por endpoint (método, rota e status), expostas no
+ * formato texto do Prometheus em /api/v1/metrics.
+ *
+ * A rota é o template do @Path (ex.: /mensalidades/{id}/pagar), nunca a URI real,
+ * para manter a cardinalidade limitada ao número de endpoints.
+ */
+@ApplicationScoped
+public class MetricasHttp {
+
+    static final String METRICA_LATENCIA = "http_server_requests_seconds";
+    static final String METRICA_ATIVAS = "http_server_requests_active";
+    static final String METRICA_COMPRESSAO = "http_server_response_compression_total";
+    static final String METRICA_BYTES_ORIGINAIS = "http_server_response_compression_input_bytes_total";
+    static final String METRICA_BYTES_COMPRIMIDOS = "http_server_response_compression_output_bytes_total";
+    static final String METRICA_CPU_COMPRESSAO = "http_server_response_compression_cpu_seconds_total";
+
+    private final Map<Endpoint, Histograma> latencias = new ConcurrentHashMap<>();
+    private final Map<String, Compressao> compressoes = new ConcurrentHashMap<>();
+    private final AtomicInteger ativas = new AtomicInteger();
+
+    public void iniciar() {
+        ativas.incrementAndGet();
+    }
+
+    public void registrar(String metodo, String rota, int status, long nanos) {
+        ativas.decrementAndGet();
+        latencias.computeIfAbsent(new Endpoint(metodo, rota, status), endpoint -> new Histograma()).registrar(nanos);
+    }
+
+    /**
+     * Resposta comprimida: bytes antes e depois da compressão e tempo de CPU gasto no gzip
+     */
+    public void registrarCompressao(String rota, long bytesOriginais, long bytesComprimidos, long cpuNanos) {
+        Compressao compressao = compressoes.computeIfAbsent(rota, r -> new Compressao());
+        compressao.comprimidas.increment();
+        compressao.bytesOriginais.add(bytesOriginais);
+        compressao.bytesComprimidos.add(bytesComprimidos);
+        compressao.cpuNanos.add(cpuNanos);
+    }
+
+    /**
+     * Resposta elegível à compressão enviada sem ela por ficar abaixo do limite de tamanho
+     */
+    public void registrarAbaixoDoLimite(String rota) {
+        compressoes.computeIfAbsent(rota, r -> new Compressao()).abaixoDoLimite.increment();
+    }
+
+    /**
+     * Todas as métricas no formato de exposição texto do Prometheus (versão 0.0.4)
+     */
+    public String exportarPrometheus() {
+        StringBuilder texto = new StringBuilder(256 + latencias.size() * 1024);
+
+        texto.append("# HELP ").append(METRICA_LATENCIA).append(" Latência das requisições HTTP por endpoint\n");
+        texto.append("# TYPE ").append(METRICA_LATENCIA).append(" histogram\n");
+        latencias.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entrada -> escreverHistograma(texto, entrada.getKey(), entrada.getValue()));
+
+        texto.append("# HELP ").append(METRICA_ATIVAS).append(" Requisições HTTP em andamento\n");
+        texto.append("# TYPE ").append(METRICA_ATIVAS).append(" gauge\n");
+        texto.append(METRICA_ATIVAS).append(' ').append(ativas.get()).append('\n');
+
+        if (!compressoes.isEmpty()) {
+            escreverCompressao(texto);
+        }
+        return texto.toString();
+    }
+
+    private void escreverCompressao(StringBuilder texto) {
+        Map<String, Compressao> porRota = new TreeMap<>(compressoes);
+
+        texto.append("# HELP ").append(METRICA_COMPRESSAO).append(" Respostas elegíveis a gzip, comprimidas ou abaixo do limite\n");
+        texto.append("# TYPE ").append(METRICA_COMPRESSAO).append(" counter\n");
+        porRota.forEach((rota, compressao) -> {
+            texto.append(METRICA_COMPRESSAO).append("{uri=\"").append(escapar(rota)).append("\",result=\"gzip\"} ")
+                .append(compressao.comprimidas.sum()).append('\n');
+            texto.append(METRICA_COMPRESSAO).append("{uri=\"").append(escapar(rota)).append("\",result=\"below_threshold\"} ")
+                .append(compressao.abaixoDoLimite.sum()).append('\n');
+        });
+
+        escreverContador(texto, METRICA_BYTES_ORIGINAIS, "Bytes das respostas comprimidas antes do gzip",
+            porRota, compressao -> Long.toString(compressao.bytesOriginais.sum()));
+        escreverContador(texto, METRICA_BYTES_COMPRIMIDOS, "Bytes das respostas comprimidas depois do gzip",
+            porRota, compressao -> Long.toString(compressao.bytesComprimidos.sum()));
+        escreverContador(texto, METRICA_CPU_COMPRESSAO, "Tempo de CPU gasto comprimindo respostas",
+            porRota, compressao -> formatar(compressao.cpuNanos.sum() / 1e9));
+    }
+
+    private static void escreverContador(StringBuilder texto, String metrica, String descricao,
+                                         Map<String, Compressao> porRota, Function<Compressao, String> valor) {
+        texto.append("# HELP ").append(metrica).append(' ').append(descricao).append('\n');
+        texto.append("# TYPE ").append(metrica).append(" counter\n");
+        porRota.forEach((rota, compressao) -> texto.append(metrica).append("{uri=\"").append(escapar(rota)).append("\"} ")
+            .append(valor.apply(compressao)).append('\n'));
+    }
+
+    private static void escreverHistograma(StringBuilder texto, Endpoint endpoint, Histograma histograma) {
+        String rotulos = "method=\"" + escapar(endpoint.metodo) + "\",uri=\"" + escapar(endpoint.rota)
+            + "\",status=\"" + endpoint.status + "\"";
+        long[] acumulado = histograma.acumulado();
+
+        for (int i = 0; i < Histograma.FAIXAS.length; i++) {
+            texto.append(METRICA_LATENCIA).append("_bucket{").append(rotulos)
+                .append(",le=\"").append(formatar(Histograma.FAIXAS[i])).append("\"} ").append(acumulado[i]).append('\n');
+        }
+        long total = acumulado[acumulado.length - 1];
+        texto.append(METRICA_LATENCIA).append("_bucket{").append(rotulos).append(",le=\"+Inf\"} ").append(total).append('\n');
+        texto.append(METRICA_LATENCIA).append("_sum{").append(rotulos).append("} ").append(formatar(histograma.soma())).append('\n');
+        texto.append(METRICA_LATENCIA).append("_count{").append(rotulos).append("} ").append(total).append('\n');
+    }
+
+    private static String formatar(double valor) {
+        return Double.toString(valor);
+    }
+
+    static String escapar(String valor) {
+        return valor.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class Compressao {
+        final LongAdder comprimidas = new LongAdder();
+        final LongAdder abaixoDoLimite = new LongAdder();
+        final LongAdder bytesOriginais = new LongAdder();
+        final LongAdder bytesComprimidos = new LongAdder();
+        final LongAdder cpuNanos = new LongAdder();
+    }
+
+    private static final class Endpoint implements Comparable<Endpoint> {
+        private static final Comparator<Endpoint> ORDEM = Comparator
+            .comparing((Endpoint e) -> e.rota)
+            .thenComparing(e -> e.metodo)
+            .thenComparingInt(e -> e.status);
+
+        final String metodo;
+        final String rota;
+        final int status;
+
+        Endpoint(String metodo, String rota, int status) {
+            this.metodo = metodo;
+            this.rota = rota;
+            this.status = status;
+        }
+
+        @Override
+        public boolean equals(Object outro) {
+            if (this == outro) {
+                return true;
+            }
+            if (!(outro instanceof Endpoint)) {
+                return false;
+            }
+            Endpoint endpoint = (Endpoint) outro;
+            return status == endpoint.status && metodo.equals(endpoint.metodo) && rota.equals(endpoint.rota);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(metodo, rota, status);
+        }
+
+        @Override
+        public int compareTo(Endpoint outro) {
+            return ORDEM.compare(this, outro);
+        }
+    }
+}
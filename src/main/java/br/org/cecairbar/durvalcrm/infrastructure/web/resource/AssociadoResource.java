@@ -6,8 +6,10 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 import java.net.URI;
 import java.util.UUID;
 
@@ -21,8 +23,15 @@ public class AssociadoResource {
     AssociadoUseCase associadoUseCase;
 
     @GET
-    public Response findAll(@QueryParam("search") String search) {
-        return Response.ok(associadoUseCase.findAll(search)).build();
+    public Response findAll(@QueryParam("search") String search,
+                            @QueryParam("limit") Integer limit,
+                            @QueryParam("after") String after,
+                            @Context UriInfo uriInfo) {
+        // Sem "limit" mantém a resposta original (lista completa)
+        if (limit == null) {
+            return Response.ok(associadoUseCase.findAll(search)).build();
+        }
+        return RespostaPaginada.ok(associadoUseCase.findPage(search, after, limit), uriInfo);
     }
 
     @GET
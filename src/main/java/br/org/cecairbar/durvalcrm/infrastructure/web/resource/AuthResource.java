@@ -1,8 +1,13 @@
 package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
 
+import br.org.cecairbar.durvalcrm.infrastructure.seguranca.UsuarioAutenticado;
+import br.org.cecairbar.durvalcrm.infrastructure.web.filter.Publico;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -14,10 +19,10 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.util.List;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
+import java.security.Principal;
 import java.security.cert.X509Certificate;
 import java.security.SecureRandom;
 
@@ -44,9 +49,6 @@ public class AuthResource {
     }
     
 
-    // Note: JWT handling would need different implementation in J2EE
-    // This is just a placeholder - actual implementation would depend on your J2EE JWT library
-    
     private static final HttpClient httpClient = createHttpClient();
     
     private static HttpClient createHttpClient() {
@@ -93,6 +95,7 @@ public class AuthResource {
      * configurar a autenticação OIDC/Keycloak
      */
     @GET
+    @Publico
     @Path("/login-info")
     public Map<String, Object> getLoginInfo() {
         String authServerUrl = getAuthServerUrl();
@@ -110,43 +113,36 @@ public class AuthResource {
     }
 
     /**
-     * Endpoint para validar token JWT
-     * Note: In J2EE, JWT validation would need to be implemented differently
-     * This is a simplified version without actual JWT validation
+     * Endpoint para validar token JWT. A assinatura, a expiração e o emissor já foram
+     * conferidos localmente pelo AutenticacaoFilter; aqui só se exige que o token exista.
      */
     @GET
     @Path("/validate")
-    public Response validateToken() {
-        try {
-            // Note: In a real J2EE implementation, you would extract and validate the JWT token
-            // from the Authorization header and use a JWT library to validate it
-            
-            Map<String, Object> validation = new HashMap<>();
-            validation.put("valid", true);
-            validation.put("authenticated", true);
-            validation.put("username", "testuser");
-            validation.put("sub", "test-user-id");
-            validation.put("email", "test@example.com");
-            validation.put("name", "Test User");
-            validation.put("preferred_username", "testuser");
-            validation.put("given_name", "Test");
-            validation.put("family_name", "User");
-            validation.put("roles", List.of("user"));
-            
-            // Informações do token (mocked)
-            Long currentTime = Instant.now().getEpochSecond();
-            validation.put("expires_at", currentTime + 3600); // 1 hour from now
-            validation.put("expires_in", 3600);
-            validation.put("issued_at", currentTime);
-            
-            return Response.ok(validation).build();
-            
-        } catch (Exception e) {
-            System.err.printf("Erro ao validar token: %s%n", e.getMessage());
-            return Response.status(Response.Status.UNAUTHORIZED)
-                    .entity(Map.of("valid", false, "error", "Token inválido ou expirado"))
-                    .build();
+    public Response validateToken(@Context SecurityContext seguranca) {
+        UsuarioAutenticado usuario = usuario(seguranca);
+        if (usuario == null) {
+            return naoAutenticado();
         }
+
+        Map<String, Object> claims = usuario.getClaims();
+        Map<String, Object> validation = new HashMap<>();
+        validation.put("valid", true);
+        validation.put("authenticated", true);
+        validation.put("username", usuario.getName());
+        validation.put("sub", usuario.getSub());
+        validation.put("email", claims.get("email"));
+        validation.put("name", claims.get("name"));
+        validation.put("preferred_username", claims.get("preferred_username"));
+        validation.put("given_name", claims.get("given_name"));
+        validation.put("family_name", claims.get("family_name"));
+        validation.put("roles", usuario.getPapeis());
+
+        long currentTime = Instant.now().getEpochSecond();
+        validation.put("expires_at", usuario.getExpiraEm());
+        validation.put("expires_in", Math.max(0, usuario.getExpiraEm() - currentTime));
+        validation.put("issued_at", claims.get("iat"));
+
+        return Response.ok(validation).build();
     }
 
     /**
@@ -154,6 +150,7 @@ public class AuthResource {
      * Para clientes públicos com PKCE
      */
     @POST
+    @Publico
     @Path("/callback")
     public Response handleCallback(CallbackRequest request) {
         try {
@@ -214,6 +211,7 @@ public class AuthResource {
      * Endpoint para logout
      */
     @GET
+    @Publico
     @Path("/logout")
     public Map<String, Object> logout() {
         String authServerUrl = getAuthServerUrl();
@@ -229,42 +227,28 @@ public class AuthResource {
     }
 
     /**
-     * Endpoint para obter informações do usuário
-     * Note: In J2EE, this would typically extract user info from JWT token or session
+     * Endpoint para obter informações do usuário a partir das claims do token validado
      */
     @GET
     @Path("/user-info")
-    public Response getUserInfo() {
-        try {
-            Map<String, Object> userInfo = new HashMap<>();
-            
-            // Note: In a real J2EE implementation, you would extract this from JWT token or session
-            System.out.println("Retornando informações de usuário de teste (J2EE)");
-            userInfo.put("sub", "test-user");
-            userInfo.put("username", "testuser");
-            userInfo.put("preferred_username", "testuser");
-            userInfo.put("email", "test@example.com");
-            userInfo.put("email_verified", true);
-            userInfo.put("name", "Test User");
-            userInfo.put("given_name", "Test");
-            userInfo.put("family_name", "User");
-            userInfo.put("roles", List.of("user"));
-            userInfo.put("resource_access", Map.of());
-            
-            return Response.ok(userInfo).build();
-            
-        } catch (Exception e) {
-            System.err.printf("Erro ao obter informações do usuário: %s%n", e.getMessage());
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity(Map.of("error", "Erro ao obter informações do usuário"))
-                    .build();
+    public Response getUserInfo(@Context SecurityContext seguranca) {
+        UsuarioAutenticado usuario = usuario(seguranca);
+        if (usuario == null) {
+            return naoAutenticado();
         }
+
+        Map<String, Object> userInfo = new HashMap<>(usuario.getClaims());
+        userInfo.put("username", usuario.getName());
+        userInfo.put("roles", usuario.getPapeis());
+        userInfo.putIfAbsent("resource_access", Map.of());
+        return Response.ok(userInfo).build();
     }
 
     /**
      * Endpoint para refrescar token
      */
     @POST
+    @Publico
     @Path("/refresh")
     @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
     public Response refreshToken(@FormParam("refresh_token") String refreshToken) {
@@ -312,6 +296,18 @@ public class AuthResource {
     }
 
     // Métodos auxiliares
+    private static UsuarioAutenticado usuario(SecurityContext seguranca) {
+        Principal principal = seguranca != null ? seguranca.getUserPrincipal() : null;
+        return principal instanceof UsuarioAutenticado ? (UsuarioAutenticado) principal : null;
+    }
+
+    private static Response naoAutenticado() {
+        return Response.status(Response.Status.UNAUTHORIZED)
+                .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                .entity(Map.of("valid", false, "error", "Token inválido ou expirado"))
+                .build();
+    }
+
     private String extractRealmFromUrl(String authServerUrl) {
         if (authServerUrl != null && authServerUrl.contains("/realms/")) {
             return authServerUrl.substring(authServerUrl.lastIndexOf("/realms/") + 8);
@@ -0,0 +1,30 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
+
+import br.org.cecairbar.durvalcrm.application.dto.EstatisticasCacheDTO;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.CacheSegundoNivelService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+@ApplicationScoped
+@Path("/admin/cache")
+@Produces(MediaType.APPLICATION_JSON)
+public class CacheResource {
+
+    @Inject
+    CacheSegundoNivelService cacheService;
+
+    /**
+     * Acertos/falhas do cache de segundo nível por região
+     * GET /admin/cache
+     */
+    @GET
+    public Response obterEstatisticas() {
+        EstatisticasCacheDTO estatisticas = cacheService.obterEstatisticas();
+        return Response.ok(estatisticas).build();
+    }
+}
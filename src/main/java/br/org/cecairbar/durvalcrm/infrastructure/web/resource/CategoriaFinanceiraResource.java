@@ -3,6 +3,7 @@ package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
 import br.org.cecairbar.durvalcrm.application.dto.CategoriaFinanceiraDTO;
 import br.org.cecairbar.durvalcrm.application.usecase.financeiro.CategoriaFinanceiraUseCase;
 import br.org.cecairbar.durvalcrm.domain.model.TipoCategoriaFinanceira;
+import br.org.cecairbar.durvalcrm.infrastructure.web.filter.Versionado;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -13,6 +14,8 @@ import jakarta.ws.rs.core.Response;
 
 import java.util.UUID;
 
+import static br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent.Agregado.*;
+
 @ApplicationScoped
 @Path("/categorias-financeiras")
 @Produces(MediaType.APPLICATION_JSON)
@@ -23,18 +26,21 @@ public class CategoriaFinanceiraResource {
     CategoriaFinanceiraUseCase categoriaUseCase;
 
     @GET
+    @Versionado(CATEGORIA_FINANCEIRA)
     public Response listarTodas() {
         return Response.ok(categoriaUseCase.listarTodas()).build();
     }
 
     @GET
     @Path("/ativas")
+    @Versionado(CATEGORIA_FINANCEIRA)
     public Response listarAtivas() {
         return Response.ok(categoriaUseCase.listarAtivas()).build();
     }
 
     @GET
     @Path("/tipo/{tipo}")
+    @Versionado(CATEGORIA_FINANCEIRA)
     public Response listarPorTipo(@PathParam("tipo") String tipoStr) {
         try {
             TipoCategoriaFinanceira tipo = TipoCategoriaFinanceira.valueOf(tipoStr.toUpperCase());
@@ -47,6 +53,7 @@ public class CategoriaFinanceiraResource {
 
     @GET
     @Path("/tipo/{tipo}/ativas")
+    @Versionado(CATEGORIA_FINANCEIRA)
     public Response listarAtivasPorTipo(@PathParam("tipo") String tipoStr) {
         try {
             TipoCategoriaFinanceira tipo = TipoCategoriaFinanceira.valueOf(tipoStr.toUpperCase());
@@ -59,6 +66,7 @@ public class CategoriaFinanceiraResource {
 
     @GET
     @Path("/{id}")
+    @Versionado(CATEGORIA_FINANCEIRA)
     public Response buscarPorId(@PathParam("id") UUID id) {
         try {
             CategoriaFinanceiraDTO categoria = categoriaUseCase.buscarPorId(id);
@@ -1,17 +1,27 @@
 package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
 
 import br.org.cecairbar.durvalcrm.application.dto.DashboardDTO;
+import br.org.cecairbar.durvalcrm.application.dto.DashboardSnapshotStatusDTO;
 import br.org.cecairbar.durvalcrm.application.usecase.dashboard.DashboardUseCase;
+import br.org.cecairbar.durvalcrm.domain.model.SituacaoAdimplencia;
+import br.org.cecairbar.durvalcrm.infrastructure.web.assincrono.ExecutorRelatorios;
+import br.org.cecairbar.durvalcrm.infrastructure.web.filter.Versionado;
 import jakarta.inject.Inject;
-import jakarta.enterprise.context.ApplicationScoped;import jakarta.ws.rs.GET;
+import jakarta.enterprise.context.ApplicationScoped;import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 import java.time.LocalDate;
 
+import static br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent.Agregado.*;
+
 @ApplicationScoped
 @Path("/dashboard")
 @Produces(MediaType.APPLICATION_JSON)
@@ -19,11 +29,17 @@ public class DashboardResource {
     
     @Inject
     DashboardUseCase dashboardUseCase;
+
+    // Dashboard e listagens derivadas são calculados fora das threads de requisição
+    @Inject
+    ExecutorRelatorios executorRelatorios;
     
     @GET
-    public Response obterDashboard(
+    @Versionado
+    public void obterDashboard(
             @QueryParam("mes") Integer mes,
-            @QueryParam("ano") Integer ano) {
+            @QueryParam("ano") Integer ano,
+            @Suspended AsyncResponse resposta) {
         
         // Se não informado, usar mês/ano atual
         if (mes == null || ano == null) {
@@ -33,27 +49,124 @@ public class DashboardResource {
         }
         
         // Validar parâmetros
+        if (mes < 1 || mes > 12) {
+            resposta.resume(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Mês deve estar entre 1 e 12")
+                    .build());
+            return;
+        }
+        
+        if (ano < 2000 || ano > 2100) {
+            resposta.resume(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Ano inválido")
+                    .build());
+            return;
+        }
+        
+        int mesConsulta = mes;
+        int anoConsulta = ano;
+        executorRelatorios.executar(resposta, () -> {
+            DashboardDTO dashboard = dashboardUseCase.obterDashboard(mesConsulta, anoConsulta);
+            if (dashboard.isResultadoParcial()) {
+                // Sem ETag: a próxima leitura deve recalcular as consultas que falharam
+                return Response.ok(dashboard).header(HttpHeaders.CACHE_CONTROL, "no-store").build();
+            }
+            return Response.ok(dashboard).build();
+        });
+    }
+    
+    /**
+     * Informa a idade do snapshot do dashboard e se há alterações ainda não refletidas
+     * GET /dashboard/snapshot?mes=7&ano=2025
+     */
+    @GET
+    @Path("/snapshot")
+    public Response obterStatusSnapshot(
+            @QueryParam("mes") Integer mes,
+            @QueryParam("ano") Integer ano) {
+
+        if (mes == null || ano == null) {
+            LocalDate hoje = LocalDate.now();
+            mes = mes != null ? mes : hoje.getMonthValue();
+            ano = ano != null ? ano : hoje.getYear();
+        }
+
         if (mes < 1 || mes > 12) {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity("Mês deve estar entre 1 e 12")
                     .build();
         }
-        
+
         if (ano < 2000 || ano > 2100) {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity("Ano inválido")
                     .build();
         }
-        
-        DashboardDTO dashboard = dashboardUseCase.obterDashboard(mes, ano);
-        return Response.ok(dashboard).build();
+
+        DashboardSnapshotStatusDTO status = dashboardUseCase.obterStatusSnapshot(mes, ano);
+        return Response.ok(status).build();
     }
     
+    /**
+     * Lista paginada de associados classificados pela mensalidade do período
+     * GET /dashboard/associados?situacao=INADIMPLENTE&mes=7&ano=2025&pagina=0&tamanho=20&ordenacao=nome,asc
+     */
+    @GET
+    @Path("/associados")
+    @Versionado({ ASSOCIADO, MENSALIDADE })
+    public void listarAssociadosPorSituacao(
+            @QueryParam("mes") Integer mes,
+            @QueryParam("ano") Integer ano,
+            @QueryParam("situacao") String situacao,
+            @QueryParam("pagina") @DefaultValue("0") int pagina,
+            @QueryParam("tamanho") @DefaultValue("20") int tamanho,
+            @QueryParam("ordenacao") String ordenacao,
+            @Suspended AsyncResponse resposta) {
+
+        if (mes == null || ano == null) {
+            LocalDate hoje = LocalDate.now();
+            mes = mes != null ? mes : hoje.getMonthValue();
+            ano = ano != null ? ano : hoje.getYear();
+        }
+
+        if (mes < 1 || mes > 12) {
+            resposta.resume(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Mês deve estar entre 1 e 12")
+                    .build());
+            return;
+        }
+
+        if (ano < 2000 || ano > 2100) {
+            resposta.resume(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Ano inválido")
+                    .build());
+            return;
+        }
+
+        SituacaoAdimplencia filtro = null;
+        if (situacao != null && !situacao.isBlank()) {
+            try {
+                filtro = SituacaoAdimplencia.valueOf(situacao.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                resposta.resume(Response.status(Response.Status.BAD_REQUEST)
+                        .entity("Situação inválida: " + situacao)
+                        .build());
+                return;
+            }
+        }
+
+        int mesConsulta = mes;
+        int anoConsulta = ano;
+        SituacaoAdimplencia situacaoConsulta = filtro;
+        executorRelatorios.executar(resposta, () -> Response.ok(dashboardUseCase.listarAssociadosPorSituacao(
+                mesConsulta, anoConsulta, situacaoConsulta, pagina, tamanho, ordenacao)).build());
+    }
+
     @GET
     @ApplicationScoped
 @Path("/receitas-por-metodo-pagamento")
-    public Response obterReceitasPorMetodoPagamento() {
-        var receitas = dashboardUseCase.obterReceitasPorMetodoPagamento();
-        return Response.ok(receitas).build();
+    @Versionado({ MENSALIDADE, VENDA, DOACAO })
+    public void obterReceitasPorMetodoPagamento(@Suspended AsyncResponse resposta) {
+        executorRelatorios.executar(resposta, () -> Response.ok(dashboardUseCase.obterReceitasPorMetodoPagamento()).build());
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
 
+import br.org.cecairbar.durvalcrm.application.exportacao.ExportacaoService;
+import br.org.cecairbar.durvalcrm.application.exportacao.FormatoExportacao;
 import br.org.cecairbar.durvalcrm.application.dto.DespesaDTO;
 import br.org.cecairbar.durvalcrm.application.usecase.financeiro.DespesaUseCase;
 import br.org.cecairbar.durvalcrm.domain.model.StatusPagamentoDespesa;
@@ -9,8 +11,10 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -25,9 +29,38 @@ public class DespesaResource {
     @Inject
     DespesaUseCase despesaUseCase;
 
+    @Inject
+    ExportacaoService exportacaoService;
+
     @GET
-    public Response listarTodas() {
-        return Response.ok(despesaUseCase.listarTodas()).build();
+    public Response listarTodas(
+            @QueryParam("limit") Integer limit,
+            @QueryParam("after") String after,
+            @Context UriInfo uriInfo) {
+        // Sem "limit" mantém a resposta original (lista completa)
+        if (limit == null) {
+            return Response.ok(despesaUseCase.listarTodas()).build();
+        }
+        return RespostaPaginada.ok(despesaUseCase.listarPagina(after, limit), uriInfo);
+    }
+
+    /**
+     * Exporta despesas do período em CSV ou NDJSON, escrevendo as linhas direto na resposta
+     * GET /despesas/export?inicio=2025-01-01&fim=2025-12-31&formato=csv|ndjson (padrão: ano corrente, CSV)
+     */
+    @GET
+    @Path("/export")
+    @Produces({FormatoExportacao.MEDIA_TYPE_CSV, FormatoExportacao.MEDIA_TYPE_NDJSON})
+    public Response exportar(
+            @QueryParam("inicio") String inicioStr,
+            @QueryParam("fim") String fimStr,
+            @QueryParam("formato") String formatoStr) {
+        LocalDate hoje = LocalDate.now();
+        LocalDate inicio = RespostaExportacao.data(inicioStr, hoje.withDayOfYear(1));
+        LocalDate fim = RespostaExportacao.data(fimStr, hoje.withDayOfYear(hoje.lengthOfYear()));
+        FormatoExportacao formato = FormatoExportacao.de(formatoStr);
+        return RespostaExportacao.ok("despesas", inicio, fim, formato,
+                saida -> exportacaoService.exportarDespesas(inicio, fim, formato, saida));
     }
 
     @GET
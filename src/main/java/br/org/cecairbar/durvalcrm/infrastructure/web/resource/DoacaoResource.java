@@ -3,15 +3,20 @@ package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
 import jakarta.inject.Inject;
 import jakarta.enterprise.context.ApplicationScoped;import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
 import br.org.cecairbar.durvalcrm.application.doacao.*;
+import br.org.cecairbar.durvalcrm.application.exportacao.ExportacaoService;
+import br.org.cecairbar.durvalcrm.application.exportacao.FormatoExportacao;
 import br.org.cecairbar.durvalcrm.domain.model.MetodoPagamento;
 
 @ApplicationScoped
@@ -22,12 +27,41 @@ public class DoacaoResource {
     
     @Inject
     DoacaoService doacaoService;
+
+    @Inject
+    ExportacaoService exportacaoService;
     
     @GET
-    public Response listar() {
-        return Response.ok(doacaoService.listarTodas()).build();
+    public Response listar(
+            @QueryParam("limit") Integer limit,
+            @QueryParam("after") String after,
+            @Context UriInfo uriInfo) {
+        // Sem "limit" mantém a resposta original (lista completa)
+        if (limit == null) {
+            return Response.ok(doacaoService.listarTodas()).build();
+        }
+        return RespostaPaginada.ok(doacaoService.listarPagina(after, limit), uriInfo);
     }
     
+    /**
+     * Exporta doações do período em CSV ou NDJSON, escrevendo as linhas direto na resposta
+     * GET /doacoes/export?inicio=2025-01-01&fim=2025-12-31&formato=csv|ndjson (padrão: ano corrente, CSV)
+     */
+    @GET
+    @Path("/export")
+    @Produces({FormatoExportacao.MEDIA_TYPE_CSV, FormatoExportacao.MEDIA_TYPE_NDJSON})
+    public Response exportar(
+            @QueryParam("inicio") String inicioStr,
+            @QueryParam("fim") String fimStr,
+            @QueryParam("formato") String formatoStr) {
+        LocalDate hoje = LocalDate.now();
+        LocalDate inicio = RespostaExportacao.data(inicioStr, hoje.withDayOfYear(1));
+        LocalDate fim = RespostaExportacao.data(fimStr, hoje.withDayOfYear(hoje.lengthOfYear()));
+        FormatoExportacao formato = FormatoExportacao.de(formatoStr);
+        return RespostaExportacao.ok("doacoes", inicio, fim, formato,
+                saida -> exportacaoService.exportarDoacoes(inicio, fim, formato, saida));
+    }
+
     @GET
     @ApplicationScoped
 @Path("/{id}")
@@ -0,0 +1,30 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
+
+import br.org.cecairbar.durvalcrm.application.dto.EstatisticasPersistenciaDTO;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.EstatisticasPersistenciaService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+@ApplicationScoped
+@Path("/admin/persistence-stats")
+@Produces(MediaType.APPLICATION_JSON)
+public class EstatisticasPersistenciaResource {
+
+    @Inject
+    EstatisticasPersistenciaService estatisticasService;
+
+    /**
+     * Cargas de entidades, tempos das consultas, consultas lentas e comandos SQL por endpoint
+     * GET /admin/persistence-stats
+     */
+    @GET
+    public Response obterEstatisticas() {
+        EstatisticasPersistenciaDTO estatisticas = estatisticasService.obterEstatisticas();
+        return Response.ok(estatisticas).build();
+    }
+}
@@ -1,5 +1,6 @@
 package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
 
+import br.org.cecairbar.durvalcrm.infrastructure.web.filter.Publico;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
@@ -7,6 +8,7 @@ import jakarta.ws.rs.core.Response;
 import java.util.Map;
 
 @ApplicationScoped
+@Publico
 @Path("/health")
 @Produces(MediaType.APPLICATION_JSON)
 public class HealthResource {
@@ -1,23 +1,34 @@
 package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
 
+import br.org.cecairbar.durvalcrm.application.exportacao.ExportacaoService;
+import br.org.cecairbar.durvalcrm.application.exportacao.FormatoExportacao;
+import br.org.cecairbar.durvalcrm.application.reconciliacao.FormatoExtrato;
 import br.org.cecairbar.durvalcrm.application.usecase.GerarCobrancasMensaisUseCase;
+import br.org.cecairbar.durvalcrm.application.usecase.ReconciliarPagamento;
 import br.org.cecairbar.durvalcrm.application.usecase.ConsultarMensalidadesUseCase;
 import br.org.cecairbar.durvalcrm.application.usecase.mensalidade.MarcarMensalidadeComoPagaUseCase;
 import br.org.cecairbar.durvalcrm.application.dto.MensalidadeDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ResumoMensalidadesDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ResultadoGeracaoDTO;
 import br.org.cecairbar.durvalcrm.application.dto.MarcarPagamentoDTO;
+import br.org.cecairbar.durvalcrm.infrastructure.web.filter.CamposOmitidos;
+import br.org.cecairbar.durvalcrm.infrastructure.web.filter.Versionado;
 
 import jakarta.inject.Inject;
 import jakarta.enterprise.context.ApplicationScoped;import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent.Agregado.*;
+
 @ApplicationScoped
 @Path("/mensalidades")
 @Produces(MediaType.APPLICATION_JSON)
@@ -33,6 +44,12 @@ public class MensalidadeResource {
     @Inject
     MarcarMensalidadeComoPagaUseCase marcarMensalidadeComoPagaUseCase;
 
+    @Inject
+    ExportacaoService exportacaoService;
+
+    @Inject
+    ReconciliarPagamento reconciliarPagamento;
+
     /**
      * Endpoint para obter resumo das mensalidades por período
      * GET /mensalidades/resumo?mes=7&ano=2025
@@ -40,6 +57,7 @@ public class MensalidadeResource {
     @GET
     @ApplicationScoped
 @Path("/resumo")
+    @Versionado({ MENSALIDADE, ASSOCIADO })
     public Response obterResumo(
         @QueryParam("mes") Integer mes,
         @QueryParam("ano") Integer ano
@@ -91,11 +109,18 @@ public class MensalidadeResource {
     /**
      * Endpoint para listar mensalidades por período
      * GET /mensalidades?mes=7&ano=2025
+     * GET /mensalidades?mes=7&ano=2025&limit=50&after={cursor} (paginado por cursor)
+     * GET /mensalidades?mes=7&ano=2025&fields=id,status,valor (só os campos informados)
+     * Sem ?fields=, o QR Code PIX fica de fora e é obtido em GET /mensalidades/{id}/pix
      */
     @GET
+    @CamposOmitidos("qrCodePix")
     public Response listarPorPeriodo(
         @QueryParam("mes") Integer mes,
-        @QueryParam("ano") Integer ano
+        @QueryParam("ano") Integer ano,
+        @QueryParam("limit") Integer limit,
+        @QueryParam("after") String after,
+        @Context UriInfo uriInfo
     ) {
         try {
             // Se não fornecidos, usar mês/ano atual
@@ -124,9 +149,16 @@ public class MensalidadeResource {
                     .build();
             }
 
+            if (limit != null) {
+                return RespostaPaginada.ok(
+                    consultarMensalidadesUseCase.listarPaginaPorPeriodo(mes, ano, after, limit), uriInfo);
+            }
+
             List<MensalidadeDTO> mensalidades = consultarMensalidadesUseCase.listarPorPeriodo(mes, ano);
             return Response.ok(mensalidades).build();
             
+        } catch (WebApplicationException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("Erro ao listar mensalidades: " + e.getMessage());
             e.printStackTrace();
@@ -141,6 +173,26 @@ public class MensalidadeResource {
         }
     }
 
+    /**
+     * Exporta mensalidades do período em CSV ou NDJSON, escrevendo as linhas direto na resposta
+     * GET /mensalidades/export?inicio=2025-01-01&fim=2025-12-31&formato=csv|ndjson (padrão: ano corrente, CSV)
+     * Filtra pela data de vencimento
+     */
+    @GET
+    @Path("/export")
+    @Produces({FormatoExportacao.MEDIA_TYPE_CSV, FormatoExportacao.MEDIA_TYPE_NDJSON})
+    public Response exportar(
+            @QueryParam("inicio") String inicioStr,
+            @QueryParam("fim") String fimStr,
+            @QueryParam("formato") String formatoStr) {
+        LocalDate hoje = LocalDate.now();
+        LocalDate inicio = RespostaExportacao.data(inicioStr, hoje.withDayOfYear(1));
+        LocalDate fim = RespostaExportacao.data(fimStr, hoje.withDayOfYear(hoje.lengthOfYear()));
+        FormatoExportacao formato = FormatoExportacao.de(formatoStr);
+        return RespostaExportacao.ok("mensalidades", inicio, fim, formato,
+                saida -> exportacaoService.exportarMensalidades(inicio, fim, formato, saida));
+    }
+
     /**
      * Endpoint para obter uma mensalidade específica por ID
      * GET /mensalidades/{id}
@@ -193,6 +245,7 @@ public class MensalidadeResource {
     @GET
     @ApplicationScoped
 @Path("/status/{status}")
+    @CamposOmitidos("qrCodePix")
     public Response listarPorStatus(@PathParam("status") String status) {
         try {
             if (status == null || status.trim().isEmpty()) {
@@ -350,6 +403,25 @@ public class MensalidadeResource {
         }
     }
 
+    /**
+     * Dados PIX de uma mensalidade, omitidos das listagens
+     * GET /mensalidades/{id}/pix
+     */
+    @GET
+    @Path("/{id}/pix")
+    public Response obterPix(@PathParam("id") String id) {
+        MensalidadeDTO mensalidade = consultarMensalidadesUseCase.obterPorId(id);
+        if (mensalidade == null) {
+            return Response.status(Response.Status.NOT_FOUND)
+                .entity(Map.of(
+                    "error", "Mensalidade não encontrada",
+                    "status", 404
+                ))
+                .build();
+        }
+        return Response.ok(new PixResponse(mensalidade.id, mensalidade.qrCodePix, mensalidade.identificadorPix)).build();
+    }
+
     /**
      * Endpoint para marcar mensalidade como paga
      * PATCH /mensalidades/{id}/pagar
@@ -434,6 +506,21 @@ public class MensalidadeResource {
         }
     }
 
+    /**
+     * Reconciliação em lote de um extrato bancário/PIX (corpo da requisição)
+     * POST /mensalidades/reconciliar?formato=csv|ofx&simulacao=true
+     */
+    @POST
+    @Path("/reconciliar")
+    @Consumes({"text/csv", "application/x-ofx", MediaType.TEXT_PLAIN, MediaType.APPLICATION_OCTET_STREAM})
+    public Response reconciliar(
+        @QueryParam("formato") String formato,
+        @QueryParam("simulacao") @DefaultValue("false") boolean simulacao,
+        InputStream extrato
+    ) {
+        return Response.ok(reconciliarPagamento.executar(extrato, FormatoExtrato.de(formato), simulacao)).build();
+    }
+
     /**
      * Endpoint público para webhook de PIX
      * POST /mensalidades/webhook/pix
@@ -459,4 +546,28 @@ public class MensalidadeResource {
                 .build();
         }
     }
+
+    public static class PixResponse {
+        private final UUID id;
+        private final String qrCodePix;
+        private final String identificadorPix;
+
+        public PixResponse(UUID id, String qrCodePix, String identificadorPix) {
+            this.id = id;
+            this.qrCodePix = qrCodePix;
+            this.identificadorPix = identificadorPix;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getQrCodePix() {
+            return qrCodePix;
+        }
+
+        public String getIdentificadorPix() {
+            return identificadorPix;
+        }
+    }
 }
\ No newline at end of file
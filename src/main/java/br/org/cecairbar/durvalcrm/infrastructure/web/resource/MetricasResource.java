@@ -0,0 +1,30 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
+
+import br.org.cecairbar.durvalcrm.infrastructure.web.filter.Publico;
+import br.org.cecairbar.durvalcrm.infrastructure.web.metricas.MetricasHttp;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+
+@ApplicationScoped
+@Publico
+@Path("/metrics")
+public class MetricasResource {
+
+    static final String MEDIA_TYPE_PROMETHEUS = "text/plain; version=0.0.4; charset=utf-8";
+
+    @Inject
+    MetricasHttp metricas;
+
+    /**
+     * Latência, contagem e status das requisições por endpoint no formato do Prometheus
+     * GET /metrics
+     */
+    @GET
+    @Produces(MEDIA_TYPE_PROMETHEUS)
+    public String obterMetricas() {
+        return metricas.exportarPrometheus();
+    }
+}
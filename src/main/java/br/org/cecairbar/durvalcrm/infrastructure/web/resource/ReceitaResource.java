@@ -1,5 +1,7 @@
 package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
 
+import br.org.cecairbar.durvalcrm.application.exportacao.ExportacaoService;
+import br.org.cecairbar.durvalcrm.application.exportacao.FormatoExportacao;
 import br.org.cecairbar.durvalcrm.application.dto.ReceitaDTO;
 import br.org.cecairbar.durvalcrm.application.usecase.financeiro.ReceitaUseCase;
 import br.org.cecairbar.durvalcrm.domain.model.TipoReceita;
@@ -8,8 +10,10 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -24,9 +28,38 @@ public class ReceitaResource {
     @Inject
     ReceitaUseCase receitaUseCase;
 
+    @Inject
+    ExportacaoService exportacaoService;
+
     @GET
-    public Response listarTodas() {
-        return Response.ok(receitaUseCase.listarTodas()).build();
+    public Response listarTodas(
+            @QueryParam("limit") Integer limit,
+            @QueryParam("after") String after,
+            @Context UriInfo uriInfo) {
+        // Sem "limit" mantém a resposta original (lista completa)
+        if (limit == null) {
+            return Response.ok(receitaUseCase.listarTodas()).build();
+        }
+        return RespostaPaginada.ok(receitaUseCase.listarPagina(after, limit), uriInfo);
+    }
+
+    /**
+     * Exporta receitas do período em CSV ou NDJSON, escrevendo as linhas direto na resposta
+     * GET /receitas/export?inicio=2025-01-01&fim=2025-12-31&formato=csv|ndjson (padrão: ano corrente, CSV)
+     */
+    @GET
+    @Path("/export")
+    @Produces({FormatoExportacao.MEDIA_TYPE_CSV, FormatoExportacao.MEDIA_TYPE_NDJSON})
+    public Response exportar(
+            @QueryParam("inicio") String inicioStr,
+            @QueryParam("fim") String fimStr,
+            @QueryParam("formato") String formatoStr) {
+        LocalDate hoje = LocalDate.now();
+        LocalDate inicio = RespostaExportacao.data(inicioStr, hoje.withDayOfYear(1));
+        LocalDate fim = RespostaExportacao.data(fimStr, hoje.withDayOfYear(hoje.lengthOfYear()));
+        FormatoExportacao formato = FormatoExportacao.de(formatoStr);
+        return RespostaExportacao.ok("receitas", inicio, fim, formato,
+                saida -> exportacaoService.exportarReceitas(inicio, fim, formato, saida));
     }
 
     @GET
@@ -5,18 +5,27 @@ import br.org.cecairbar.durvalcrm.application.dto.ReceitaPorCategoriaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.DespesaPorCategoriaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.FluxoCaixaDTO;
 import br.org.cecairbar.durvalcrm.application.usecase.financeiro.RelatorioFinanceiroUseCase;
+import br.org.cecairbar.durvalcrm.domain.model.GranularidadeFluxoCaixa;
+import br.org.cecairbar.durvalcrm.infrastructure.web.assincrono.ExecutorRelatorios;
+import br.org.cecairbar.durvalcrm.infrastructure.web.filter.Versionado;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
+import static br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent.Agregado.*;
+
 @ApplicationScoped
 @Path("/relatorios-financeiros")
+@Versionado({ RECEITA, DESPESA, CATEGORIA_FINANCEIRA })
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 public class RelatorioFinanceiroResource {
@@ -24,96 +33,146 @@ public class RelatorioFinanceiroResource {
     @Inject
     RelatorioFinanceiroUseCase relatorioUseCase;
 
+    // Relatórios são calculados fora das threads de requisição; ver ExecutorRelatorios
+    @Inject
+    ExecutorRelatorios executorRelatorios;
+
     @GET
     @Path("/resumo")
-    public Response obterResumoFinanceiro(
+    public void obterResumoFinanceiro(
             @QueryParam("inicio") String inicioStr,
-            @QueryParam("fim") String fimStr) {
-        try {
-            LocalDate inicio = LocalDate.parse(inicioStr);
-            LocalDate fim = LocalDate.parse(fimStr);
-            ResumoFinanceiroDTO resumo = relatorioUseCase.obterResumoFinanceiro(inicio, fim);
-            return Response.ok(resumo).build();
-        } catch (BadRequestException e) {
-            return Response.status(Response.Status.BAD_REQUEST)
-                    .entity(new ErrorResponse(e.getMessage())).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.BAD_REQUEST)
-                    .entity(new ErrorResponse("Formato de data inválido. Use: YYYY-MM-DD")).build();
+            @QueryParam("fim") String fimStr,
+            @Suspended AsyncResponse resposta) {
+        LocalDate inicio = data(inicioStr);
+        LocalDate fim = data(fimStr);
+        if (inicio == null || fim == null) {
+            resposta.resume(requisicaoInvalida("Formato de data inválido. Use: YYYY-MM-DD"));
+            return;
         }
+        executorRelatorios.executar(resposta, () -> {
+            try {
+                ResumoFinanceiroDTO resumo = relatorioUseCase.obterResumoFinanceiro(inicio, fim);
+                return Response.ok(resumo).build();
+            } catch (BadRequestException e) {
+                return requisicaoInvalida(e.getMessage());
+            }
+        });
     }
 
     @GET
     @Path("/resumo/mes-atual")
-    public Response obterResumoMesAtual() {
-        ResumoFinanceiroDTO resumo = relatorioUseCase.obterResumoMesAtual();
-        return Response.ok(resumo).build();
+    public void obterResumoMesAtual(@Suspended AsyncResponse resposta) {
+        executorRelatorios.executar(resposta, () -> {
+            ResumoFinanceiroDTO resumo = relatorioUseCase.obterResumoMesAtual();
+            return Response.ok(resumo).build();
+        });
     }
 
     @GET
     @Path("/resumo/ano-atual")
-    public Response obterResumoAnoAtual() {
-        ResumoFinanceiroDTO resumo = relatorioUseCase.obterResumoAnoAtual();
-        return Response.ok(resumo).build();
+    public void obterResumoAnoAtual(@Suspended AsyncResponse resposta) {
+        executorRelatorios.executar(resposta, () -> {
+            ResumoFinanceiroDTO resumo = relatorioUseCase.obterResumoAnoAtual();
+            return Response.ok(resumo).build();
+        });
     }
 
     @GET
     @Path("/receitas/por-categoria")
-    public Response obterReceitasPorCategoria(
+    public void obterReceitasPorCategoria(
             @QueryParam("inicio") String inicioStr,
-            @QueryParam("fim") String fimStr) {
-        try {
-            LocalDate inicio = LocalDate.parse(inicioStr);
-            LocalDate fim = LocalDate.parse(fimStr);
-            List<ReceitaPorCategoriaDTO> relatorio = relatorioUseCase.obterReceitasPorCategoria(inicio, fim);
-            return Response.ok(relatorio).build();
-        } catch (BadRequestException e) {
-            return Response.status(Response.Status.BAD_REQUEST)
-                    .entity(new ErrorResponse(e.getMessage())).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.BAD_REQUEST)
-                    .entity(new ErrorResponse("Formato de data inválido. Use: YYYY-MM-DD")).build();
+            @QueryParam("fim") String fimStr,
+            @Suspended AsyncResponse resposta) {
+        LocalDate inicio = data(inicioStr);
+        LocalDate fim = data(fimStr);
+        if (inicio == null || fim == null) {
+            resposta.resume(requisicaoInvalida("Formato de data inválido. Use: YYYY-MM-DD"));
+            return;
         }
+        executorRelatorios.executar(resposta, () -> {
+            try {
+                List<ReceitaPorCategoriaDTO> relatorio = relatorioUseCase.obterReceitasPorCategoria(inicio, fim);
+                return Response.ok(relatorio).build();
+            } catch (BadRequestException e) {
+                return requisicaoInvalida(e.getMessage());
+            }
+        });
     }
 
     @GET
     @Path("/despesas/por-categoria")
-    public Response obterDespesasPorCategoria(
+    public void obterDespesasPorCategoria(
             @QueryParam("inicio") String inicioStr,
-            @QueryParam("fim") String fimStr) {
-        try {
-            LocalDate inicio = LocalDate.parse(inicioStr);
-            LocalDate fim = LocalDate.parse(fimStr);
-            List<DespesaPorCategoriaDTO> relatorio = relatorioUseCase.obterDespesasPorCategoria(inicio, fim);
-            return Response.ok(relatorio).build();
-        } catch (BadRequestException e) {
-            return Response.status(Response.Status.BAD_REQUEST)
-                    .entity(new ErrorResponse(e.getMessage())).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.BAD_REQUEST)
-                    .entity(new ErrorResponse("Formato de data inválido. Use: YYYY-MM-DD")).build();
+            @QueryParam("fim") String fimStr,
+            @Suspended AsyncResponse resposta) {
+        LocalDate inicio = data(inicioStr);
+        LocalDate fim = data(fimStr);
+        if (inicio == null || fim == null) {
+            resposta.resume(requisicaoInvalida("Formato de data inválido. Use: YYYY-MM-DD"));
+            return;
         }
+        executorRelatorios.executar(resposta, () -> {
+            try {
+                List<DespesaPorCategoriaDTO> relatorio = relatorioUseCase.obterDespesasPorCategoria(inicio, fim);
+                return Response.ok(relatorio).build();
+            } catch (BadRequestException e) {
+                return requisicaoInvalida(e.getMessage());
+            }
+        });
     }
 
     @GET
     @Path("/fluxo-caixa")
-    public Response obterFluxoDeCaixa(
+    public void obterFluxoDeCaixa(
             @QueryParam("inicio") String inicioStr,
-            @QueryParam("fim") String fimStr) {
+            @QueryParam("fim") String fimStr,
+            @QueryParam("granularidade") String granularidadeStr,
+            @Suspended AsyncResponse resposta) {
+        GranularidadeFluxoCaixa granularidade = GranularidadeFluxoCaixa.MENSAL;
+        if (granularidadeStr != null && !granularidadeStr.isBlank()) {
+            try {
+                granularidade = GranularidadeFluxoCaixa.valueOf(granularidadeStr.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                resposta.resume(requisicaoInvalida("Granularidade inválida. Use: DIARIA, SEMANAL ou MENSAL"));
+                return;
+            }
+        }
+        LocalDate inicio = data(inicioStr);
+        LocalDate fim = data(fimStr);
+        if (inicio == null || fim == null) {
+            resposta.resume(requisicaoInvalida("Formato de data inválido. Use: YYYY-MM-DD"));
+            return;
+        }
+        GranularidadeFluxoCaixa granularidadeConsulta = granularidade;
+        executorRelatorios.executar(resposta, () -> {
+            try {
+                FluxoCaixaDTO fluxo = relatorioUseCase.obterFluxoDeCaixa(inicio, fim, granularidadeConsulta);
+                return Response.ok(fluxo).build();
+            } catch (BadRequestException e) {
+                return requisicaoInvalida(e.getMessage());
+            }
+        });
+    }
+
+    // Métodos auxiliares
+
+    // Parâmetros são validados na thread da requisição: requisição inválida não ocupa vaga do executor
+    private static LocalDate data(String valor) {
+        if (valor == null) {
+            return null;
+        }
         try {
-            LocalDate inicio = LocalDate.parse(inicioStr);
-            LocalDate fim = LocalDate.parse(fimStr);
-            FluxoCaixaDTO fluxo = relatorioUseCase.obterFluxoDeCaixa(inicio, fim);
-            return Response.ok(fluxo).build();
-        } catch (BadRequestException e) {
-            return Response.status(Response.Status.BAD_REQUEST)
-                    .entity(new ErrorResponse(e.getMessage())).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.BAD_REQUEST)
-                    .entity(new ErrorResponse("Formato de data inválido. Use: YYYY-MM-DD")).build();
+            return LocalDate.parse(valor);
+        } catch (DateTimeParseException e) {
+            return null;
         }
     }
 
+    private static Response requisicaoInvalida(String mensagem) {
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(mensagem)).build();
+    }
+
     // Classe auxiliar
 
     public static class ErrorResponse {
@@ -0,0 +1,43 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
+
+import br.org.cecairbar.durvalcrm.application.exportacao.FormatoExportacao;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Apoio aos endpoints /export: o período e o formato são validados antes de a resposta começar
+ * a ser escrita, pois depois disso não é mais possível devolver um status de erro
+ */
+final class RespostaExportacao {
+
+    private RespostaExportacao() {
+    }
+
+    /**
+     * Data do parâmetro (YYYY-MM-DD) ou o padrão quando ausente
+     */
+    static LocalDate data(String valor, LocalDate padrao) {
+        if (valor == null || valor.isBlank()) {
+            return padrao;
+        }
+        try {
+            return LocalDate.parse(valor.trim());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Formato de data inválido. Use: YYYY-MM-DD");
+        }
+    }
+
+    static Response ok(String livro, LocalDate inicio, LocalDate fim, FormatoExportacao formato, StreamingOutput corpo) {
+        if (inicio.isAfter(fim)) {
+            throw new BadRequestException("Data de início não pode ser posterior à data de fim");
+        }
+        String arquivo = livro + "_" + inicio + "_" + fim + "." + formato.getExtensao();
+        return Response.ok(corpo, formato.getMediaType())
+            .header("Content-Disposition", "attachment; filename=\"" + arquivo + "\"")
+            .build();
+    }
+}
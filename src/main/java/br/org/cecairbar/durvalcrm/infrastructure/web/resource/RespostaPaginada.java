@@ -0,0 +1,25 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
+
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+
+/**
+ * Resposta das listagens paginadas por cursor: corpo com a página e, quando houver
+ * próxima página, cabeçalho Link rel="next" com a mesma URL e o parâmetro "after" atualizado
+ */
+final class RespostaPaginada {
+
+    private RespostaPaginada() {
+    }
+
+    static Response ok(PaginaCursorDTO<?> pagina, UriInfo uriInfo) {
+        Response.ResponseBuilder resposta = Response.ok(pagina);
+        if (pagina.getProximoCursor() != null) {
+            resposta.link(uriInfo.getRequestUriBuilder()
+                .replaceQueryParam("after", pagina.getProximoCursor())
+                .build(), "next");
+        }
+        return resposta.build();
+    }
+}
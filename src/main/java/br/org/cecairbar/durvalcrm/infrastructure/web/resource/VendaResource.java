@@ -1,5 +1,7 @@
 package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
 
+import br.org.cecairbar.durvalcrm.application.exportacao.ExportacaoService;
+import br.org.cecairbar.durvalcrm.application.exportacao.FormatoExportacao;
 import br.org.cecairbar.durvalcrm.application.usecase.venda.VendaUseCase;
 import br.org.cecairbar.durvalcrm.application.dto.VendaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ResumoVendasDTO;
@@ -8,8 +10,10 @@ import br.org.cecairbar.durvalcrm.domain.model.OrigemVenda;
 import jakarta.inject.Inject;
 import jakarta.enterprise.context.ApplicationScoped;import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
@@ -26,6 +30,9 @@ public class VendaResource {
     @Inject
     VendaUseCase vendaUseCase;
 
+    @Inject
+    ExportacaoService exportacaoService;
+
     /**
      * Criar nova venda
      * POST /api/vendas
@@ -47,6 +54,26 @@ public class VendaResource {
         }
     }
 
+    /**
+     * Exporta vendas do período em CSV ou NDJSON, escrevendo as linhas direto na resposta
+     * GET /vendas/export?inicio=2025-01-01&fim=2025-12-31&formato=csv|ndjson (padrão: ano corrente, CSV)
+     * O período é interpretado em UTC
+     */
+    @GET
+    @Path("/export")
+    @Produces({FormatoExportacao.MEDIA_TYPE_CSV, FormatoExportacao.MEDIA_TYPE_NDJSON})
+    public Response exportar(
+            @QueryParam("inicio") String inicioStr,
+            @QueryParam("fim") String fimStr,
+            @QueryParam("formato") String formatoStr) {
+        LocalDate hoje = LocalDate.now();
+        LocalDate inicio = RespostaExportacao.data(inicioStr, hoje.withDayOfYear(1));
+        LocalDate fim = RespostaExportacao.data(fimStr, hoje.withDayOfYear(hoje.lengthOfYear()));
+        FormatoExportacao formato = FormatoExportacao.de(formatoStr);
+        return RespostaExportacao.ok("vendas", inicio, fim, formato,
+                saida -> exportacaoService.exportarVendas(inicio, fim, formato, saida));
+    }
+
     /**
      * Buscar venda por ID
      * GET /api/vendas/{id}
@@ -143,9 +170,16 @@ public class VendaResource {
     /**
      * Listar todas as vendas
      * GET /api/vendas
+     * GET /api/vendas?limit=50&after={cursor} (paginado por cursor)
      */
     @GET
-    public Response listarTodas() {
+    public Response listarTodas(
+            @QueryParam("limit") Integer limit,
+            @QueryParam("after") String after,
+            @Context UriInfo uriInfo) {
+        if (limit != null) {
+            return RespostaPaginada.ok(vendaUseCase.listarPagina(after, limit), uriInfo);
+        }
         try {
             List<VendaDTO> vendas = vendaUseCase.listarTodas();
             return Response.ok(vendas).build();
@@ -0,0 +1,83 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.versao;
+
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent;
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent.Agregado;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador de versão por agregado, incrementado a cada {@link DadosAlteradosEvent} confirmado.
+ *
+ * As ETags derivadas dele permitem responder 304 sem consultar o banco enquanto nenhum dos
+ * agregados de que a resposta depende for alterado. Como os contadores ficam em memória, a ETag
+ * leva um identificador desta instância: após um restart, ETags antigas nunca coincidem.
+ *
+ * Os contadores são por JVM: com mais de uma instância, uma alteração feita em outro nó não muda
+ * a versão vista aqui. Por isso a ETag também expira a cada durvalcrm.etag.validade-segundos
+ * (padrão 60), que limita por quanto tempo um 304 pode ser servido com dados desatualizados;
+ * zero ou negativo desliga a expiração (implantação com um único nó).
+ */
+@ApplicationScoped
+public class VersoesAgregados {
+
+    private static final DateTimeFormatter DIA = DateTimeFormatter.BASIC_ISO_DATE;
+
+    static final String PROPRIEDADE_VALIDADE = "durvalcrm.etag.validade-segundos";
+
+    private final String instancia = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    // Preenchido no construtor e nunca alterado estruturalmente: leituras concorrentes são seguras
+    private final Map<Agregado, AtomicLong> versoes = new EnumMap<>(Agregado.class);
+
+    long validadeSegundos = Long.getLong(PROPRIEDADE_VALIDADE, 60L);
+    private final Clock relogio;
+
+    public VersoesAgregados() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public VersoesAgregados(Clock relogio) {
+        this.relogio = relogio;
+        for (Agregado agregado : Agregado.values()) {
+            versoes.put(agregado, new AtomicLong());
+        }
+    }
+
+    /**
+     * Incrementa a versão somente após o commit da transação que alterou os dados
+     */
+    public void aoAlterarDados(@Observes(during = TransactionPhase.AFTER_SUCCESS) DadosAlteradosEvent evento) {
+        versoes.get(evento.getAgregado()).incrementAndGet();
+    }
+
+    public long versao(Agregado agregado) {
+        return versoes.get(agregado).get();
+    }
+
+    /**
+     * ETag forte para uma resposta que depende dos agregados informados (todos, se nenhum).
+     * Inclui a data atual porque inadimplência e vencimentos mudam com o dia, sem gravação,
+     * e o intervalo de validade corrente.
+     */
+    public String etag(Agregado... agregados) {
+        Agregado[] dependencias = agregados.length > 0 ? agregados : Agregado.values();
+        StringBuilder etag = new StringBuilder(56)
+            .append('"').append(instancia)
+            .append('-').append(LocalDate.now(relogio).format(DIA));
+        if (validadeSegundos > 0) {
+            etag.append('-').append(relogio.millis() / 1000 / validadeSegundos);
+        }
+        for (Agregado agregado : dependencias) {
+            etag.append('-').append(versao(agregado));
+        }
+        return etag.append('"').toString();
+    }
+}
@@ -0,0 +1,148 @@
+-- Esquema base das sete entidades do persistence.xml, equivalente ao que o hbm2ddl gerava.
+-- CREATE ... IF NOT EXISTS: em bases já criadas pelo hbm2ddl esta versão apenas é registrada.
+
+CREATE TABLE IF NOT EXISTS associados (
+    id              UUID                        NOT NULL,
+    nome_completo   VARCHAR(255)                NOT NULL,
+    cpf             VARCHAR(14)                 NOT NULL,
+    email           VARCHAR(255)                NOT NULL,
+    telefone        VARCHAR(20),
+    ativo           BOOLEAN                     NOT NULL,
+    criado_em       TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_associados PRIMARY KEY (id),
+    CONSTRAINT uk_associado_cpf UNIQUE (cpf),
+    CONSTRAINT uk_associado_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS categorias_financeiras (
+    id              UUID                        NOT NULL,
+    nome            VARCHAR(100)                NOT NULL,
+    descricao       VARCHAR(500),
+    tipo            VARCHAR(20)                 NOT NULL,
+    cor             VARCHAR(7),
+    ativa           BOOLEAN                     NOT NULL,
+    created_at      TIMESTAMP(6)                NOT NULL,
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT pk_categorias_financeiras PRIMARY KEY (id),
+    CONSTRAINT uk_categoria_nome UNIQUE (nome),
+    CONSTRAINT ck_categoria_tipo CHECK (tipo IN ('RECEITA', 'DESPESA', 'AMBOS'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_categoria_nome ON categorias_financeiras (nome);
+CREATE INDEX IF NOT EXISTS idx_categoria_tipo ON categorias_financeiras (tipo);
+CREATE INDEX IF NOT EXISTS idx_categoria_ativa ON categorias_financeiras (ativa);
+
+CREATE TABLE IF NOT EXISTS mensalidades (
+    id                  UUID                        NOT NULL,
+    associado_id        UUID                        NOT NULL,
+    mes_referencia      INTEGER                     NOT NULL,
+    ano_referencia      INTEGER                     NOT NULL,
+    valor               NUMERIC(10, 2)              NOT NULL,
+    status              VARCHAR(255)                NOT NULL,
+    data_vencimento     DATE                        NOT NULL,
+    data_pagamento      TIMESTAMP(6) WITH TIME ZONE,
+    qr_code_pix         VARCHAR(1000),
+    identificador_pix   VARCHAR(255)                NOT NULL,
+    criado_em           TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    metodo_pagamento    VARCHAR(255),
+    CONSTRAINT pk_mensalidades PRIMARY KEY (id),
+    CONSTRAINT uk_mensalidade_associado_periodo UNIQUE (associado_id, mes_referencia, ano_referencia),
+    CONSTRAINT ck_mensalidade_status CHECK (status IN ('PENDENTE', 'PAGA', 'ATRASADA')),
+    CONSTRAINT ck_mensalidade_metodo_pagamento CHECK (metodo_pagamento IN ('PIX', 'DINHEIRO'))
+);
+
+CREATE TABLE IF NOT EXISTS doacoes (
+    id                  UUID            NOT NULL,
+    associado_id        UUID,
+    valor               NUMERIC(38, 2)  NOT NULL,
+    tipo                VARCHAR(255)    NOT NULL,
+    status              VARCHAR(255)    NOT NULL,
+    descricao           VARCHAR(500),
+    data_doacao         TIMESTAMP(6)    NOT NULL,
+    data_confirmacao    TIMESTAMP(6),
+    codigo_transacao    VARCHAR(255),
+    metodo_pagamento    VARCHAR(255),
+    created_at          TIMESTAMP(6)    NOT NULL,
+    updated_at          TIMESTAMP(6),
+    CONSTRAINT pk_doacoes PRIMARY KEY (id),
+    CONSTRAINT fk_doacao_associado FOREIGN KEY (associado_id) REFERENCES associados (id),
+    CONSTRAINT ck_doacao_tipo CHECK (tipo IN ('UNICA', 'RECORRENTE')),
+    CONSTRAINT ck_doacao_status CHECK (status IN ('PENDENTE', 'PROCESSANDO', 'CONFIRMADA', 'CANCELADA')),
+    CONSTRAINT ck_doacao_metodo_pagamento CHECK (metodo_pagamento IN ('PIX', 'DINHEIRO'))
+);
+
+CREATE TABLE IF NOT EXISTS vendas (
+    id                  UUID                        NOT NULL,
+    descricao           VARCHAR(255)                NOT NULL,
+    valor               NUMERIC(10, 2)              NOT NULL,
+    origem              VARCHAR(255)                NOT NULL,
+    forma_pagamento     VARCHAR(255)                NOT NULL,
+    data_venda          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    criado_em           TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    atualizado_em       TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_vendas PRIMARY KEY (id),
+    CONSTRAINT ck_venda_origem CHECK (origem IN ('CANTINA', 'BAZAR', 'LIVROS')),
+    CONSTRAINT ck_venda_forma_pagamento CHECK (forma_pagamento IN ('PIX', 'DINHEIRO'))
+);
+
+CREATE TABLE IF NOT EXISTS receitas (
+    id                  UUID            NOT NULL,
+    descricao           VARCHAR(255)    NOT NULL,
+    valor               NUMERIC(15, 2)  NOT NULL,
+    data_receita        DATE            NOT NULL,
+    data_recebimento    DATE,
+    tipo_receita        VARCHAR(20)     NOT NULL,
+    metodo_pagamento    VARCHAR(20),
+    categoria_id        UUID            NOT NULL,
+    associado_id        UUID,
+    origem_id           UUID,
+    codigo_transacao    VARCHAR(100),
+    observacoes         VARCHAR(1000),
+    created_at          TIMESTAMP(6)    NOT NULL,
+    updated_at          TIMESTAMP(6),
+    CONSTRAINT pk_receitas PRIMARY KEY (id),
+    CONSTRAINT fk_receita_categoria FOREIGN KEY (categoria_id) REFERENCES categorias_financeiras (id),
+    CONSTRAINT fk_receita_associado FOREIGN KEY (associado_id) REFERENCES associados (id),
+    CONSTRAINT ck_receita_tipo CHECK (tipo_receita IN ('MENSALIDADE', 'DOACAO', 'VENDA', 'SERVICO', 'EVENTO', 'OUTRA')),
+    CONSTRAINT ck_receita_metodo_pagamento CHECK (metodo_pagamento IN ('PIX', 'DINHEIRO'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_receita_data ON receitas (data_receita);
+CREATE INDEX IF NOT EXISTS idx_receita_recebimento ON receitas (data_recebimento);
+CREATE INDEX IF NOT EXISTS idx_receita_tipo ON receitas (tipo_receita);
+CREATE INDEX IF NOT EXISTS idx_receita_categoria ON receitas (categoria_id);
+CREATE INDEX IF NOT EXISTS idx_receita_origem ON receitas (origem_id);
+CREATE INDEX IF NOT EXISTS idx_receita_associado ON receitas (associado_id);
+
+CREATE TABLE IF NOT EXISTS despesas (
+    id                  UUID            NOT NULL,
+    descricao           VARCHAR(255)    NOT NULL,
+    valor               NUMERIC(15, 2)  NOT NULL,
+    data_despesa        DATE            NOT NULL,
+    data_vencimento     DATE            NOT NULL,
+    data_pagamento      DATE,
+    tipo_despesa        VARCHAR(20)     NOT NULL,
+    status_pagamento    VARCHAR(20)     NOT NULL,
+    forma_pagamento     VARCHAR(20),
+    categoria_id        UUID            NOT NULL,
+    fornecedor          VARCHAR(200),
+    numero_documento    VARCHAR(100),
+    codigo_transacao    VARCHAR(100),
+    observacoes         VARCHAR(1000),
+    created_at          TIMESTAMP(6)    NOT NULL,
+    updated_at          TIMESTAMP(6),
+    CONSTRAINT pk_despesas PRIMARY KEY (id),
+    CONSTRAINT fk_despesa_categoria FOREIGN KEY (categoria_id) REFERENCES categorias_financeiras (id),
+    CONSTRAINT ck_despesa_tipo CHECK (tipo_despesa IN ('OPERACIONAL', 'ADMINISTRATIVA', 'EVENTOS', 'MANUTENCAO',
+                                                       'PESSOAL', 'IMPOSTOS', 'SERVICOS', 'OUTRA')),
+    CONSTRAINT ck_despesa_status CHECK (status_pagamento IN ('PENDENTE', 'PAGO', 'CANCELADO', 'VENCIDO')),
+    CONSTRAINT ck_despesa_forma_pagamento CHECK (forma_pagamento IN ('PIX', 'DINHEIRO'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_despesa_data ON despesas (data_despesa);
+CREATE INDEX IF NOT EXISTS idx_despesa_vencimento ON despesas (data_vencimento);
+CREATE INDEX IF NOT EXISTS idx_despesa_pagamento ON despesas (data_pagamento);
+CREATE INDEX IF NOT EXISTS idx_despesa_tipo ON despesas (tipo_despesa);
+CREATE INDEX IF NOT EXISTS idx_despesa_categoria ON despesas (categoria_id);
+CREATE INDEX IF NOT EXISTS idx_despesa_status ON despesas (status_pagamento);
+CREATE INDEX IF NOT EXISTS idx_despesa_fornecedor ON despesas (fornecedor);
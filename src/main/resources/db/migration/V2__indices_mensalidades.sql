@@ -0,0 +1,15 @@
+-- Índices das consultas de mensalidades fora da chave (associado_id, mes_referencia, ano_referencia).
+-- Em bases criadas pelo hbm2ddl a constraint única sem nome em identificador_pix continua existindo,
+-- redundante com idx_mensalidade_identificador_pix, e pode ser removida manualmente.
+
+-- findByIdentificadorPix / reconciliação por txid
+CREATE UNIQUE INDEX IF NOT EXISTS idx_mensalidade_identificador_pix
+    ON mensalidades (identificador_pix);
+
+-- findVencidas, countPendentesVencidas, marcarPendentesVencidasComoAtrasadas
+CREATE INDEX IF NOT EXISTS idx_mensalidade_status_vencimento
+    ON mensalidades (status, data_vencimento);
+
+-- find*ByMesEAno, countByStatusAndMesEAno, obterTotaisPorStatus
+CREATE INDEX IF NOT EXISTS idx_mensalidade_periodo_status
+    ON mensalidades (ano_referencia, mes_referencia, status);
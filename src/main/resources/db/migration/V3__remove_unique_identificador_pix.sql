@@ -0,0 +1,20 @@
+-- somente-postgresql
+-- Remove a constraint única sem nome que o hbm2ddl criou em identificador_pix nas bases anteriores
+-- às migrações versionadas, redundante com idx_mensalidade_identificador_pix (V2). Bases criadas
+-- por V1 não a possuem, e o bloco não faz nada.
+DO $$
+DECLARE
+    restricao text;
+BEGIN
+    FOR restricao IN
+        SELECT c.conname
+          FROM pg_constraint c
+          JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+         WHERE c.conrelid = 'mensalidades'::regclass
+           AND c.contype = 'u'
+           AND array_length(c.conkey, 1) = 1
+           AND a.attname = 'identificador_pix'
+    LOOP
+        EXECUTE format('ALTER TABLE mensalidades DROP CONSTRAINT %I', restricao);
+    END LOOP;
+END $$;
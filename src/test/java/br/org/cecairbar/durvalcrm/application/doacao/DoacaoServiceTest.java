@@ -1,5 +1,7 @@
 package br.org.cecairbar.durvalcrm.application.doacao;
 
+import br.org.cecairbar.durvalcrm.application.service.BrCodePix;
+import br.org.cecairbar.durvalcrm.application.service.PixService;
 import br.org.cecairbar.durvalcrm.domain.model.*;
 import br.org.cecairbar.durvalcrm.domain.repository.AssociadoRepository;
 import br.org.cecairbar.durvalcrm.domain.repository.DoacaoRepository;
@@ -8,6 +10,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.math.BigDecimal;
@@ -33,6 +36,9 @@ public class DoacaoServiceTest {
     @Mock
     private DoacaoMapper mapper;
 
+    @Spy
+    private PixService pixService = new PixService();
+
     private UUID doacaoId;
     private UUID associadoId;
     private Doacao doacao;
@@ -387,7 +393,11 @@ public class DoacaoServiceTest {
         String codigoPix = doacaoService.gerarCodigoPix(doacaoId);
         
         assertNotNull(codigoPix);
-        assertTrue(codigoPix.startsWith("00020126580014BR.GOV.BCB.PIX01365199e8c3-"));
+        assertTrue(codigoPix.startsWith("00020101021226430014br.gov.bcb.pix"));
+        assertTrue(codigoPix.contains("5406100.00"));
+        assertTrue(codigoPix.contains("0525" + Doacao.identificadorPix(doacaoId)));
+        assertEquals(BrCodePix.crc16(codigoPix.substring(0, codigoPix.length() - 4)),
+                codigoPix.substring(codigoPix.length() - 4));
         
         verify(doacaoRepository).findById(doacaoId);
     }
@@ -0,0 +1,80 @@
+package br.org.cecairbar.durvalcrm.application.exportacao;
+
+import jakarta.ws.rs.BadRequestException;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class EscritorExportacaoTest {
+
+    private static final List<ColunaExportacao<String[]>> COLUNAS = List.of(
+        ColunaExportacao.de("descricao", linha -> linha[0]),
+        ColunaExportacao.de("valor", linha -> linha[1] == null ? null : new BigDecimal(linha[1])),
+        ColunaExportacao.de("data", linha -> LocalDate.of(2025, 1, 15))
+    );
+
+    private String escrever(FormatoExportacao formato, String[]... linhas) throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        long total = EscritorExportacao.escrever(Stream.of(linhas), COLUNAS, formato, saida);
+        assertEquals(linhas.length, total);
+        return saida.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testCsvComCabecalhoEEscape() throws Exception {
+        String csv = escrever(FormatoExportacao.CSV,
+            new String[]{"Doação, \"especial\"", "1E+2"},
+            new String[]{"Sem valor", null});
+
+        assertEquals(
+            "descricao,valor,data\r\n" +
+            "\"Doação, \"\"especial\"\"\",100,2025-01-15\r\n" +
+            "Sem valor,,2025-01-15\r\n",
+            csv);
+    }
+
+    @Test
+    public void testNdjson() throws Exception {
+        String ndjson = escrever(FormatoExportacao.NDJSON,
+            new String[]{"Linha \"1\"\n\\fim", "10.50"},
+            new String[]{"Sem valor", null});
+
+        assertEquals(
+            "{\"descricao\":\"Linha \\\"1\\\"\\n\\\\fim\",\"valor\":10.50,\"data\":\"2025-01-15\"}\n" +
+            "{\"descricao\":\"Sem valor\",\"valor\":null,\"data\":\"2025-01-15\"}\n",
+            ndjson);
+    }
+
+    @Test
+    public void testSemLinhas() throws Exception {
+        assertEquals("descricao,valor,data\r\n", escrever(FormatoExportacao.CSV));
+        assertEquals("", escrever(FormatoExportacao.NDJSON));
+    }
+
+    @Test
+    public void testValorJsonCaracteresDeControle() {
+        assertEquals("\"a\\tb\\u0001\\r\"", EscritorExportacao.valorJson("a\tb\u0001\r"));
+        assertEquals("true", EscritorExportacao.valorJson(Boolean.TRUE));
+    }
+
+    @Test
+    public void testFormatoDe() {
+        assertEquals(FormatoExportacao.CSV, FormatoExportacao.de(null));
+        assertEquals(FormatoExportacao.CSV, FormatoExportacao.de(" "));
+        assertEquals(FormatoExportacao.NDJSON, FormatoExportacao.de("ndjson"));
+        assertEquals("csv", FormatoExportacao.CSV.getExtensao());
+        assertTrue(FormatoExportacao.NDJSON.getMediaType().startsWith(FormatoExportacao.MEDIA_TYPE_NDJSON));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testFormatoInvalido() {
+        FormatoExportacao.de("xlsx");
+    }
+}
@@ -0,0 +1,121 @@
+package br.org.cecairbar.durvalcrm.application.exportacao;
+
+import br.org.cecairbar.durvalcrm.domain.model.CategoriaFinanceira;
+import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.OrigemVenda;
+import br.org.cecairbar.durvalcrm.domain.model.Receita;
+import br.org.cecairbar.durvalcrm.domain.model.Venda;
+import br.org.cecairbar.durvalcrm.domain.repository.DespesaRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.DoacaoRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.ReceitaRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.VendaRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ExportacaoServiceTest {
+
+    @InjectMocks
+    private ExportacaoService exportacaoService;
+
+    @Mock
+    private ReceitaRepository receitaRepository;
+
+    @Mock
+    private DespesaRepository despesaRepository;
+
+    @Mock
+    private VendaRepository vendaRepository;
+
+    @Mock
+    private DoacaoRepository doacaoRepository;
+
+    @Mock
+    private MensalidadeRepository mensalidadeRepository;
+
+    private final LocalDate inicio = LocalDate.of(2025, 1, 1);
+    private final LocalDate fim = LocalDate.of(2025, 12, 31);
+
+    @Test
+    public void testExportarReceitasCsvFechaStream() throws Exception {
+        CategoriaFinanceira categoria = new CategoriaFinanceira();
+        categoria.setNome("Doações");
+        Receita receita = new Receita();
+        receita.setId(UUID.randomUUID());
+        receita.setDescricao("Bazar");
+        receita.setValor(new BigDecimal("35.00"));
+        receita.setDataReceita(LocalDate.of(2025, 3, 2));
+        receita.setCategoria(categoria);
+
+        AtomicBoolean fechado = new AtomicBoolean();
+        when(receitaRepository.streamByPeriodo(inicio, fim))
+            .thenReturn(Stream.of(receita).onClose(() -> fechado.set(true)));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        long total = exportacaoService.exportarReceitas(inicio, fim, FormatoExportacao.CSV, saida);
+
+        assertEquals(1, total);
+        assertTrue(fechado.get());
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, linhas.length);
+        assertTrue(linhas[0].startsWith("id,dataReceita,dataRecebimento,descricao,valor"));
+        assertTrue(linhas[1].contains(",2025-03-02,,Bazar,35.00,,Doações,,"));
+    }
+
+    @Test
+    public void testExportarVendasUsaPeriodoEmUtc() throws Exception {
+        Venda venda = Venda.builder()
+            .id(UUID.randomUUID())
+            .descricao("Cantina")
+            .valor(new BigDecimal("12.50"))
+            .origem(OrigemVenda.CANTINA)
+            .dataVenda(Instant.parse("2025-06-01T12:00:00Z"))
+            .build();
+        when(vendaRepository.streamByPeriodo(Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2025-12-31T23:59:59.999999999Z")))
+            .thenReturn(Stream.of(venda));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        long total = exportacaoService.exportarVendas(inicio, fim, FormatoExportacao.NDJSON, saida);
+
+        assertEquals(1, total);
+        assertTrue(saida.toString(StandardCharsets.UTF_8).contains("\"origem\":\"CANTINA\",\"formaPagamento\":null}"));
+    }
+
+    @Test
+    public void testExportarDoacoesDiaInteiro() throws Exception {
+        when(doacaoRepository.streamByPeriodo(inicio.atStartOfDay(), LocalDateTime.of(2025, 12, 31, 23, 59, 59, 999_999_999)))
+            .thenReturn(Stream.empty());
+
+        assertEquals(0, exportacaoService.exportarDoacoes(inicio, fim, FormatoExportacao.CSV, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testExportarDespesasEMensalidades() throws Exception {
+        when(despesaRepository.streamByPeriodo(inicio, fim)).thenReturn(Stream.empty());
+        Mensalidade mensalidade = Mensalidade.criar(UUID.randomUUID(), 1, 2025, new BigDecimal("10.90"));
+        when(mensalidadeRepository.streamByVencimento(inicio, fim)).thenReturn(Stream.of(mensalidade));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        assertEquals(0, exportacaoService.exportarDespesas(inicio, fim, FormatoExportacao.NDJSON, saida));
+        assertEquals(1, exportacaoService.exportarMensalidades(inicio, fim, FormatoExportacao.NDJSON, saida));
+
+        assertTrue(saida.toString(StandardCharsets.UTF_8).contains("\"mesReferencia\":1,\"anoReferencia\":2025,\"valor\":10.90"));
+    }
+}
@@ -0,0 +1,135 @@
+package br.org.cecairbar.durvalcrm.application.reconciliacao;
+
+import br.org.cecairbar.durvalcrm.domain.model.Pagamento;
+import jakarta.ws.rs.BadRequestException;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LeitorExtratoTest {
+
+    @Test
+    public void testCsvComVirgulaIgnoraDebitos() {
+        String csv = "data,valor,txid,endToEndId\n"
+            + "2025-01-10T09:30:00-03:00,10.90,MENS1234abcd012025,E1\n"
+            + "2025-01-10,-50.00,,E2\n"
+            + "\n"
+            + "2025-01-11,\"1,234.00\",DOACABC,E3\n";
+
+        List<Pagamento> pagamentos = LeitorExtrato.ler(new StringReader(csv), FormatoExtrato.CSV);
+
+        assertEquals(2, pagamentos.size());
+        assertEquals("MENS1234abcd012025", pagamentos.get(0).getIdentificador());
+        assertEquals(new BigDecimal("10.90"), pagamentos.get(0).getValor());
+        assertEquals(Instant.parse("2025-01-10T12:30:00Z"), pagamentos.get(0).getData());
+        assertEquals("E1", pagamentos.get(0).getCodigoTransacao());
+        assertEquals(new BigDecimal("1234.00"), pagamentos.get(1).getValor());
+    }
+
+    @Test
+    public void testCsvFormatoBrasileiroComPontoEVirgula() {
+        String csv = "\uFEFFData Pagamento;Valor;Identificador PIX\n"
+            + "10/01/2025 14:05;R$ 1.500,00;MENS1234abcd012025\n"
+            + "11/01/2025;10,90;\n";
+
+        List<Pagamento> pagamentos = LeitorExtrato.ler(new StringReader(csv), FormatoExtrato.CSV);
+
+        assertEquals(2, pagamentos.size());
+        assertEquals(new BigDecimal("1500.00"), pagamentos.get(0).getValor());
+        assertEquals(LocalDate.of(2025, 1, 10).atTime(14, 5).atZone(ZoneId.systemDefault()).toInstant(),
+            pagamentos.get(0).getData());
+        assertNull(pagamentos.get(0).getCodigoTransacao());
+        assertFalse(pagamentos.get(1).isIdentificado());
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testCsvSemColunaTxid() {
+        LeitorExtrato.ler(new StringReader("data,valor\n2025-01-10,10.90\n"), FormatoExtrato.CSV);
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testCsvComValorInvalido() {
+        LeitorExtrato.ler(new StringReader("data;valor;txid\n2025-01-10;abc;MENS1\n"), FormatoExtrato.CSV);
+    }
+
+    @Test
+    public void testOfxIgnoraPalavrasMensalidadeEDoacaoAntesDoTxid() {
+        String ofx = "<OFX><BANKTRANLIST>"
+            + "<STMTTRN><TRNTYPE>CREDIT</TRNTYPE><DTPOSTED>20250710</DTPOSTED><TRNAMT>10.90</TRNAMT>"
+            + "<FITID>E2E001</FITID><MEMO>PIX RECEBIDO MENSALIDADE MENS1234abcd072025</MEMO></STMTTRN>"
+            + "<STMTTRN><TRNTYPE>CREDIT</TRNTYPE><DTPOSTED>20250711</DTPOSTED><TRNAMT>50.00</TRNAMT>"
+            + "<FITID>E2E002</FITID><MEMO>DOACAO DOAC0123456789ABCDEF01234</MEMO></STMTTRN>"
+            + "<STMTTRN><TRNTYPE>CREDIT</TRNTYPE><DTPOSTED>20250712</DTPOSTED><TRNAMT>20.00</TRNAMT>"
+            + "<FITID>E2E003</FITID><NAME>MENSALIDADE JULHO</NAME><MEMO>DOACAO ESPONTANEA</MEMO></STMTTRN>"
+            + "</BANKTRANLIST></OFX>";
+
+        List<Pagamento> pagamentos = LeitorExtrato.ler(new StringReader(ofx), FormatoExtrato.OFX);
+
+        assertEquals(3, pagamentos.size());
+        assertEquals("MENS1234abcd072025", pagamentos.get(0).getIdentificador());
+        assertEquals("DOAC0123456789ABCDEF01234", pagamentos.get(1).getIdentificador());
+        assertNull(pagamentos.get(2).getIdentificador());
+    }
+
+    @Test
+    public void testOfxSemTxidNoMemoFicaSemIdentificador() {
+        String ofx = "<OFX><BANKTRANLIST>"
+            + "<STMTTRN><TRNTYPE>CREDIT</TRNTYPE><DTPOSTED>20250110</DTPOSTED><TRNAMT>10.90</TRNAMT>"
+            + "<FITID>E2E001</FITID><NAME>FULANO</NAME><MEMO>PIX RECEBIDO - FULANO</MEMO></STMTTRN>"
+            + "</BANKTRANLIST></OFX>";
+
+        List<Pagamento> pagamentos = LeitorExtrato.ler(new StringReader(ofx), FormatoExtrato.OFX);
+
+        assertEquals(1, pagamentos.size());
+        assertNull(pagamentos.get(0).getIdentificador());
+        assertFalse(pagamentos.get(0).isIdentificado());
+        assertEquals("E2E001", pagamentos.get(0).getCodigoTransacao());
+    }
+
+    @Test
+    public void testOfxSgml() {
+        String ofx = "OFXHEADER:100\nDATA:OFXSGML\nCHARSET:1252\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS>\n"
+            + "<BANKTRANLIST>\n"
+            + "<STMTTRN>\n<TRNTYPE>CREDIT\n<DTPOSTED>20250110093000[-3:BRT]\n<TRNAMT>10.90\n"
+            + "<FITID>E2E001\n<MEMO>PIX RECEBIDO - MENS1234abcd012025 FULANO\n</STMTTRN>\n"
+            + "<STMTTRN>\n<TRNTYPE>DEBIT\n<DTPOSTED>20250110\n<TRNAMT>-25.00\n<FITID>E2E002\n<MEMO>TARIFA\n</STMTTRN>\n"
+            + "<STMTTRN><TRNTYPE>CREDIT</TRNTYPE><DTPOSTED>20250111</DTPOSTED><TRNAMT>50,00</TRNAMT>"
+            + "<FITID>E2E003</FITID><NAME>DOAC0123456789ABCDEF01234</NAME><MEMO>PIX</MEMO></STMTTRN>\n"
+            + "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>\n";
+
+        List<Pagamento> pagamentos = LeitorExtrato.ler(new StringReader(ofx), FormatoExtrato.OFX);
+
+        assertEquals(2, pagamentos.size());
+        assertEquals("MENS1234abcd012025", pagamentos.get(0).getIdentificador());
+        assertEquals(Instant.parse("2025-01-10T12:30:00Z"), pagamentos.get(0).getData());
+        assertEquals("E2E001", pagamentos.get(0).getCodigoTransacao());
+        assertEquals("DOAC0123456789ABCDEF01234", pagamentos.get(1).getIdentificador());
+        assertEquals(new BigDecimal("50.00"), pagamentos.get(1).getValor());
+    }
+
+    @Test
+    public void testDataOfxSemHoraUsaFusoDoServidor() {
+        assertEquals(LocalDate.of(2025, 1, 31).atStartOfDay(ZoneId.systemDefault()).toInstant(),
+            LeitorExtrato.lerDataOfx("20250131"));
+        assertEquals(Instant.parse("2025-01-31T10:00:00Z"), LeitorExtrato.lerDataOfx("20250131100000.000[0:GMT]"));
+    }
+
+    @Test
+    public void testDividirCampoComAspas() {
+        assertEquals(List.of("a", "b;\"c\"", ""), LeitorExtrato.dividir("a;\"b;\"\"c\"\"\";", ';'));
+    }
+
+    @Test
+    public void testFormato() {
+        assertEquals(FormatoExtrato.CSV, FormatoExtrato.de(null));
+        assertEquals(FormatoExtrato.OFX, FormatoExtrato.de("ofx"));
+        assertEquals(FormatoExtrato.OFX, FormatoExtrato.doArquivo(java.nio.file.Path.of("/tmp/extrato.OFX")));
+    }
+}
@@ -0,0 +1,83 @@
+package br.org.cecairbar.durvalcrm.application.service;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.*;
+
+public class BrCodePixTest {
+
+    @Test
+    public void testExemploDoManualDoBrCode() {
+        // Exemplo de QR estático do Manual do BR Code (Banco Central), sem valor e sem txid
+        BrCodePix brCode = new BrCodePix("123e4567-e12b-12d1-a456-426655440000", "Fulano de Tal", "BRASILIA", false);
+
+        assertEquals("00020126580014br.gov.bcb.pix0136123e4567-e12b-12d1-a456-426655440000"
+                + "5204000053039865802BR5913Fulano de Tal6008BRASILIA62070503***63041D3D",
+            brCode.gerar(null, null));
+    }
+
+    @Test
+    public void testCobrancaDeMensalidade() {
+        BrCodePix brCode = new BrCodePix("contato@durvalcrm.org", "Associacao", "Guarulhos", true);
+
+        assertEquals("00020101021226430014br.gov.bcb.pix0121contato@durvalcrm.org520400005303986540510.90"
+                + "5802BR5910Associacao6009Guarulhos62220518MENS1234abcd0120256304CBAE",
+            brCode.gerar(new BigDecimal("10.9"), "MENS1234abcd012025"));
+    }
+
+    @Test
+    public void testNomeComAcentoETruncado() {
+        BrCodePix brCode = new BrCodePix("+5511999998888", "Centro Espírita Cairbar Schutel", "São Paulo", false);
+
+        assertEquals("00020126360014br.gov.bcb.pix0114+551199999888852040000530398654071500.00"
+                + "5802BR5925Centro Espirita Cairbar S6009Sao Paulo62070503***6304773B",
+            brCode.gerar(new BigDecimal("1500"), ""));
+    }
+
+    @Test
+    public void testCrcConfereComPayload() {
+        String payload = new BrCodePix("contato@durvalcrm.org", "Associacao", "Guarulhos", true)
+            .gerar(new BigDecimal("0.05"), "DOAC0123456789ABCDEF01234");
+
+        assertTrue(payload.contains("54040.05"));
+        assertEquals(BrCodePix.crc16(payload.substring(0, payload.length() - 4)), payload.substring(payload.length() - 4));
+    }
+
+    @Test
+    public void testCrc16ValorDeVerificacao() {
+        // Valor de verificação do CRC-16/CCITT-FALSE
+        assertEquals("29B1", BrCodePix.crc16("123456789"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValorZero() {
+        new BrCodePix("contato@durvalcrm.org", "Associacao", "Guarulhos", true).gerar(BigDecimal.ZERO, "MENS1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValorAcimaDoLimite() {
+        new BrCodePix("contato@durvalcrm.org", "Associacao", "Guarulhos", true).gerar(new BigDecimal("10000000000"), "MENS1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTxidNaoAlfanumerico() {
+        new BrCodePix("contato@durvalcrm.org", "Associacao", "Guarulhos", true).gerar(BigDecimal.TEN, "MENS-1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTxidLongo() {
+        new BrCodePix("contato@durvalcrm.org", "Associacao", "Guarulhos", true).gerar(BigDecimal.TEN, "A".repeat(26));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testChaveObrigatoria() {
+        new BrCodePix(" ", "Associacao", "Guarulhos", true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCidadeObrigatoria() {
+        new BrCodePix("contato@durvalcrm.org", "Associacao", null, true);
+    }
+}
@@ -0,0 +1,75 @@
+package br.org.cecairbar.durvalcrm.application.usecase;
+
+import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AtualizarStatusMensalidadesUseCaseTest {
+
+    @InjectMocks
+    private AtualizarStatusMensalidadesUseCase useCase;
+
+    @Mock
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Before
+    public void setUp() {
+        System.setProperty(AtualizarStatusMensalidadesUseCase.PROPRIEDADE_TAMANHO_BLOCO, "100");
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(AtualizarStatusMensalidadesUseCase.PROPRIEDADE_TAMANHO_BLOCO);
+    }
+
+    @Test
+    public void testExecutarAtualizaEmBlocosAteEsgotar() {
+        when(mensalidadeRepository.marcarPendentesVencidasComoAtrasadas(any(LocalDate.class), eq(100)))
+            .thenReturn(100, 100, 37);
+
+        int atualizadas = useCase.executar();
+
+        assertEquals(237, atualizadas);
+        verify(mensalidadeRepository, times(3)).marcarPendentesVencidasComoAtrasadas(LocalDate.now(), 100);
+        verify(mensalidadeRepository, never()).findVencidas();
+        verify(mensalidadeRepository, never()).save(any());
+    }
+
+    @Test
+    public void testExecutarSemVencidasFazUmaUnicaTentativa() {
+        when(mensalidadeRepository.marcarPendentesVencidasComoAtrasadas(any(LocalDate.class), anyInt()))
+            .thenReturn(0);
+
+        assertEquals(0, useCase.executar());
+        verify(mensalidadeRepository, times(1)).marcarPendentesVencidasComoAtrasadas(any(LocalDate.class), anyInt());
+    }
+
+    @Test
+    public void testExecutarSimulacaoApenasConta() {
+        when(mensalidadeRepository.countPendentesVencidas(LocalDate.now())).thenReturn(42L);
+
+        assertEquals(42, useCase.executar(true));
+        verify(mensalidadeRepository, never()).marcarPendentesVencidasComoAtrasadas(any(LocalDate.class), anyInt());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testExecutarPropagaFalhaDoRepositorio() {
+        when(mensalidadeRepository.marcarPendentesVencidasComoAtrasadas(any(LocalDate.class), anyInt()))
+            .thenThrow(new IllegalStateException("db"));
+
+        useCase.executar();
+    }
+}
@@ -0,0 +1,74 @@
+package br.org.cecairbar.durvalcrm.application.usecase;
+
+import br.org.cecairbar.durvalcrm.application.dto.ResumoMensalidadesDTO;
+import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.TotalMensalidadesPorStatus;
+import br.org.cecairbar.durvalcrm.domain.repository.AssociadoRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConsultarMensalidadesUseCaseTest {
+
+    @InjectMocks
+    private ConsultarMensalidadesUseCase useCase;
+
+    @Mock
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Mock
+    private AssociadoRepository associadoRepository;
+
+    @Test
+    public void testObterResumoUsaTotaisAgregados() {
+        when(mensalidadeRepository.obterTotaisPorStatus(7, 2025)).thenReturn(List.of(
+            new TotalMensalidadesPorStatus(StatusMensalidade.PAGA, 3L, new BigDecimal("32.70")),
+            new TotalMensalidadesPorStatus(StatusMensalidade.PENDENTE, 2L, new BigDecimal("21.80")),
+            new TotalMensalidadesPorStatus(StatusMensalidade.ATRASADA, 1L, new BigDecimal("10.90"))
+        ));
+        when(associadoRepository.countByAtivo(true)).thenReturn(10L);
+
+        ResumoMensalidadesDTO resumo = useCase.obterResumo(7, 2025);
+
+        assertEquals(10, resumo.getTotalAssociados());
+        assertEquals(3, resumo.getTotalPagas());
+        // 2 pendentes geradas + 4 associados ativos sem mensalidade
+        assertEquals(6, resumo.getTotalPendentes());
+        assertEquals(1, resumo.getTotalAtrasadas());
+        assertEquals(new BigDecimal("109.00"), resumo.getValorTotalEsperado());
+        assertEquals(new BigDecimal("32.70"), resumo.getValorArrecadado());
+        assertEquals(new BigDecimal("65.40"), resumo.getValorPendente());
+        assertEquals(new BigDecimal("10.90"), resumo.getValorAtrasado());
+        assertEquals(30.0, resumo.getPercentualArrecadacao(), 0.001);
+        assertEquals(7, resumo.getMes());
+        assertEquals(2025, resumo.getAno());
+
+        verify(mensalidadeRepository, never()).findByMesEAno(anyInt(), anyInt());
+        verify(associadoRepository, never()).findByAtivo(any());
+    }
+
+    @Test
+    public void testObterResumoPeriodoSemMensalidades() {
+        when(mensalidadeRepository.obterTotaisPorStatus(1, 2026)).thenReturn(List.of());
+        when(associadoRepository.countByAtivo(true)).thenReturn(5L);
+
+        ResumoMensalidadesDTO resumo = useCase.obterResumo(1, 2026);
+
+        assertEquals(5, resumo.getTotalAssociados());
+        assertEquals(0, resumo.getTotalPendentes());
+        assertEquals(BigDecimal.ZERO, resumo.getValorTotalEsperado());
+        assertEquals(0.0, resumo.getPercentualArrecadacao(), 0.001);
+    }
+}
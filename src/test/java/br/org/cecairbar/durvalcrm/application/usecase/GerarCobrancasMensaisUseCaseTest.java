@@ -0,0 +1,122 @@
+package br.org.cecairbar.durvalcrm.application.usecase;
+
+import br.org.cecairbar.durvalcrm.application.dto.ResultadoGeracaoDTO;
+import br.org.cecairbar.durvalcrm.application.service.PixService;
+import br.org.cecairbar.durvalcrm.domain.model.Associado;
+import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
+import br.org.cecairbar.durvalcrm.domain.repository.AssociadoRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GerarCobrancasMensaisUseCaseTest {
+
+    @InjectMocks
+    private GerarCobrancasMensaisUseCase useCase;
+
+    @Mock
+    private AssociadoRepository associadoRepository;
+
+    @Mock
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Mock
+    private PixService pixService;
+
+    @Before
+    public void setUp() {
+        System.setProperty(GerarCobrancasMensaisUseCase.PROPRIEDADE_TAMANHO_BLOCO, "2");
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(GerarCobrancasMensaisUseCase.PROPRIEDADE_TAMANHO_BLOCO);
+    }
+
+    @Test
+    public void testExecutarGeraApenasFaltantesEmBlocos() {
+        List<Associado> semMensalidade = criarAssociados(5);
+        when(associadoRepository.countByAtivo(true)).thenReturn(8L);
+        when(associadoRepository.findAtivosSemMensalidadeNoPeriodo(7, 2025)).thenReturn(semMensalidade);
+        when(pixService.gerarQRCode(any(BigDecimal.class), anyString(), anyString())).thenReturn("QRCODE");
+
+        List<Integer> tamanhosDosBlocos = new ArrayList<>();
+        doAnswer(inv -> {
+            List<Mensalidade> bloco = inv.getArgument(0);
+            tamanhosDosBlocos.add(bloco.size());
+            bloco.forEach(m -> {
+                assertEquals(StatusMensalidade.PENDENTE, m.getStatus());
+                assertEquals("QRCODE", m.getQrCodePix());
+            });
+            return bloco.size();
+        }).when(mensalidadeRepository).saveAll(anyList());
+
+        ResultadoGeracaoDTO resultado = useCase.executar(7, 2025);
+
+        assertEquals(5, resultado.cobrancasGeradas);
+        assertEquals(3, resultado.jaExistiam);
+        assertEquals(8, resultado.totalAssociados);
+        assertEquals(List.of(2, 2, 1), tamanhosDosBlocos);
+
+        verify(mensalidadeRepository, never()).existsByAssociadoEPeriodo(any(), anyInt(), anyInt());
+        verify(mensalidadeRepository, never()).save(any());
+    }
+
+    @Test
+    public void testExecutarSemFaltantesNaoInsere() {
+        when(associadoRepository.countByAtivo(true)).thenReturn(3L);
+        when(associadoRepository.findAtivosSemMensalidadeNoPeriodo(7, 2025)).thenReturn(List.of());
+
+        ResultadoGeracaoDTO resultado = useCase.executar(7, 2025);
+
+        assertEquals(0, resultado.cobrancasGeradas);
+        assertEquals(3, resultado.jaExistiam);
+        assertEquals(3, resultado.totalAssociados);
+        verify(mensalidadeRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void testExecutarRepassaIdentificadorPixParaQRCode() {
+        Associado associado = criarAssociados(1).get(0);
+        when(associadoRepository.countByAtivo(true)).thenReturn(1L);
+        when(associadoRepository.findAtivosSemMensalidadeNoPeriodo(1, 2026)).thenReturn(List.of(associado));
+        when(pixService.gerarQRCode(any(BigDecimal.class), anyString(), anyString())).thenReturn("QRCODE");
+        when(mensalidadeRepository.saveAll(anyList())).thenReturn(1);
+
+        useCase.executar(1, 2026);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Mensalidade>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mensalidadeRepository).saveAll(captor.capture());
+        Mensalidade mensalidade = captor.getValue().get(0);
+        verify(pixService).gerarQRCode(new BigDecimal("10.90"), mensalidade.getIdentificadorPix(),
+            "Mensalidade 01/2026 - Associado 0");
+    }
+
+    private List<Associado> criarAssociados(int quantidade) {
+        List<Associado> associados = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            associados.add(new Associado(UUID.randomUUID(), "Associado " + i,
+                "000.000.000-0" + i, "associado" + i + "@example.com", null, true));
+        }
+        return associados;
+    }
+}
@@ -0,0 +1,142 @@
+package br.org.cecairbar.durvalcrm.application.usecase;
+
+import br.org.cecairbar.durvalcrm.application.dto.RelatorioReconciliacaoDTO;
+import br.org.cecairbar.durvalcrm.application.reconciliacao.FormatoExtrato;
+import br.org.cecairbar.durvalcrm.domain.model.Doacao;
+import br.org.cecairbar.durvalcrm.domain.model.FormaPagamento;
+import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.MetodoPagamento;
+import br.org.cecairbar.durvalcrm.domain.model.Pagamento;
+import br.org.cecairbar.durvalcrm.domain.model.StatusDoacao;
+import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
+import br.org.cecairbar.durvalcrm.domain.model.TipoDoacao;
+import br.org.cecairbar.durvalcrm.domain.repository.DoacaoRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReconciliarPagamentoTest {
+
+    private static final Instant DATA = Instant.parse("2025-01-10T12:00:00Z");
+
+    @InjectMocks
+    private ReconciliarPagamento reconciliarPagamento;
+
+    @Mock
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Mock
+    private DoacaoRepository doacaoRepository;
+
+    private Mensalidade mensalidade;
+    private Doacao doacao;
+
+    @Before
+    public void setUp() {
+        mensalidade = Mensalidade.criar(UUID.randomUUID(), 1, 2025, new BigDecimal("10.90"));
+        mensalidade.setId(UUID.randomUUID());
+
+        doacao = new Doacao(UUID.randomUUID(), null, new BigDecimal("50.00"), TipoDoacao.UNICA,
+            StatusDoacao.PENDENTE, "Doação", LocalDateTime.now());
+    }
+
+    @Test
+    public void testConciliaMensalidadeEDoacaoEmLote() {
+        when(mensalidadeRepository.findNaoPagasByIdentificadoresPix(anyCollection())).thenReturn(List.of(mensalidade));
+        when(doacaoRepository.findAguardandoPagamento()).thenReturn(List.of(doacao));
+        when(mensalidadeRepository.registrarPagamentos(anyList())).thenReturn(1);
+        when(doacaoRepository.confirmarPagamentos(anyList())).thenReturn(1);
+
+        RelatorioReconciliacaoDTO relatorio = reconciliarPagamento.reconciliar(List.of(
+            new Pagamento(mensalidade.getIdentificadorPix(), new BigDecimal("10.9"), DATA, "E1"),
+            new Pagamento(doacao.getIdentificadorPix(), new BigDecimal("50.00"), DATA, "E2")), false);
+
+        assertEquals(2, relatorio.getConciliados().size());
+        assertEquals(1, relatorio.getMensalidadesPagas());
+        assertEquals(1, relatorio.getDoacoesConfirmadas());
+        assertEquals(0, new BigDecimal("60.90").compareTo(relatorio.getValorConciliado()));
+        assertEquals(mensalidade.getId(), relatorio.getConciliados().get(0).getReferenciaId());
+        assertEquals(ReconciliarPagamento.TIPO_DOACAO, relatorio.getConciliados().get(1).getTipo());
+
+        assertEquals(StatusMensalidade.PAGA, mensalidade.getStatus());
+        assertEquals(DATA, mensalidade.getDataPagamento());
+        assertEquals(FormaPagamento.PIX, mensalidade.getMetodoPagamento());
+        assertEquals(StatusDoacao.CONFIRMADA, doacao.getStatus());
+        assertEquals("E2", doacao.getCodigoTransacao());
+        assertEquals(MetodoPagamento.PIX, doacao.getMetodoPagamento());
+
+        verify(mensalidadeRepository).registrarPagamentos(List.of(mensalidade));
+        verify(doacaoRepository).confirmarPagamentos(List.of(doacao));
+        verify(mensalidadeRepository, never()).save(any());
+    }
+
+    @Test
+    public void testDuplicadosENaoConciliados() {
+        when(mensalidadeRepository.findNaoPagasByIdentificadoresPix(anyCollection())).thenReturn(List.of(mensalidade));
+        when(doacaoRepository.findAguardandoPagamento()).thenReturn(List.of());
+        when(mensalidadeRepository.registrarPagamentos(anyList())).thenReturn(1);
+
+        String txid = mensalidade.getIdentificadorPix();
+        RelatorioReconciliacaoDTO relatorio = reconciliarPagamento.reconciliar(List.of(
+            new Pagamento(txid, new BigDecimal("5.00"), DATA, "E1"),
+            new Pagamento(txid, new BigDecimal("10.90"), DATA, "E2"),
+            new Pagamento(txid, new BigDecimal("10.90"), DATA, "E2"),
+            new Pagamento(txid, new BigDecimal("10.90"), DATA, "E3"),
+            new Pagamento("MENSdesconhecido", new BigDecimal("10.90"), DATA, "E4"),
+            new Pagamento(null, new BigDecimal("7.00"), DATA, "E5")), false);
+
+        assertEquals(6, relatorio.getTotalLancamentos());
+        assertEquals(1, relatorio.getConciliados().size());
+        assertEquals("E2", relatorio.getConciliados().get(0).getCodigoTransacao());
+        assertEquals(2, relatorio.getDuplicados().size());
+        assertEquals(3, relatorio.getNaoConciliados().size());
+        assertTrue(relatorio.getNaoConciliados().get(0).getMotivo().startsWith("Valor divergente"));
+        verify(doacaoRepository, never()).confirmarPagamentos(anyList());
+    }
+
+    @Test
+    public void testSimulacaoNaoGrava() {
+        when(mensalidadeRepository.findNaoPagasByIdentificadoresPix(anyCollection())).thenReturn(List.of(mensalidade));
+
+        RelatorioReconciliacaoDTO relatorio = reconciliarPagamento.reconciliar(List.of(
+            new Pagamento(mensalidade.getIdentificadorPix(), new BigDecimal("10.90"), DATA, null)), true);
+
+        assertTrue(relatorio.isSimulacao());
+        assertEquals(1, relatorio.getMensalidadesPagas());
+        verify(mensalidadeRepository, never()).registrarPagamentos(anyList());
+        // Todos os txids encontrados entre as mensalidades: doações nem são consultadas
+        verify(doacaoRepository, never()).findAguardandoPagamento();
+    }
+
+    @Test
+    public void testExecutarComExtratoCsv() {
+        String csv = "data;valor;txid;endToEndId\n2025-01-10;10,90;" + mensalidade.getIdentificadorPix() + ";E1\n";
+        when(mensalidadeRepository.findNaoPagasByIdentificadoresPix(anyCollection())).thenReturn(List.of(mensalidade));
+        when(mensalidadeRepository.registrarPagamentos(anyList())).thenReturn(1);
+
+        RelatorioReconciliacaoDTO relatorio = reconciliarPagamento.executar(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), FormatoExtrato.CSV, false);
+
+        verify(mensalidadeRepository).findNaoPagasByIdentificadoresPix(
+            argThat(identificadores -> identificadores.contains(mensalidade.getIdentificadorPix())));
+        assertEquals(1, relatorio.getMensalidadesPagas());
+    }
+}
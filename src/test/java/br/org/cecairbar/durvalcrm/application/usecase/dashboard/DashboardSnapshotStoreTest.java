@@ -0,0 +1,103 @@
+package br.org.cecairbar.durvalcrm.application.usecase.dashboard;
+
+import br.org.cecairbar.durvalcrm.application.dto.DashboardDTO;
+import br.org.cecairbar.durvalcrm.application.dto.DashboardSnapshotStatusDTO;
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent;
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent.Agregado;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.YearMonth;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+public class DashboardSnapshotStoreTest {
+
+    private static final YearMonth JULHO = YearMonth.of(2025, 7);
+    private static final YearMonth AGOSTO = YearMonth.of(2025, 8);
+
+    private DashboardSnapshotStore store;
+    private AtomicInteger calculos;
+    private Supplier<DashboardDTO> calculo;
+
+    @Before
+    public void setUp() {
+        store = new DashboardSnapshotStore();
+        calculos = new AtomicInteger();
+        calculo = () -> {
+            calculos.incrementAndGet();
+            return new DashboardDTO();
+        };
+    }
+
+    @Test
+    public void testSnapshotReutilizadoSemAlteracoes() {
+        DashboardDTO primeiro = store.obter(JULHO, calculo);
+        DashboardDTO segundo = store.obter(JULHO, calculo);
+
+        assertSame(primeiro, segundo);
+        assertEquals(1, calculos.get());
+    }
+
+    @Test
+    public void testAlteracaoNoPeriodoRecalculaApenasOPeriodo() {
+        store.obter(JULHO, calculo);
+        store.obter(AGOSTO, calculo);
+
+        store.aoAlterarDados(DadosAlteradosEvent.noPeriodo(Agregado.MENSALIDADE, JULHO));
+
+        store.obter(JULHO, calculo);
+        store.obter(AGOSTO, calculo);
+        assertEquals(3, calculos.get());
+    }
+
+    @Test
+    public void testAlteracaoGlobalRecalculaTodosPeriodos() {
+        store.obter(JULHO, calculo);
+        store.obter(AGOSTO, calculo);
+
+        store.aoAlterarDados(DadosAlteradosEvent.todosPeriodos(Agregado.DESPESA));
+
+        store.obter(JULHO, calculo);
+        store.obter(AGOSTO, calculo);
+        assertEquals(4, calculos.get());
+    }
+
+    @Test
+    public void testStatusInformaAlteracoesPendentes() {
+        assertFalse(store.obterStatus(JULHO).isExiste());
+
+        store.obter(JULHO, calculo);
+        DashboardSnapshotStatusDTO atualizado = store.obterStatus(JULHO);
+        assertTrue(atualizado.isExiste());
+        assertFalse(atualizado.isDesatualizado());
+        assertEquals(0, atualizado.getAlteracoesPendentes());
+        assertNotNull(atualizado.getGeradoEm());
+
+        store.aoAlterarDados(DadosAlteradosEvent.noPeriodo(Agregado.VENDA, JULHO));
+        store.aoAlterarDados(DadosAlteradosEvent.todosPeriodos(Agregado.ASSOCIADO));
+
+        DashboardSnapshotStatusDTO desatualizado = store.obterStatus(JULHO);
+        assertTrue(desatualizado.isDesatualizado());
+        assertEquals(2, desatualizado.getAlteracoesPendentes());
+    }
+
+    @Test
+    public void testResultadoParcialNaoEhGuardado() {
+        Supplier<DashboardDTO> parcial = () -> {
+            calculos.incrementAndGet();
+            DashboardDTO dashboard = new DashboardDTO();
+            dashboard.setResultadoParcial(true);
+            return dashboard;
+        };
+
+        store.obter(JULHO, parcial);
+        store.obter(JULHO, parcial);
+
+        assertEquals(2, calculos.get());
+        assertFalse(store.obterStatus(JULHO).isExiste());
+    }
+}
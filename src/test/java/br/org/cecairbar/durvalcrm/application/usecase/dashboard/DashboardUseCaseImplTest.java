@@ -0,0 +1,214 @@
+package br.org.cecairbar.durvalcrm.application.usecase.dashboard;
+
+import br.org.cecairbar.durvalcrm.application.dto.DashboardDTO;
+import br.org.cecairbar.durvalcrm.application.dto.DashboardDTO.AssociadoResumoDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaDTO;
+import br.org.cecairbar.durvalcrm.application.dto.ResumoFinanceiroDTO;
+import br.org.cecairbar.durvalcrm.application.usecase.financeiro.DespesaUseCase;
+import br.org.cecairbar.durvalcrm.application.usecase.financeiro.RelatorioFinanceiroUseCase;
+import br.org.cecairbar.durvalcrm.domain.model.AssociadoSituacao;
+import br.org.cecairbar.durvalcrm.domain.model.OrigemVenda;
+import br.org.cecairbar.durvalcrm.domain.model.SituacaoAdimplencia;
+import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
+import br.org.cecairbar.durvalcrm.domain.repository.AssociadoRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.DoacaoRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.MensalidadeRepository;
+import br.org.cecairbar.durvalcrm.domain.repository.VendaRepository;
+
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.ws.rs.BadRequestException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class DashboardUseCaseImplTest {
+
+    @Mock
+    private AssociadoRepository associadoRepository;
+
+    @Mock
+    private MensalidadeRepository mensalidadeRepository;
+
+    @Mock
+    private VendaRepository vendaRepository;
+
+    @Mock
+    private DoacaoRepository doacaoRepository;
+
+    @Mock
+    private RelatorioFinanceiroUseCase relatorioFinanceiroUseCase;
+
+    @Mock
+    private DespesaUseCase despesaUseCase;
+
+    @InjectMocks
+    private DashboardUseCaseImpl useCase;
+
+    private AssociadoSituacao pagante;
+    private AssociadoSituacao devedor;
+
+    @Before
+    public void setUp() {
+        pagante = new AssociadoSituacao(UUID.randomUUID(), "Pagante", "pagante@teste.com", "11111111111",
+            StatusMensalidade.PAGA);
+        devedor = new AssociadoSituacao(UUID.randomUUID(), "Devedor", "devedor@teste.com", "22222222222",
+            StatusMensalidade.ATRASADA);
+
+        when(mensalidadeRepository.obterValorArrecadadoPorPeriodo(7, 2025)).thenReturn(new BigDecimal("10.90"));
+        when(vendaRepository.sumValorByOrigemAndPeriodo(any(), any(), any())).thenReturn(new BigDecimal("5.00"));
+        when(doacaoRepository.obterTotalDoacoesPorPeriodo(any(), any())).thenReturn(null);
+        when(associadoRepository.count()).thenReturn(2L);
+        when(associadoRepository.countPorSituacaoNoPeriodo(7, 2025, SituacaoAdimplencia.ADIMPLENTE)).thenReturn(1L);
+        when(associadoRepository.countPorSituacaoNoPeriodo(7, 2025, SituacaoAdimplencia.INADIMPLENTE)).thenReturn(1L);
+        when(associadoRepository.findPorSituacaoNoPeriodo(eq(7), eq(2025), eq(SituacaoAdimplencia.ADIMPLENTE),
+                any(), anyBoolean(), anyInt(), anyInt()))
+            .thenReturn(Collections.singletonList(pagante));
+        when(associadoRepository.findPorSituacaoNoPeriodo(eq(7), eq(2025), eq(SituacaoAdimplencia.INADIMPLENTE),
+                any(), anyBoolean(), anyInt(), anyInt()))
+            .thenReturn(Collections.singletonList(devedor));
+        when(relatorioFinanceiroUseCase.obterResumoFinanceiro(any(), any()))
+            .thenReturn(ResumoFinanceiroDTO.criar(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 31)));
+        when(relatorioFinanceiroUseCase.obterReceitasPorCategoria(any(), any())).thenReturn(Collections.emptyList());
+        when(relatorioFinanceiroUseCase.obterDespesasPorCategoria(any(), any())).thenReturn(Collections.emptyList());
+        when(despesaUseCase.contarVencidas(any())).thenReturn(3L);
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(DashboardUseCaseImpl.PROPRIEDADE_TIMEOUT_CONSULTA);
+    }
+
+    @Test
+    public void testCalcularDashboardCompleto() {
+        DashboardDTO dashboard = useCase.calcularDashboard(7, 2025);
+
+        assertFalse(dashboard.isResultadoParcial());
+        assertTrue(dashboard.getConsultasIndisponiveis().isEmpty());
+        assertEquals(0, new BigDecimal("25.90").compareTo(dashboard.getReceitaConsolidada()));
+        assertEquals(BigDecimal.ZERO, dashboard.getReceitaDoacoes());
+        assertEquals(Long.valueOf(1), dashboard.getPagantesMes());
+        assertEquals(Long.valueOf(3), dashboard.getDespesasVencidas());
+        assertEquals("Pagante", dashboard.getAdimplentes().get(0).getNomeCompleto());
+        assertEquals("Devedor", dashboard.getInadimplentes().get(0).getNomeCompleto());
+        assertEquals(StatusMensalidade.ATRASADA, dashboard.getInadimplentes().get(0).getStatusMensalidade());
+        assertEquals(Long.valueOf(1), dashboard.getTotalInadimplentes());
+        verify(associadoRepository, never()).findAll();
+    }
+
+    @Test
+    public void testConsultaComFalhaRetornaResultadoParcial() {
+        when(vendaRepository.sumValorByOrigemAndPeriodo(eq(OrigemVenda.CANTINA), any(), any()))
+            .thenThrow(new RuntimeException("falha no banco"));
+        when(associadoRepository.countPorSituacaoNoPeriodo(7, 2025, SituacaoAdimplencia.ADIMPLENTE))
+            .thenThrow(new RuntimeException("falha no banco"));
+
+        DashboardDTO dashboard = useCase.calcularDashboard(7, 2025);
+
+        assertTrue(dashboard.isResultadoParcial());
+        assertEquals(Arrays.asList("adimplentes", "receitaCantina"), dashboard.getConsultasIndisponiveis());
+        assertEquals(BigDecimal.ZERO, dashboard.getReceitaCantina());
+        assertEquals(0, new BigDecimal("20.90").compareTo(dashboard.getReceitaConsolidada()));
+        assertTrue(dashboard.getAdimplentes().isEmpty());
+        assertEquals(Long.valueOf(0), dashboard.getPagantesMes());
+        assertEquals(1, dashboard.getInadimplentes().size());
+        assertEquals(Long.valueOf(2), dashboard.getTotalAssociados());
+    }
+
+    @Test
+    public void testConsultaLentaExcedeTimeout() {
+        System.setProperty(DashboardUseCaseImpl.PROPRIEDADE_TIMEOUT_CONSULTA, "200");
+        useCase.managedExecutor = executorComThreads();
+        when(despesaUseCase.contarVencidas(any())).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return 3L;
+        });
+
+        long inicio = System.nanoTime();
+        DashboardDTO dashboard = useCase.calcularDashboard(7, 2025);
+        long decorridoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        assertTrue(dashboard.isResultadoParcial());
+        assertEquals(Collections.singletonList("despesasVencidas"), dashboard.getConsultasIndisponiveis());
+        assertEquals(Long.valueOf(0), dashboard.getDespesasVencidas());
+        assertEquals(Long.valueOf(1), dashboard.getPagantesMes());
+        assertTrue("Dashboard aguardou a consulta lenta: " + decorridoMs + "ms", decorridoMs < 1_500);
+    }
+
+    @Test
+    public void testConsultasExecutadasNoExecutorGerenciado() {
+        useCase.managedExecutor = executorComThreads();
+
+        DashboardDTO dashboard = useCase.calcularDashboard(7, 2025);
+
+        assertFalse(dashboard.isResultadoParcial());
+        verify(useCase.managedExecutor, times(12)).execute(any(Runnable.class));
+        verify(vendaRepository, times(3)).sumValorByOrigemAndPeriodo(any(), any(), any());
+        verify(associadoRepository).countPorSituacaoNoPeriodo(7, 2025, SituacaoAdimplencia.INADIMPLENTE);
+    }
+
+    @Test
+    public void testListarAssociadosPorSituacaoPaginado() {
+        when(associadoRepository.countPorSituacaoNoPeriodo(7, 2025, SituacaoAdimplencia.INADIMPLENTE)).thenReturn(45L);
+
+        PaginaDTO<AssociadoResumoDTO> pagina = useCase.listarAssociadosPorSituacao(
+            7, 2025, SituacaoAdimplencia.INADIMPLENTE, 2, 20, "email,desc");
+
+        verify(associadoRepository).findPorSituacaoNoPeriodo(7, 2025, SituacaoAdimplencia.INADIMPLENTE,
+            "email", false, 40, 20);
+        assertEquals(45L, pagina.getTotalElementos());
+        assertEquals(3, pagina.getTotalPaginas());
+        assertEquals(2, pagina.getPagina());
+        assertEquals(devedor.getId().toString(), pagina.getConteudo().get(0).getId());
+    }
+
+    @Test
+    public void testListarAssociadosSemResultadosNaoConsultaPagina() {
+        when(associadoRepository.countPorSituacaoNoPeriodo(7, 2025, null)).thenReturn(0L);
+
+        PaginaDTO<AssociadoResumoDTO> pagina = useCase.listarAssociadosPorSituacao(7, 2025, null, 0, 20, null);
+
+        assertTrue(pagina.getConteudo().isEmpty());
+        assertEquals(0, pagina.getTotalPaginas());
+        verify(associadoRepository, never()).findPorSituacaoNoPeriodo(anyInt(), anyInt(), any(), any(),
+            anyBoolean(), anyInt(), anyInt());
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testListarAssociadosComOrdenacaoInvalida() {
+        useCase.listarAssociadosPorSituacao(7, 2025, null, 0, 20, "telefone");
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testListarAssociadosComTamanhoInvalido() {
+        useCase.listarAssociadosPorSituacao(7, 2025, null, 0, 0, null);
+    }
+
+    private static ManagedExecutorService executorComThreads() {
+        ManagedExecutorService executor = mock(ManagedExecutorService.class);
+        doAnswer(invocation -> {
+            Thread thread = new Thread(invocation.<Runnable>getArgument(0));
+            thread.setDaemon(true);
+            thread.start();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        return executor;
+    }
+}
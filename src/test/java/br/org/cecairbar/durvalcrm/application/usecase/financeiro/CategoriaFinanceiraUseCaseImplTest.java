@@ -139,6 +139,7 @@ public class CategoriaFinanceiraUseCaseImplTest {
         verify(categoriaRepository).existsByNome("Mensalidades Atualizadas");
         verify(mapper).updateDomainFromDTO(updateDTO, categoria);
         verify(categoriaRepository).save(categoria);
+        verify(categoriaRepository).evictFromCache(id);
     }
 
     @Test(expected = BadRequestException.class)
@@ -163,6 +164,17 @@ public class CategoriaFinanceiraUseCaseImplTest {
 
         verify(categoriaRepository).findById(id);
         verify(categoriaRepository).save(categoria);
+        verify(categoriaRepository).evictFromCache(id);
+    }
+
+    @Test
+    public void testCriarNaoRemoveDoCache() {
+        when(categoriaRepository.existsByNome("Mensalidades")).thenReturn(false);
+        when(mapper.toDomain(categoriaDTO)).thenReturn(categoria);
+
+        categoriaUseCase.criar(categoriaDTO);
+
+        verify(categoriaRepository, never()).evictFromCache(any());
     }
 
     @Test(expected = BadRequestException.class)
@@ -189,6 +201,7 @@ public class CategoriaFinanceiraUseCaseImplTest {
 
         verify(categoriaRepository).findById(id);
         verify(categoriaRepository).save(categoria);
+        verify(categoriaRepository).evictFromCache(id);
         verify(mapper).toDTO(categoria);
     }
 
@@ -1,7 +1,9 @@
 package br.org.cecairbar.durvalcrm.application.usecase.financeiro;
 
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ReceitaDTO;
 import br.org.cecairbar.durvalcrm.application.financeiro.ReceitaMapper;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
 import br.org.cecairbar.durvalcrm.domain.model.Receita;
 import br.org.cecairbar.durvalcrm.domain.model.CategoriaFinanceira;
 import br.org.cecairbar.durvalcrm.domain.model.Associado;
@@ -190,6 +192,46 @@ public class ReceitaUseCaseImplTest {
         receitaUseCase.deletar(receitaId);
     }
 
+    @Test
+    public void testListarPaginaComProximaPagina() {
+        Receita outra = new Receita();
+        outra.setId(UUID.randomUUID());
+        outra.setDataReceita(LocalDate.of(2025, 1, 10));
+        List<ReceitaDTO> receitasDTO = Arrays.asList(receitaDTO);
+
+        when(receitaRepository.findPage(null, 2)).thenReturn(Arrays.asList(receita, outra));
+        when(mapper.toDTOList(Arrays.asList(receita))).thenReturn(receitasDTO);
+
+        PaginaCursorDTO<ReceitaDTO> pagina = receitaUseCase.listarPagina(null, 1);
+
+        assertEquals(receitasDTO, pagina.getItens());
+        assertTrue(pagina.isTemMais());
+        assertEquals(new ChavePaginacao("2025-01-15", receitaId), ChavePaginacao.decodificar(pagina.getProximoCursor()));
+    }
+
+    @Test
+    public void testListarPaginaUsaCursor() {
+        ChavePaginacao chave = new ChavePaginacao("2025-01-15", receitaId);
+        when(receitaRepository.findPage(chave, 11)).thenReturn(Arrays.asList(receita));
+        when(mapper.toDTOList(Arrays.asList(receita))).thenReturn(Arrays.asList(receitaDTO));
+
+        PaginaCursorDTO<ReceitaDTO> pagina = receitaUseCase.listarPagina(chave.codificar(), 10);
+
+        assertFalse(pagina.isTemMais());
+        assertNull(pagina.getProximoCursor());
+        assertEquals(1, pagina.getItens().size());
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testListarPaginaLimiteInvalido() {
+        receitaUseCase.listarPagina(null, PaginaCursorDTO.LIMITE_MAXIMO + 1);
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testListarPaginaCursorInvalido() {
+        receitaUseCase.listarPagina(new ChavePaginacao("15/01/2025", receitaId).codificar(), 10);
+    }
+
     @Test
     public void testListarTodas() {
         List<Receita> receitas = Arrays.asList(receita);
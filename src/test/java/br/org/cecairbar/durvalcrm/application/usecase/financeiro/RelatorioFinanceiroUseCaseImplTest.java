@@ -4,9 +4,9 @@ import br.org.cecairbar.durvalcrm.application.dto.ResumoFinanceiroDTO;
 import br.org.cecairbar.durvalcrm.application.dto.ReceitaPorCategoriaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.DespesaPorCategoriaDTO;
 import br.org.cecairbar.durvalcrm.application.dto.FluxoCaixaDTO;
-import br.org.cecairbar.durvalcrm.domain.model.CategoriaFinanceira;
-import br.org.cecairbar.durvalcrm.domain.model.Receita;
-import br.org.cecairbar.durvalcrm.domain.model.Despesa;
+import br.org.cecairbar.durvalcrm.domain.model.GranularidadeFluxoCaixa;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorCategoria;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorData;
 import br.org.cecairbar.durvalcrm.domain.repository.ReceitaRepository;
 import br.org.cecairbar.durvalcrm.domain.repository.DespesaRepository;
 import br.org.cecairbar.durvalcrm.domain.repository.CategoriaFinanceiraRepository;
@@ -22,6 +22,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -91,68 +92,52 @@ public class RelatorioFinanceiroUseCaseImplTest {
     @Test
     public void testObterReceitasPorCategoria() {
         UUID categoriaId = UUID.randomUUID();
-        CategoriaFinanceira categoria = new CategoriaFinanceira();
-        categoria.setId(categoriaId);
-        categoria.setNome("Mensalidades");
-        categoria.setCor("#00FF00");
+        UUID outraCategoriaId = UUID.randomUUID();
 
-        Receita receita1 = new Receita();
-        receita1.setCategoria(categoria);
-        receita1.setValor(new BigDecimal("300.00"));
+        List<TotalPorCategoria> totais = Arrays.asList(
+                new TotalPorCategoria(outraCategoriaId, "Doações", "#0000FF", new BigDecimal("500.00"), 1L),
+                new TotalPorCategoria(categoriaId, "Mensalidades", "#00FF00", new BigDecimal("1500.00"), 2L));
 
-        Receita receita2 = new Receita();
-        receita2.setCategoria(categoria);
-        receita2.setValor(new BigDecimal("200.00"));
-
-        List<Receita> receitas = Arrays.asList(receita1, receita2);
-
-        when(receitaRepository.findByPeriodo(dataInicio, dataFim)).thenReturn(receitas);
+        when(receitaRepository.sumGroupByCategoria(dataInicio, dataFim)).thenReturn(totais);
 
         List<ReceitaPorCategoriaDTO> resultado = relatorioUseCase.obterReceitasPorCategoria(dataInicio, dataFim);
 
         assertNotNull(resultado);
-        assertEquals(1, resultado.size());
+        assertEquals(2, resultado.size());
 
         ReceitaPorCategoriaDTO relatorio = resultado.get(0);
         assertEquals(categoriaId, relatorio.getCategoriaId());
         assertEquals("Mensalidades", relatorio.getCategoriaNome());
-        assertEquals(new BigDecimal("500.00"), relatorio.getTotal());
+        assertEquals("#00FF00", relatorio.getCategoriaCor());
+        assertEquals(new BigDecimal("1500.00"), relatorio.getTotal());
         assertEquals(Long.valueOf(2), relatorio.getQuantidade());
+        assertEquals(0, new BigDecimal("75").compareTo(relatorio.getPercentual()));
+        assertEquals(0, new BigDecimal("25").compareTo(resultado.get(1).getPercentual()));
 
-        verify(receitaRepository).findByPeriodo(dataInicio, dataFim);
+        verify(receitaRepository).sumGroupByCategoria(dataInicio, dataFim);
+        verify(receitaRepository, never()).findByPeriodo(any(), any());
     }
 
     @Test
     public void testObterReceitasPorCategoriaListaVazia() {
-        when(receitaRepository.findByPeriodo(dataInicio, dataFim)).thenReturn(new ArrayList<>());
+        when(receitaRepository.sumGroupByCategoria(dataInicio, dataFim)).thenReturn(new ArrayList<>());
 
         List<ReceitaPorCategoriaDTO> resultado = relatorioUseCase.obterReceitasPorCategoria(dataInicio, dataFim);
 
         assertNotNull(resultado);
         assertEquals(0, resultado.size());
 
-        verify(receitaRepository).findByPeriodo(dataInicio, dataFim);
+        verify(receitaRepository).sumGroupByCategoria(dataInicio, dataFim);
     }
 
     @Test
     public void testObterDespesasPorCategoria() {
         UUID categoriaId = UUID.randomUUID();
-        CategoriaFinanceira categoria = new CategoriaFinanceira();
-        categoria.setId(categoriaId);
-        categoria.setNome("Manutenção");
-        categoria.setCor("#FF0000");
-
-        Despesa despesa1 = new Despesa();
-        despesa1.setCategoria(categoria);
-        despesa1.setValor(new BigDecimal("150.00"));
 
-        Despesa despesa2 = new Despesa();
-        despesa2.setCategoria(categoria);
-        despesa2.setValor(new BigDecimal("350.00"));
+        List<TotalPorCategoria> totais = Arrays.asList(
+                new TotalPorCategoria(categoriaId, "Manutenção", "#FF0000", new BigDecimal("500.00"), 2L));
 
-        List<Despesa> despesas = Arrays.asList(despesa1, despesa2);
-
-        when(despesaRepository.findByPeriodo(dataInicio, dataFim)).thenReturn(despesas);
+        when(despesaRepository.sumGroupByCategoria(dataInicio, dataFim)).thenReturn(totais);
 
         List<DespesaPorCategoriaDTO> resultado = relatorioUseCase.obterDespesasPorCategoria(dataInicio, dataFim);
 
@@ -164,23 +149,25 @@ public class RelatorioFinanceiroUseCaseImplTest {
         assertEquals("Manutenção", relatorio.getCategoriaNome());
         assertEquals(new BigDecimal("500.00"), relatorio.getTotal());
         assertEquals(Long.valueOf(2), relatorio.getQuantidade());
+        assertEquals(0, new BigDecimal("100").compareTo(relatorio.getPercentual()));
 
-        verify(despesaRepository).findByPeriodo(dataInicio, dataFim);
+        verify(despesaRepository).sumGroupByCategoria(dataInicio, dataFim);
+        verify(despesaRepository, never()).findByPeriodo(any(), any());
     }
 
     @Test
     public void testObterFluxoDeCaixa() {
-        // Mock para janeiro (2025-01-01 a 2025-01-31)
-        when(receitaRepository.sumByPeriodo(any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(new BigDecimal("1000.00"));
-        when(despesaRepository.sumByPeriodo(any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(new BigDecimal("500.00"));
+        when(receitaRepository.sumGroupByMes(dataInicio, dataFim))
+                .thenReturn(Arrays.asList(new TotalPorData(2025, 1, new BigDecimal("1000.00"))));
+        when(despesaRepository.sumGroupByMes(dataInicio, dataFim))
+                .thenReturn(Arrays.asList(new TotalPorData(2025, 1, new BigDecimal("500.00"))));
 
         FluxoCaixaDTO resultado = relatorioUseCase.obterFluxoDeCaixa(dataInicio, dataFim);
 
         assertNotNull(resultado);
         assertEquals(dataInicio, resultado.getPeriodoInicio());
         assertEquals(dataFim, resultado.getPeriodoFim());
+        assertEquals(GranularidadeFluxoCaixa.MENSAL, resultado.getGranularidade());
         assertEquals(new BigDecimal("1000.00"), resultado.getTotalReceitasPeriodo());
         assertEquals(new BigDecimal("500.00"), resultado.getTotalDespesasPeriodo());
         assertEquals(new BigDecimal("500.00"), resultado.getSaldoPeriodo());
@@ -188,8 +175,73 @@ public class RelatorioFinanceiroUseCaseImplTest {
         assertNotNull(resultado.getMovimentacoes());
         assertEquals(1, resultado.getMovimentacoes().size());
 
-        verify(receitaRepository, atLeastOnce()).sumByPeriodo(any(LocalDate.class), any(LocalDate.class));
-        verify(despesaRepository, atLeastOnce()).sumByPeriodo(any(LocalDate.class), any(LocalDate.class));
+        verify(receitaRepository, never()).sumByPeriodo(any(LocalDate.class), any(LocalDate.class));
+        verify(despesaRepository, never()).sumByPeriodo(any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    public void testObterFluxoDeCaixaMesesSemMovimentacaoZerados() {
+        LocalDate inicio = LocalDate.of(2024, 11, 15);
+        LocalDate fim = LocalDate.of(2025, 2, 10);
+        when(receitaRepository.sumGroupByMes(inicio, fim)).thenReturn(Arrays.asList(
+                new TotalPorData(2024, 11, new BigDecimal("100.00")),
+                new TotalPorData(2025, 2, new BigDecimal("300.00"))));
+        when(despesaRepository.sumGroupByMes(inicio, fim)).thenReturn(Arrays.asList(
+                new TotalPorData(2024, 12, new BigDecimal("50.00"))));
+
+        FluxoCaixaDTO resultado = relatorioUseCase.obterFluxoDeCaixa(inicio, fim);
+
+        List<FluxoCaixaDTO.MovimentacaoMensalDTO> movimentacoes = resultado.getMovimentacoes();
+        assertEquals(4, movimentacoes.size());
+        assertEquals(YearMonth.of(2024, 11), movimentacoes.get(0).getMesAno());
+        assertEquals(inicio, movimentacoes.get(0).getDataInicio());
+        assertEquals(LocalDate.of(2024, 11, 30), movimentacoes.get(0).getDataFim());
+        assertEquals(BigDecimal.ZERO, movimentacoes.get(2).getReceitas());
+        assertEquals(BigDecimal.ZERO, movimentacoes.get(2).getDespesas());
+        assertEquals(fim, movimentacoes.get(3).getDataFim());
+        assertEquals(new BigDecimal("50.00"), movimentacoes.get(1).getSaldoAcumulado());
+        assertEquals(new BigDecimal("350.00"), movimentacoes.get(3).getSaldoAcumulado());
+        assertEquals(new BigDecimal("350.00"), resultado.getSaldoPeriodo());
+    }
+
+    @Test
+    public void testObterFluxoDeCaixaSemanal() {
+        // 2025-01-01 é quarta-feira: primeira semana começa na segunda 2024-12-30
+        when(receitaRepository.sumGroupByDia(dataInicio, dataFim)).thenReturn(Arrays.asList(
+                new TotalPorData(LocalDate.of(2025, 1, 1), new BigDecimal("10.00")),
+                new TotalPorData(LocalDate.of(2025, 1, 5), new BigDecimal("20.00")),
+                new TotalPorData(LocalDate.of(2025, 1, 6), new BigDecimal("40.00"))));
+        when(despesaRepository.sumGroupByDia(dataInicio, dataFim)).thenReturn(new ArrayList<>());
+
+        FluxoCaixaDTO resultado = relatorioUseCase.obterFluxoDeCaixa(dataInicio, dataFim, GranularidadeFluxoCaixa.SEMANAL);
+
+        List<FluxoCaixaDTO.MovimentacaoMensalDTO> movimentacoes = resultado.getMovimentacoes();
+        assertEquals(5, movimentacoes.size());
+        assertEquals(dataInicio, movimentacoes.get(0).getDataInicio());
+        assertEquals(LocalDate.of(2025, 1, 5), movimentacoes.get(0).getDataFim());
+        assertEquals(new BigDecimal("30.00"), movimentacoes.get(0).getReceitas());
+        assertEquals(new BigDecimal("40.00"), movimentacoes.get(1).getReceitas());
+        assertEquals(dataFim, movimentacoes.get(4).getDataFim());
+        verify(receitaRepository, never()).sumGroupByMes(any(), any());
+    }
+
+    @Test
+    public void testObterFluxoDeCaixaDiario() {
+        LocalDate fim = LocalDate.of(2025, 1, 3);
+        when(receitaRepository.sumGroupByDia(dataInicio, fim)).thenReturn(Arrays.asList(
+                new TotalPorData(LocalDate.of(2025, 1, 2), new BigDecimal("10.00"))));
+        when(despesaRepository.sumGroupByDia(dataInicio, fim)).thenReturn(new ArrayList<>());
+
+        FluxoCaixaDTO resultado = relatorioUseCase.obterFluxoDeCaixa(dataInicio, fim, GranularidadeFluxoCaixa.DIARIA);
+
+        assertEquals(3, resultado.getMovimentacoes().size());
+        assertEquals(BigDecimal.ZERO, resultado.getMovimentacoes().get(0).getReceitas());
+        assertEquals(new BigDecimal("10.00"), resultado.getMovimentacoes().get(1).getReceitas());
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testObterFluxoDeCaixaDiarioPeriodoLongo() {
+        relatorioUseCase.obterFluxoDeCaixa(LocalDate.of(2023, 1, 1), LocalDate.of(2025, 1, 1), GranularidadeFluxoCaixa.DIARIA);
     }
 
     @Test
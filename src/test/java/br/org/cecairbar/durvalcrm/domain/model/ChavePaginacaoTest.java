@@ -0,0 +1,47 @@
+package br.org.cecairbar.durvalcrm.domain.model;
+
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class ChavePaginacaoTest {
+
+    @Test
+    public void testCodificarEDecodificar() {
+        UUID id = UUID.randomUUID();
+        ChavePaginacao chave = new ChavePaginacao("2025-01-15", id);
+
+        String cursor = chave.codificar();
+
+        assertFalse(cursor.contains("="));
+        assertEquals(chave, ChavePaginacao.decodificar(cursor));
+    }
+
+    @Test
+    public void testValorComSeparador() {
+        UUID id = UUID.randomUUID();
+        ChavePaginacao chave = new ChavePaginacao("Maria | Silva", id);
+
+        ChavePaginacao decodificada = ChavePaginacao.decodificar(chave.codificar());
+
+        assertEquals("Maria | Silva", decodificada.getValor());
+        assertEquals(id, decodificada.getId());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCursorNaoBase64() {
+        ChavePaginacao.decodificar("***");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCursorSemSeparador() {
+        ChavePaginacao.decodificar(java.util.Base64.getUrlEncoder().encodeToString("semseparador".getBytes()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCursorComIdInvalido() {
+        ChavePaginacao.decodificar(new ChavePaginacao("2025-01-15", null).codificar());
+    }
+}
@@ -0,0 +1,77 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence;
+
+import br.org.cecairbar.durvalcrm.application.dto.EstatisticasCacheDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CacheSegundoNivelServiceTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @InjectMocks
+    private CacheSegundoNivelService service;
+
+    @Before
+    public void setUp() {
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+    }
+
+    @Test
+    public void testEstatisticasPorRegiao() {
+        CacheRegionStatistics categorias = mock(CacheRegionStatistics.class);
+        when(categorias.getHitCount()).thenReturn(30L);
+        when(categorias.getMissCount()).thenReturn(10L);
+        when(categorias.getPutCount()).thenReturn(10L);
+        when(categorias.getElementCountInMemory()).thenReturn(CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN);
+
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[] {"durvalcrm.categorias-financeiras"});
+        when(statistics.getCacheRegionStatistics("durvalcrm.categorias-financeiras")).thenReturn(categorias);
+        when(statistics.getSecondLevelCacheHitCount()).thenReturn(30L);
+        when(statistics.getSecondLevelCacheMissCount()).thenReturn(10L);
+
+        EstatisticasCacheDTO resultado = service.obterEstatisticas();
+
+        assertTrue(resultado.isEstatisticasHabilitadas());
+        assertEquals(0.75, resultado.getTaxaAcerto(), 0.0001);
+        assertEquals(1, resultado.getRegioes().size());
+        assertEquals(30L, resultado.getRegioes().get(0).getAcertos());
+        assertNull(resultado.getRegioes().get(0).getElementosEmMemoria());
+    }
+
+    @Test
+    public void testSemAcessosNaoCalculaTaxa() {
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[0]);
+
+        EstatisticasCacheDTO resultado = service.obterEstatisticas();
+
+        assertNull(resultado.getTaxaAcerto());
+        assertTrue(resultado.getRegioes().isEmpty());
+    }
+}
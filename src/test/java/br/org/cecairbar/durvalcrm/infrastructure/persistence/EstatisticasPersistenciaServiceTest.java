@@ -0,0 +1,192 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence;
+
+import br.org.cecairbar.durvalcrm.application.dto.EstatisticasPersistenciaDTO;
+import br.org.cecairbar.durvalcrm.domain.model.TipoCategoriaFinanceira;
+import br.org.cecairbar.durvalcrm.domain.model.TipoReceita;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.AssociadoEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.CategoriaFinanceiraEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.ReceitaEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas.ConsultasRequisicao;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas.FabricaEstatisticas;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas.InspetorComandos;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Contagem de comandos, buscas lazy e consultas lentas com o Hibernate configurado como em produção
+ * (FabricaEstatisticas e InspetorComandos), usando o N+1 de receita → categoria como caso real.
+ */
+public class EstatisticasPersistenciaServiceTest {
+
+    private static final int RECEITAS = 6;
+    private static final String LIMITE_CONSULTA_LENTA = "durvalcrm.persistencia.consulta-lenta-ms";
+    private static final String ENDPOINT = "GET /receitas";
+
+    private static EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+
+    @BeforeClass
+    public static void setUpClass() {
+        // Toda consulta é "lenta" para exercitar o registro
+        System.setProperty(LIMITE_CONSULTA_LENTA, "0");
+
+        Map<String, Object> propriedades = new HashMap<>();
+        propriedades.put("hibernate.loaded_classes",
+            List.of(AssociadoEntity.class, CategoriaFinanceiraEntity.class, ReceitaEntity.class));
+        propriedades.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:estatisticas;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        propriedades.put("hibernate.stats.factory", FabricaEstatisticas.class.getName());
+        propriedades.put("hibernate.session_factory.statement_inspector", InspetorComandos.class.getName());
+        entityManagerFactory = Persistence.createEntityManagerFactory("durvalcrm-test-pu", propriedades);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        System.clearProperty(LIMITE_CONSULTA_LENTA);
+        entityManagerFactory.close();
+    }
+
+    @Before
+    public void setUp() {
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < RECEITAS; i++) {
+            CategoriaFinanceiraEntity categoria = new CategoriaFinanceiraEntity();
+            categoria.nome = "Categoria " + i;
+            categoria.tipo = TipoCategoriaFinanceira.RECEITA;
+            categoria.ativa = true;
+            entityManager.persist(categoria);
+
+            ReceitaEntity receita = new ReceitaEntity();
+            receita.descricao = "Receita " + i;
+            receita.valor = new BigDecimal("10.00");
+            receita.tipoReceita = TipoReceita.DOACAO;
+            receita.categoria = categoria;
+            entityManager.persist(receita);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.unwrap(SessionFactory.class).getStatistics().clear();
+    }
+
+    @After
+    public void tearDown() {
+        ConsultasRequisicao.encerrar();
+        entityManager.getTransaction().rollback();
+        entityManager.close();
+    }
+
+    @Test
+    public void testContaComandosEBuscasLazyDaRequisicao() {
+        ConsultasRequisicao.iniciar(ENDPOINT);
+        carregarReceitasComCategoria();
+        ConsultasRequisicao consultas = ConsultasRequisicao.encerrar();
+
+        assertEquals(1 + RECEITAS, consultas.getComandos());
+        assertEquals(RECEITAS, consultas.getBuscasEntidade());
+        assertEquals(Integer.valueOf(RECEITAS), consultas.getComandoMaisRepetido().getValue());
+        assertNull(ConsultasRequisicao.atual());
+    }
+
+    @Test
+    public void testForaDeRequisicaoNaoConta() {
+        carregarReceitasComCategoria();
+
+        assertNull(ConsultasRequisicao.atual());
+    }
+
+    @Test
+    public void testServicoApontaSuspeitaDeNMais1PorEndpoint() {
+        ConsultasRequisicao.iniciar(ENDPOINT);
+        carregarReceitasComCategoria();
+        ConsultasRequisicao consultas = ConsultasRequisicao.encerrar();
+
+        EstatisticasPersistenciaService service = new EstatisticasPersistenciaService();
+        service.registrar(consultas);
+        EstatisticasPersistenciaDTO.EndpointDTO endpoint = service.obterEndpoints().get(0);
+
+        assertEquals(ENDPOINT, endpoint.getEndpoint());
+        assertEquals(1, endpoint.getRequisicoes());
+        assertEquals(1 + RECEITAS, endpoint.getMaximoComandos());
+        assertEquals(RECEITAS, endpoint.getEntidadesBuscadas());
+        assertEquals(1, endpoint.getSuspeitasNMais1());
+        assertTrue(endpoint.getComandoSuspeito().toLowerCase(Locale.ROOT).contains("categorias_financeiras"));
+        assertEquals(Integer.valueOf(RECEITAS), endpoint.getRepeticoesComandoSuspeito());
+    }
+
+    @Test
+    public void testEstatisticasDoHibernateEConsultasLentas() {
+        ConsultasRequisicao.iniciar(ENDPOINT);
+        carregarReceitasComCategoria();
+        ConsultasRequisicao.encerrar();
+
+        EstatisticasPersistenciaService service = new EstatisticasPersistenciaService();
+        service.entityManager = entityManager;
+        EstatisticasPersistenciaDTO estatisticas = service.obterEstatisticas();
+
+        assertTrue(estatisticas.isEstatisticasHabilitadas());
+        assertEquals(RECEITAS, estatisticas.getEntidadesBuscadas());
+        assertEquals(1, estatisticas.getConsultasExecutadas());
+        EstatisticasPersistenciaDTO.EntidadeDTO categoria = estatisticas.getEntidades().stream()
+            .filter(e -> e.getEntidade().equals("CategoriaFinanceiraEntity"))
+            .findFirst().orElseThrow();
+        assertEquals(RECEITAS, categoria.getBuscadas());
+
+        assertEquals(1, estatisticas.getConsultas().size());
+        assertEquals(1, estatisticas.getConsultas().get(0).getExecucoes());
+        assertEquals(RECEITAS, estatisticas.getConsultas().get(0).getLinhas());
+
+        assertEquals(0, estatisticas.getLimiteConsultaLentaMs());
+        assertEquals(1, estatisticas.getConsultasLentas().size());
+        EstatisticasPersistenciaDTO.ConsultaLentaDTO lenta = estatisticas.getConsultasLentas().get(0);
+        assertTrue(lenta.getConsulta().contains("ReceitaEntity"));
+        assertEquals(RECEITAS, lenta.getLinhas());
+        assertEquals(ENDPOINT, lenta.getEndpoint());
+    }
+
+    @Test
+    public void testPropriedadeDeSistemaDecideSeEstatisticasFicamAtivas() {
+        // Ativas sem hibernate.generate_statistics no persistence.xml
+        assertTrue(entityManagerFactory.unwrap(SessionFactory.class).getStatistics().isStatisticsEnabled());
+
+        System.setProperty("durvalcrm.persistencia.estatisticas", "false");
+        Map<String, Object> propriedades = new HashMap<>();
+        propriedades.put("hibernate.loaded_classes", List.of(AssociadoEntity.class));
+        propriedades.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:estatisticas-desligadas;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        propriedades.put("hibernate.generate_statistics", "true");
+        propriedades.put("hibernate.stats.factory", FabricaEstatisticas.class.getName());
+        EntityManagerFactory desligadas = Persistence.createEntityManagerFactory("durvalcrm-test-pu", propriedades);
+        try {
+            assertFalse(desligadas.unwrap(SessionFactory.class).getStatistics().isStatisticsEnabled());
+        } finally {
+            System.clearProperty("durvalcrm.persistencia.estatisticas");
+            desligadas.close();
+        }
+    }
+
+    private void carregarReceitasComCategoria() {
+        List<ReceitaEntity> receitas = entityManager
+            .createQuery("SELECT r FROM ReceitaEntity r ORDER BY r.descricao", ReceitaEntity.class)
+            .getResultList();
+        assertEquals(RECEITAS, receitas.size());
+        for (ReceitaEntity receita : receitas) {
+            // Uma consulta por receita ao inicializar o proxy lazy da categoria
+            Hibernate.initialize(receita.categoria);
+        }
+    }
+}
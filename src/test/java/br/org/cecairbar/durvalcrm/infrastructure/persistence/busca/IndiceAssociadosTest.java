@@ -0,0 +1,113 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.busca;
+
+import br.org.cecairbar.durvalcrm.domain.model.Associado;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class IndiceAssociadosTest {
+
+    private IndiceAssociados indice;
+    private Associado joao;
+    private Associado joana;
+    private Associado maria;
+
+    @Before
+    public void setUp() {
+        joao = associado("João da Silva", "123.456.789-09", "joao.silva@email.com", "(11) 98765-4321");
+        joana = associado("Joana Conceição", "98765432100", "joana@email.com", null);
+        maria = associado("Maria Joãozinho Souza", "11122233344", "maria@teste.org", "21 3333-4444");
+        indice = new IndiceAssociados();
+        indice.recarregar(List.of(joao, joana, maria));
+    }
+
+    @Test
+    public void testIgnoraAcentosEMaiusculas() {
+        assertEquals(List.of(joana.getId()), ids(indice.buscar("CONCEICAO", 10)));
+        assertEquals(List.of(joana.getId()), ids(indice.buscar("conceição", 10)));
+    }
+
+    @Test
+    public void testOrdenaPorRelevancia() {
+        // "joao" é um termo do nome do João e prefixo de um termo do nome da Maria
+        assertEquals(List.of(joao.getId(), maria.getId()), ids(indice.buscar("joão", 10)));
+        // Trecho de nome ("oan" em Joana) vale menos que prefixo
+        assertEquals(List.of(joana.getId()), ids(indice.buscar("oan", 10)));
+    }
+
+    @Test
+    public void testTodosOsTermosPrecisamAparecer() {
+        assertEquals(List.of(joao.getId()), ids(indice.buscar("joao silva", 10)));
+        assertTrue(indice.buscar("joao inexistente", 10).isEmpty());
+    }
+
+    @Test
+    public void testBuscaPorCpfTelefoneEEmailComOuSemMascara() {
+        assertEquals(List.of(joao.getId()), ids(indice.buscar("12345678909", 10)));
+        assertEquals(List.of(joao.getId()), ids(indice.buscar("456.789", 10)));
+        assertEquals(List.of(maria.getId()), ids(indice.buscar("3333-4444", 10)));
+        assertEquals(List.of(joao.getId()), ids(indice.buscar("joao.silva@email", 10)));
+        // Mesma pontuação: desempate pelo nome
+        assertEquals(List.of(joana.getId(), joao.getId()), ids(indice.buscar("email.com", 10)));
+    }
+
+    @Test
+    public void testTermosCurtosConferemTodosOsAssociados() {
+        assertEquals(List.of(joana.getId(), joao.getId(), maria.getId()), ids(indice.buscar("jo", 10)));
+    }
+
+    @Test
+    public void testLimitaResultados() {
+        List<Associado> muitos = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            muitos.add(associado("Associado " + i, String.format("%011d", i), "a" + i + "@x.org", null));
+        }
+        indice.recarregar(muitos);
+
+        assertEquals(5, indice.buscar("associado", 5).size());
+        assertTrue(indice.buscar("associado", 0).isEmpty());
+        assertTrue(indice.buscar("   ", 5).isEmpty());
+    }
+
+    @Test
+    public void testAtualizacaoIncrementalEInativos() {
+        joao.setNomeCompleto("João Batista");
+        joao.setEmail("jb@email.com");
+        indice.indexar(joao);
+        assertTrue(indice.buscar("silva", 10).isEmpty());
+        assertEquals(List.of(joao.getId()), ids(indice.buscar("batista", 10)));
+
+        Associado novo = associado("Pedro Álvares", "55566677788", "pedro@x.org", null);
+        indice.indexar(novo);
+        assertEquals(List.of(novo.getId()), ids(indice.buscar("alvares", 10)));
+
+        novo.setAtivo(false);
+        indice.indexar(novo);
+        assertTrue(indice.buscar("alvares", 10).isEmpty());
+
+        indice.remover(joana.getId());
+        assertTrue(indice.buscar("joana", 10).isEmpty());
+        assertEquals(2, indice.tamanho());
+    }
+
+    @Test
+    public void testResultadoNaoAlteraOIndice() {
+        indice.buscar("joao silva", 10).get(0).setNomeCompleto("Outro Nome");
+
+        assertEquals("João da Silva", indice.buscar("joao silva", 10).get(0).getNomeCompleto());
+    }
+
+    private static Associado associado(String nome, String cpf, String email, String telefone) {
+        return new Associado(UUID.randomUUID(), nome, cpf, email, telefone, true);
+    }
+
+    private static List<UUID> ids(List<Associado> associados) {
+        return associados.stream().map(Associado::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,138 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.migracao;
+
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.AssociadoEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.CategoriaFinanceiraEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.DespesaEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.DoacaoEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.MensalidadeEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.ReceitaEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.VendaEntity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class MigradorEsquemaTest {
+
+    private String url;
+    private JdbcDataSource dataSource;
+
+    @Before
+    public void setUp() {
+        // Banco novo por teste
+        url = "jdbc:h2:mem:migracao-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+        dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+    }
+
+    @Test
+    public void testAplicaScriptsUmaUnicaVez() throws SQLException {
+        List<ScriptMigracao> scripts = MigradorEsquema.carregar(getClass().getClassLoader());
+        MigradorEsquema migrador = new MigradorEsquema(dataSource);
+
+        assertEquals(scripts.size(), migrador.migrar(scripts));
+        assertEquals(0, migrador.migrar(scripts));
+
+        try (Connection conexao = dataSource.getConnection();
+             ResultSet resultado = conexao.createStatement().executeQuery(
+                 "SELECT versao, script FROM schema_migracoes ORDER BY versao")) {
+            for (ScriptMigracao script : scripts) {
+                assertTrue(resultado.next());
+                assertEquals(script.getVersao(), resultado.getInt(1));
+                assertEquals(script.getNome(), resultado.getString(2));
+            }
+            assertFalse(resultado.next());
+        }
+    }
+
+    @Test
+    public void testEsquemaMigradoValidaComAsEntidades() throws SQLException {
+        new MigradorEsquema(dataSource).migrar(MigradorEsquema.carregar(getClass().getClassLoader()));
+
+        Map<String, Object> propriedades = new HashMap<>();
+        propriedades.put("hibernate.loaded_classes", List.of(AssociadoEntity.class, MensalidadeEntity.class,
+            DoacaoEntity.class, VendaEntity.class, CategoriaFinanceiraEntity.class, ReceitaEntity.class,
+            DespesaEntity.class));
+        propriedades.put("jakarta.persistence.jdbc.url", url);
+        propriedades.put("hibernate.hbm2ddl.auto", "validate");
+
+        // Falha com SchemaManagementException se faltar tabela ou coluna, ou se o tipo divergir do mapeamento
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("durvalcrm-test-pu", propriedades);
+        emf.close();
+    }
+
+    @Test
+    public void testScriptAlteradoDepoisDeAplicadoInterrompeMigracao() throws SQLException {
+        MigradorEsquema migrador = new MigradorEsquema(dataSource);
+        migrador.migrar(List.of(ScriptMigracao.de("V1__tabela.sql", "CREATE TABLE t (id INTEGER);")));
+
+        try {
+            migrador.migrar(List.of(ScriptMigracao.de("V1__tabela.sql", "CREATE TABLE t (id BIGINT);")));
+            fail("Checksum divergente deveria interromper a migração");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("V1__tabela.sql"));
+        }
+    }
+
+    @Test
+    public void testFalhaDesfazScriptENaoRegistraVersao() throws SQLException {
+        MigradorEsquema migrador = new MigradorEsquema(dataSource);
+
+        try {
+            migrador.migrar(List.of(ScriptMigracao.de("V1__invalido.sql",
+                "INSERT INTO inexistente VALUES (1);")));
+            fail("Script inválido deveria falhar");
+        } catch (SQLException e) {
+            assertTrue(e.getMessage().contains("V1__invalido.sql"));
+        }
+
+        assertEquals(1, migrador.migrar(List.of(ScriptMigracao.de("V1__invalido.sql", "CREATE TABLE t (id INTEGER);"))));
+    }
+
+    @Test
+    public void testScriptSomentePostgresqlERegistradoSemExecutarEmOutrosBancos() throws SQLException {
+        MigradorEsquema migrador = new MigradorEsquema(dataSource);
+        ScriptMigracao bloco = ScriptMigracao.de("V1__bloco.sql",
+            ScriptMigracao.SOMENTE_POSTGRESQL + "\nDO $$ BEGIN PERFORM 1; END $$;");
+
+        assertTrue(bloco.isSomentePostgresql());
+        assertFalse(ScriptMigracao.de("V1__tabela.sql", "CREATE TABLE t (id INTEGER);").isSomentePostgresql());
+        assertEquals(1, migrador.migrar(List.of(bloco)));
+        assertEquals(0, migrador.migrar(List.of(bloco)));
+    }
+
+    @Test
+    public void testDividirComandos() {
+        String script = "-- comentário; com ponto e vírgula\n"
+            + "CREATE TABLE a (nome VARCHAR(10) DEFAULT 'x;y');\n"
+            + "/* bloco; */ INSERT INTO \"a;b\" VALUES ('it''s');\n"
+            + "DO $$ BEGIN PERFORM 1; END $$;\n"
+            + "SELECT $f$;$f$";
+
+        List<String> comandos = new ArrayList<>(MigradorEsquema.dividirComandos(script));
+
+        assertEquals(4, comandos.size());
+        assertEquals("CREATE TABLE a (nome VARCHAR(10) DEFAULT 'x;y')", comandos.get(0));
+        assertEquals("INSERT INTO \"a;b\" VALUES ('it''s')", comandos.get(1));
+        assertEquals("DO $$ BEGIN PERFORM 1; END $$", comandos.get(2));
+        assertEquals("SELECT $f$;$f$", comandos.get(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNomeForaDoPadrao() {
+        ScriptMigracao.de("indices.sql", "SELECT 1");
+    }
+}
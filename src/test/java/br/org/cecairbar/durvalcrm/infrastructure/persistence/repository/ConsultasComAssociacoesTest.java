@@ -0,0 +1,229 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.repository;
+
+import br.org.cecairbar.durvalcrm.application.doacao.DoacaoEntityMapperImpl;
+import br.org.cecairbar.durvalcrm.application.financeiro.DespesaEntityMapperImpl;
+import br.org.cecairbar.durvalcrm.application.financeiro.ReceitaEntityMapperImpl;
+import br.org.cecairbar.durvalcrm.domain.model.Despesa;
+import br.org.cecairbar.durvalcrm.domain.model.Doacao;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
+import br.org.cecairbar.durvalcrm.domain.model.Receita;
+import br.org.cecairbar.durvalcrm.domain.model.StatusDoacao;
+import br.org.cecairbar.durvalcrm.domain.model.TipoCategoriaFinanceira;
+import br.org.cecairbar.durvalcrm.domain.model.TipoDespesa;
+import br.org.cecairbar.durvalcrm.domain.model.TipoDoacao;
+import br.org.cecairbar.durvalcrm.domain.model.TipoReceita;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.AssociadoEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.CategoriaFinanceiraEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.DespesaEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.DoacaoEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.ReceitaEntity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * As listagens de receitas, despesas e doações trazem categoria/associado no mesmo SELECT:
+ * a quantidade de comandos não cresce com o número de linhas.
+ */
+public class ConsultasComAssociacoesTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2025, 1, 1);
+    private static final LocalDate FIM = LocalDate.of(2025, 12, 31);
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    private final List<String> comandos = new ArrayList<>();
+    private Session sessao;
+    private int criados;
+
+    private ReceitaRepositoryImpl receitaRepository;
+    private DespesaRepositoryImpl despesaRepository;
+    private DoacaoRepositoryImpl doacaoRepository;
+
+    @BeforeClass
+    public static void setUpClass() {
+        Map<String, Object> propriedades = new HashMap<>();
+        propriedades.put("hibernate.loaded_classes", List.of(AssociadoEntity.class, CategoriaFinanceiraEntity.class,
+            ReceitaEntity.class, DespesaEntity.class, DoacaoEntity.class));
+        propriedades.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:associacoes;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        entityManagerFactory = Persistence.createEntityManagerFactory("durvalcrm-test-pu", propriedades);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        entityManagerFactory.close();
+    }
+
+    @Before
+    public void setUp() {
+        sessao = entityManagerFactory.unwrap(SessionFactory.class).withOptions()
+            .statementInspector(sql -> {
+                comandos.add(sql);
+                return sql;
+            })
+            .openSession();
+        sessao.getTransaction().begin();
+
+        receitaRepository = new ReceitaRepositoryImpl();
+        receitaRepository.entityManager = sessao;
+        receitaRepository.mapper = new ReceitaEntityMapperImpl();
+        despesaRepository = new DespesaRepositoryImpl();
+        despesaRepository.entityManager = sessao;
+        despesaRepository.mapper = new DespesaEntityMapperImpl();
+        doacaoRepository = new DoacaoRepositoryImpl();
+        doacaoRepository.entityManager = sessao;
+        doacaoRepository.mapper = new DoacaoEntityMapperImpl();
+    }
+
+    @After
+    public void tearDown() {
+        sessao.getTransaction().rollback();
+        sessao.close();
+    }
+
+    @Test
+    public void testListagensDeReceitasNaoCrescemComAsLinhas() {
+        criar(2);
+        List<Integer> poucas = List.of(
+            contar(receitaRepository::findAll),
+            contar(() -> receitaRepository.findByPeriodo(INICIO, FIM)),
+            contar(() -> receitaRepository.findByTipoReceita(TipoReceita.DOACAO)),
+            contar(() -> receitaRepository.findPage(null, 50)));
+
+        criar(10);
+        List<Integer> muitas = List.of(
+            contar(receitaRepository::findAll),
+            contar(() -> receitaRepository.findByPeriodo(INICIO, FIM)),
+            contar(() -> receitaRepository.findByTipoReceita(TipoReceita.DOACAO)),
+            contar(() -> receitaRepository.findPage(null, 50)));
+
+        assertEquals(List.of(1, 1, 1, 1), poucas);
+        assertEquals(poucas, muitas);
+
+        List<Receita> receitas = receitaRepository.findAll();
+        assertEquals(12, receitas.size());
+        for (Receita receita : receitas) {
+            assertNotNull(receita.getCategoria().getNome());
+            assertNotNull(receita.getAssociado().getNomeCompleto());
+        }
+    }
+
+    @Test
+    public void testListagensDeDespesasNaoCrescemComAsLinhas() {
+        criar(2);
+        int poucas = contar(() -> despesaRepository.findByPeriodo(INICIO, FIM));
+        criar(10);
+        int muitas = contar(() -> despesaRepository.findByPeriodo(INICIO, FIM));
+
+        assertEquals(1, poucas);
+        assertEquals(poucas, muitas);
+        assertEquals(1, contar(despesaRepository::findAll));
+        assertEquals(1, contar(() -> despesaRepository.findPage(null, 50)));
+
+        for (Despesa despesa : despesaRepository.findAll()) {
+            assertNotNull(despesa.getCategoria().getNome());
+        }
+    }
+
+    @Test
+    public void testListagensDeDoacoesNaoCrescemComAsLinhas() {
+        criar(2);
+        int poucas = contar(doacaoRepository::findAll);
+        criar(10);
+        int muitas = contar(doacaoRepository::findAll);
+
+        assertEquals(1, poucas);
+        assertEquals(poucas, muitas);
+        assertEquals(1, contar(() -> doacaoRepository.findByStatus(StatusDoacao.PENDENTE)));
+        assertEquals(1, contar(() -> doacaoRepository.findPage((ChavePaginacao) null, 50)));
+
+        for (Doacao doacao : doacaoRepository.findAll()) {
+            assertNotNull(doacao.getAssociado().getNomeCompleto());
+        }
+    }
+
+    @Test
+    public void testBuscaPorIdTrazAssociacoesEmUmComando() {
+        criar(1);
+        ReceitaEntity receita = sessao.createQuery("SELECT r FROM ReceitaEntity r", ReceitaEntity.class).getSingleResult();
+        DespesaEntity despesa = sessao.createQuery("SELECT d FROM DespesaEntity d", DespesaEntity.class).getSingleResult();
+        DoacaoEntity doacao = sessao.createQuery("SELECT d FROM DoacaoEntity d", DoacaoEntity.class).getSingleResult();
+
+        assertEquals(1, contar(() -> receitaRepository.findById(receita.id).orElseThrow().getCategoria().getNome()));
+        assertEquals(1, contar(() -> despesaRepository.findById(despesa.id).orElseThrow().getCategoria().getNome()));
+        assertEquals(1, contar(() -> doacaoRepository.findById(doacao.id).orElseThrow().getAssociado().getNomeCompleto()));
+    }
+
+    /**
+     * Comandos SQL executados pela consulta com o contexto de persistência vazio
+     */
+    private int contar(Supplier<?> consulta) {
+        sessao.clear();
+        comandos.clear();
+        assertNotNull(consulta.get());
+        return comandos.size();
+    }
+
+    /**
+     * Receitas, despesas e doações, cada uma com categoria e associado próprios
+     */
+    private void criar(int quantidade) {
+        for (int i = 0; i < quantidade; i++, criados++) {
+            AssociadoEntity associado = new AssociadoEntity();
+            associado.nomeCompleto = "Associado " + criados;
+            associado.cpf = String.format("%011d", criados);
+            associado.email = "associado" + criados + "@teste.org";
+            sessao.persist(associado);
+
+            CategoriaFinanceiraEntity categoria = new CategoriaFinanceiraEntity();
+            categoria.nome = "Categoria " + criados;
+            categoria.tipo = TipoCategoriaFinanceira.RECEITA;
+            categoria.ativa = true;
+            sessao.persist(categoria);
+
+            ReceitaEntity receita = new ReceitaEntity();
+            receita.descricao = "Receita " + criados;
+            receita.valor = BigDecimal.TEN;
+            receita.dataReceita = INICIO.plusDays(criados);
+            receita.tipoReceita = TipoReceita.DOACAO;
+            receita.categoria = categoria;
+            receita.associado = associado;
+            sessao.persist(receita);
+
+            DespesaEntity despesa = new DespesaEntity();
+            despesa.descricao = "Despesa " + criados;
+            despesa.valor = BigDecimal.ONE;
+            despesa.dataDespesa = INICIO.plusDays(criados);
+            despesa.dataVencimento = INICIO.plusDays(criados);
+            despesa.tipoDespesa = TipoDespesa.OPERACIONAL;
+            despesa.categoria = categoria;
+            sessao.persist(despesa);
+
+            DoacaoEntity doacao = new DoacaoEntity();
+            doacao.associado = associado;
+            doacao.valor = BigDecimal.TEN;
+            doacao.tipo = TipoDoacao.UNICA;
+            doacao.status = StatusDoacao.PENDENTE;
+            doacao.dataDoacao = LocalDateTime.of(2025, 1, 1, 10, 0).plusDays(criados);
+            sessao.persist(doacao);
+        }
+        sessao.flush();
+    }
+}
@@ -0,0 +1,119 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.repository;
+
+import br.org.cecairbar.durvalcrm.domain.model.Mensalidade;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.MensalidadeEntity;
+import br.org.cecairbar.durvalcrm.test.base.BaseRepositoryTest;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Verifica via EXPLAIN (H2 em modo PostgreSQL) que as consultas do repositório de mensalidades
+ * usam os índices declarados em MensalidadeEntity.
+ */
+public class MensalidadeRepositoryIndicesTest extends BaseRepositoryTest {
+
+    private final List<String> comandos = new ArrayList<>();
+    private Session sessao;
+    private MensalidadeRepositoryImpl repository;
+
+    @Before
+    @Override
+    public void setUp() {
+        super.setUp();
+        sessao = entityManagerFactory.unwrap(SessionFactory.class).withOptions()
+            .statementInspector(sql -> {
+                comandos.add(sql);
+                return sql;
+            })
+            .openSession();
+        repository = new MensalidadeRepositoryImpl();
+        repository.entityManager = sessao;
+
+        // Algumas linhas para que o otimizador não trate a tabela como vazia
+        sessao.getTransaction().begin();
+        for (int i = 1; i <= 12; i++) {
+            MensalidadeEntity entity = MensalidadeEntity.fromDomain(
+                Mensalidade.criar(UUID.randomUUID(), i, 2025, new BigDecimal("10.90")));
+            entity.id = null;
+            sessao.persist(entity);
+        }
+        sessao.flush();
+        comandos.clear();
+    }
+
+    @After
+    @Override
+    public void tearDown() {
+        sessao.getTransaction().rollback();
+        sessao.close();
+        super.tearDown();
+    }
+
+    @Test
+    public void testBuscaPorIdentificadorPixUsaIndiceUnico() {
+        repository.findByIdentificadorPix("MENS00000000012025");
+
+        assertUsaIndice("idx_mensalidade_identificador_pix");
+    }
+
+    @Test
+    public void testBuscaPorListaDeIdentificadoresUsaIndiceUnico() {
+        repository.findNaoPagasByIdentificadoresPix(List.of("MENS00000000012025", "MENS00000000022025"));
+
+        assertUsaIndice("idx_mensalidade_identificador_pix");
+    }
+
+    @Test
+    public void testVencidasUsamIndiceDeStatusEVencimento() {
+        repository.findVencidas();
+        assertUsaIndice("idx_mensalidade_status_vencimento");
+
+        repository.countPendentesVencidas(LocalDate.of(2025, 6, 1));
+        assertUsaIndice("idx_mensalidade_status_vencimento");
+    }
+
+    @Test
+    public void testFiltrosDoPeriodoUsamIndiceDePeriodoEStatus() {
+        repository.findPendentesByMesEAno(3, 2025);
+        assertUsaIndice("idx_mensalidade_periodo_status");
+
+        repository.countByStatusAndMesEAno("PAGA", 3, 2025);
+        assertUsaIndice("idx_mensalidade_periodo_status");
+
+        repository.obterTotaisPorStatus(3, 2025);
+        assertUsaIndice("idx_mensalidade_periodo_status");
+    }
+
+    /**
+     * EXPLAIN do último comando executado pelo repositório
+     */
+    private void assertUsaIndice(String indice) {
+        assertFalse("Nenhum comando SQL capturado", comandos.isEmpty());
+        String sql = comandos.get(comandos.size() - 1);
+        String plano = sessao.doReturningWork(conexao -> {
+            try (PreparedStatement explain = conexao.prepareStatement("EXPLAIN " + sql);
+                 ResultSet resultado = explain.executeQuery()) {
+                StringBuilder texto = new StringBuilder();
+                while (resultado.next()) {
+                    texto.append(resultado.getString(1));
+                }
+                return texto.toString();
+            }
+        });
+        assertTrue("Plano sem " + indice + ": " + plano, plano.toLowerCase(Locale.ROOT).contains(indice));
+    }
+}
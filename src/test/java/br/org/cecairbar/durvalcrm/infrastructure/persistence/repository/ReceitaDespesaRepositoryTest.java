@@ -0,0 +1,181 @@
+package br.org.cecairbar.durvalcrm.infrastructure.persistence.repository;
+
+import br.org.cecairbar.durvalcrm.application.financeiro.DespesaEntityMapperImpl;
+import br.org.cecairbar.durvalcrm.application.financeiro.ReceitaEntityMapperImpl;
+import br.org.cecairbar.durvalcrm.domain.model.ChavePaginacao;
+import br.org.cecairbar.durvalcrm.domain.model.Receita;
+import br.org.cecairbar.durvalcrm.domain.model.StatusPagamentoDespesa;
+import br.org.cecairbar.durvalcrm.domain.model.TipoCategoriaFinanceira;
+import br.org.cecairbar.durvalcrm.domain.model.TipoDespesa;
+import br.org.cecairbar.durvalcrm.domain.model.TipoReceita;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorCategoria;
+import br.org.cecairbar.durvalcrm.domain.model.TotalPorData;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.AssociadoEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.CategoriaFinanceiraEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.DespesaEntity;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.ReceitaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Agregações por categoria/mês/dia feitas no banco e paginação por keyset das receitas
+ */
+public class ReceitaDespesaRepositoryTest {
+
+    private static EntityManagerFactory entityManagerFactory;
+
+    private EntityManager entityManager;
+    private ReceitaRepositoryImpl receitaRepository;
+    private DespesaRepositoryImpl despesaRepository;
+
+    @BeforeClass
+    public static void setUpClass() {
+        Map<String, Object> propriedades = new HashMap<>();
+        propriedades.put("hibernate.loaded_classes", List.of(AssociadoEntity.class, CategoriaFinanceiraEntity.class,
+            ReceitaEntity.class, DespesaEntity.class));
+        propriedades.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:receitas-despesas;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        entityManagerFactory = Persistence.createEntityManagerFactory("durvalcrm-test-pu", propriedades);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        entityManagerFactory.close();
+    }
+
+    @Before
+    public void setUp() {
+        entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+
+        receitaRepository = new ReceitaRepositoryImpl();
+        receitaRepository.entityManager = entityManager;
+        receitaRepository.mapper = new ReceitaEntityMapperImpl();
+        despesaRepository = new DespesaRepositoryImpl();
+        despesaRepository.entityManager = entityManager;
+        despesaRepository.mapper = new DespesaEntityMapperImpl();
+    }
+
+    @After
+    public void tearDown() {
+        entityManager.getTransaction().rollback();
+        entityManager.close();
+    }
+
+    @Test
+    public void testTotaisPorCategoriaRespeitamOPeriodo() {
+        CategoriaFinanceiraEntity aluguel = categoria("Aluguel");
+        CategoriaFinanceiraEntity eventos = categoria("Eventos");
+        receita(aluguel, "10.00", LocalDate.of(2025, 1, 5));
+        receita(aluguel, "20.00", LocalDate.of(2025, 1, 6));
+        receita(eventos, "5.00", LocalDate.of(2025, 1, 7));
+        receita(eventos, "99.00", LocalDate.of(2025, 3, 7));
+        despesa(eventos, "7.00", LocalDate.of(2025, 1, 5));
+        despesa(eventos, "8.00", LocalDate.of(2025, 2, 5));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TotalPorCategoria> receitas = receitaRepository.sumGroupByCategoria(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+        assertEquals(2, receitas.size());
+        assertEquals("Aluguel", receitas.get(0).getCategoriaNome());
+        assertEquals(2L, (long) receitas.get(0).getQuantidade());
+        assertEquals(0, new BigDecimal("30.00").compareTo(receitas.get(0).getTotal()));
+
+        List<TotalPorCategoria> despesas = despesaRepository.sumGroupByCategoria(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 28));
+        assertEquals(1, despesas.size());
+        assertEquals(0, new BigDecimal("15.00").compareTo(despesas.get(0).getTotal()));
+    }
+
+    @Test
+    public void testTotaisPorMesEPorDiaEmOrdemCronologica() {
+        CategoriaFinanceiraEntity geral = categoria("Geral");
+        receita(geral, "10.00", LocalDate.of(2025, 1, 5));
+        receita(geral, "20.00", LocalDate.of(2025, 1, 6));
+        receita(geral, "99.00", LocalDate.of(2025, 3, 7));
+        despesa(geral, "7.00", LocalDate.of(2025, 1, 5));
+        despesa(geral, "8.00", LocalDate.of(2025, 2, 5));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TotalPorData> porMes = receitaRepository.sumGroupByMes(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        assertEquals(2, porMes.size());
+        assertEquals(LocalDate.of(2025, 1, 1), porMes.get(0).getData());
+        assertEquals(0, new BigDecimal("30.00").compareTo(porMes.get(0).getTotal()));
+        assertEquals(LocalDate.of(2025, 3, 1), porMes.get(1).getData());
+
+        List<TotalPorData> porDia = despesaRepository.sumGroupByDia(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        assertEquals(2, porDia.size());
+        assertEquals(LocalDate.of(2025, 1, 5), porDia.get(0).getData());
+        assertEquals(LocalDate.of(2025, 2, 5), porDia.get(1).getData());
+    }
+
+    @Test
+    public void testPaginacaoPorKeysetDesempataPeloIdSemRepetirNemPular() {
+        CategoriaFinanceiraEntity geral = categoria("Geral");
+        // Várias receitas na mesma data: o id decide a ordem entre elas
+        for (int i = 1; i <= 5; i++) {
+            receita(geral, "1.00", LocalDate.of(2025, 1, i % 3 + 1));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UUID> vistos = new ArrayList<>();
+        ChavePaginacao after = null;
+        List<Receita> pagina;
+        while (!(pagina = receitaRepository.findPage(after, 2)).isEmpty()) {
+            pagina.forEach(receita -> vistos.add(receita.getId()));
+            Receita ultima = pagina.get(pagina.size() - 1);
+            after = new ChavePaginacao(ultima.getDataReceita().toString(), ultima.getId());
+        }
+
+        assertEquals(5, vistos.size());
+        assertEquals(5, new HashSet<>(vistos).size());
+    }
+
+    private CategoriaFinanceiraEntity categoria(String nome) {
+        CategoriaFinanceiraEntity categoria = new CategoriaFinanceiraEntity();
+        categoria.nome = nome;
+        categoria.tipo = TipoCategoriaFinanceira.AMBOS;
+        categoria.ativa = true;
+        entityManager.persist(categoria);
+        return categoria;
+    }
+
+    private void receita(CategoriaFinanceiraEntity categoria, String valor, LocalDate data) {
+        ReceitaEntity receita = new ReceitaEntity();
+        receita.descricao = "Receita";
+        receita.valor = new BigDecimal(valor);
+        receita.dataReceita = data;
+        receita.tipoReceita = TipoReceita.DOACAO;
+        receita.categoria = categoria;
+        entityManager.persist(receita);
+    }
+
+    private void despesa(CategoriaFinanceiraEntity categoria, String valor, LocalDate data) {
+        DespesaEntity despesa = new DespesaEntity();
+        despesa.descricao = "Despesa";
+        despesa.valor = new BigDecimal(valor);
+        despesa.dataDespesa = data;
+        despesa.dataVencimento = data;
+        despesa.tipoDespesa = TipoDespesa.values()[0];
+        despesa.statusPagamento = StatusPagamentoDespesa.values()[0];
+        despesa.categoria = categoria;
+        entityManager.persist(despesa);
+    }
+}
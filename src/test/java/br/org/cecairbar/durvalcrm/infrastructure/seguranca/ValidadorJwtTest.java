@@ -0,0 +1,210 @@
+package br.org.cecairbar.durvalcrm.infrastructure.seguranca;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.NotAuthorizedException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Valida tokens assinados localmente contra um JWKS gravado em arquivo, no lugar do Keycloak
+ */
+public class ValidadorJwtTest {
+
+    private static final String EMISSOR = "http://keycloak.teste/realms/durval-crm";
+    private static final String CLIENTE = "durvalcrm-app";
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Rule
+    public TemporaryFolder pasta = new TemporaryFolder();
+
+    private KeyPair chaveAtual;
+    private KeyPair chaveNova;
+    private File jwks;
+    private ValidadorJwt validador;
+
+    @Before
+    public void setUp() throws Exception {
+        KeyPairGenerator gerador = KeyPairGenerator.getInstance("RSA");
+        gerador.initialize(2048);
+        chaveAtual = gerador.generateKeyPair();
+        chaveNova = gerador.generateKeyPair();
+
+        jwks = pasta.newFile("certs.json");
+        gravarJwks(Map.of("atual", chaveAtual));
+
+        validador = new ValidadorJwt();
+        validador.chaves = spy(new ChavesJwks(jwks.toURI(), 0));
+        validador.emissor = EMISSOR;
+        validador.cliente = CLIENTE;
+    }
+
+    @Test
+    public void testTokenValidoExpoeUsuarioEPapeis() throws Exception {
+        String token = token("RS256", "atual", chaveAtual, claims(Instant.now().plusSeconds(300)));
+
+        UsuarioAutenticado usuario = validador.validar(token);
+
+        assertEquals("maria", usuario.getName());
+        assertEquals("f3a1c9e0", usuario.getSub());
+        assertEquals("maria@email.com", usuario.getClaims().get("email"));
+        assertTrue(usuario.getPapeis().contains("admin"));
+    }
+
+    @Test
+    public void testTokenJaVerificadoNaoRepeteAVerificacao() throws Exception {
+        String token = token("RS256", "atual", chaveAtual, claims(Instant.now().plusSeconds(300)));
+
+        UsuarioAutenticado primeira = validador.validar(token);
+        UsuarioAutenticado segunda = validador.validar(token);
+
+        assertSame(primeira, segunda);
+        verify(validador.chaves, times(1)).obter("atual");
+    }
+
+    @Test
+    public void testRecusaAssinaturaDeOutraChave() throws Exception {
+        String token = token("RS256", "atual", chaveNova, claims(Instant.now().plusSeconds(300)));
+
+        assertInvalido(token, "Assinatura inválida");
+    }
+
+    @Test
+    public void testRecusaTokenAlteradoDepoisDeAssinado() throws Exception {
+        String token = token("RS256", "atual", chaveAtual, claims(Instant.now().plusSeconds(300)));
+        Map<String, Object> claims = claims(Instant.now().plusSeconds(300));
+        claims.put("preferred_username", "admin");
+        String[] partes = token.split("\\.");
+        String adulterado = partes[0] + "." + base64(JSON.writeValueAsBytes(claims)) + "." + partes[2];
+
+        assertInvalido(adulterado, "Assinatura inválida");
+    }
+
+    @Test
+    public void testRecusaTokenExpiradoAlgoritmoNoneEOutroEmissor() throws Exception {
+        assertInvalido(token("RS256", "atual", chaveAtual, claims(Instant.now().minusSeconds(120))), "Token expirado");
+
+        String semAssinatura = base64("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+            + base64(JSON.writeValueAsBytes(claims(Instant.now().plusSeconds(300)))) + ".";
+        assertInvalido(semAssinatura, "Algoritmo de assinatura não aceito: none");
+
+        Map<String, Object> outroEmissor = claims(Instant.now().plusSeconds(300));
+        outroEmissor.put("iss", "http://outro/realms/durval-crm");
+        assertInvalido(token("RS256", "atual", chaveAtual, outroEmissor), "Emissor não aceito: http://outro/realms/durval-crm");
+
+        assertInvalido("abc.def", "Token malformado");
+    }
+
+    @Test
+    public void testRecusaIdTokenETokenDeOutroCliente() throws Exception {
+        Map<String, Object> idToken = claims(Instant.now().plusSeconds(300));
+        idToken.put("typ", "ID");
+        idToken.put("aud", CLIENTE);
+        assertInvalido(token("RS256", "atual", chaveAtual, idToken), "Não é um token de acesso: typ ID");
+
+        Map<String, Object> outroCliente = claims(Instant.now().plusSeconds(300));
+        outroCliente.put("azp", "outro-app");
+        outroCliente.put("aud", List.of("account"));
+        assertInvalido(token("RS256", "atual", chaveAtual, outroCliente), "Token emitido para outro cliente");
+
+        // Token de outro cliente com este na audiência (ex.: troca de token) é aceito
+        outroCliente.put("aud", List.of("account", CLIENTE));
+        assertEquals("maria", validador.validar(token("RS256", "atual", chaveAtual, outroCliente)).getName());
+    }
+
+    @Test
+    public void testKidDesconhecidoReleOJwks() throws Exception {
+        validador.validar(token("RS256", "atual", chaveAtual, claims(Instant.now().plusSeconds(300))));
+
+        // Rotação de chaves no Keycloak
+        gravarJwks(Map.of("atual", chaveAtual, "nova", chaveNova));
+        UsuarioAutenticado usuario = validador.validar(token("RS512", "nova", chaveNova, claims(Instant.now().plusSeconds(300))));
+
+        assertEquals("maria", usuario.getName());
+    }
+
+    @Test
+    public void testReleituraDoJwksLimitadaPeloIntervaloMinimo() throws Exception {
+        validador.chaves = new ChavesJwks(jwks.toURI(), 3600);
+        validador.validar(token("RS256", "atual", chaveAtual, claims(Instant.now().plusSeconds(300))));
+
+        gravarJwks(Map.of("nova", chaveNova));
+
+        assertInvalido(token("RS256", "nova", chaveNova, claims(Instant.now().plusSeconds(300))),
+            "Chave de assinatura desconhecida");
+    }
+
+    private void assertInvalido(String token, String motivo) {
+        try {
+            validador.validar(token);
+            fail("Token deveria ter sido recusado: " + motivo);
+        } catch (NotAuthorizedException e) {
+            assertEquals(motivo, e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> claims(Instant expiracao) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", EMISSOR);
+        claims.put("typ", "Bearer");
+        claims.put("azp", CLIENTE);
+        claims.put("sub", "f3a1c9e0");
+        claims.put("preferred_username", "maria");
+        claims.put("email", "maria@email.com");
+        claims.put("iat", Instant.now().getEpochSecond());
+        claims.put("exp", expiracao.getEpochSecond());
+        claims.put("realm_access", Map.of("roles", List.of("user", "admin")));
+        return claims;
+    }
+
+    private static String token(String alg, String kid, KeyPair chave, Map<String, Object> claims) throws Exception {
+        String conteudo = base64(JSON.writeValueAsBytes(Map.of("alg", alg, "kid", kid, "typ", "JWT")))
+            + "." + base64(JSON.writeValueAsBytes(claims));
+        Signature assinatura = Signature.getInstance("RS512".equals(alg) ? "SHA512withRSA" : "SHA256withRSA");
+        assinatura.initSign(chave.getPrivate());
+        assinatura.update(conteudo.getBytes(StandardCharsets.US_ASCII));
+        return conteudo + "." + base64(assinatura.sign());
+    }
+
+    private void gravarJwks(Map<String, KeyPair> chaves) throws Exception {
+        List<Map<String, String>> keys = new ArrayList<>();
+        chaves.forEach((kid, par) -> {
+            RSAPublicKey publica = (RSAPublicKey) par.getPublic();
+            keys.add(Map.of(
+                "kid", kid,
+                "kty", "RSA",
+                "use", "sig",
+                "alg", "RS256",
+                "n", base64(semSinal(publica.getModulus().toByteArray())),
+                "e", base64(semSinal(publica.getPublicExponent().toByteArray()))));
+        });
+        Files.write(jwks.toPath(), JSON.writeValueAsBytes(Map.of("keys", keys)));
+    }
+
+    private static byte[] semSinal(byte[] bytes) {
+        return bytes.length > 1 && bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private static String base64(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,172 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.assincrono;
+
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.estatisticas.ConsultasRequisicao;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.TimeoutHandler;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ExecutorRelatoriosTest {
+
+    @InjectMocks
+    private ExecutorRelatorios executorRelatorios;
+
+    @Mock
+    private ManagedExecutorService executor;
+
+    private final List<FutureTask<?>> pendentes = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        executorRelatorios.vagas = new Semaphore(2);
+        executorRelatorios.retryAfterSegundos = 7;
+        lenient().doAnswer(invocacao -> {
+            FutureTask<?> tarefa = new FutureTask<>(invocacao.getArgument(0), null);
+            pendentes.add(tarefa);
+            return tarefa;
+        }).when(executor).submit(any(Runnable.class));
+    }
+
+    @After
+    public void tearDown() {
+        ConsultasRequisicao.encerrar();
+    }
+
+    @Test
+    public void testTarefaRodaNoExecutorERetomaAResposta() {
+        AsyncResponse resposta = mock(AsyncResponse.class);
+        ConsultasRequisicao consultas = ConsultasRequisicao.iniciar("GET /dashboard");
+
+        executorRelatorios.executar(resposta, () -> Response.ok("relatorio").build());
+
+        // A thread da requisição é liberada sem responder nem manter a contagem de SQL
+        verify(resposta, never()).resume(any(Object.class));
+        assertNull(ConsultasRequisicao.atual());
+        verify(resposta).setTimeout(60L, TimeUnit.SECONDS);
+
+        pendentes.get(0).run();
+
+        ArgumentCaptor<Object> retomada = ArgumentCaptor.forClass(Object.class);
+        verify(resposta).resume(retomada.capture());
+        assertEquals("relatorio", ((Response) retomada.getValue()).getEntity());
+        assertNull(ConsultasRequisicao.atual());
+        assertEquals(2, executorRelatorios.vagas.availablePermits());
+        assertEquals("GET /dashboard", consultas.getEndpoint());
+    }
+
+    @Test
+    public void testSemVagaResponde503ImediatamenteComRetryAfter() {
+        executorRelatorios.executar(mock(AsyncResponse.class), () -> Response.ok().build());
+        executorRelatorios.executar(mock(AsyncResponse.class), () -> Response.ok().build());
+        AsyncResponse recusada = mock(AsyncResponse.class);
+
+        executorRelatorios.executar(recusada, () -> Response.ok().build());
+
+        assertEquals(2, pendentes.size());
+        assertIndisponivel(recusada);
+
+        // Concluída uma tarefa, a vaga volta a ser oferecida
+        pendentes.get(0).run();
+        executorRelatorios.executar(mock(AsyncResponse.class), () -> Response.ok().build());
+        assertEquals(3, pendentes.size());
+    }
+
+    @Test
+    public void testTimeoutResponde503EDescartaTarefaAindaNaFila() {
+        AsyncResponse resposta = mock(AsyncResponse.class);
+        AtomicBoolean executou = new AtomicBoolean();
+        executorRelatorios.executar(resposta, () -> {
+            executou.set(true);
+            return null;
+        });
+
+        ArgumentCaptor<TimeoutHandler> handler = ArgumentCaptor.forClass(TimeoutHandler.class);
+        verify(resposta).setTimeoutHandler(handler.capture());
+        handler.getValue().handleTimeout(resposta);
+        assertIndisponivel(resposta);
+
+        // Cancelada antes de começar: a vaga volta sem esperar o executor
+        assertTrue(pendentes.get(0).isCancelled());
+        assertEquals(2, executorRelatorios.vagas.availablePermits());
+        pendentes.get(0).run();
+        assertFalse(executou.get());
+        assertEquals(2, executorRelatorios.vagas.availablePermits());
+    }
+
+    @Test
+    public void testTimeoutInterrompeTarefaEmExecucaoQueDevolveAVagaAoTerminar() throws Exception {
+        AsyncResponse resposta = mock(AsyncResponse.class);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        AtomicBoolean interrompida = new AtomicBoolean();
+        executorRelatorios.executar(resposta, () -> {
+            iniciada.countDown();
+            try {
+                new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrompida.set(true);
+            }
+            return Response.ok().build();
+        });
+        Thread trabalhador = new Thread(pendentes.get(0));
+        trabalhador.start();
+        assertTrue(iniciada.await(5, TimeUnit.SECONDS));
+
+        ArgumentCaptor<TimeoutHandler> handler = ArgumentCaptor.forClass(TimeoutHandler.class);
+        verify(resposta).setTimeoutHandler(handler.capture());
+        handler.getValue().handleTimeout(resposta);
+        trabalhador.join(5000);
+
+        assertTrue(interrompida.get());
+        assertEquals(2, executorRelatorios.vagas.availablePermits());
+    }
+
+    @Test
+    public void testExcecaoDaTarefaEExecutorRecusandoLiberamAVaga() {
+        AsyncResponse falha = mock(AsyncResponse.class);
+        NotFoundException erro = new NotFoundException();
+        executorRelatorios.executar(falha, () -> {
+            throw erro;
+        });
+        pendentes.get(0).run();
+        verify(falha).resume(erro);
+
+        doThrow(new RejectedExecutionException("encerrando")).when(executor).submit(any(Runnable.class));
+        AsyncResponse recusada = mock(AsyncResponse.class);
+        executorRelatorios.executar(recusada, () -> Response.ok().build());
+
+        assertIndisponivel(recusada);
+        assertEquals(2, executorRelatorios.vagas.availablePermits());
+    }
+
+    private static void assertIndisponivel(AsyncResponse resposta) {
+        ArgumentCaptor<Object> retomada = ArgumentCaptor.forClass(Object.class);
+        verify(resposta).resume(retomada.capture());
+        Response indisponivel = (Response) retomada.getValue();
+        assertEquals(503, indisponivel.getStatus());
+        assertEquals("7", indisponivel.getHeaderString(HttpHeaders.RETRY_AFTER));
+    }
+}
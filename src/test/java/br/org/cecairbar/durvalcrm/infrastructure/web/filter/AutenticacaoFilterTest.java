@@ -0,0 +1,106 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.infrastructure.seguranca.UsuarioAutenticado;
+import br.org.cecairbar.durvalcrm.infrastructure.seguranca.ValidadorJwt;
+import br.org.cecairbar.durvalcrm.infrastructure.web.resource.AuthResource;
+import br.org.cecairbar.durvalcrm.infrastructure.web.resource.MensalidadeResource;
+import jakarta.ws.rs.NotAuthorizedException;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AutenticacaoFilterTest {
+
+    @InjectMocks
+    private AutenticacaoFilter filtro;
+
+    @Mock
+    private ValidadorJwt validador;
+
+    @Mock
+    private ResourceInfo resourceInfo;
+
+    @Mock
+    private ContainerRequestContext requisicao;
+
+    @Test
+    public void testTokenValidoDefineUsuarioDaRequisicao() {
+        UsuarioAutenticado usuario = new UsuarioAutenticado(Map.of("preferred_username", "maria"), Set.of("admin"), 0);
+        when(requisicao.getMethod()).thenReturn("GET");
+        when(requisicao.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer abc.def.ghi");
+        when(validador.validar("abc.def.ghi")).thenReturn(usuario);
+
+        filtro.filter(requisicao);
+
+        ArgumentCaptor<SecurityContext> contexto = ArgumentCaptor.forClass(SecurityContext.class);
+        verify(requisicao).setSecurityContext(contexto.capture());
+        assertSame(usuario, contexto.getValue().getUserPrincipal());
+        assertTrue(contexto.getValue().isUserInRole("admin"));
+        assertFalse(contexto.getValue().isUserInRole("tesoureiro"));
+        verify(requisicao, never()).abortWith(any());
+    }
+
+    @Test
+    public void testTokenInvalidoRetorna401MesmoSemAutenticacaoObrigatoria() {
+        when(requisicao.getMethod()).thenReturn("GET");
+        when(requisicao.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer forjado");
+        when(validador.validar("forjado")).thenThrow(new NotAuthorizedException("Assinatura inválida", "Bearer"));
+
+        filtro.filter(requisicao);
+
+        ArgumentCaptor<Response> resposta = ArgumentCaptor.forClass(Response.class);
+        verify(requisicao).abortWith(resposta.capture());
+        assertEquals(401, resposta.getValue().getStatus());
+        assertEquals("Bearer error=\"invalid_token\"", resposta.getValue().getHeaderString(HttpHeaders.WWW_AUTHENTICATE));
+    }
+
+    @Test
+    public void testTokenExpiradoNaoImpedeEndpointPublico() throws NoSuchMethodException {
+        when(requisicao.getMethod()).thenReturn("POST");
+        when(requisicao.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer expirado");
+        when(validador.validar("expirado")).thenThrow(new NotAuthorizedException("Token expirado", "Bearer"));
+        doReturn(AuthResource.class).when(resourceInfo).getResourceClass();
+        when(resourceInfo.getResourceMethod()).thenReturn(AuthResource.class.getMethod("refreshToken", String.class));
+
+        filtro.filter(requisicao);
+
+        verify(requisicao, never()).abortWith(any());
+        verify(requisicao, never()).setSecurityContext(any());
+    }
+
+    @Test
+    public void testSemTokenSoRecusaQuandoObrigatorioEEndpointNaoPublico() throws NoSuchMethodException {
+        when(requisicao.getMethod()).thenReturn("GET");
+
+        filtro.filter(requisicao);
+        verify(requisicao, never()).abortWith(any());
+
+        filtro.obrigatoria = true;
+        doReturn(AuthResource.class).when(resourceInfo).getResourceClass();
+        when(resourceInfo.getResourceMethod()).thenReturn(AuthResource.class.getMethod("getLoginInfo"));
+        filtro.filter(requisicao);
+        verify(requisicao, never()).abortWith(any());
+
+        doReturn(MensalidadeResource.class).when(resourceInfo).getResourceClass();
+        when(resourceInfo.getResourceMethod()).thenReturn(MensalidadeResource.class.getMethod("obterPorId", String.class));
+        filtro.filter(requisicao);
+        verify(requisicao).abortWith(any());
+        verify(validador, never()).validar(any());
+    }
+}
@@ -0,0 +1,146 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.infrastructure.web.metricas.MetricasHttp;
+import br.org.cecairbar.durvalcrm.infrastructure.web.resource.MensalidadeResource;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CompressaoInterceptorTest {
+
+    @InjectMocks
+    private CompressaoInterceptor interceptor;
+
+    @Mock
+    private MetricasHttp metricas;
+
+    @Mock
+    private HttpHeaders requisicao;
+
+    @Mock
+    private ResourceInfo resourceInfo;
+
+    @Mock
+    private WriterInterceptorContext contexto;
+
+    private final MultivaluedMap<String, Object> cabecalhos = new MultivaluedHashMap<>();
+    private final ByteArrayOutputStream enviado = new ByteArrayOutputStream();
+    private OutputStream saidaAtual = enviado;
+
+    @Before
+    public void setUp() throws NoSuchMethodException {
+        interceptor.limite = 1024;
+        lenient().doReturn(MensalidadeResource.class).when(resourceInfo).getResourceClass();
+        lenient().when(resourceInfo.getResourceMethod()).thenReturn(MensalidadeResource.class.getMethod("obterPorId", String.class));
+        when(contexto.getMediaType()).thenReturn(MediaType.APPLICATION_JSON_TYPE);
+        when(contexto.getHeaders()).thenReturn(cabecalhos);
+        lenient().when(contexto.getOutputStream()).thenAnswer(invocacao -> saidaAtual);
+        lenient().doAnswer(invocacao -> saidaAtual = invocacao.getArgument(0)).when(contexto).setOutputStream(any());
+    }
+
+    @Test
+    public void testComprimeEmFluxoAcimaDoLimite() throws IOException {
+        when(requisicao.getHeaderString(HttpHeaders.ACCEPT_ENCODING)).thenReturn("gzip, deflate, br");
+        cabecalhos.putSingle(HttpHeaders.ETAG, "\"abc-1\"");
+        byte[] corpo = json(2_000);
+        doAnswer(invocacao -> {
+            for (int i = 0; i < corpo.length; i += 8192) {
+                saidaAtual.write(corpo, i, Math.min(8192, corpo.length - i));
+            }
+            // Parte do corpo já seguiu comprimida antes do fim da serialização
+            assertTrue(enviado.size() > 0);
+            return null;
+        }).when(contexto).proceed();
+
+        interceptor.aroundWriteTo(contexto);
+
+        assertEquals("gzip", cabecalhos.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, cabecalhos.getFirst(HttpHeaders.VARY));
+        assertEquals("\"abc-1-gzip\"", cabecalhos.getFirst(HttpHeaders.ETAG));
+        assertArrayEquals(corpo, descomprimir(enviado.toByteArray()));
+        assertTrue(enviado.size() < corpo.length / 5);
+        verify(metricas).registrarCompressao(eq("/mensalidades/{id}"), eq((long) corpo.length), eq((long) enviado.size()), anyLong());
+        verify(contexto).setOutputStream(enviado);
+    }
+
+    @Test
+    public void testRespostaPequenaSegueSemCompressao() throws IOException {
+        when(requisicao.getHeaderString(HttpHeaders.ACCEPT_ENCODING)).thenReturn("gzip");
+        byte[] corpo = json(3);
+        doAnswer(invocacao -> {
+            saidaAtual.write(corpo);
+            return null;
+        }).when(contexto).proceed();
+
+        interceptor.aroundWriteTo(contexto);
+
+        assertFalse(cabecalhos.containsKey(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(corpo, enviado.toByteArray());
+        verify(metricas).registrarAbaixoDoLimite("/mensalidades/{id}");
+    }
+
+    @Test
+    public void testClienteSemGzipOuTipoNaoTextualNaoEhComprimido() throws IOException {
+        when(requisicao.getHeaderString(HttpHeaders.ACCEPT_ENCODING)).thenReturn("gzip;q=0, identity");
+
+        interceptor.aroundWriteTo(contexto);
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, cabecalhos.getFirst(HttpHeaders.VARY));
+
+        when(contexto.getMediaType()).thenReturn(new MediaType("application", "pdf"));
+        interceptor.aroundWriteTo(contexto);
+
+        verify(contexto, times(2)).proceed();
+        verify(contexto, never()).setOutputStream(any());
+        verifyNoInteractions(metricas);
+    }
+
+    @Test
+    public void testNegociacaoDoAcceptEncoding() {
+        assertTrue(CompressaoInterceptor.aceitaGzip("gzip"));
+        assertTrue(CompressaoInterceptor.aceitaGzip("deflate, GZIP;q=0.5"));
+        assertTrue(CompressaoInterceptor.aceitaGzip("*"));
+        assertFalse(CompressaoInterceptor.aceitaGzip("*, gzip;q=0"));
+        assertFalse(CompressaoInterceptor.aceitaGzip("br, identity"));
+        assertFalse(CompressaoInterceptor.aceitaGzip(null));
+
+        assertTrue(CompressaoInterceptor.compressivel(MediaType.valueOf("application/json; charset=utf-8")));
+        assertTrue(CompressaoInterceptor.compressivel(MediaType.valueOf("text/csv")));
+        assertFalse(CompressaoInterceptor.compressivel(MediaType.valueOf("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")));
+    }
+
+    private static byte[] json(int itens) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < itens; i++) {
+            json.append(i > 0 ? "," : "")
+                .append("{\"id\":").append(i).append(",\"status\":\"PENDENTE\",\"valor\":10.90,\"mes\":7,\"ano\":2025}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] descomprimir(byte[] gzip) throws IOException {
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return entrada.readAllBytes();
+        }
+    }
+}
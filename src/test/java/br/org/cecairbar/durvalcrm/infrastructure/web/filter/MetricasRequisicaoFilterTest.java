@@ -0,0 +1,77 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.infrastructure.web.metricas.MetricasHttp;
+import br.org.cecairbar.durvalcrm.infrastructure.web.resource.MensalidadeResource;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MetricasRequisicaoFilterTest {
+
+    @InjectMocks
+    private MetricasRequisicaoFilter filtro;
+
+    @Mock
+    private MetricasHttp metricas;
+
+    @Mock
+    private ResourceInfo resourceInfo;
+
+    @Mock
+    private ContainerRequestContext requisicao;
+
+    @Mock
+    private ContainerResponseContext resposta;
+
+    private Method marcarComoPaga;
+
+    @Before
+    public void setUp() throws NoSuchMethodException {
+        marcarComoPaga = MensalidadeResource.class.getMethod("marcarComoPaga", String.class,
+            br.org.cecairbar.durvalcrm.application.dto.MarcarPagamentoDTO.class);
+    }
+
+    @Test
+    public void testRegistraRotaDoTemplateEStatus() {
+        when(requisicao.getProperty(MetricasRequisicaoFilter.PROPRIEDADE_INICIO)).thenReturn(System.nanoTime());
+        when(requisicao.getMethod()).thenReturn("POST");
+        when(resposta.getStatus()).thenReturn(404);
+        doReturn(MensalidadeResource.class).when(resourceInfo).getResourceClass();
+        when(resourceInfo.getResourceMethod()).thenReturn(marcarComoPaga);
+
+        filtro.filter(requisicao);
+        filtro.filter(requisicao, resposta);
+
+        verify(metricas).iniciar();
+        verify(metricas).registrar(eq("POST"), eq("/mensalidades/{id}/pagar"), eq(404), anyLong());
+    }
+
+    @Test
+    public void testRequisicaoSemInicioNaoRegistra() {
+        filtro.filter(requisicao, resposta);
+
+        verify(metricas, never()).registrar(anyString(), anyString(), anyInt(), anyLong());
+    }
+
+    @Test
+    public void testMontarRota() throws NoSuchMethodException {
+        Method reconciliar = MensalidadeResource.class.getMethod("reconciliar", String.class, boolean.class, InputStream.class);
+
+        assertEquals("/mensalidades/reconciliar", MetricasRequisicaoFilter.montarRota(MensalidadeResource.class, reconciliar));
+        assertEquals("/", MetricasRequisicaoFilter.montarRota(null, Object.class.getMethod("toString")));
+    }
+}
@@ -0,0 +1,154 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent;
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent.Agregado;
+import br.org.cecairbar.durvalcrm.infrastructure.web.resource.CategoriaFinanceiraResource;
+import br.org.cecairbar.durvalcrm.infrastructure.web.resource.MensalidadeResource;
+import br.org.cecairbar.durvalcrm.infrastructure.web.resource.RelatorioFinanceiroResource;
+import br.org.cecairbar.durvalcrm.infrastructure.web.versao.VersoesAgregados;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RespostaCondicionalFilterTest {
+
+    @InjectMocks
+    private RespostaCondicionalFilter filtro;
+
+    // Relógio parado: a ETag não muda de intervalo de validade no meio do teste
+    @Spy
+    private VersoesAgregados versoes = new VersoesAgregados(Clock.fixed(Instant.parse("2025-07-15T12:00:00Z"), ZoneOffset.UTC));
+
+    @Mock
+    private ResourceInfo resourceInfo;
+
+    @Mock
+    private ContainerRequestContext requisicao;
+
+    @Mock
+    private ContainerResponseContext resposta;
+
+    private final MultivaluedMap<String, Object> cabecalhos = new MultivaluedHashMap<>();
+
+    @Before
+    public void setUp() throws NoSuchMethodException {
+        // Não usados pelo teste que só exercita a resposta
+        lenient().when(requisicao.getMethod()).thenReturn("GET");
+        lenient().doReturn(CategoriaFinanceiraResource.class).when(resourceInfo).getResourceClass();
+        lenient().when(resourceInfo.getResourceMethod()).thenReturn(CategoriaFinanceiraResource.class.getMethod("listarAtivas"));
+    }
+
+    @Test
+    public void testPrimeiraLeituraRecebeETagERevalidacaoRetorna304() {
+        String etag = primeiraLeitura();
+
+        when(requisicao.getHeaderString(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"outra\", W/" + etag);
+        filtro.filter(requisicao);
+
+        ArgumentCaptor<Response> naoModificado = ArgumentCaptor.forClass(Response.class);
+        verify(requisicao).abortWith(naoModificado.capture());
+        assertEquals(304, naoModificado.getValue().getStatus());
+        assertEquals(etag, naoModificado.getValue().getHeaderString(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void testGravacaoNoAgregadoMudaAETag() {
+        String etag = primeiraLeitura();
+
+        // Alteração em outro agregado não afeta as categorias
+        versoes.aoAlterarDados(DadosAlteradosEvent.noPeriodo(Agregado.MENSALIDADE, YearMonth.of(2025, 7)));
+        assertEquals(etag, versoes.etag(Agregado.CATEGORIA_FINANCEIRA));
+
+        versoes.aoAlterarDados(DadosAlteradosEvent.todosPeriodos(Agregado.CATEGORIA_FINANCEIRA));
+        when(requisicao.getHeaderString(HttpHeaders.IF_NONE_MATCH)).thenReturn(etag);
+        filtro.filter(requisicao);
+
+        verify(requisicao, never()).abortWith(any());
+        verify(requisicao).setProperty(RespostaCondicionalFilter.PROPRIEDADE_ETAG, versoes.etag(Agregado.CATEGORIA_FINANCEIRA));
+        assertNotEquals(etag, versoes.etag(Agregado.CATEGORIA_FINANCEIRA));
+    }
+
+    @Test
+    public void testAnotacaoDaClasseValeParaTodosOsMetodos() throws NoSuchMethodException {
+        doReturn(RelatorioFinanceiroResource.class).when(resourceInfo).getResourceClass();
+        when(resourceInfo.getResourceMethod()).thenReturn(RelatorioFinanceiroResource.class.getMethod("obterResumoMesAtual", AsyncResponse.class));
+
+        filtro.filter(requisicao);
+
+        verify(versoes).etag(Agregado.RECEITA, Agregado.DESPESA, Agregado.CATEGORIA_FINANCEIRA);
+    }
+
+    @Test
+    public void testRecursosNaoVersionadosEGravacoesSaoIgnorados() throws NoSuchMethodException {
+        when(requisicao.getMethod()).thenReturn("POST");
+        filtro.filter(requisicao);
+
+        when(requisicao.getMethod()).thenReturn("GET");
+        doReturn(MensalidadeResource.class).when(resourceInfo).getResourceClass();
+        when(resourceInfo.getResourceMethod()).thenReturn(MensalidadeResource.class.getMethod("obterPorId", String.class));
+        filtro.filter(requisicao);
+
+        verify(versoes, never()).etag(any(Agregado[].class));
+        verify(requisicao, never()).setProperty(anyString(), any());
+    }
+
+    @Test
+    public void testRespostaComCacheControlProprioNaoRecebeETag() {
+        when(requisicao.getProperty(RespostaCondicionalFilter.PROPRIEDADE_ETAG)).thenReturn("\"abc\"");
+        when(resposta.getStatus()).thenReturn(200);
+        when(resposta.getHeaders()).thenReturn(cabecalhos);
+        cabecalhos.putSingle(HttpHeaders.CACHE_CONTROL, "no-store");
+
+        filtro.filter(requisicao, resposta);
+
+        assertFalse(cabecalhos.containsKey(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void testETagDaVarianteGzipTambemCoincide() {
+        assertEquals("\"a-1-gzip\"", RespostaCondicionalFilter.coincidente("\"x\", \"a-1-gzip\"", "\"a-1\""));
+        assertEquals("\"a-1\"", RespostaCondicionalFilter.coincidente("*", "\"a-1\""));
+        assertNull(RespostaCondicionalFilter.coincidente("\"a-2-gzip\"", "\"a-1\""));
+        assertNull(RespostaCondicionalFilter.coincidente(null, "\"a-1\""));
+    }
+
+    private String primeiraLeitura() {
+        filtro.filter(requisicao);
+        ArgumentCaptor<Object> etag = ArgumentCaptor.forClass(Object.class);
+        verify(requisicao).setProperty(eq(RespostaCondicionalFilter.PROPRIEDADE_ETAG), etag.capture());
+
+        when(requisicao.getProperty(RespostaCondicionalFilter.PROPRIEDADE_ETAG)).thenReturn(etag.getValue());
+        when(resposta.getStatus()).thenReturn(200);
+        when(resposta.getHeaders()).thenReturn(cabecalhos);
+        filtro.filter(requisicao, resposta);
+
+        assertEquals(etag.getValue(), cabecalhos.getFirst(HttpHeaders.ETAG));
+        assertEquals(RespostaCondicionalFilter.CACHE_CONTROL, cabecalhos.getFirst(HttpHeaders.CACHE_CONTROL));
+        reset(requisicao);
+        when(requisicao.getMethod()).thenReturn("GET");
+        return (String) etag.getValue();
+    }
+}
@@ -0,0 +1,131 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.filter;
+
+import br.org.cecairbar.durvalcrm.application.dto.MensalidadeDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
+import br.org.cecairbar.durvalcrm.domain.model.StatusMensalidade;
+import br.org.cecairbar.durvalcrm.infrastructure.web.json.FiltroCampos;
+import br.org.cecairbar.durvalcrm.infrastructure.web.json.ObjectMapperResolver;
+import br.org.cecairbar.durvalcrm.infrastructure.web.resource.MensalidadeResource;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SelecaoCamposInterceptorTest {
+
+    @InjectMocks
+    private SelecaoCamposInterceptor interceptor;
+
+    @Mock
+    private UriInfo uriInfo;
+
+    @Mock
+    private ResourceInfo resourceInfo;
+
+    @Mock
+    private WriterInterceptorContext contexto;
+
+    private final ObjectMapper mapper = new ObjectMapperResolver().getContext(Object.class);
+    private final MultivaluedMap<String, String> parametros = new MultivaluedHashMap<>();
+    private Object entidade;
+    private String escrito;
+
+    @Before
+    public void setUp() throws Exception {
+        when(uriInfo.getQueryParameters()).thenReturn(parametros);
+        lenient().when(resourceInfo.getResourceMethod()).thenReturn(MensalidadeResource.class.getMethod(
+            "listarPorPeriodo", Integer.class, Integer.class, Integer.class, String.class, UriInfo.class));
+        doAnswer(invocacao -> escrito = mapper.writeValueAsString(entidade)).when(contexto).proceed();
+    }
+
+    @Test
+    public void testListagemOmiteQrCodePixPorPadrao() throws IOException {
+        JsonNode item = escrever(List.of(mensalidade())).get(0);
+
+        assertFalse(item.has("qrCodePix"));
+        assertEquals("PIX-1", item.get("identificadorPix").asText());
+        assertEquals("Julho/2025", item.get("periodoFormatado").asText());
+    }
+
+    @Test
+    public void testFieldsSelecionaCamposNosItensDaPagina() throws IOException {
+        parametros.putSingle(SelecaoCamposInterceptor.PARAMETRO, "id, status,valor,inexistente,");
+        PaginaCursorDTO<MensalidadeDTO> pagina = new PaginaCursorDTO<>(List.of(mensalidade()), 50, "cursor", true);
+
+        JsonNode corpo = escrever(pagina);
+
+        assertEquals("cursor", corpo.get("proximoCursor").asText());
+        assertEquals(Set.of("id", "status", "valor"), nomes(corpo.get("itens").get(0)));
+    }
+
+    @Test
+    public void testFieldsExplicitoPrevaleceSobreOmitidos() throws IOException {
+        parametros.putSingle(SelecaoCamposInterceptor.PARAMETRO, "id,qrCodePix");
+
+        JsonNode item = escrever(mensalidade());
+
+        assertEquals(Set.of("id", "qrCodePix"), nomes(item));
+    }
+
+    @Test
+    public void testSemSelecaoSerializaTudoELimpaAThread() throws Exception {
+        when(resourceInfo.getResourceMethod()).thenReturn(MensalidadeResource.class.getMethod("obterPorId", String.class));
+
+        assertTrue(escrever(mensalidade()).has("qrCodePix"));
+
+        FiltroCampos.incluirSomente(Set.of("id"));
+        FiltroCampos.limpar();
+        assertTrue(mapper.readTree(mapper.writeValueAsString(mensalidade())).has("qrCodePix"));
+    }
+
+    private JsonNode escrever(Object corpo) throws IOException {
+        entidade = corpo;
+        interceptor.aroundWriteTo(contexto);
+        return mapper.readTree(escrito);
+    }
+
+    private static Set<String> nomes(JsonNode objeto) {
+        Set<String> nomes = new TreeSet<>();
+        for (Iterator<String> campos = objeto.fieldNames(); campos.hasNext(); ) {
+            nomes.add(campos.next());
+        }
+        return nomes;
+    }
+
+    private static MensalidadeDTO mensalidade() {
+        MensalidadeDTO dto = new MensalidadeDTO();
+        dto.id = UUID.randomUUID();
+        dto.mesReferencia = 7;
+        dto.anoReferencia = 2025;
+        dto.valor = new BigDecimal("10.90");
+        dto.status = StatusMensalidade.PENDENTE;
+        dto.dataVencimento = LocalDate.of(2025, 7, 10);
+        dto.criadoEm = Instant.parse("2025-07-01T12:00:00Z");
+        dto.qrCodePix = "00020126580014br.gov.bcb.pix0136" + "x".repeat(120);
+        dto.identificadorPix = "PIX-1";
+        return dto;
+    }
+}
@@ -0,0 +1,74 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.metricas;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MetricasHttpTest {
+
+    private static final String ROTULOS = "method=\"GET\",uri=\"/mensalidades/{id}\",status=\"200\"";
+
+    @Test
+    public void testHistogramaAcumuladoPorFaixa() {
+        MetricasHttp metricas = new MetricasHttp();
+        metricas.iniciar();
+        metricas.registrar("GET", "/mensalidades/{id}", 200, 3_000_000L);
+        metricas.iniciar();
+        metricas.registrar("GET", "/mensalidades/{id}", 200, 40_000_000L);
+        metricas.iniciar();
+        metricas.registrar("GET", "/mensalidades/{id}", 200, 20_000_000_000L);
+
+        String texto = metricas.exportarPrometheus();
+
+        assertTrue(texto.contains("# TYPE http_server_requests_seconds histogram\n"));
+        assertTrue(texto.contains("http_server_requests_seconds_bucket{" + ROTULOS + ",le=\"0.005\"} 1\n"));
+        assertTrue(texto.contains("http_server_requests_seconds_bucket{" + ROTULOS + ",le=\"0.025\"} 1\n"));
+        assertTrue(texto.contains("http_server_requests_seconds_bucket{" + ROTULOS + ",le=\"0.05\"} 2\n"));
+        assertTrue(texto.contains("http_server_requests_seconds_bucket{" + ROTULOS + ",le=\"10.0\"} 2\n"));
+        assertTrue(texto.contains("http_server_requests_seconds_bucket{" + ROTULOS + ",le=\"+Inf\"} 3\n"));
+        assertTrue(texto.contains("http_server_requests_seconds_count{" + ROTULOS + "} 3\n"));
+        assertTrue(texto.contains("http_server_requests_seconds_sum{" + ROTULOS + "} 20.043\n"));
+        assertTrue(texto.contains("http_server_requests_active 0\n"));
+    }
+
+    @Test
+    public void testSeriesSeparadasPorStatusEmOrdemDeRota() {
+        MetricasHttp metricas = new MetricasHttp();
+        metricas.iniciar();
+        metricas.registrar("POST", "/vendas", 500, 1_000L);
+        metricas.iniciar();
+        metricas.registrar("POST", "/vendas", 201, 1_000L);
+        metricas.iniciar();
+        metricas.registrar("GET", "/associados", 200, 1_000L);
+        metricas.iniciar();
+
+        String texto = metricas.exportarPrometheus();
+
+        int associados = texto.indexOf("uri=\"/associados\"");
+        int vendas201 = texto.indexOf("uri=\"/vendas\",status=\"201\"");
+        int vendas500 = texto.indexOf("uri=\"/vendas\",status=\"500\"");
+        assertTrue(associados >= 0 && associados < vendas201 && vendas201 < vendas500);
+        assertTrue(texto.contains("http_server_requests_active 1\n"));
+    }
+
+    @Test
+    public void testMetricasDeCompressaoPorRota() {
+        MetricasHttp metricas = new MetricasHttp();
+        metricas.registrarCompressao("/receitas", 100_000L, 8_000L, 1_500_000L);
+        metricas.registrarCompressao("/receitas", 50_000L, 4_000L, 500_000L);
+        metricas.registrarAbaixoDoLimite("/receitas");
+
+        String texto = metricas.exportarPrometheus();
+
+        assertTrue(texto.contains("http_server_response_compression_total{uri=\"/receitas\",result=\"gzip\"} 2\n"));
+        assertTrue(texto.contains("http_server_response_compression_total{uri=\"/receitas\",result=\"below_threshold\"} 1\n"));
+        assertTrue(texto.contains("http_server_response_compression_input_bytes_total{uri=\"/receitas\"} 150000\n"));
+        assertTrue(texto.contains("http_server_response_compression_output_bytes_total{uri=\"/receitas\"} 12000\n"));
+        assertTrue(texto.contains("http_server_response_compression_cpu_seconds_total{uri=\"/receitas\"} 0.002\n"));
+    }
+
+    @Test
+    public void testEscapaRotulos() {
+        assertEquals("a\\\"b\\\\c\\n", MetricasHttp.escapar("a\"b\\c\n"));
+    }
+}
@@ -48,7 +48,7 @@ public class AssociadoResourceTest {
         List<AssociadoDTO> associados = Arrays.asList(associadoDTO);
         when(associadoUseCase.findAll(null)).thenReturn(associados);
         
-        Response response = associadoResource.findAll(null);
+        Response response = associadoResource.findAll(null, null, null, null);
         
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
         assertEquals(associados, response.getEntity());
@@ -62,7 +62,7 @@ public class AssociadoResourceTest {
         String search = "João";
         when(associadoUseCase.findAll(search)).thenReturn(associados);
         
-        Response response = associadoResource.findAll(search);
+        Response response = associadoResource.findAll(search, null, null, null);
         
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
         assertEquals(associados, response.getEntity());
@@ -75,7 +75,7 @@ public class AssociadoResourceTest {
         List<AssociadoDTO> associados = Arrays.asList();
         when(associadoUseCase.findAll(null)).thenReturn(associados);
         
-        Response response = associadoResource.findAll(null);
+        Response response = associadoResource.findAll(null, null, null, null);
         
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
         assertTrue(((List<?>) response.getEntity()).isEmpty());
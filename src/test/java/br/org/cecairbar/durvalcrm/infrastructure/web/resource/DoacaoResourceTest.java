@@ -1,12 +1,15 @@
 package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
 
 import br.org.cecairbar.durvalcrm.application.doacao.DoacaoDTO;
+import br.org.cecairbar.durvalcrm.application.dto.PaginaCursorDTO;
 import br.org.cecairbar.durvalcrm.application.doacao.DoacaoEstatisticasDTO;
 import br.org.cecairbar.durvalcrm.application.doacao.DoacaoService;
 import br.org.cecairbar.durvalcrm.domain.model.MetodoPagamento;
 import br.org.cecairbar.durvalcrm.domain.model.StatusDoacao;
 import br.org.cecairbar.durvalcrm.domain.model.TipoDoacao;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriBuilder;
+import jakarta.ws.rs.core.UriInfo;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -57,13 +60,38 @@ public class DoacaoResourceTest {
         List<DoacaoDTO> doacoes = Arrays.asList(doacaoDTO);
         when(doacaoService.listarTodas()).thenReturn(doacoes);
         
-        Response response = doacaoResource.listar();
+        Response response = doacaoResource.listar(null, null, null);
         
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
         assertEquals(doacoes, response.getEntity());
         verify(doacaoService).listarTodas();
     }
 
+    @Test
+    public void testListarPaginadoComProximaPagina() {
+        PaginaCursorDTO<DoacaoDTO> pagina = new PaginaCursorDTO<>(Arrays.asList(doacaoDTO), 1, "abc", true);
+        when(doacaoService.listarPagina(null, 1)).thenReturn(pagina);
+        UriInfo uriInfo = mock(UriInfo.class);
+        when(uriInfo.getRequestUriBuilder()).thenReturn(UriBuilder.fromUri("http://localhost/api/v1/doacoes?limit=1"));
+        
+        Response response = doacaoResource.listar(1, null, uriInfo);
+        
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(pagina, response.getEntity());
+        assertEquals("http://localhost/api/v1/doacoes?limit=1&after=abc", response.getLink("next").getUri().toString());
+        verify(doacaoService, never()).listarTodas();
+    }
+
+    @Test
+    public void testListarPaginadoUltimaPaginaSemLink() {
+        PaginaCursorDTO<DoacaoDTO> pagina = new PaginaCursorDTO<>(Arrays.asList(doacaoDTO), 10, null, false);
+        when(doacaoService.listarPagina("abc", 10)).thenReturn(pagina);
+        
+        Response response = doacaoResource.listar(10, "abc", mock(UriInfo.class));
+        
+        assertNull(response.getLink("next"));
+    }
+
     @Test
     public void testBuscarPorIdExistente() {
         when(doacaoService.buscarPorId(doacaoId)).thenReturn(doacaoDTO);
@@ -0,0 +1,83 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.resource;
+
+import br.org.cecairbar.durvalcrm.application.dto.FluxoCaixaDTO;
+import br.org.cecairbar.durvalcrm.application.usecase.financeiro.RelatorioFinanceiroUseCase;
+import br.org.cecairbar.durvalcrm.domain.model.GranularidadeFluxoCaixa;
+import br.org.cecairbar.durvalcrm.infrastructure.web.assincrono.ExecutorRelatorios;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RelatorioFinanceiroResourceTest {
+
+    @InjectMocks
+    private RelatorioFinanceiroResource relatorioResource;
+
+    @Mock
+    private RelatorioFinanceiroUseCase relatorioUseCase;
+
+    @Mock
+    private ExecutorRelatorios executorRelatorios;
+
+    @Mock
+    private AsyncResponse resposta;
+
+    @Test
+    public void testParametrosInvalidosRespondem400SemOcuparOExecutor() {
+        relatorioResource.obterResumoFinanceiro("2025-13-01", "2025-12-31", resposta);
+        relatorioResource.obterReceitasPorCategoria(null, "2025-12-31", resposta);
+        relatorioResource.obterFluxoDeCaixa("2025-01-01", "2025-12-31", "ANUAL", resposta);
+
+        ArgumentCaptor<Object> retomadas = ArgumentCaptor.forClass(Object.class);
+        verify(resposta, times(3)).resume(retomadas.capture());
+        for (Object retomada : retomadas.getAllValues()) {
+            assertEquals(400, ((Response) retomada).getStatus());
+        }
+        verifyNoInteractions(executorRelatorios, relatorioUseCase);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFluxoDeCaixaValidoRodaNoExecutor() {
+        FluxoCaixaDTO fluxo = new FluxoCaixaDTO();
+        when(relatorioUseCase.obterFluxoDeCaixa(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), GranularidadeFluxoCaixa.DIARIA))
+            .thenReturn(fluxo);
+
+        relatorioResource.obterFluxoDeCaixa("2025-01-01", "2025-01-31", " diaria ", resposta);
+
+        ArgumentCaptor<Supplier<Response>> tarefa = ArgumentCaptor.forClass(Supplier.class);
+        verify(executorRelatorios).executar(eq(resposta), tarefa.capture());
+        verify(resposta, never()).resume(any(Object.class));
+        assertSame(fluxo, tarefa.getValue().get().getEntity());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValidacaoDoCasoDeUsoContinuaRespondendo400() {
+        when(relatorioUseCase.obterResumoFinanceiro(any(), any()))
+            .thenThrow(new BadRequestException("Data de início deve ser anterior à data de fim"));
+
+        relatorioResource.obterResumoFinanceiro("2025-12-31", "2025-01-01", resposta);
+
+        ArgumentCaptor<Supplier<Response>> tarefa = ArgumentCaptor.forClass(Supplier.class);
+        verify(executorRelatorios).executar(eq(resposta), tarefa.capture());
+        Response erro = tarefa.getValue().get();
+        assertEquals(400, erro.getStatus());
+        assertEquals("Data de início deve ser anterior à data de fim",
+            ((RelatorioFinanceiroResource.ErrorResponse) erro.getEntity()).getMessage());
+    }
+}
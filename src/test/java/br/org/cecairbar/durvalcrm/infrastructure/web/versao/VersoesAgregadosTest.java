@@ -0,0 +1,60 @@
+package br.org.cecairbar.durvalcrm.infrastructure.web.versao;
+
+import br.org.cecairbar.durvalcrm.domain.event.DadosAlteradosEvent.Agregado;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.*;
+
+public class VersoesAgregadosTest {
+
+    private Instant agora = Instant.parse("2025-07-15T12:00:00Z");
+
+    private final Clock relogio = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zona) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    };
+
+    @Test
+    public void testETagExpiraAoFimDoIntervaloDeValidade() {
+        VersoesAgregados versoes = new VersoesAgregados(relogio);
+        versoes.validadeSegundos = 60;
+        String etag = versoes.etag(Agregado.RECEITA);
+
+        agora = agora.plusSeconds(59);
+        assertEquals(etag, versoes.etag(Agregado.RECEITA));
+
+        // Sem gravação nesta instância: só a expiração impede 304 com dado alterado em outro nó
+        agora = agora.plusSeconds(1);
+        assertNotEquals(etag, versoes.etag(Agregado.RECEITA));
+    }
+
+    @Test
+    public void testValidadeZeroMantemAETagAteAlteracaoOuMudancaDeDia() {
+        VersoesAgregados versoes = new VersoesAgregados(relogio);
+        versoes.validadeSegundos = 0;
+        String etag = versoes.etag(Agregado.RECEITA);
+
+        agora = agora.plusSeconds(3600);
+        assertEquals(etag, versoes.etag(Agregado.RECEITA));
+
+        agora = agora.plusSeconds(12 * 3600);
+        assertNotEquals(etag, versoes.etag(Agregado.RECEITA));
+    }
+}
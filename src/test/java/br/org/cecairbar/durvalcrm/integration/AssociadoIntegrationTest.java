@@ -6,6 +6,7 @@ import br.org.cecairbar.durvalcrm.application.usecase.impl.AssociadoUseCaseImpl;
 import br.org.cecairbar.durvalcrm.application.dto.AssociadoDTO;
 import br.org.cecairbar.durvalcrm.domain.model.Associado;
 import br.org.cecairbar.durvalcrm.domain.repository.AssociadoRepository;
+import br.org.cecairbar.durvalcrm.infrastructure.persistence.busca.BuscaAssociadosService;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.entity.AssociadoEntity;
 import br.org.cecairbar.durvalcrm.infrastructure.persistence.repository.AssociadoRepositoryImpl;
 import br.org.cecairbar.durvalcrm.test.base.BaseRepositoryTest;
@@ -66,6 +67,27 @@ public class AssociadoIntegrationTest extends BaseRepositoryTest {
             java.lang.reflect.Field mapperField = AssociadoRepositoryImpl.class.getDeclaredField("mapper");
             mapperField.setAccessible(true);
             mapperField.set(impl, mapper);
+
+            java.lang.reflect.Field eventField = AssociadoRepositoryImpl.class.getDeclaredField("dadosAlterados");
+            eventField.setAccessible(true);
+            eventField.set(impl, org.mockito.Mockito.mock(jakarta.enterprise.event.Event.class));
+
+            java.lang.reflect.Field associadoEventField = AssociadoRepositoryImpl.class.getDeclaredField("associadoAlterado");
+            associadoEventField.setAccessible(true);
+            associadoEventField.set(impl, org.mockito.Mockito.mock(jakarta.enterprise.event.Event.class));
+
+            // Índice de busca carregado do mesmo H2 na primeira busca
+            BuscaAssociadosService busca = new BuscaAssociadosService();
+            java.lang.reflect.Field buscaEmField = BuscaAssociadosService.class.getDeclaredField("entityManager");
+            buscaEmField.setAccessible(true);
+            buscaEmField.set(busca, entityManager);
+            java.lang.reflect.Field buscaMapperField = BuscaAssociadosService.class.getDeclaredField("mapper");
+            buscaMapperField.setAccessible(true);
+            buscaMapperField.set(busca, mapper);
+
+            java.lang.reflect.Field buscaField = AssociadoRepositoryImpl.class.getDeclaredField("busca");
+            buscaField.setAccessible(true);
+            buscaField.set(impl, busca);
         } catch (Exception e) {
             throw new RuntimeException("Falha ao configurar repository para teste", e);
         }